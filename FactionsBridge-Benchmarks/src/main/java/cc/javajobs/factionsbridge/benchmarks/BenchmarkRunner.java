@@ -0,0 +1,46 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The BenchmarkRunner class runs the benchmarks with the {@link GCProfiler} attached.
+ * <p>
+ *     Every benchmark reports its throughput, and the profiler adds {@code gc.alloc.rate.norm},
+ *     the bytes allocated per operation, which is comparable between machines unlike the throughput.
+ *     <br>Every JMH option is accepted, for example {@code java -jar benchmarks.jar ClaimLookup -p factions=2000}.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Private constructor as this is a utility class.
+     */
+    private BenchmarkRunner() {
+        throw new UnsupportedOperationException("BenchmarkRunner is a utility class.");
+    }
+
+    /**
+     * Method to run the benchmarks.
+     *
+     * @param args JMH command line options.
+     * @throws CommandLineOptionException if the options are invalid.
+     * @throws RunnerException if a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,139 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import cc.javajobs.factionsbridge.benchmarks.stub.StubFactionsAPI;
+import cc.javajobs.factionsbridge.benchmarks.stub.StubServer;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
+import cc.javajobs.factionsbridge.bridge.index.FactionHandleRegistry;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static cc.javajobs.factionsbridge.benchmarks.stub.StubFactionsAPI.WORLD;
+
+/**
+ * The ClaimLookupBenchmark class compares finding the Faction at a chunk through the {@link ClaimIndex}
+ * with asking the Provider.
+ * <p>
+ *     A fifth of the chunks looked up are unclaimed, as most chunks a player walks through would be.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClaimLookupBenchmark {
+
+    /**
+     * The amount of chunks looked up, a power of two so the next chunk is found with a mask.
+     */
+    private static final int LOOKUPS = 1024;
+
+    /**
+     * The amount of player Factions.
+     */
+    @Param({"100", "2000"})
+    public int factions;
+
+    /**
+     * The amount of claims of each Faction.
+     */
+    @Param({"25"})
+    public int claimsPerFaction;
+
+    /**
+     * The Provider.
+     */
+    private StubFactionsAPI api;
+
+    /**
+     * The index.
+     */
+    private ClaimIndex index;
+
+    /**
+     * The coordinates of the chunks looked up.
+     */
+    private final int[] xs = new int[LOOKUPS], zs = new int[LOOKUPS];
+
+    /**
+     * The chunks looked up, packed using {@link ChunkKey#pack(int, int)}.
+     */
+    private final long[] packed = new long[LOOKUPS];
+
+    /**
+     * The index of the next chunk to look up.
+     */
+    private int next = 0;
+
+    /**
+     * Method to generate the Factions and build the index.
+     */
+    @Setup
+    public void setup() {
+        StubServer.install();
+        api = StubFactionsAPI.generate(factions, claimsPerFaction, 1, 42);
+        index = new ClaimIndex(new FactionHandleRegistry());
+        index.build(api);
+        final int chunks = factions * claimsPerFaction * 5 / 4;
+        final Random random = new Random(42);
+        for (int i = 0; i < LOOKUPS; i++) {
+            final int chunk = random.nextInt(chunks);
+            xs[i] = chunk % StubFactionsAPI.ROW;
+            zs[i] = chunk / StubFactionsAPI.ROW;
+            packed[i] = ChunkKey.pack(xs[i], zs[i]);
+        }
+    }
+
+    /**
+     * Benchmark of {@link ClaimIndex#getFactionAt(String, int, int)}.
+     *
+     * @return the Faction found.
+     */
+    @Benchmark
+    public Faction index() {
+        final int i = next++ & (LOOKUPS - 1);
+        return index.getFactionAt(WORLD, xs[i], zs[i]);
+    }
+
+    /**
+     * Benchmark of {@link ClaimIndex#getFactionsAt(String, long[])}, reported per chunk.
+     *
+     * @return the Factions found.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public Faction[] indexBatch() {
+        return index.getFactionsAt(WORLD, packed);
+    }
+
+    /**
+     * Benchmark of the Provider, as the bridge asks it before the index is built.
+     *
+     * @return the Faction found.
+     */
+    @Benchmark
+    public Faction provider() {
+        final int i = next++ & (LOOKUPS - 1);
+        return api.getClaim(WORLD, xs[i], zs[i]).getFaction();
+    }
+
+}
@@ -0,0 +1,276 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import cc.javajobs.factionsbridge.benchmarks.stub.StubFactionsAPI;
+import cc.javajobs.factionsbridge.benchmarks.stub.StubServer;
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventSubscribers;
+import cc.javajobs.factionsbridge.bridge.infrastructure.CoordinateClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The EventBridgeBenchmark class measures translating a native claim event into a {@link FactionClaimEvent}.
+ * <p>
+ *     The native listener is written the way every adapter writes its listeners, so the benchmark covers
+ *     calling the native event, the {@link EventSubscribers} check, wrapping the Faction, FPlayer and Claim,
+ *     and calling the bridge event.
+ *     <br>Without a bridge listener, only the native event and the check are paid for.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBridgeBenchmark {
+
+    /**
+     * The amount of native events, a power of two so the next event is found with a mask.
+     */
+    private static final int EVENTS = 256;
+
+    /**
+     * {@code true} if a plugin listens for the bridge event.
+     */
+    @Param({"false", "true"})
+    public boolean observed;
+
+    /**
+     * The PluginManager calling the events.
+     */
+    private PluginManager manager;
+
+    /**
+     * The native events, reused once they have been called.
+     */
+    private final NativeClaimEvent[] events = new NativeClaimEvent[EVENTS];
+
+    /**
+     * The index of the next event to call.
+     */
+    private int next = 0;
+
+    /**
+     * Method to generate the Factions and register the listeners.
+     */
+    @Setup
+    public void setup() {
+        StubServer.install();
+        final StubFactionsAPI api = StubFactionsAPI.generate(EVENTS, 1, 1, 42);
+        final List<UUID> players = api.getPlayers();
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = new NativeClaimEvent(String.valueOf(i + 1), players.get(i), i, -1);
+        }
+        final Plugin plugin = StubServer.getPlugin();
+        manager = Bukkit.getPluginManager();
+        manager.registerEvent(NativeClaimEvent.class, new NativeListener(api), EventPriority.NORMAL,
+                (listener, event) -> {
+                    if (!(event instanceof NativeClaimEvent)) return;
+                    ((NativeListener) listener).onClaim((NativeClaimEvent) event);
+                }, plugin, true);
+        if (observed) {
+            manager.registerEvent(FactionClaimEvent.class, new BridgeListener(), EventPriority.MONITOR,
+                    (listener, event) -> {
+                        if (!(event instanceof FactionClaimEvent)) return;
+                        ((BridgeListener) listener).onClaim((FactionClaimEvent) event);
+                    }, plugin, true);
+        }
+    }
+
+    /**
+     * Method to unregister the listeners.
+     */
+    @TearDown
+    public void tearDown() {
+        HandlerList.unregisterAll(StubServer.getPlugin());
+    }
+
+    /**
+     * Benchmark of calling a native claim event.
+     *
+     * @return {@code true} if the event was cancelled.
+     */
+    @Benchmark
+    public boolean claim() {
+        final NativeClaimEvent event = events[next++ & (EVENTS - 1)];
+        manager.callEvent(event);
+        return event.isCancelled();
+    }
+
+    /**
+     * The NativeClaimEvent class is the claim event of a Provider, holding its own identifiers.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:10
+     */
+    public static final class NativeClaimEvent extends Event implements Cancellable {
+
+        /**
+         * The handlers of the event.
+         */
+        private static final HandlerList handlers = new HandlerList();
+
+        /**
+         * The id of the claiming Faction.
+         */
+        private final String faction;
+
+        /**
+         * The UUID of the claiming player.
+         */
+        private final UUID player;
+
+        /**
+         * The coordinates of the claimed chunk.
+         */
+        private final int x, z;
+
+        /**
+         * {@code true} if the claim has been cancelled.
+         */
+        private boolean cancelled = false;
+
+        /**
+         * Constructor to create a NativeClaimEvent.
+         *
+         * @param faction id of the claiming Faction.
+         * @param player  UUID of the claiming player.
+         * @param x       coordinate of the chunk.
+         * @param z       coordinate of the chunk.
+         */
+        NativeClaimEvent(@NotNull String faction, @NotNull UUID player, int x, int z) {
+            this.faction = faction;
+            this.player = player;
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancelled) {
+            this.cancelled = cancelled;
+        }
+
+        @NotNull
+        @Override
+        public HandlerList getHandlers() {
+            return handlers;
+        }
+
+        /**
+         * Method to obtain the handlers of the event.
+         *
+         * @return {@link HandlerList}.
+         */
+        public static HandlerList getHandlerList() {
+            return handlers;
+        }
+
+    }
+
+    /**
+     * The NativeListener class translates the native claim event, like the listener of an adapter.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:10
+     */
+    public static final class NativeListener implements Listener {
+
+        /**
+         * The Provider.
+         */
+        private final StubFactionsAPI api;
+
+        /**
+         * Constructor to create a NativeListener.
+         *
+         * @param api of the Provider.
+         */
+        NativeListener(@NotNull StubFactionsAPI api) {
+            this.api = api;
+        }
+
+        /**
+         * Listener for the {@link NativeClaimEvent}.
+         * <p>
+         *     This listener calls the {@link FactionClaimEvent}.
+         * </p>
+         *
+         * @param event to monitor.
+         */
+        @EventHandler
+        public void onClaim(@NotNull NativeClaimEvent event) {
+            if (!EventSubscribers.isListening(FactionClaimEvent.class)) return;
+            final Faction faction = api.getFaction(event.faction);
+            if (faction == null) return;
+            FactionClaimEvent bridgeEvent = new FactionClaimEvent(
+                    new CoordinateClaim(StubFactionsAPI.WORLD, event.x, event.z, faction),
+                    faction,
+                    api.getFPlayer(event.player),
+                    event
+            );
+            Bukkit.getPluginManager().callEvent(bridgeEvent);
+            event.setCancelled(bridgeEvent.isCancelled());
+        }
+
+    }
+
+    /**
+     * The BridgeListener class is a plugin listening for the {@link FactionClaimEvent}.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:10
+     */
+    public static final class BridgeListener implements Listener {
+
+        /**
+         * The amount of claims seen.
+         */
+        private int claims = 0;
+
+        /**
+         * Listener for the {@link FactionClaimEvent}.
+         *
+         * @param event to monitor.
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onClaim(@NotNull FactionClaimEvent event) {
+            claims++;
+        }
+
+    }
+
+}
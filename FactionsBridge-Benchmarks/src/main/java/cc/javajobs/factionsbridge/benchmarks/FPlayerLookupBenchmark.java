@@ -0,0 +1,130 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import cc.javajobs.factionsbridge.benchmarks.stub.StubFactionsAPI;
+import cc.javajobs.factionsbridge.benchmarks.stub.StubServer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import org.bukkit.OfflinePlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The FPlayerLookupBenchmark class measures obtaining the FPlayer of a player, alone and in batches.
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FPlayerLookupBenchmark {
+
+    /**
+     * The amount of players looked up, a power of two so the next player is found with a mask.
+     */
+    private static final int LOOKUPS = 1024;
+
+    /**
+     * The amount of players in the batch looked up by {@link #batch()}.
+     */
+    private static final int BATCH = 64;
+
+    /**
+     * The amount of players.
+     */
+    @Param({"1000", "20000"})
+    public int players;
+
+    /**
+     * The Provider.
+     */
+    private StubFactionsAPI api;
+
+    /**
+     * The UUIDs of the players looked up.
+     */
+    private final UUID[] uuids = new UUID[LOOKUPS];
+
+    /**
+     * The players looked up.
+     */
+    private final OfflinePlayer[] offlinePlayers = new OfflinePlayer[LOOKUPS];
+
+    /**
+     * The UUIDs of the players looked up by {@link #batch()}.
+     */
+    private final List<UUID> batch = new ArrayList<>(BATCH);
+
+    /**
+     * The index of the next player to look up.
+     */
+    private int next = 0;
+
+    /**
+     * Method to generate the players.
+     */
+    @Setup
+    public void setup() {
+        StubServer.install();
+        api = StubFactionsAPI.generate(players / 10, 1, 10, 42);
+        final List<UUID> all = api.getPlayers();
+        final Random random = new Random(42);
+        for (int i = 0; i < LOOKUPS; i++) {
+            uuids[i] = all.get(random.nextInt(all.size()));
+            offlinePlayers[i] = StubServer.offlinePlayer(uuids[i]);
+        }
+        for (int i = 0; i < BATCH; i++) batch.add(uuids[i]);
+    }
+
+    /**
+     * Benchmark of {@link StubFactionsAPI#getFPlayer(UUID)}.
+     *
+     * @return the FPlayer.
+     */
+    @Benchmark
+    public FPlayer byUniqueId() {
+        return api.getFPlayer(uuids[next++ & (LOOKUPS - 1)]);
+    }
+
+    /**
+     * Benchmark of {@link StubFactionsAPI#getFPlayer(OfflinePlayer)}.
+     *
+     * @return the FPlayer.
+     */
+    @Benchmark
+    public FPlayer byOfflinePlayer() {
+        return api.getFPlayer(offlinePlayers[next++ & (LOOKUPS - 1)]);
+    }
+
+    /**
+     * Benchmark of {@link StubFactionsAPI#getFPlayers(Collection)}, reported per player.
+     *
+     * @return the FPlayers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Map<UUID, FPlayer> batch() {
+        return api.getFPlayers(batch);
+    }
+
+}
@@ -0,0 +1,130 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import inmemory.InMemoryAPI;
+import inmemory.InMemoryGenerator;
+import inmemory.InMemoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The InMemoryProviderBenchmark class measures the in-memory reference Provider, filled by an
+ * {@link InMemoryGenerator}.
+ * <p>
+ *     The Stub Provider models a typical Provider, this benchmark shows the cost of the same lookups
+ *     on compact primitive collections, and of a claim and unclaim through the {@link InMemoryStore}.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:30
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryProviderBenchmark {
+
+    /**
+     * The amount of chunks looked up, a power of two so the next chunk is found with a mask.
+     */
+    private static final int LOOKUPS = 1024;
+
+    /**
+     * The name of the World claimed in.
+     */
+    private static final String WORLD = "world";
+
+    /**
+     * The amount of player Factions.
+     */
+    @Param({"100", "2000"})
+    public int factions;
+
+    /**
+     * The amount of claims of each Faction.
+     */
+    @Param({"25"})
+    public int claimsPerFaction;
+
+    /**
+     * The Provider.
+     */
+    private InMemoryAPI api;
+
+    /**
+     * The store of the Provider.
+     */
+    private InMemoryStore store;
+
+    /**
+     * The Faction which claims and unclaims.
+     */
+    private int claimer;
+
+    /**
+     * The coordinates of the chunks looked up.
+     */
+    private final int[] xs = new int[LOOKUPS], zs = new int[LOOKUPS];
+
+    /**
+     * The index of the next chunk to look up.
+     */
+    private int next = 0;
+
+    /**
+     * Method to generate the Factions.
+     */
+    @Setup
+    public void setup() {
+        store = new InMemoryStore();
+        api = new InMemoryAPI(store);
+        final int[] created = new InMemoryGenerator(factions, factions * claimsPerFaction, factions, 42)
+                .generate(store, WORLD);
+        claimer = created[0];
+        final int range = (int) Math.ceil(Math.sqrt(factions)) * ((int) Math.ceil(Math.sqrt(claimsPerFaction)) + 1);
+        final Random random = new Random(42);
+        for (int i = 0; i < LOOKUPS; i++) {
+            xs[i] = random.nextInt(range) - range / 2;
+            zs[i] = random.nextInt(range) - range / 2;
+        }
+    }
+
+    /**
+     * Benchmark of {@link InMemoryAPI#getFactionAt(String, int, int)}.
+     *
+     * @return the Faction found.
+     */
+    @Benchmark
+    public Faction lookup() {
+        final int i = next++ & (LOOKUPS - 1);
+        return api.getFactionAt(WORLD, xs[i], zs[i]);
+    }
+
+    /**
+     * Benchmark of a claim and unclaim of a chunk outside every plot.
+     *
+     * @return the owner of the chunk afterwards.
+     */
+    @Benchmark
+    public int claimAndUnclaim() {
+        final int i = next++ & (LOOKUPS - 1);
+        store.claim(claimer, "void", xs[i], zs[i], InMemoryStore.NONE);
+        store.unclaim("void", xs[i], zs[i], InMemoryStore.NONE);
+        return store.getOwner("void", xs[i], zs[i]);
+    }
+
+}
@@ -0,0 +1,113 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import cc.javajobs.factionsbridge.benchmarks.stub.StubFaction;
+import cc.javajobs.factionsbridge.benchmarks.stub.StubFactionsAPI;
+import cc.javajobs.factionsbridge.benchmarks.stub.StubServer;
+import cc.javajobs.factionsbridge.bridge.index.FactionHandleRegistry;
+import cc.javajobs.factionsbridge.bridge.index.MembershipIndex;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MembersBenchmark class compares listing the Members of a Faction through the Provider
+ * with listing them through the {@link MembershipIndex}.
+ * <p>
+ *     No player is online on the {@link StubServer}, so the offline Members of a Faction are all of its Members.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MembersBenchmark {
+
+    /**
+     * The amount of Factions, a power of two so the next Faction is found with a mask.
+     */
+    private static final int FACTIONS = 256;
+
+    /**
+     * The amount of Members of each Faction.
+     */
+    @Param({"5", "50"})
+    public int membersPerFaction;
+
+    /**
+     * The Factions.
+     */
+    private StubFaction[] factions;
+
+    /**
+     * The index.
+     */
+    private MembershipIndex index;
+
+    /**
+     * The index of the next Faction.
+     */
+    private int next = 0;
+
+    /**
+     * Method to generate the Factions and build the index.
+     */
+    @Setup
+    public void setup() {
+        StubServer.install();
+        final StubFactionsAPI api = StubFactionsAPI.generate(FACTIONS, 1, membersPerFaction, 42);
+        factions = api.getPlayerFactions().toArray(new StubFaction[0]);
+        index = new MembershipIndex(new FactionHandleRegistry(), () -> api);
+        index.build(api);
+    }
+
+    /**
+     * Benchmark of {@link StubFaction#getMembers()}, which wraps every Member.
+     *
+     * @return the Members.
+     */
+    @Benchmark
+    public List<FPlayer> provider() {
+        return factions[next++ & (FACTIONS - 1)].getMembers();
+    }
+
+    /**
+     * Benchmark of {@link MembershipIndex#getOfflineMemberIds(Faction)}.
+     *
+     * @return the UUIDs of the Members.
+     */
+    @Benchmark
+    public Set<UUID> index() {
+        return index.getOfflineMemberIds(factions[next++ & (FACTIONS - 1)]);
+    }
+
+    /**
+     * Benchmark of {@link StubFaction#getMemberCount()}, which doesn't wrap any Member.
+     *
+     * @return the amount of Members.
+     */
+    @Benchmark
+    public int count() {
+        return factions[next++ & (FACTIONS - 1)].getMemberCount();
+    }
+
+}
@@ -0,0 +1,181 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import cc.javajobs.factionsbridge.benchmarks.stub.StubServer;
+import cc.javajobs.factionsbridge.bridge.AuthorConfiguration;
+import cc.javajobs.factionsbridge.bridge.Provider;
+import cc.javajobs.factionsbridge.bridge.ProviderManager;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ProviderDiscoveryBenchmark class measures matching the installed Factions plugin to a {@link Provider}.
+ * <p>
+ *     Once a Provider matches, {@link ProviderManager#discover()} goes on to log and load the API class,
+ *     neither of which exist here, so {@link #match()} repeats its matching loop and stops there.
+ *     <br>A warm start skips the loop entirely, see {@link cc.javajobs.factionsbridge.bridge.DiscoveryCache}.
+ *     <br>The installed plugins are the first Provider, the last version of the Provider with the most
+ *     author configurations, the last Provider and no Provider at all.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProviderDiscoveryBenchmark {
+
+    /**
+     * The installed Factions plugin.
+     */
+    @Param({"ATLAS", "SABER", "IMPROVED", "NONE"})
+    public Installed installed;
+
+    /**
+     * Method to install the Factions plugin.
+     */
+    @Setup
+    public void setup() {
+        StubServer.install();
+        if (installed.name != null) StubServer.installPlugin(installed.name, installed.version, installed.authors);
+    }
+
+    /**
+     * Method to remove the Factions plugin.
+     */
+    @TearDown
+    public void tearDown() {
+        StubServer.uninstallPlugins();
+    }
+
+    /**
+     * Benchmark of the matching loop of {@link ProviderManager#discover()} on a cold start, which only compares
+     * each installed plugin with the Providers of the same plugin name.
+     *
+     * @return the matched Provider, or {@code null}.
+     */
+    @Benchmark
+    public Provider match() {
+        for (String pluginName : Provider.getPluginNames()) {
+            final Plugin plugin = Bukkit.getPluginManager().getPlugin(pluginName);
+            if (plugin == null) continue;
+            final PluginDescriptionFile description = plugin.getDescription();
+            final ArrayList<String> authors = new ArrayList<>(description.getAuthors());
+            for (Provider provider : Provider.getCandidates(pluginName)) {
+                final AuthorConfiguration matched = provider.versionAndAuthorsMatch(description.getVersion(), authors);
+                if (matched != null || provider.authorsMatch(authors) != null) return provider;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Benchmark of the matching loop before the plugin name index, which compared every Provider.
+     *
+     * @return the matched Provider, or {@code null}.
+     */
+    @Benchmark
+    public Provider scan() {
+        for (Provider provider : Provider.values()) {
+            final Plugin plugin = provider.getPlugin();
+            if (plugin == null) continue;
+            final PluginDescriptionFile description = plugin.getDescription();
+            final ArrayList<String> authors = new ArrayList<>(description.getAuthors());
+            final AuthorConfiguration matched = provider.versionAndAuthorsMatch(description.getVersion(), authors);
+            if (matched != null || provider.authorsMatch(authors) != null) return provider;
+        }
+        return null;
+    }
+
+    /**
+     * Benchmark of {@link Provider#getFromAPI(String)}, as used to name the Provider of an API.
+     *
+     * @return the Provider, or {@code null}.
+     */
+    @Benchmark
+    public Provider getFromAPI() {
+        return Provider.getFromAPI(installed.api);
+    }
+
+    /**
+     * The Installed enumeration describes the Factions plugins which can be installed.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:10
+     */
+    public enum Installed {
+
+        ATLAS(
+                "Factions", "Atlas_1", "atlasfactions.AtlasFactionsAPI",
+                "Olof Larsson", "Brett Flannigan", "drtshock", "ProSavage", "Elapsed"
+        ),
+        SABER(
+                "Factions", "4.0.2-RC", "saberfactions.SaberFactionsAPI",
+                "Olof Larsson", "Brett Flannigan", "drtshock", "ProSavage", "DroppingAnvil", "Driftay", "SaberDev",
+                "Callum", "Atilt"
+        ),
+        IMPROVED(
+                "ImprovedFactions", "BETA-5.0.4", "improvedfactions.ImprovedFactionsAPI",
+                "Tobero"
+        ),
+        NONE(null, "", "");
+
+        /**
+         * The name of the plugin, {@code null} if nothing is installed.
+         */
+        private final String name;
+
+        /**
+         * The version of the plugin.
+         */
+        private final String version;
+
+        /**
+         * The API class of the Provider.
+         */
+        private final String api;
+
+        /**
+         * The authors of the plugin.
+         */
+        private final String[] authors;
+
+        /**
+         * Constructor to initialise an Installed plugin.
+         *
+         * @param name    of the plugin.
+         * @param version of the plugin.
+         * @param api     class of the Provider.
+         * @param authors of the plugin.
+         */
+        Installed(@Nullable String name, @NotNull String version, @NotNull String api, @NotNull String... authors) {
+            this.name = name;
+            this.version = version;
+            this.api = api;
+            this.authors = authors;
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.EnumTranslation;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The RelationTranslationBenchmark class compares translating the native enumerations of a Provider
+ * through an {@link EnumTranslation} with matching the name of every constant.
+ * <p>
+ *     Every relationship and role event, and most FPlayer and Faction calls, translate a native constant.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RelationTranslationBenchmark {
+
+    /**
+     * The amount of constants translated, a power of two so the next constant is found with a mask.
+     */
+    private static final int TRANSLATIONS = 256;
+
+    /**
+     * The native relations translated.
+     */
+    private final NativeRelation[] relations = new NativeRelation[TRANSLATIONS];
+
+    /**
+     * The native roles translated.
+     */
+    private final NativeRole[] roles = new NativeRole[TRANSLATIONS];
+
+    /**
+     * The index of the next constant to translate.
+     */
+    private int next = 0;
+
+    /**
+     * Method to pick the constants and build the tables.
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final NativeRelation[] relationValues = NativeRelation.values();
+        final NativeRole[] roleValues = NativeRole.values();
+        for (int i = 0; i < TRANSLATIONS; i++) {
+            relations[i] = relationValues[random.nextInt(relationValues.length)];
+            roles[i] = roleValues[random.nextInt(roleValues.length)];
+        }
+        Relationship.register(NativeRelation.class);
+        Role.register(NativeRole.class);
+    }
+
+    /**
+     * Benchmark of {@link Relationship#translate(Enum)}.
+     *
+     * @return the Relationship.
+     */
+    @Benchmark
+    public Relationship relationship() {
+        return Relationship.translate(relations[next++ & (TRANSLATIONS - 1)]);
+    }
+
+    /**
+     * Benchmark of {@link Relationship#getRelationship(String)}, as used before the translation tables.
+     *
+     * @return the Relationship.
+     */
+    @Benchmark
+    public Relationship relationshipByName() {
+        return Relationship.getRelationship(relations[next++ & (TRANSLATIONS - 1)].name());
+    }
+
+    /**
+     * Benchmark of {@link Role#translate(Enum)}.
+     *
+     * @return the Role.
+     */
+    @Benchmark
+    public Role role() {
+        return Role.translate(roles[next++ & (TRANSLATIONS - 1)]);
+    }
+
+    /**
+     * Benchmark of {@link Role#getRole(String)}, as used before the translation tables.
+     *
+     * @return the Role.
+     */
+    @Benchmark
+    public Role roleByName() {
+        return Role.getRole(roles[next++ & (TRANSLATIONS - 1)].name());
+    }
+
+    /**
+     * The NativeRelation enumeration is the relation enumeration of a Provider, in the style of FactionsUUID.
+     */
+    public enum NativeRelation {
+        MEMBER, ALLY, TRUCE, NEUTRAL, ENEMY
+    }
+
+    /**
+     * The NativeRole enumeration is the role enumeration of a Provider, in the style of FactionsUUID.
+     */
+    public enum NativeRole {
+        ADMIN, COLEADER, MODERATOR, NORMAL, RECRUIT
+    }
+
+}
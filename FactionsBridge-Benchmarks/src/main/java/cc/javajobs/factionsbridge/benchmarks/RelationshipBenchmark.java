@@ -0,0 +1,112 @@
+package cc.javajobs.factionsbridge.benchmarks;
+
+import cc.javajobs.factionsbridge.benchmarks.stub.StubFaction;
+import cc.javajobs.factionsbridge.benchmarks.stub.StubFactionsAPI;
+import cc.javajobs.factionsbridge.benchmarks.stub.StubServer;
+import cc.javajobs.factionsbridge.bridge.index.FactionHandleRegistry;
+import cc.javajobs.factionsbridge.bridge.index.RelationshipCache;
+import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The RelationshipBenchmark class compares obtaining the Relationship between two Factions through the
+ * {@link RelationshipCache} with asking the Provider.
+ * <p>
+ *     The cache is enabled as if the Provider calls relationship events, otherwise it would stay disabled.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RelationshipBenchmark {
+
+    /**
+     * The amount of pairs looked up, a power of two so the next pair is found with a mask.
+     */
+    private static final int LOOKUPS = 1024;
+
+    /**
+     * The amount of player Factions.
+     */
+    @Param({"100", "2000"})
+    public int factions;
+
+    /**
+     * The cache.
+     */
+    private RelationshipCache cache;
+
+    /**
+     * The pairs of Factions looked up.
+     */
+    private final StubFaction[] first = new StubFaction[LOOKUPS], second = new StubFaction[LOOKUPS];
+
+    /**
+     * The index of the next pair to look up.
+     */
+    private int next = 0;
+
+    /**
+     * Method to generate the Factions and enable the cache.
+     */
+    @Setup
+    public void setup() {
+        StubServer.install();
+        final StubFactionsAPI api = StubFactionsAPI.generate(factions, 1, 1, 42);
+        final List<StubFaction> created = api.getPlayerFactions();
+        final FactionHandleRegistry handles = new FactionHandleRegistry();
+        for (StubFaction faction : created) handles.register(faction);
+        cache = new RelationshipCache(handles);
+        cache.enable(true);
+        final Random random = new Random(42);
+        for (int i = 0; i < LOOKUPS; i++) {
+            first[i] = created.get(random.nextInt(created.size()));
+            second[i] = created.get(random.nextInt(created.size()));
+        }
+    }
+
+    /**
+     * Benchmark of {@link RelationshipCache#getRelationship(Faction, Faction)}.
+     *
+     * @return the Relationship.
+     */
+    @Benchmark
+    public Relationship cache() {
+        final int i = next++ & (LOOKUPS - 1);
+        return cache.getRelationship(first[i], second[i]);
+    }
+
+    /**
+     * Benchmark of {@link StubFaction#getRelationshipTo(AbstractFaction)}.
+     *
+     * @return the Relationship.
+     */
+    @Benchmark
+    public Relationship provider() {
+        final int i = next++ & (LOOKUPS - 1);
+        return first[i].getRelationshipTo((AbstractFaction<?>) second[i]);
+    }
+
+}
@@ -0,0 +1,79 @@
+package cc.javajobs.factionsbridge.benchmarks.stub;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.LazyFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The StubFPlayer class is the FPlayer of the {@link StubFactionsAPI}, its data is read from the API on every call.
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+public class StubFPlayer extends LazyFPlayer {
+
+    /**
+     * The API which created the FPlayer.
+     */
+    private final StubFactionsAPI api;
+
+    /**
+     * Constructor to create a StubFPlayer.
+     *
+     * @param api  which created the FPlayer.
+     * @param uuid of the player.
+     */
+    public StubFPlayer(@NotNull StubFactionsAPI api, @NotNull UUID uuid) {
+        super(uuid);
+        this.api = api;
+    }
+
+    @Nullable
+    @Override
+    public Faction getFaction() {
+        final StubFactionsAPI.Member member = api.member(fPlayer);
+        return member == null ? null : api.getFaction(member.faction);
+    }
+
+    @Override
+    public boolean hasFaction() {
+        return api.member(fPlayer) != null;
+    }
+
+    @Override
+    public double getPower() {
+        final StubFactionsAPI.Member member = api.member(fPlayer);
+        return member == null ? 0 : member.power;
+    }
+
+    @Override
+    public void setPower(double power) {
+        final StubFactionsAPI.Member member = api.member(fPlayer);
+        if (member != null) member.power = power;
+    }
+
+    @NotNull
+    @Override
+    public String getTitle() {
+        final StubFactionsAPI.Member member = api.member(fPlayer);
+        return member == null ? "" : member.title;
+    }
+
+    @Override
+    public void setTitle(@NotNull String title) {
+        final StubFactionsAPI.Member member = api.member(fPlayer);
+        if (member != null) member.title = title;
+    }
+
+    @NotNull
+    @Override
+    public Role getRole() {
+        final StubFactionsAPI.Member member = api.member(fPlayer);
+        return member == null ? Role.FACTIONLESS : member.role;
+    }
+
+}
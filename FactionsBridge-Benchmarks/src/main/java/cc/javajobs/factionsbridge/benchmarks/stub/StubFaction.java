@@ -0,0 +1,294 @@
+package cc.javajobs.factionsbridge.benchmarks.stub;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The StubFaction class is the Faction of the {@link StubFactionsAPI}, the bridged object is its id.
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+public class StubFaction extends AbstractFaction<String> {
+
+    /**
+     * The API which created the Faction.
+     */
+    private final StubFactionsAPI api;
+
+    /**
+     * The name of the Faction.
+     */
+    private final String name;
+
+    /**
+     * The UUIDs of the Members, in joining order.
+     */
+    private final Set<UUID> members = new LinkedHashSet<>();
+
+    /**
+     * The claims of the Faction.
+     */
+    private final List<Claim> claims = new ArrayList<>();
+
+    /**
+     * Faction id to Relationship lookup, Factions without an entry are neutral.
+     */
+    private final Map<String, Relationship> relationships = new HashMap<>();
+
+    /**
+     * The warps of the Faction.
+     */
+    private final HashMap<String, Location> warps = new HashMap<>();
+
+    /**
+     * The home of the Faction, {@code null} until set.
+     */
+    private Location home = null;
+
+    /**
+     * The power and bank balance of the Faction.
+     */
+    private double power = 0, bank = 0;
+
+    /**
+     * The points and strikes of the Faction.
+     */
+    private int points = 0, strikes = 0;
+
+    /**
+     * Constructor to create a StubFaction.
+     *
+     * @param api  which created the Faction.
+     * @param id   of the Faction.
+     * @param name of the Faction.
+     */
+    public StubFaction(@NotNull StubFactionsAPI api, @NotNull String id, @NotNull String name) {
+        super(id);
+        this.api = api;
+        this.name = name;
+    }
+
+    /**
+     * Method to add a claim.
+     *
+     * @param claim to add.
+     */
+    void addClaim(@NotNull Claim claim) {
+        claims.add(claim);
+    }
+
+    /**
+     * Method to remove a claim.
+     *
+     * @param x coordinate of the chunk.
+     * @param z coordinate of the chunk.
+     */
+    void removeClaim(int x, int z) {
+        claims.removeIf(claim -> claim.getX() == x && claim.getZ() == z);
+    }
+
+    /**
+     * Method to add a Member.
+     *
+     * @param uuid of the Member.
+     */
+    void addMember(@NotNull UUID uuid) {
+        members.add(uuid);
+    }
+
+    /**
+     * Method to remove a Member.
+     *
+     * @param uuid of the Member.
+     */
+    void removeMember(@NotNull UUID uuid) {
+        members.remove(uuid);
+    }
+
+    /**
+     * Method to set the Relationship of this Faction to another.
+     *
+     * @param other        Faction.
+     * @param relationship to set.
+     */
+    void setRelationship(@NotNull StubFaction other, @NotNull Relationship relationship) {
+        relationships.put(other.getId(), relationship);
+    }
+
+    @NotNull
+    @Override
+    public String getId() {
+        return faction;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Nullable
+    @Override
+    public FPlayer getLeader() {
+        for (UUID uuid : members) {
+            final StubFactionsAPI.Member member = api.member(uuid);
+            if (member != null && member.role == Role.LEADER) return api.getFPlayer(uuid);
+        }
+        return null;
+    }
+
+    @NotNull
+    @Override
+    public List<Claim> getAllClaims() {
+        return new ArrayList<>(claims);
+    }
+
+    @Override
+    public int getClaimCount() {
+        return claims.size();
+    }
+
+    @NotNull
+    @Override
+    public List<FPlayer> getMembers() {
+        final List<FPlayer> list = new ArrayList<>(members.size());
+        for (UUID uuid : members) list.add(api.getFPlayer(uuid));
+        return list;
+    }
+
+    @Override
+    public int getMemberCount() {
+        return members.size();
+    }
+
+    @Override
+    public void setHome(@NotNull Location location) {
+        this.home = location;
+    }
+
+    @Nullable
+    @Override
+    public Location getHome() {
+        return home;
+    }
+
+    @Override
+    public boolean isServerFaction() {
+        return isWilderness() || isSafeZone() || isWarZone();
+    }
+
+    @Override
+    public boolean isWilderness() {
+        return faction.equals("0");
+    }
+
+    @Override
+    public boolean isWarZone() {
+        return faction.equals("-2");
+    }
+
+    @Override
+    public boolean isSafeZone() {
+        return faction.equals("-1");
+    }
+
+    @Override
+    public boolean isPeaceful() {
+        return false;
+    }
+
+    @Override
+    public double getPower() {
+        return power;
+    }
+
+    @Override
+    public void setPower(double power) {
+        this.power = power;
+    }
+
+    @Override
+    public int getPoints() {
+        return points;
+    }
+
+    @Override
+    public void setPoints(int points) {
+        this.points = points;
+    }
+
+    @Override
+    public double getBank() {
+        return bank;
+    }
+
+    @Override
+    public void setBank(double balance) {
+        this.bank = balance;
+    }
+
+    @Nullable
+    @Override
+    public Location getWarp(@NotNull String name) {
+        return warps.get(name);
+    }
+
+    @Override
+    public void createWarp(@NotNull String name, @NotNull Location location) {
+        warps.put(name, location);
+    }
+
+    @NotNull
+    @Override
+    public HashMap<String, Location> getWarps() {
+        return warps;
+    }
+
+    @Override
+    public void deleteWarp(@NotNull String name) {
+        warps.remove(name);
+    }
+
+    @Override
+    public void clearStrikes() {
+        strikes = 0;
+    }
+
+    @Override
+    public void addStrike(String sender, String reason) {
+        strikes++;
+    }
+
+    @Override
+    public void removeStrike(String sender, String reason) {
+        strikes = Math.max(0, strikes - 1);
+    }
+
+    @Override
+    public int getTotalStrikes() {
+        return strikes;
+    }
+
+    @NotNull
+    @Override
+    public Relationship getRelationshipTo(@NotNull AbstractFaction<?> other) {
+        if (other.getId().equals(faction)) return Relationship.MEMBER;
+        return relationships.getOrDefault(other.getId(), Relationship.NONE);
+    }
+
+}
@@ -0,0 +1,385 @@
+package cc.javajobs.factionsbridge.benchmarks.stub;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.CoordinateClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.bukkit.Chunk;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The StubFactionsAPI class is a FactionsAPI backed by plain collections, shaped like a typical Provider.
+ * <p>
+ *     The board maps a location object to a Faction id, and Factions and players are looked up by id and UUID,
+ *     which is how FactionsUUID and its forks store their data, so the Provider paths cost what they would on a server.
+ *     <br>The data is generated from a seed, so every fork of a benchmark sees the same Factions.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+public class StubFactionsAPI implements FactionsAPI {
+
+    /**
+     * The name of the World every claim is in.
+     */
+    public static final String WORLD = "world";
+
+    /**
+     * The amount of chunks in each row of claims.
+     */
+    public static final int ROW = 1024;
+
+    /**
+     * The relationships given to the Factions at random.
+     */
+    private static final Relationship[] RELATIONSHIPS = {Relationship.ALLY, Relationship.TRUCE, Relationship.ENEMY};
+
+    /**
+     * Faction id to Faction lookup.
+     */
+    private final Map<String, StubFaction> factions = new HashMap<>();
+
+    /**
+     * Lower-case tag to Faction lookup.
+     */
+    private final Map<String, StubFaction> tags = new HashMap<>();
+
+    /**
+     * Location to Faction id lookup.
+     */
+    private final Map<BoardKey, String> board = new HashMap<>();
+
+    /**
+     * UUID to player data lookup.
+     */
+    private final Map<UUID, Member> members = new HashMap<>();
+
+    /**
+     * The FPlayer wrappers, created on demand.
+     */
+    private final WrapperCache<UUID, StubFPlayer> fPlayers = new WrapperCache<>(uuid -> new StubFPlayer(this, uuid));
+
+    /**
+     * The Wilderness, SafeZone and WarZone.
+     */
+    private final StubFaction wilderness, safeZone, warZone;
+
+    /**
+     * The UUIDs of every player, in creation order.
+     */
+    private final List<UUID> players = new ArrayList<>();
+
+    /**
+     * Constructor to create an empty StubFactionsAPI, containing only the server Factions.
+     */
+    public StubFactionsAPI() {
+        wilderness = add(new StubFaction(this, "0", "Wilderness"));
+        safeZone = add(new StubFaction(this, "-1", "SafeZone"));
+        warZone = add(new StubFaction(this, "-2", "WarZone"));
+    }
+
+    /**
+     * Method to generate a StubFactionsAPI.
+     * <p>
+     *     Claims are laid out in rows of {@link #ROW} chunks, in the order the Factions are created,
+     *     and each Faction is given up to three relationships with other Factions.
+     * </p>
+     *
+     * @param factionCount     amount of player Factions.
+     * @param claimsPerFaction amount of claims of each Faction.
+     * @param membersPerFaction amount of Members of each Faction.
+     * @param seed             of the random relationships and Roles.
+     * @return {@link StubFactionsAPI}.
+     */
+    @NotNull
+    public static StubFactionsAPI generate(int factionCount, int claimsPerFaction, int membersPerFaction, long seed) {
+        final StubFactionsAPI api = new StubFactionsAPI();
+        final Random random = new Random(seed);
+        final List<StubFaction> created = new ArrayList<>(factionCount);
+        int chunk = 0;
+        for (int i = 0; i < factionCount; i++) {
+            final StubFaction faction = api.add(new StubFaction(api, String.valueOf(i + 1), "Faction" + i));
+            created.add(faction);
+            for (int j = 0; j < claimsPerFaction; j++, chunk++) {
+                api.claim(faction, chunk % ROW, chunk / ROW);
+            }
+            for (int j = 0; j < membersPerFaction; j++) {
+                final Role role = j == 0 ? Role.LEADER : j < 3 ? Role.OFFICER : Role.NORMAL;
+                api.join(faction, new UUID(seed, api.players.size()), role);
+            }
+        }
+        for (StubFaction faction : created) {
+            for (int j = 0; j < 3 && factionCount > 1; j++) {
+                final StubFaction other = created.get(random.nextInt(factionCount));
+                if (other == faction) continue;
+                final Relationship relationship = RELATIONSHIPS[random.nextInt(RELATIONSHIPS.length)];
+                faction.setRelationship(other, relationship);
+                other.setRelationship(faction, relationship);
+            }
+        }
+        return api;
+    }
+
+    /**
+     * Method to add a Faction.
+     *
+     * @param faction to add.
+     * @return the added Faction.
+     */
+    @NotNull
+    private StubFaction add(@NotNull StubFaction faction) {
+        factions.put(faction.getId(), faction);
+        tags.put(faction.getName().toLowerCase(Locale.ROOT), faction);
+        return faction;
+    }
+
+    /**
+     * Method to claim a chunk for a Faction.
+     *
+     * @param faction claiming the chunk.
+     * @param x       coordinate of the chunk.
+     * @param z       coordinate of the chunk.
+     */
+    public void claim(@NotNull StubFaction faction, int x, int z) {
+        final String previous = board.put(new BoardKey(WORLD, x, z), faction.getId());
+        if (previous != null) factions.get(previous).removeClaim(x, z);
+        faction.addClaim(new CoordinateClaim(WORLD, x, z, faction));
+    }
+
+    /**
+     * Method to add a player to a Faction.
+     *
+     * @param faction to join.
+     * @param uuid    of the player.
+     * @param role    of the player.
+     */
+    public void join(@NotNull StubFaction faction, @NotNull UUID uuid, @NotNull Role role) {
+        final Member previous = members.put(uuid, new Member(faction.getId(), role));
+        if (previous == null) players.add(uuid);
+        else factions.get(previous.faction).removeMember(uuid);
+        faction.addMember(uuid);
+    }
+
+    /**
+     * Method to obtain the UUIDs of every player, in creation order.
+     *
+     * @return List of UUIDs.
+     */
+    @NotNull
+    public List<UUID> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Method to obtain the player Factions, in creation order.
+     *
+     * @return List of Factions, without the server Factions.
+     */
+    @NotNull
+    public List<StubFaction> getPlayerFactions() {
+        final List<StubFaction> list = new ArrayList<>();
+        for (StubFaction faction : factions.values()) {
+            if (!faction.isServerFaction()) list.add(faction);
+        }
+        list.sort((a, b) -> Integer.compare(Integer.parseInt(a.getId()), Integer.parseInt(b.getId())));
+        return list;
+    }
+
+    /**
+     * Method to obtain the data of a player.
+     *
+     * @param uuid of the player.
+     * @return {@link Member} or {@code null} if the player has never joined a Faction.
+     */
+    @Nullable
+    Member member(@NotNull UUID uuid) {
+        return members.get(uuid);
+    }
+
+    @NotNull
+    @Override
+    public List<Faction> getFactions() {
+        return new ArrayList<>(factions.values());
+    }
+
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull Chunk chunk) {
+        return getClaim(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+    }
+
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        final String id = board.get(new BoardKey(world, x, z));
+        return new CoordinateClaim(world, x, z, id == null ? wilderness : factions.get(id));
+    }
+
+    @Nullable
+    @Override
+    public Faction getFaction(@NotNull String id) {
+        return factions.get(id);
+    }
+
+    @Nullable
+    @Override
+    public Faction getFactionByTag(@NotNull String tag) {
+        return tags.get(tag.toLowerCase(Locale.ROOT));
+    }
+
+    @NotNull
+    @Override
+    public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
+        return getFPlayer(player.getUniqueId());
+    }
+
+    @NotNull
+    @Override
+    public FPlayer getFPlayer(@NotNull UUID uuid) {
+        return fPlayers.get(uuid);
+    }
+
+    @NotNull
+    @Override
+    public Faction getWarZone() {
+        return warZone;
+    }
+
+    @NotNull
+    @Override
+    public Faction getSafeZone() {
+        return safeZone;
+    }
+
+    @NotNull
+    @Override
+    public Faction getWilderness() {
+        return wilderness;
+    }
+
+    @NotNull
+    @Override
+    public Faction createFaction(@NotNull String name) throws IllegalStateException {
+        if (tags.containsKey(name.toLowerCase(Locale.ROOT))) {
+            throw new IllegalStateException("Faction already exists.");
+        }
+        return add(new StubFaction(this, String.valueOf(factions.size() + 1), name));
+    }
+
+    @Override
+    public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
+        if (faction.isServerFaction()) throw new IllegalStateException("Server Factions can't be deleted.");
+        factions.remove(faction.getId());
+        tags.remove(faction.getName().toLowerCase(Locale.ROOT));
+        board.values().removeIf(id -> id.equals(faction.getId()));
+    }
+
+    @Override
+    public boolean register() {
+        return true;
+    }
+
+    /**
+     * The Member class holds the data of one player.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:10
+     */
+    static final class Member {
+
+        /**
+         * The id of the Faction of the player.
+         */
+        final String faction;
+
+        /**
+         * The Role of the player.
+         */
+        final Role role;
+
+        /**
+         * The power of the player.
+         */
+        double power = 10;
+
+        /**
+         * The title of the player.
+         */
+        String title = "";
+
+        /**
+         * Constructor to create a Member.
+         *
+         * @param faction id of the Faction.
+         * @param role    of the player.
+         */
+        Member(@NotNull String faction, @NotNull Role role) {
+            this.faction = faction;
+            this.role = role;
+        }
+
+    }
+
+    /**
+     * The BoardKey class is the location of a claim on the board.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:10
+     */
+    private static final class BoardKey {
+
+        /**
+         * The name of the World.
+         */
+        private final String world;
+
+        /**
+         * The coordinates of the chunk.
+         */
+        private final int x, z;
+
+        /**
+         * Constructor to create a BoardKey.
+         *
+         * @param world name of the World.
+         * @param x     coordinate of the chunk.
+         * @param z     coordinate of the chunk.
+         */
+        private BoardKey(@NotNull String world, int x, int z) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(world, x, z);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof BoardKey)) return false;
+            final BoardKey other = (BoardKey) obj;
+            return x == other.x && z == other.z && world.equals(other.world);
+        }
+
+    }
+
+}
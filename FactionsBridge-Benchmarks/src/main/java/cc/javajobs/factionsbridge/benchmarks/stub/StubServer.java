@@ -0,0 +1,324 @@
+package cc.javajobs.factionsbridge.benchmarks.stub;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.command.SimpleCommandMap;
+import org.bukkit.plugin.InvalidDescriptionException;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.SimplePluginManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * The StubServer class installs just enough of a Bukkit {@link Server} to run the bridge outside of a server.
+ * <p>
+ *     Events are registered and called through a real {@link SimplePluginManager}, every other call is answered
+ *     by a {@link Proxy} returning an empty value.
+ *     <br>The calling thread is always the primary thread, there are no online players and every
+ *     {@link OfflinePlayer} is created on demand.
+ * </p>
+ * <p>
+ *     Plugins can be {@link #installPlugin(String, String, String...) installed} by name, so that
+ *     {@link PluginManager#getPlugin(String)} finds them during Provider discovery.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:10
+ */
+public final class StubServer {
+
+    /**
+     * The Logger of the server.
+     */
+    private static final Logger LOGGER = Logger.getLogger("StubServer");
+
+    /**
+     * Plugin name to installed Plugin lookup.
+     */
+    private static final Map<String, Plugin> plugins = new ConcurrentHashMap<>();
+
+    /**
+     * The PluginManager of the server.
+     */
+    private static PluginManager pluginManager = null;
+
+    /**
+     * The Plugin which owns every listener registered by the benchmarks.
+     */
+    private static Plugin plugin = null;
+
+    /**
+     * Private constructor as this is a utility class.
+     */
+    private StubServer() {
+        throw new UnsupportedOperationException("StubServer is a utility class.");
+    }
+
+    /**
+     * Method to install the server, if it hasn't been installed already.
+     */
+    public static synchronized void install() {
+        if (Bukkit.getServer() != null) return;
+        final Server server = proxy(Server.class, StubServer::serve);
+        final SimplePluginManager events = new SimplePluginManager(server, new SimpleCommandMap(server));
+        pluginManager = proxy(PluginManager.class, (method, args) -> {
+            switch (method.getName()) {
+                case "getPlugin":
+                    return plugins.get((String) args[0]);
+                case "getPlugins":
+                    return plugins.values().toArray(new Plugin[0]);
+                default:
+                    try {
+                        return method.invoke(events, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+            }
+        });
+        plugin = plugin(description("FactionsBridge-Benchmarks", "1.0"));
+        Bukkit.setServer(server);
+    }
+
+    /**
+     * Method to obtain the Plugin which owns every listener registered by the benchmarks.
+     *
+     * @return {@link Plugin}, which is always enabled.
+     */
+    @NotNull
+    public static Plugin getPlugin() {
+        install();
+        return plugin;
+    }
+
+    /**
+     * Method to install a Plugin, so that it can be found by name.
+     *
+     * @param name    of the Plugin.
+     * @param version of the Plugin.
+     * @param authors of the Plugin.
+     * @return the installed {@link Plugin}.
+     */
+    @NotNull
+    public static Plugin installPlugin(@NotNull String name, @NotNull String version, @NotNull String... authors) {
+        install();
+        final Plugin installed = plugin(description(name, version, authors));
+        plugins.put(name, installed);
+        return installed;
+    }
+
+    /**
+     * Method to remove every installed Plugin.
+     */
+    public static void uninstallPlugins() {
+        plugins.clear();
+    }
+
+    /**
+     * Method to create an OfflinePlayer, equal to any other OfflinePlayer with the same UUID.
+     *
+     * @param uuid of the player.
+     * @return {@link OfflinePlayer} which has played before, but isn't online.
+     */
+    @NotNull
+    public static OfflinePlayer offlinePlayer(@NotNull UUID uuid) {
+        final String name = "Player_" + uuid.toString().substring(0, 8);
+        return (OfflinePlayer) Proxy.newProxyInstance(
+                OfflinePlayer.class.getClassLoader(), new Class<?>[] {OfflinePlayer.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getUniqueId":
+                            return uuid;
+                        case "getName":
+                        case "toString":
+                            return name;
+                        case "hasPlayedBefore":
+                            return true;
+                        case "hashCode":
+                            return uuid.hashCode();
+                        case "equals":
+                            return args[0] instanceof OfflinePlayer
+                                    && uuid.equals(((OfflinePlayer) args[0]).getUniqueId());
+                        default:
+                            return emptyValue(method.getReturnType());
+                    }
+                }
+        );
+    }
+
+    /**
+     * Method to answer a call made to the server.
+     *
+     * @param method which was called.
+     * @param args   of the call.
+     * @return the answer.
+     */
+    @Nullable
+    private static Object serve(@NotNull Method method, @Nullable Object[] args) {
+        switch (method.getName()) {
+            case "getLogger":
+                return LOGGER;
+            case "getName":
+                return "StubServer";
+            case "getVersion":
+            case "getBukkitVersion":
+                return "1.17-R0.1-SNAPSHOT";
+            case "getPluginManager":
+                return pluginManager;
+            case "isPrimaryThread":
+                return true;
+            case "getOnlinePlayers":
+                return Collections.emptyList();
+            case "getOfflinePlayer":
+                return args != null && args[0] instanceof UUID ? offlinePlayer((UUID) args[0]) : null;
+            default:
+                return emptyValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * Method to create a Plugin, which is always enabled.
+     *
+     * @param description of the Plugin.
+     * @return {@link Plugin}.
+     */
+    @NotNull
+    private static Plugin plugin(@NotNull PluginDescriptionFile description) {
+        return proxy(Plugin.class, (method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return description.getName();
+                case "getDescription":
+                    return description;
+                case "isEnabled":
+                    return true;
+                case "getLogger":
+                    return LOGGER;
+                case "getServer":
+                    return Bukkit.getServer();
+                default:
+                    return emptyValue(method.getReturnType());
+            }
+        });
+    }
+
+    /**
+     * Method to create the description of a Plugin.
+     *
+     * @param name    of the Plugin.
+     * @param version of the Plugin.
+     * @param authors of the Plugin.
+     * @return {@link PluginDescriptionFile}.
+     */
+    @NotNull
+    private static PluginDescriptionFile description(@NotNull String name, @NotNull String version,
+                                                     @NotNull String... authors) {
+        final StringBuilder yaml = new StringBuilder()
+                .append("name: ").append(quote(name)).append('\n')
+                .append("version: ").append(quote(version)).append('\n')
+                .append("main: ").append(quote("stub." + name.replaceAll("[^A-Za-z0-9]", ""))).append('\n')
+                .append("authors: [");
+        for (int i = 0; i < authors.length; i++) {
+            if (i != 0) yaml.append(", ");
+            yaml.append(quote(authors[i]));
+        }
+        yaml.append("]\n");
+        try {
+            return new PluginDescriptionFile(new StringReader(yaml.toString()));
+        } catch (InvalidDescriptionException ex) {
+            throw new IllegalArgumentException("Invalid Plugin description for '" + name + "'.", ex);
+        }
+    }
+
+    /**
+     * Method to quote a YAML scalar.
+     *
+     * @param value to quote.
+     * @return the double-quoted value.
+     */
+    @NotNull
+    private static String quote(@NotNull String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    /**
+     * Method to create a Proxy which answers the methods of {@link Object} by identity.
+     *
+     * @param type    to implement.
+     * @param handler answering every other call.
+     * @param <T>     type to implement.
+     * @return the Proxy.
+     */
+    @NotNull
+    private static <T> T proxy(@NotNull Class<T> type, @NotNull Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        switch (method.getName()) {
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                        }
+                    }
+                    return handler.handle(method, args);
+                }
+        ));
+    }
+
+    /**
+     * Method to obtain the empty value of a return type.
+     *
+     * @param type returned.
+     * @return {@code false}, zero or {@code null}.
+     */
+    @Nullable
+    private static Object emptyValue(@NotNull Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0F;
+        return 0D;
+    }
+
+    /**
+     * The Handler interface answers the calls made to a Proxy.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:10
+     */
+    @FunctionalInterface
+    private interface Handler {
+
+        /**
+         * Method to answer a call.
+         *
+         * @param method which was called.
+         * @param args   of the call, can be {@code null}.
+         * @return the answer.
+         * @throws Throwable to throw from the Proxy.
+         */
+        @Nullable
+        Object handle(@NotNull Method method, @Nullable Object[] args) throws Throwable;
+
+    }
+
+}
@@ -1,6 +1,8 @@
 package cc.javajobs.factionsbridge;
 
 import cc.javajobs.factionsbridge.bridge.commands.About;
+import cc.javajobs.factionsbridge.bridge.commands.Startup;
+import cc.javajobs.factionsbridge.bridge.commands.Stats;
 import cc.javajobs.factionsbridge.util.ACommand;
 import cc.javajobs.factionsbridge.util.Communicator;
 import cc.javajobs.factionsbridge.util.Updater;
@@ -27,7 +29,9 @@ public class BridgePlugin extends JavaPlugin implements Communicator, CommandExe
      * Commands for the Bridge Plugin.
      */
     private final ACommand[] commands = new ACommand[] {
-            new About()
+            new About(),
+            new Stats(),
+            new Startup()
     };
 
     /**
@@ -49,13 +53,9 @@ public class BridgePlugin extends JavaPlugin implements Communicator, CommandExe
         // API test.
         if (Bukkit.getPluginManager().getPlugin("FastAsyncWorldEdit") != null) {
             warn("FastAsyncWorldEdit changes the load-order of the Server. Delaying the API test by 5 seconds.");
-            Bukkit.getScheduler().runTaskLater(this, () -> {
-                int loaded = FactionsBridge.getFactionsAPI().getFactions().size();
-                warn(loaded + " factions have been loaded.");
-            }, 100L);
+            Bukkit.getScheduler().runTaskLater(this, this::testAPI, 100L);
         } else {
-            int loaded = FactionsBridge.getFactionsAPI().getFactions().size();
-            warn(loaded + " factions have been loaded.");
+            testAPI();
         }
 
         // Check for updates.
@@ -89,6 +89,16 @@ public class BridgePlugin extends JavaPlugin implements Communicator, CommandExe
 
     }
 
+    /**
+     * Method to test the API by counting the loaded factions, timing it for the startup timeline.
+     */
+    private void testAPI() {
+        final long start = System.nanoTime();
+        int loaded = FactionsBridge.getFactionsAPI().getFactionCount();
+        FactionsBridge.get().recordStartupPhase(getName(), "faction count", start, System.nanoTime());
+        warn(loaded + " factions have been loaded.");
+    }
+
     /**
      * Command handler to redirect commands to their command-handling {@link ACommand} implementation.
      *
@@ -2,8 +2,11 @@ package cc.javajobs.factionsbridge.bridge.commands;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.Provider;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
+import cc.javajobs.factionsbridge.bridge.shared.BridgeService;
 import cc.javajobs.factionsbridge.util.ACommand;
 import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
 import static cc.javajobs.factionsbridge.util.FontMetrics.obtainCenteredMessage;
@@ -37,7 +40,14 @@ public class About extends ACommand {
         sender.sendMessage("");
         sender.sendMessage(translate("  &cStatus&7: " + (FactionsBridge.get().connected() ? "&aConnected" : "&cDisconnected")));
         sender.sendMessage(translate("  &cRegistered&7: " + (FactionsBridge.get().registered ? "&aYes" : "&cNo")));
-        Provider provider = Provider.getFromAPI(FactionsBridge.getFactionsAPI().getClass().getName());
+        final BridgeService shared = FactionsBridge.get().getSharedBridge();
+        Provider provider = shared == null ? Provider.getFromAPI(
+                Instrumentation.unwrap(FactionsBridge.getFactionsAPI()).getClass().getName()
+        ) : fromName(shared.getProviderName());
+        if (shared != null) {
+            sender.sendMessage(translate("  &cShared By&7: &f'" + shared.getOwner().getName() + "' &7v&b"
+                    + shared.getBridgeVersion()));
+        }
         if (provider == null) {
             sender.sendMessage(translate("  &cProvider&7: &cN/A"));
         } else {
@@ -56,7 +66,8 @@ public class About extends ACommand {
             } else {
                 sender.sendMessage(translate("  &cDeveloper(s)&7: &f" + authors));
             }
-            sender.sendMessage(translate("  &cPlugin&7: &f'" + provider.getPlugin().getName() + "'"));
+            final Plugin plugin = provider.getPlugin();
+            sender.sendMessage(translate("  &cPlugin&7: " + (plugin == null ? "&cN/A" : "&f'" + plugin.getName() + "'")));
         }
         sender.sendMessage("");
         sender.sendMessage(obtainCenteredMessage("&bDeveloped by &7'&fC A L L U M#4160&7' &8(&dDiscord&8)"));
@@ -64,4 +75,19 @@ public class About extends ACommand {
         sender.sendMessage(translate("&b=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-"));
     }
 
+    /**
+     * Method to obtain a Provider by name.
+     *
+     * @param name of the Provider, can be {@code null}.
+     * @return {@link Provider} or {@code null} if there is no such Provider.
+     */
+    private Provider fromName(String name) {
+        if (name == null) return null;
+        try {
+            return Provider.valueOf(name);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
 }
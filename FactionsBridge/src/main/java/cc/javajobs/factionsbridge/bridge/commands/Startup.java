@@ -0,0 +1,81 @@
+package cc.javajobs.factionsbridge.bridge.commands;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.startup.StartupPhase;
+import cc.javajobs.factionsbridge.bridge.startup.StartupTimeline;
+import cc.javajobs.factionsbridge.util.ACommand;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static cc.javajobs.factionsbridge.util.FontMetrics.obtainCenteredMessage;
+
+/**
+ * The Startup command shows the command-sender how long each phase of connecting the bridge took.
+ * <p>
+ *     Usage: {@code /factionsbridge startup [json]}.
+ *     <br>{@code json} writes the {@link StartupTimeline} to {@value #FILE_NAME} in the plugin folder.
+ * </p>
+ */
+public class Startup extends ACommand {
+
+    /**
+     * The name of the file the timeline is written to.
+     */
+    private static final String FILE_NAME = "startup-timeline.json";
+
+    /**
+     * Constructor to initialise a command with the given name.
+     */
+    public Startup() {
+        super("Startup", "Displays how long each phase of connecting the bridge took.");
+    }
+
+    /**
+     * Method to 'execute' the given command.
+     *
+     * @param sender who sent the command.
+     * @param args   of the command.
+     */
+    @Override
+    public void execute(@NotNull CommandSender sender, @NotNull String[] args) {
+        final StartupTimeline timeline = FactionsBridge.get().getStartupTimeline();
+        if (args.length != 0 && args[0].equalsIgnoreCase("json")) {
+            final File file = new File(FactionsBridge.get().getDevelopmentPlugin().getDataFolder(), FILE_NAME);
+            try {
+                timeline.writeJson(file);
+                sender.sendMessage(translate("&bFactionsBridge &7startup timeline written to &f" + file.getPath()));
+            } catch (IOException ex) {
+                exception(ex, "Failed to write the startup timeline.");
+                sender.sendMessage(translate("&cFailed to write the startup timeline, see the console."));
+            }
+            return;
+        }
+        final List<StartupPhase> phases = timeline.getPhases();
+        final Set<String> consumers = new LinkedHashSet<>();
+        phases.forEach(phase -> consumers.add(phase.getConsumer()));
+        sender.sendMessage(translate("&b=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-"));
+        sender.sendMessage("");
+        sender.sendMessage(obtainCenteredMessage("&fFactionsBridge &7Startup Timeline"));
+        sender.sendMessage("");
+        if (phases.isEmpty()) {
+            sender.sendMessage(translate("  &7No phases have been recorded."));
+        }
+        for (String consumer : consumers) {
+            sender.sendMessage(translate("  &c" + consumer + "&7: &f" + Stats.format(timeline.getTotal(consumer))));
+            for (StartupPhase phase : timeline.getPhases(consumer)) {
+                sender.sendMessage(translate("    &7" + phase.getName() + " &f" + Stats.format(phase.getDuration())
+                        + " &8(&7" + (phase.getProvider() == null ? "no Provider" : phase.getProvider())
+                        + "&8, +" + Stats.format(phase.getStart()) + ")"));
+            }
+        }
+        sender.sendMessage("");
+        sender.sendMessage(translate("&b=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-"));
+    }
+
+}
@@ -0,0 +1,103 @@
+package cc.javajobs.factionsbridge.bridge.commands;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
+import cc.javajobs.factionsbridge.bridge.instrumentation.LatencyHistogram;
+import cc.javajobs.factionsbridge.bridge.instrumentation.MethodStats;
+import cc.javajobs.factionsbridge.util.ACommand;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Locale;
+
+import static cc.javajobs.factionsbridge.util.FontMetrics.obtainCenteredMessage;
+
+/**
+ * The Stats command shows the command-sender the call count and latency of the most expensive bridge methods.
+ * <p>
+ *     Usage: {@code /factionsbridge stats [on|off|reset|<provider>]}.
+ *     <br>Calls are only recorded while the {@link Instrumentation} is on.
+ * </p>
+ */
+public class Stats extends ACommand {
+
+    /**
+     * The amount of methods shown.
+     */
+    private static final int SHOWN = 10;
+
+    /**
+     * Constructor to initialise a command with the given name.
+     */
+    public Stats() {
+        super("Stats", "Displays the call count and latency of the bridge methods.");
+    }
+
+    /**
+     * Method to 'execute' the given command.
+     *
+     * @param sender who sent the command.
+     * @param args   of the command.
+     */
+    @Override
+    public void execute(@NotNull CommandSender sender, @NotNull String[] args) {
+        final Instrumentation instrumentation = FactionsBridge.get().getInstrumentation();
+        if (args.length != 0) {
+            switch (args[0].toLowerCase(Locale.ROOT)) {
+                case "on":
+                    instrumentation.setEnabled(true);
+                    sender.sendMessage(translate("&bFactionsBridge &7is now recording calls."));
+                    return;
+                case "off":
+                    instrumentation.setEnabled(false);
+                    sender.sendMessage(translate("&bFactionsBridge &7is no longer recording calls."));
+                    return;
+                case "reset":
+                    instrumentation.reset();
+                    sender.sendMessage(translate("&bFactionsBridge &7call statistics have been reset."));
+                    return;
+                default:
+                    break;
+            }
+        }
+        final List<MethodStats> stats = args.length == 0 ? instrumentation.getStats()
+                : instrumentation.getStats(args[0]);
+        sender.sendMessage(translate("&b=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-"));
+        sender.sendMessage("");
+        sender.sendMessage(obtainCenteredMessage("&fFactionsBridge &7Call Statistics"));
+        sender.sendMessage("");
+        sender.sendMessage(translate("  &cRecording&7: " + (instrumentation.isEnabled() ? "&aYes" : "&cNo")));
+        if (stats.isEmpty()) {
+            sender.sendMessage(translate("  &7No calls have been recorded, use &f/factionsbridge stats on&7."));
+        }
+        for (int i = 0; i < Math.min(SHOWN, stats.size()); i++) {
+            final MethodStats method = stats.get(i);
+            final LatencyHistogram latency = method.getLatency();
+            sender.sendMessage(translate("  &f" + method.getMethod() + " &8(&7" + method.getProvider() + "&8)"));
+            sender.sendMessage(translate("    &7calls &f" + method.getCalls()
+                    + (method.getFailures() == 0 ? "" : " &c(" + method.getFailures() + " failed)")
+                    + " &7p50 &f" + format(latency.getValueAtPercentile(50))
+                    + " &7p99 &f" + format(latency.getValueAtPercentile(99))
+                    + " &7max &f" + format(latency.getMax())
+                    + " &7total &f" + format(latency.getTotal())));
+        }
+        sender.sendMessage("");
+        sender.sendMessage(translate("&b=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-"));
+    }
+
+    /**
+     * Method to format a duration for display.
+     *
+     * @param nanos duration in nanoseconds.
+     * @return formatted duration.
+     */
+    @NotNull
+    static String format(long nanos) {
+        if (nanos < 1_000) return nanos + "ns";
+        if (nanos < 1_000_000) return String.format(Locale.ROOT, "%.1fus", nanos / 1_000D);
+        if (nanos < 1_000_000_000) return String.format(Locale.ROOT, "%.1fms", nanos / 1_000_000D);
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1_000_000_000D);
+    }
+
+}
@@ -2,9 +2,36 @@ package cc.javajobs.factionsbridge;
 
 import cc.javajobs.factionsbridge.bridge.Provider;
 import cc.javajobs.factionsbridge.bridge.ProviderManager;
+import cc.javajobs.factionsbridge.bridge.async.AsyncFactionsAPI;
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimsChangedEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRoleChangeEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimAllEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.ClaimChangeBatcher;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeAlreadyConnectedException;
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodException;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
+import cc.javajobs.factionsbridge.bridge.index.FactionHandleRegistry;
+import cc.javajobs.factionsbridge.bridge.index.FactionNameIndex;
+import cc.javajobs.factionsbridge.bridge.index.MembershipIndex;
+import cc.javajobs.factionsbridge.bridge.index.RelationshipCache;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
+import cc.javajobs.factionsbridge.bridge.shared.BridgeService;
+import cc.javajobs.factionsbridge.bridge.shared.SharedBridge;
+import cc.javajobs.factionsbridge.bridge.shared.SharedEventRelay;
+import cc.javajobs.factionsbridge.bridge.snapshot.SnapshotManager;
+import cc.javajobs.factionsbridge.bridge.startup.StartupTimeline;
+import cc.javajobs.factionsbridge.bridge.stream.BridgeEventStream;
 import cc.javajobs.factionsbridge.util.Communicator;
 import org.bstats.bukkit.Metrics;
 import org.bstats.charts.SimplePie;
@@ -15,6 +42,7 @@ import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
@@ -40,6 +68,19 @@ public class FactionsBridge implements Communicator {
     public boolean registered = false;
     public boolean catch_exceptions;
     private Plugin development_plugin = null;
+    private BridgeService shared = null;
+    private final FactionHandleRegistry handles = new FactionHandleRegistry();
+    private final ClaimIndex claimIndex = new ClaimIndex(handles);
+    private final FactionNameIndex nameIndex = new FactionNameIndex(handles);
+    private final MembershipIndex membershipIndex = new MembershipIndex(handles, FactionsBridge::getFactionsAPI);
+    private final RelationshipCache relationshipCache = new RelationshipCache(handles);
+    private final EventDispatcher dispatcher = new EventDispatcher(this::getDevelopmentPlugin);
+    private final ClaimChangeBatcher claimBatcher = new ClaimChangeBatcher(dispatcher, claimIndex);
+    private final BridgeEventStream eventStream = new BridgeEventStream(this::getDevelopmentPlugin);
+    private final Instrumentation instrumentation = new Instrumentation();
+    private final SnapshotManager snapshots = new SnapshotManager(FactionsBridge::getFactionsAPI);
+    private final StartupTimeline timeline = new StartupTimeline();
+    private final AsyncFactionsAPI asyncAPI = new AsyncFactionsAPI(FactionsBridge::getFactionsAPI, this::getDevelopmentPlugin);
 
     static {
         try {
@@ -147,12 +188,86 @@ public class FactionsBridge implements Communicator {
                 }
             }
         }
-        long start = System.currentTimeMillis();
         if (instance == null) instance = this;
         instance.development_plugin = plugin;
+        final BridgeService service = SharedBridge.find();
+        // Another copy has connected, so its Provider, listeners and indices are used instead.
+        if (service != null) attach(plugin, service, consoleOutput, catchExceptions);
+        else hook(plugin, consoleOutput, catchExceptions);
+    }
+
+    /**
+     * Method to attach the Bridge to the bridge shared by another copy.
+     *
+     * @param plugin to connect for.
+     * @param service shared by the other copy.
+     * @param consoleOutput {@code true} if console output should be shown.
+     * @param catchExceptions {@code true} if you want to reduce exceptions when a function isn't supported.
+     */
+    private void attach(@NotNull JavaPlugin plugin, @NotNull BridgeService service, boolean consoleOutput,
+                        boolean catchExceptions) {
+        long start = System.currentTimeMillis();
+        final long attachStart = System.nanoTime();
+        final String consumer = plugin.getName();
+        factionapi = (FactionsAPI) service.getFactionsAPI();
+        this.catch_exceptions = catchExceptions;
+        registered = true;
+        instance.shared = service;
+        service.attach(plugin);
+        new SharedEventRelay(service, instance.dispatcher, () -> detach(plugin, consoleOutput, catchExceptions))
+                .register(plugin);
+        instance.timeline.setProvider(consumer, service.getProviderName());
+        instance.recordStartupPhase(consumer, "attach", attachStart, System.nanoTime());
+        long diff = System.currentTimeMillis()-start;
+        if (consoleOutput) log("FactionsBridge attached to the bridge of " + service.getOwner().getName()
+                + " (" + service.getBridgeVersion() + ") in " + diff + " milliseconds.");
+    }
+
+    /**
+     * Method to detach the Bridge from a shared bridge whose plugin is being disabled.
+     * <p>
+     *     The shared bridge is still registered until its plugin has been disabled, so on the next tick the Bridge
+     *     attaches to another shared bridge if there is one, or hooks the Provider itself.
+     *     <br>Until then, {@link #getFactionsAPI()} returns {@code null}.
+     * </p>
+     *
+     * @param plugin which connected the Bridge.
+     * @param consoleOutput {@code true} if console output should be shown.
+     * @param catchExceptions {@code true} if you want to reduce exceptions when a function isn't supported.
+     */
+    private void detach(@NotNull JavaPlugin plugin, boolean consoleOutput, boolean catchExceptions) {
+        instance.shared = null;
+        factionapi = null;
+        registered = false;
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            final BridgeService service = SharedBridge.find();
+            if (service != null) attach(plugin, service, consoleOutput, catchExceptions);
+            else hook(plugin, consoleOutput, catchExceptions);
+        });
+    }
+
+    /**
+     * Method to hook the Provider, and share the Bridge with the copies which connect later.
+     *
+     * @param plugin to connect for.
+     * @param consoleOutput {@code true} if console output should be shown.
+     * @param catchExceptions {@code true} if you want to reduce exceptions when a function isn't supported.
+     */
+    private void hook(@NotNull JavaPlugin plugin, boolean consoleOutput, boolean catchExceptions) {
+        long start = System.currentTimeMillis();
+        final long discoveryStart = System.nanoTime();
+        final StartupTimeline timeline = instance.timeline;
+        final String consumer = plugin.getName();
         ProviderManager manager = new ProviderManager();
         Plugin provider = manager.discover();
         factionapi = manager.getAPI();
+        if (manager.getHookedProvider() != null) {
+            timeline.setProvider(consumer, manager.getHookedProvider().name());
+            timeline.record(consumer, "discovery", discoveryStart, manager.getInstantiationStart());
+            timeline.record(consumer, "instantiation", manager.getInstantiationStart(), manager.getInstantiationEnd());
+        } else {
+            timeline.record(consumer, "discovery", discoveryStart, System.nanoTime());
+        }
         String status = "without";
         if ((provider == null || factionapi == null) && consoleOutput) {
             spacer(ChatColor.RED);
@@ -164,7 +279,9 @@ public class FactionsBridge implements Communicator {
         }
         this.catch_exceptions = catchExceptions;
         if (factionapi != null) {
+            final long registerStart = System.nanoTime();
             registered = factionapi.register();
+            timeline.record(consumer, "register", registerStart, System.nanoTime());
             if (!registered) {
                 status = "with";
             } else {
@@ -176,17 +293,131 @@ public class FactionsBridge implements Communicator {
                     error("Thank you, Callum");
                     spacer(ChatColor.AQUA);
                 }
+                final long metricsStart = System.nanoTime();
                 final Metrics metrics = new Metrics(plugin, 11893);
                 metrics.addCustomChart(new SimplePie("factions_implementation_used",
                         () -> manager.getHookedProvider().name()));
                 metrics.addCustomChart(new SimplePie("standalone_or_shaded",
                         () -> isFactionsBridge(plugin) ? "FactionsBridge" : "Shaded"));
+                timeline.record(consumer, "metrics", metricsStart, System.nanoTime());
+                instance.buildIndices(plugin, consoleOutput);
+                SharedBridge.publish(plugin, manager.getHookedProvider().name());
             }
         }
         long diff = System.currentTimeMillis()-start;
         if (consoleOutput) log("FactionsBridge started in " + diff + " milliseconds " + status + " errors.");
     }
 
+    /**
+     * Method to build the bridge-owned indices and keep them current.
+     * <p>
+     *     The build is scheduled for the first server tick, by which point every Provider has loaded its data.
+     *     <br>Until the build completes, lookups fall back to the Provider.
+     * </p>
+     *
+     * @param plugin to register the listeners for.
+     * @param consoleOutput {@code true} if console output should be shown.
+     */
+    private void buildIndices(@NotNull JavaPlugin plugin, boolean consoleOutput) {
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            relationshipCache.enable(factionapi.supportsRelationshipEvents());
+            if (relationshipCache.isEnabled()) {
+                dispatcher.observe(FactionRelationshipEvent.class, relationshipCache::onRelationship);
+                dispatcher.observe(FactionJoinEvent.class, relationshipCache::onJoin);
+                dispatcher.observe(FactionLeaveEvent.class, relationshipCache::onLeave);
+                dispatcher.observe(FactionDisbandEvent.class, relationshipCache::onDisband);
+            }
+            // Some claim changes are never bridged, so the Provider answers every land lookup instead.
+            if (factionapi.supportsClaimEvents()) {
+                try {
+                    long start = System.currentTimeMillis();
+                    final long indexStart = System.nanoTime();
+                    int claims = claimIndex.build(factionapi);
+                    // The batcher reads the Claims which are about to change from the index, so observes first.
+                    claimBatcher.observe();
+                    dispatcher.observe(FactionClaimEvent.class, claimIndex::onClaim);
+                    dispatcher.observe(FactionUnclaimEvent.class, claimIndex::onUnclaim);
+                    dispatcher.observe(FactionUnclaimAllEvent.class, claimIndex::onUnclaimAll);
+                    dispatcher.observe(FactionDisbandEvent.class, claimIndex::onDisband);
+                    timeline.record(plugin.getName(), "claim index", indexStart, System.nanoTime());
+                    long diff = System.currentTimeMillis() - start;
+                    if (consoleOutput) log("Indexed " + claims + " claims in " + diff + " milliseconds.");
+                } catch (Exception ex) {
+                    exception(ex, "Failed to build the claim index, falling back to the Provider.");
+                }
+            }
+            try {
+                long start = System.currentTimeMillis();
+                final long indexStart = System.nanoTime();
+                int names = nameIndex.build(factionapi);
+                dispatcher.observe(FactionCreateEvent.class, nameIndex::onCreate);
+                dispatcher.observe(FactionRenameEvent.class, nameIndex::onRename);
+                dispatcher.observe(FactionDisbandEvent.class, nameIndex::onDisband);
+                timeline.record(plugin.getName(), "name index", indexStart, System.nanoTime());
+                long diff = System.currentTimeMillis() - start;
+                if (consoleOutput) log("Indexed " + names + " faction names in " + diff + " milliseconds.");
+            } catch (Exception ex) {
+                exception(ex, "Failed to build the faction name index, falling back to the Provider.");
+            }
+            try {
+                long start = System.currentTimeMillis();
+                final long indexStart = System.nanoTime();
+                int members = membershipIndex.build(factionapi);
+                Bukkit.getPluginManager().registerEvents(membershipIndex, plugin);
+                dispatcher.observe(FactionJoinEvent.class, membershipIndex::onJoin);
+                dispatcher.observe(FactionLeaveEvent.class, membershipIndex::onLeave);
+                dispatcher.observe(FactionDisbandEvent.class, membershipIndex::onDisband);
+                dispatcher.observe(FactionRoleChangeEvent.class, membershipIndex::onRoleChange);
+                timeline.record(plugin.getName(), "membership index", indexStart, System.nanoTime());
+                long diff = System.currentTimeMillis() - start;
+                if (consoleOutput) log("Indexed " + members + " faction members in " + diff + " milliseconds.");
+            } catch (Exception ex) {
+                exception(ex, "Failed to build the membership index, falling back to the Provider.");
+            }
+            // Every index removes a disbanded Faction by its handle, so the handle is only released after all of them.
+            dispatcher.observe(FactionDisbandEvent.class, event -> handles.release(event.getFaction().getId()));
+        });
+    }
+
+    /**
+     * Method to add a Faction created through the {@link FactionsAPI} to the bridge-owned indices.
+     * <p>
+     *     Most Providers don't call an event when a Faction is created through their API, so the Providers
+     *     call this method from {@link FactionsAPI#createFaction(String)}.
+     * </p>
+     *
+     * @param faction which was created.
+     */
+    public void onFactionCreated(@NotNull Faction faction) {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(development_plugin, () -> onFactionCreated(faction));
+            return;
+        }
+        nameIndex.add(faction);
+    }
+
+    /**
+     * Method to remove a Faction deleted through the {@link FactionsAPI} from the bridge-owned indices.
+     * <p>
+     *     Most Providers don't call an event when a Faction is deleted through their API, so the Providers
+     *     call this method from {@link FactionsAPI#deleteFaction(Faction)}.
+     *     <br>If the Provider does call an event, the Faction has already been removed and this does nothing.
+     * </p>
+     *
+     * @param faction which was deleted.
+     */
+    public void onFactionDeleted(@NotNull Faction faction) {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(development_plugin, () -> onFactionDeleted(faction));
+            return;
+        }
+        relationshipCache.invalidate(faction);
+        claimIndex.forget(faction);
+        nameIndex.forget(faction);
+        membershipIndex.forget(faction);
+        handles.release(faction.getId());
+    }
+
     /**
      * Method to determine if the plugin connecting is FactionsBridge or not.
      *
@@ -208,6 +439,18 @@ public class FactionsBridge implements Communicator {
         return development_plugin;
     }
 
+    /**
+     * Method to obtain the bridge of another plugin, which this bridge attached to instead of hooking the Provider.
+     * <p>
+     *     While attached, the bridge-owned indices of this copy aren't built, the shared bridge uses its own.
+     * </p>
+     * @return {@link BridgeService} or {@code null} if this bridge hooked the Provider itself.
+     */
+    @Nullable
+    public BridgeService getSharedBridge() {
+        return shared;
+    }
+
     /**
      * Method to determine if the Bridge has successfully connected or not.
      * @return {@code true} it it has.
@@ -218,10 +461,173 @@ public class FactionsBridge implements Communicator {
 
     /**
      * Method to obtain the {@link FactionsAPI} implementation.
+     * <p>
+     *     While the {@link Instrumentation} is enabled, the implementation is wrapped so that its calls are recorded.
+     * </p>
      * @return {@link FactionsAPI} implementation.
      */
     public static FactionsAPI getFactionsAPI() {
-        return factionapi;
+        if (factionapi == null || instance == null || !instance.instrumentation.isEnabled()) return factionapi;
+        return instance.instrumentation.wrap(factionapi);
+    }
+
+    /**
+     * Method to obtain the {@link AsyncFactionsAPI}, which answers {@link FactionsAPI} calls from any thread.
+     * <p>
+     *     Calls made off the main thread within the same tick are answered together by one main-thread task.
+     * </p>
+     *
+     * @return {@link AsyncFactionsAPI}.
+     */
+    @NotNull
+    public AsyncFactionsAPI getAsyncAPI() {
+        return asyncAPI;
+    }
+
+    /**
+     * Method to obtain the registry of Faction handles used by the bridge-owned indices.
+     *
+     * @return {@link FactionHandleRegistry}.
+     */
+    @NotNull
+    public FactionHandleRegistry getFactionHandles() {
+        return handles;
+    }
+
+    /**
+     * Method to obtain the bridge-owned {@link ClaimIndex}.
+     * <p>
+     *     Use {@link ClaimIndex#isBuilt()} before relying on the index.
+     * </p>
+     *
+     * @return {@link ClaimIndex}.
+     */
+    @NotNull
+    public ClaimIndex getClaimIndex() {
+        return claimIndex;
+    }
+
+    /**
+     * Method to obtain the bridge-owned {@link FactionNameIndex}.
+     * <p>
+     *     Use {@link FactionNameIndex#isBuilt()} before relying on the index.
+     * </p>
+     *
+     * @return {@link FactionNameIndex}.
+     */
+    @NotNull
+    public FactionNameIndex getFactionNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Method to obtain the bridge-owned {@link MembershipIndex}.
+     * <p>
+     *     Use {@link MembershipIndex#isBuilt()} before relying on the index.
+     * </p>
+     *
+     * @return {@link MembershipIndex}.
+     */
+    @NotNull
+    public MembershipIndex getMembershipIndex() {
+        return membershipIndex;
+    }
+
+    /**
+     * Method to obtain the bridge-owned {@link RelationshipCache}.
+     *
+     * @return {@link RelationshipCache}.
+     */
+    @NotNull
+    public RelationshipCache getRelationshipCache() {
+        return relationshipCache;
+    }
+
+    /**
+     * Method to obtain the {@link EventDispatcher}, used by the Providers to call pre-commit and post-commit events.
+     *
+     * @return {@link EventDispatcher}.
+     */
+    @NotNull
+    public EventDispatcher getEventDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Method to obtain the {@link BridgeEventStream}, which mirrors the bridge events to worker threads.
+     *
+     * @return {@link BridgeEventStream}.
+     */
+    @NotNull
+    public BridgeEventStream getEventStream() {
+        return eventStream;
+    }
+
+    /**
+     * Method to obtain the {@link Instrumentation}, which records the call count and latency of the bridge methods.
+     *
+     * @return {@link Instrumentation}.
+     */
+    @NotNull
+    public Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Method to obtain the {@link ClaimChangeBatcher}, which calls the {@link FactionClaimsChangedEvent}.
+     * <p>
+     *     The batcher is opt-in, use {@link ClaimChangeBatcher#enable(Plugin)} before listening for the event.
+     * </p>
+     *
+     * @return {@link ClaimChangeBatcher}.
+     */
+    @NotNull
+    public ClaimChangeBatcher getClaimChangeBatcher() {
+        return claimBatcher;
+    }
+
+    /**
+     * Method to obtain the {@link SnapshotManager}, which publishes immutable snapshots for off-main-thread reads.
+     * <p>
+     *     Snapshots are only captured once requested, see {@link SnapshotManager#refresh(Plugin)}.
+     * </p>
+     *
+     * @return {@link SnapshotManager}.
+     */
+    @NotNull
+    public SnapshotManager getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Method to obtain the {@link StartupTimeline}, which records how long each phase of connecting the bridge took.
+     * <p>
+     *     While attached to a shared bridge, this is a copy of the timeline of the shared bridge, which holds the
+     *     phases of every consumer of the server, use {@link #recordStartupPhase(String, String, long, long)} to
+     *     record a phase.
+     * </p>
+     *
+     * @return {@link StartupTimeline}.
+     */
+    @NotNull
+    public StartupTimeline getStartupTimeline() {
+        return shared == null ? timeline : StartupTimeline.fromMaps(shared.getStartupPhases());
+    }
+
+    /**
+     * Method to record a phase of connecting the bridge in the {@link StartupTimeline}.
+     * <p>
+     *     While attached to a shared bridge, the phase is recorded in the timeline of the shared bridge.
+     * </p>
+     *
+     * @param consumer which connected the bridge.
+     * @param phase    name of the phase.
+     * @param start    of the phase, from {@link System#nanoTime()}.
+     * @param end      of the phase, from {@link System#nanoTime()}.
+     */
+    public void recordStartupPhase(@NotNull String consumer, @NotNull String phase, long start, long end) {
+        if (shared != null) shared.recordStartupPhase(consumer, phase, start, end);
+        else timeline.record(consumer, phase, start, end);
     }
 
     /**
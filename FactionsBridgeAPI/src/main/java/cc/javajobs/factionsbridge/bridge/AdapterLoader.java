@@ -0,0 +1,129 @@
+package cc.javajobs.factionsbridge.bridge;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The AdapterLoader class loads the API class of a Provider from a separate adapter jar.
+ * <p>
+ *     The split-adapters build leaves the adapters out of the FactionsBridge jar, and ships each one as
+ *     its own jar with an {@value #INDEX_FILE} file naming the jar of each Provider.
+ *     <br>When the API class of the matched Provider isn't bundled, only that jar is opened, in its own class loader,
+ *     so the classes of the other adapters are never loaded or verified.
+ * </p>
+ * <p>
+ *     The adapters are found in {@code plugins/FactionsBridge/adapters}, or the folder set by
+ *     {@link #DIRECTORY_PROPERTY}.
+ *     <br>The adapter jars link against the un-relocated bridge packages, so they can only be used by the
+ *     FactionsBridge plugin and by plugins which shade the bridge without relocating it.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 20:30
+ */
+public final class AdapterLoader {
+
+    /**
+     * System property overriding the folder of the adapter jars.
+     */
+    public static final String DIRECTORY_PROPERTY = "factionsbridge.adapters";
+
+    /**
+     * The name of the index file in the adapter folder.
+     */
+    public static final String INDEX_FILE = "adapters.index";
+
+    /**
+     * Provider to class loader lookup, for the adapters opened so far.
+     */
+    private static final Map<Provider, URLClassLoader> loaders = new EnumMap<>(Provider.class);
+
+    /**
+     * Private constructor as this is a utility class.
+     */
+    private AdapterLoader() {
+        throw new UnsupportedOperationException("AdapterLoader is a utility class.");
+    }
+
+    /**
+     * Method to load a class of a Provider from its adapter jar.
+     *
+     * @param provider  to load the class of.
+     * @param className of the class.
+     * @return the loaded {@link Class}.
+     * @throws ClassNotFoundException if the Provider has no indexed adapter jar, or the jar doesn't contain the class.
+     */
+    @NotNull
+    public static synchronized Class<?> load(@NotNull Provider provider, @NotNull String className)
+            throws ClassNotFoundException {
+        URLClassLoader loader = loaders.get(provider);
+        if (loader == null) {
+            final File jar = locate(provider);
+            if (jar == null) {
+                throw new ClassNotFoundException(className + " isn't bundled and no adapter is indexed for "
+                        + provider.name() + ".");
+            }
+            try {
+                loader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, AdapterLoader.class.getClassLoader());
+            } catch (MalformedURLException ex) {
+                throw new ClassNotFoundException("Failed to open the adapter '" + jar + "'.", ex);
+            }
+            loaders.put(provider, loader);
+        }
+        return Class.forName(className, true, loader);
+    }
+
+    /**
+     * Method to obtain the folder of the adapter jars.
+     *
+     * @return {@link File} or {@code null} if the bridge isn't connected and no folder is set.
+     */
+    @Nullable
+    public static File getDirectory() {
+        final String property = System.getProperty(DIRECTORY_PROPERTY);
+        if (property != null) return new File(property);
+        final FactionsBridge bridge = FactionsBridge.get();
+        final Plugin plugin = bridge == null ? null : bridge.getDevelopmentPlugin();
+        if (plugin == null) return null;
+        return new File(new File(plugin.getDataFolder().getParentFile(), "FactionsBridge"), "adapters");
+    }
+
+    /**
+     * Method to find the adapter jar of a Provider through the index.
+     *
+     * @param provider to find the jar of.
+     * @return {@link File} or {@code null} if the Provider has no indexed jar.
+     * @throws ClassNotFoundException if the index can't be read.
+     */
+    @Nullable
+    private static File locate(@NotNull Provider provider) throws ClassNotFoundException {
+        final File directory = getDirectory();
+        if (directory == null) return null;
+        final File index = new File(directory, INDEX_FILE);
+        if (!index.isFile()) return null;
+        final Properties jars = new Properties();
+        try (InputStream in = new FileInputStream(index)) {
+            jars.load(in);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new ClassNotFoundException("Failed to read the adapter index '" + index + "'.", ex);
+        }
+        final String name = jars.getProperty(provider.name());
+        if (name == null) return null;
+        final File jar = new File(directory, name.trim());
+        return jar.isFile() ? jar : null;
+    }
+
+}
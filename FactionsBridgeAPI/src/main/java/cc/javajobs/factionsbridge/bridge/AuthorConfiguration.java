@@ -61,12 +61,16 @@ public class AuthorConfiguration {
 
     /**
      * Method to determine if the given List of Strings matches this configuration.
+     * <p>
+     *     Lists with an author outside this configuration are rejected without copying them into a Set.
+     * </p>
      *
      * @param authors to test.
      * @return {@code true} if it does.
      */
     public boolean equals(@NotNull List<String> authors) {
-        return this.authors.equals(new HashSet<>(authors));
+        if (authors.size() < this.authors.size() || !this.authors.containsAll(authors)) return false;
+        return new HashSet<>(authors).size() == this.authors.size();
     }
 
     /**
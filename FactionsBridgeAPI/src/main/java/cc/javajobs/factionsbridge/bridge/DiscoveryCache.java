@@ -0,0 +1,267 @@
+package cc.javajobs.factionsbridge.bridge;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.Properties;
+
+/**
+ * The DiscoveryCache class remembers which {@link Provider} each installed plugin matched, across restarts.
+ * <p>
+ *     Entries are keyed by the FactionsBridge version, the plugin name and version, and a fingerprint of the
+ *     plugin jar (its size and modification time), so updating either plugin or replacing the jar misses the cache.
+ *     <br>A plugin which matched no Provider is remembered too, so a warm start doesn't match anything.
+ * </p>
+ * <p>
+ *     The cache is kept in the FactionsBridge data folder whichever plugin connected the bridge,
+ *     so every shaded copy shares it.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:50
+ */
+public class DiscoveryCache implements Communicator {
+
+    /**
+     * The name of the cache file.
+     */
+    public static final String FILE_NAME = "discovery-cache.properties";
+
+    /**
+     * The cache file, {@code null} if the cache isn't saved.
+     */
+    private final File file;
+
+    /**
+     * Key to entry lookup, as saved.
+     */
+    private final Properties entries = new Properties();
+
+    /**
+     * {@code true} if an entry has been added since the cache was loaded.
+     */
+    private boolean changed = false;
+
+    /**
+     * Constructor to create a DiscoveryCache.
+     *
+     * @param file to load from and save to, or {@code null} to only cache in memory.
+     */
+    public DiscoveryCache(@Nullable File file) {
+        this.file = file;
+    }
+
+    /**
+     * Method to load the cache shared by every plugin connecting the bridge.
+     *
+     * @param plugin which connected the bridge, used to locate the plugins folder.
+     * @return {@link DiscoveryCache}, empty if no cache was found.
+     */
+    @NotNull
+    public static DiscoveryCache load(@Nullable Plugin plugin) {
+        final File folder = plugin == null ? null : plugin.getDataFolder().getParentFile();
+        final DiscoveryCache cache = new DiscoveryCache(
+                folder == null ? null : new File(new File(folder, "FactionsBridge"), FILE_NAME)
+        );
+        cache.load();
+        return cache;
+    }
+
+    /**
+     * Method to read the entries from the cache file.
+     */
+    public void load() {
+        if (file == null || !file.isFile()) return;
+        try (InputStream in = new FileInputStream(file)) {
+            entries.load(in);
+        } catch (IOException | IllegalArgumentException ex) {
+            entries.clear();
+            exception(ex, "Failed to read the discovery cache, discovering the Provider instead.");
+        }
+    }
+
+    /**
+     * Method to write the entries to the cache file, if any were added.
+     */
+    public void save() {
+        if (file == null || !changed) return;
+        final File folder = file.getParentFile();
+        if (folder != null && !folder.isDirectory() && !folder.mkdirs()) {
+            warn("Failed to create '" + folder + "' for the discovery cache.");
+            return;
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            entries.store(out, "FactionsBridge provider discovery cache, safe to delete.");
+            changed = false;
+        } catch (IOException ex) {
+            exception(ex, "Failed to save the discovery cache.");
+        }
+    }
+
+    /**
+     * Method to obtain the cached match of a plugin.
+     *
+     * @param plugin to obtain the match of.
+     * @return {@link Entry} or {@code null} if the plugin, its version or its jar isn't cached.
+     */
+    @Nullable
+    public Entry get(@NotNull Plugin plugin) {
+        final String key = key(plugin);
+        if (key == null) return null;
+        final String value = entries.getProperty(key);
+        if (value == null) return null;
+        final String[] parts = value.split(",");
+        if (parts.length != 3) return null;
+        try {
+            final long nanos = Long.parseLong(parts[2]);
+            if (parts[0].isEmpty()) return new Entry(null, null, nanos);
+            final Provider provider = Provider.valueOf(parts[0]);
+            final AuthorConfiguration configuration = provider.getConfiguration(Integer.parseInt(parts[1]));
+            if (configuration == null || !provider.getPluginName().equals(plugin.getName())) return null;
+            return new Entry(provider, configuration, nanos);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to cache the match of a plugin, replacing any entry for an older version or jar of the plugin.
+     *
+     * @param plugin which was matched.
+     * @param entry  of the match.
+     */
+    public void put(@NotNull Plugin plugin, @NotNull Entry entry) {
+        final String key = key(plugin);
+        if (key == null) return;
+        final String prefix = prefix(plugin);
+        entries.stringPropertyNames().stream().filter(name -> name.startsWith(prefix)).forEach(entries::remove);
+        final Provider provider = entry.getProvider();
+        final AuthorConfiguration configuration = entry.getConfiguration();
+        entries.setProperty(key, (provider == null ? "" : provider.name()) + ","
+                + (provider == null || configuration == null ? -1 : provider.indexOf(configuration)) + ","
+                + entry.getMatchNanos());
+        changed = true;
+    }
+
+    /**
+     * Method to obtain the part of the key shared by every version and jar of a plugin.
+     *
+     * @param plugin to obtain the prefix of.
+     * @return key prefix.
+     */
+    @NotNull
+    private static String prefix(@NotNull Plugin plugin) {
+        return FactionsBridge.getVersion() + "|" + plugin.getName() + "|";
+    }
+
+    /**
+     * Method to obtain the key of a plugin.
+     *
+     * @param plugin to obtain the key of.
+     * @return key, or {@code null} if the plugin jar can't be located.
+     */
+    @Nullable
+    private static String key(@NotNull Plugin plugin) {
+        final File jar = locate(plugin);
+        if (jar == null || !jar.isFile()) return null;
+        final PluginDescriptionFile description = plugin.getDescription();
+        return prefix(plugin) + description.getVersion() + "|"
+                + Long.toHexString(jar.length()) + "-" + Long.toHexString(jar.lastModified());
+    }
+
+    /**
+     * Method to locate the jar a plugin was loaded from.
+     *
+     * @param plugin to locate.
+     * @return {@link File} or {@code null} if it can't be located.
+     */
+    @Nullable
+    private static File locate(@NotNull Plugin plugin) {
+        try {
+            final CodeSource source = plugin.getClass().getProtectionDomain().getCodeSource();
+            return source == null || source.getLocation() == null ? null : new File(source.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException | SecurityException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * The Entry class is the match of one plugin.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:50
+     */
+    public static class Entry {
+
+        /**
+         * The matched Provider, {@code null} if the plugin matched none.
+         */
+        private final Provider provider;
+
+        /**
+         * The matched author configuration, {@code null} if the plugin matched no Provider.
+         */
+        private final AuthorConfiguration configuration;
+
+        /**
+         * The time the match took when it was made, in nanoseconds.
+         */
+        private final long matchNanos;
+
+        /**
+         * Constructor to create an Entry.
+         *
+         * @param provider      which was matched, or {@code null}.
+         * @param configuration which was matched, or {@code null}.
+         * @param matchNanos    time the match took, in nanoseconds.
+         */
+        public Entry(@Nullable Provider provider, @Nullable AuthorConfiguration configuration, long matchNanos) {
+            this.provider = provider;
+            this.configuration = configuration;
+            this.matchNanos = matchNanos;
+        }
+
+        /**
+         * Method to obtain the matched Provider.
+         *
+         * @return {@link Provider} or {@code null} if the plugin matched none.
+         */
+        @Nullable
+        public Provider getProvider() {
+            return provider;
+        }
+
+        /**
+         * Method to obtain the matched author configuration.
+         *
+         * @return {@link AuthorConfiguration} or {@code null} if the plugin matched no Provider.
+         */
+        @Nullable
+        public AuthorConfiguration getConfiguration() {
+            return configuration;
+        }
+
+        /**
+         * Method to obtain the time the match took when it was made.
+         *
+         * @return time in nanoseconds.
+         */
+        public long getMatchNanos() {
+            return matchNanos;
+        }
+
+    }
+
+}
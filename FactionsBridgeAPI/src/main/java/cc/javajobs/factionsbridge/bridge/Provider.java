@@ -8,7 +8,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The Provider enumeration is a data store class for all plugins supported by this release of FactionsBridge.
@@ -118,8 +123,27 @@ public enum Provider {
             "ImprovedFactions",
             "improvedfactions.ImprovedFactionsAPI",
             new AuthorConfiguration("BETA-5.0.4", "Tobero")
+    ),
+    Factions_InMemory(
+            "InMemory",
+            "inmemory.InMemoryAPI"
     );
 
+    /**
+     * Plugin name to Providers lookup, in declaration order, so discovery only matches a plugin against
+     * the Providers it could be.
+     */
+    private static final Map<String, List<Provider>> CANDIDATES;
+
+    static {
+        final Map<String, List<Provider>> candidates = new LinkedHashMap<>();
+        for (Provider provider : values()) {
+            candidates.computeIfAbsent(provider.pluginName, name -> new ArrayList<>()).add(provider);
+        }
+        candidates.replaceAll((name, providers) -> Collections.unmodifiableList(providers));
+        CANDIDATES = Collections.unmodifiableMap(candidates);
+    }
+
     /**
      * The plugin name of the given Provider.
      */
@@ -164,6 +188,58 @@ public enum Provider {
         return null;
     }
 
+    /**
+     * Method to obtain the distinct plugin names of every Provider, in declaration order.
+     *
+     * @return {@link Set} of plugin names.
+     */
+    @NotNull
+    public static Set<String> getPluginNames() {
+        return CANDIDATES.keySet();
+    }
+
+    /**
+     * Method to obtain the Providers a plugin with the given name could be.
+     *
+     * @param pluginName of the plugin.
+     * @return {@link List} of {@link Provider}, in declaration order, empty if none.
+     */
+    @NotNull
+    public static List<Provider> getCandidates(@NotNull String pluginName) {
+        return CANDIDATES.getOrDefault(pluginName, Collections.emptyList());
+    }
+
+    /**
+     * Method to obtain the plugin name of the Provider.
+     *
+     * @return plugin name.
+     */
+    @NotNull
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    /**
+     * Method to obtain the position of an author configuration of the Provider.
+     *
+     * @param configuration to find.
+     * @return position of the configuration, or {@code -1} if it isn't one of this Provider.
+     */
+    int indexOf(@NotNull AuthorConfiguration configuration) {
+        return Arrays.asList(authors).indexOf(configuration);
+    }
+
+    /**
+     * Method to obtain an author configuration of the Provider by its position.
+     *
+     * @param index of the configuration.
+     * @return {@link AuthorConfiguration} or {@code null} if there is no configuration at that position.
+     */
+    @Nullable
+    AuthorConfiguration getConfiguration(int index) {
+        return index >= 0 && index < authors.length ? authors[index] : null;
+    }
+
     /**
      * Method to obtain the Plugin linked to the Provider.
      *
@@ -215,7 +291,9 @@ public enum Provider {
      */
     @NotNull
     public List<String> getAuthors() {
-        final ArrayList<String> pluginAuthors = new ArrayList<>(getPlugin().getDescription().getAuthors());
+        final Plugin plugin = getPlugin();
+        if (plugin == null) return new ArrayList<>();
+        final ArrayList<String> pluginAuthors = new ArrayList<>(plugin.getDescription().getAuthors());
         for (AuthorConfiguration author : authors) {
             if (author.equals(pluginAuthors)) {
                 return author.getAuthors();
@@ -224,8 +302,41 @@ public enum Provider {
         return new ArrayList<>();
     }
 
+    /**
+     * Method to determine if the Provider only exists for testing.
+     * <p>
+     *     A testing Provider has no plugin to discover, and is only bundled by the 'in-memory' build profile,
+     *     see {@link ProviderManager#PROVIDER_PROPERTY}.
+     * </p>
+     *
+     * @return {@code true} if it is.
+     */
+    public boolean isTesting() {
+        return this == Factions_InMemory;
+    }
+
+    /**
+     * Method to determine if the API class of the Provider is bundled in the FactionsBridge jar.
+     * <p>
+     *     Adapter jars (see {@link AdapterLoader}) aren't checked, and the class isn't initialised.
+     * </p>
+     *
+     * @return {@code true} if it is.
+     */
+    public boolean isBundled() {
+        try {
+            Class.forName(API_CLASS_NAME, false, Provider.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
     /**
      * Method to obtain the API class for the given provider.
+     * <p>
+     * If the API class isn't bundled, it is loaded from the adapter jar of the provider, see {@link AdapterLoader}.
+     * </p>
      *
      * @return {@link FactionsAPI} implementation.
      */
@@ -233,7 +344,12 @@ public enum Provider {
     public FactionsAPI getAPI() {
         FactionsAPI api = null;
         try {
-            final Class<?> apiClass = Class.forName(API_CLASS_NAME);
+            Class<?> apiClass;
+            try {
+                apiClass = Class.forName(API_CLASS_NAME);
+            } catch (ClassNotFoundException ex) {
+                apiClass = AdapterLoader.load(this, API_CLASS_NAME);
+            }
             if (FactionsAPI.class.isAssignableFrom(apiClass)) {
                 api = (FactionsAPI) apiClass.getConstructor().newInstance();
             } else throw new ClassNotFoundException("API class not found.");
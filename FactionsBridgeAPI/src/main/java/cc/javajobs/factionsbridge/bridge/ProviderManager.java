@@ -1,12 +1,19 @@
 package cc.javajobs.factionsbridge.bridge;
 
+import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
 import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginDescriptionFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The Provider Manager class handles all methodology to locate/identify the API-provider for the plugin.
@@ -14,6 +21,8 @@ import java.util.ArrayList;
  *     This class discovers the plugin which will be used to provide API functionality to the bridge.
  *     <br>Using the {@link Provider} enumeration class and data manually added, this class compares
  *     plugins loaded on the server. If a match is found, the plugin is returned.
+ *     <br>Each installed plugin is only compared with the Providers of the same plugin name, and the result
+ *     is kept in the {@link DiscoveryCache}, so a restart with the same plugins doesn't compare anything.
  * </p>
  *
  * @author Callum Johnson
@@ -21,6 +30,18 @@ import java.util.ArrayList;
  */
 public class ProviderManager implements Communicator {
 
+    /**
+     * System property selecting a testing Provider by name, such as {@code -Dfactionsbridge.provider=InMemory}.
+     * <p>
+     *     The selected Provider is hooked without matching a plugin, which lets a test server use a Provider
+     *     that has no plugin, such as {@link Provider#Factions_InMemory}.
+     *     <br>Only {@link Provider#isTesting() testing} Providers which are bundled (by the 'in-memory' build
+     *     profile) can be selected, so the property is ignored by a release build, and never overrides the
+     *     discovery of a real Provider.
+     * </p>
+     */
+    public static final String PROVIDER_PROPERTY = "factionsbridge.provider";
+
     /**
      * API variable set if/when the provider is found.
      */
@@ -31,6 +52,11 @@ public class ProviderManager implements Communicator {
      */
     private Provider hookedProvider;
 
+    /**
+     * The start and end of creating the API, from {@link System#nanoTime()}, {@code 0} until it is created.
+     */
+    private long instantiationStart, instantiationEnd;
+
     /**
      * Method to perform all functionality of the ProviderManager class.
      *
@@ -38,33 +64,119 @@ public class ProviderManager implements Communicator {
      * @see ProviderManager
      */
     public Plugin discover() {
-        for (Provider provider : Provider.values()) {
-            final Plugin plugin = provider.getPlugin();
+        final String selected = System.getProperty(PROVIDER_PROPERTY);
+        if (selected != null) {
+            final Provider provider = select(selected);
+            if (provider != null) {
+                log("Selected " + provider.name() + " using '-D" + PROVIDER_PROPERTY + "'!");
+                spacer(ChatColor.AQUA);
+                log("Hooking into API for " + provider.fancy() + "!");
+                spacer(ChatColor.AQUA);
+                instantiate(provider);
+                return FactionsBridge.get().getDevelopmentPlugin();
+            }
+            warn("Provider '" + selected + "' can't be selected in this build, discovering the Provider instead.");
+        }
+        final long start = System.nanoTime();
+        final DiscoveryCache cache = DiscoveryCache.load(FactionsBridge.get().getDevelopmentPlugin());
+        DiscoveryCache.Entry hooked = null;
+        Plugin hookedPlugin = null;
+        long saved = 0L;
+        boolean cold = false;
+        for (String pluginName : Provider.getPluginNames()) {
+            final Plugin plugin = Bukkit.getPluginManager().getPlugin(pluginName);
             if (plugin == null) continue;
-            final PluginDescriptionFile description = plugin.getDescription();
-            final ArrayList<String> authors = new ArrayList<>(description.getAuthors());
-            final String version = description.getVersion();
-            final AuthorConfiguration authorAndVersionConfiguration = provider.versionAndAuthorsMatch(version, authors);
-            if (authorAndVersionConfiguration != null) {
-                return confirmHook(authorAndVersionConfiguration, provider, plugin);
+            DiscoveryCache.Entry entry = cache.get(plugin);
+            if (entry != null) {
+                saved += entry.getMatchNanos();
+            } else {
+                entry = match(plugin, Provider.getCandidates(pluginName));
+                cache.put(plugin, entry);
+                cold = true;
             }
-            final AuthorConfiguration authorConfiguration = provider.authorsMatch(authors);
-            if (authorConfiguration != null) {
-                return confirmHook(authorConfiguration, provider, plugin);
+            final Provider provider = entry.getProvider();
+            if (provider == null) continue;
+            if (hooked == null || provider.ordinal() < Objects.requireNonNull(hooked.getProvider()).ordinal()) {
+                hooked = entry;
+                hookedPlugin = plugin;
             }
         }
+        cache.save();
+        final long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        if (cold) {
+            log("Matched the installed plugins in " + micros + " microseconds, cached for the next start.");
+        } else if (hookedPlugin != null) {
+            log("Matched the installed plugins from the cache in " + micros + " microseconds, saving "
+                    + TimeUnit.NANOSECONDS.toMicros(saved) + " microseconds of matching.");
+        }
+        if (hooked == null) return null;
+        return confirmHook(
+                Objects.requireNonNull(hooked.getConfiguration()),
+                Objects.requireNonNull(hooked.getProvider()),
+                hookedPlugin
+        );
+    }
+
+    /**
+     * Method to find the testing Provider selected using {@link #PROVIDER_PROPERTY}.
+     *
+     * @param selected name of the Provider, either its enum name or its fancy name.
+     * @return the {@link Provider}, or {@code null} if it isn't a testing Provider bundled in this jar.
+     */
+    @Nullable
+    private Provider select(@NotNull String selected) {
+        for (Provider provider : Provider.values()) {
+            if (!provider.name().equalsIgnoreCase(selected) && !provider.fancy().equalsIgnoreCase(selected)) continue;
+            return provider.isTesting() && provider.isBundled() ? provider : null;
+        }
         return null;
     }
 
+    /**
+     * Method to match a plugin against the Providers it could be.
+     * <p>
+     *     For each Provider in turn, the version and authors are matched first, then the authors alone.
+     * </p>
+     *
+     * @param plugin     to match.
+     * @param candidates of the plugin, see {@link Provider#getCandidates(String)}.
+     * @return {@link DiscoveryCache.Entry} of the match, with no Provider if none matched.
+     */
+    @NotNull
+    private DiscoveryCache.Entry match(@NotNull Plugin plugin, @NotNull List<Provider> candidates) {
+        final long start = System.nanoTime();
+        final PluginDescriptionFile description = plugin.getDescription();
+        final ArrayList<String> authors = new ArrayList<>(description.getAuthors());
+        final String version = description.getVersion();
+        for (Provider provider : candidates) {
+            AuthorConfiguration configuration = provider.versionAndAuthorsMatch(version, authors);
+            if (configuration == null) configuration = provider.authorsMatch(authors);
+            if (configuration == null) continue;
+            return new DiscoveryCache.Entry(provider, configuration, System.nanoTime() - start);
+        }
+        return new DiscoveryCache.Entry(null, null, System.nanoTime() - start);
+    }
+
     private Plugin confirmHook(AuthorConfiguration configuration, Provider provider, Plugin plugin) {
         log("Found " + provider.name() + "!");
         log("Matched '" + configuration + "'!");
         spacer(ChatColor.AQUA);
         log("Hooking into API for " + provider.fancy() + "!");
         spacer(ChatColor.AQUA);
+        instantiate(provider);
+        return plugin;
+    }
+
+    /**
+     * Method to create the API of the hooked Provider, timing it for the startup timeline.
+     *
+     * @param provider which was hooked.
+     */
+    private void instantiate(@NotNull Provider provider) {
+        instantiationStart = System.nanoTime();
         fapi = provider.getAPI();
         hookedProvider = provider;
-        return plugin;
+        instantiationEnd = System.nanoTime();
     }
 
     /**
@@ -76,6 +188,24 @@ public class ProviderManager implements Communicator {
         return fapi;
     }
 
+    /**
+     * Method to obtain the start of creating the API of the hooked Provider.
+     *
+     * @return {@link System#nanoTime()} at the start, or {@code 0} if no Provider was hooked.
+     */
+    public long getInstantiationStart() {
+        return instantiationStart;
+    }
+
+    /**
+     * Method to obtain the end of creating the API of the hooked Provider.
+     *
+     * @return {@link System#nanoTime()} at the end, or {@code 0} if no Provider was hooked.
+     */
+    public long getInstantiationEnd() {
+        return instantiationEnd;
+    }
+
     /**
      * Method to obtain the Hooked Provider.
      *
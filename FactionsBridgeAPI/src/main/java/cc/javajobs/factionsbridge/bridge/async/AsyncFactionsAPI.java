@@ -0,0 +1,309 @@
+package cc.javajobs.factionsbridge.bridge.async;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The AsyncFactionsAPI is a {@link CompletableFuture} based facade over the {@link FactionsAPI}.
+ * <p>
+ *     Calls made off the main thread are queued, and every call queued within the same tick is answered by
+ *     a single main-thread task, rather than one scheduler round-trip per call.
+ *     <br>The task stops once the tick's time budget ({@link #DEFAULT_BUDGET_NANOS} by default) has been used,
+ *     leaving the remaining calls for the next tick.
+ *     <br>Calls made on the main thread, or against a Provider which is {@link FactionsAPI#isThreadSafe()},
+ *     are answered directly on the calling thread.
+ * </p>
+ * <p>
+ *     The returned Factions, FPlayers and Claims are still live Provider objects, to read their data
+ *     off the main thread use the {@link cc.javajobs.factionsbridge.bridge.snapshot.SnapshotManager} instead.
+ *     <br>This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 14:05
+ */
+public class AsyncFactionsAPI implements Communicator {
+
+    /**
+     * The default amount of time the queued calls may use each tick.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * The API to answer the calls with.
+     */
+    private final Supplier<FactionsAPI> api;
+
+    /**
+     * The Plugin to schedule the main-thread task for.
+     */
+    private final Supplier<Plugin> plugin;
+
+    /**
+     * Calls waiting for the main thread.
+     */
+    private final Queue<Call<?>> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * {@code true} while a main-thread task is scheduled to answer the queue.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * The amount of time the queued calls may use each tick, in nanoseconds.
+     */
+    private volatile long budget = DEFAULT_BUDGET_NANOS;
+
+    /**
+     * Constructor to initialise an AsyncFactionsAPI.
+     *
+     * @param api    supplier of the API to answer the calls with.
+     * @param plugin supplier of the Plugin to schedule the main-thread task for.
+     */
+    public AsyncFactionsAPI(@NotNull Supplier<FactionsAPI> api, @NotNull Supplier<Plugin> plugin) {
+        this.api = api;
+        this.plugin = plugin;
+    }
+
+    /**
+     * Method to set the amount of time the queued calls may use each tick.
+     *
+     * @param budget in nanoseconds, at least one call is answered each tick regardless.
+     */
+    public void setBudget(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Method to obtain the amount of calls waiting for the main thread.
+     *
+     * @return amount of calls.
+     */
+    public int getPending() {
+        return queue.size();
+    }
+
+    /**
+     * Method to call the FactionsAPI on the main thread (unless it is safe to call from here).
+     *
+     * @param function to apply to the API.
+     * @param <T>      type of the result.
+     * @return {@link CompletableFuture} completed with the result, or exceptionally if the call threw.
+     */
+    @NotNull
+    public <T> CompletableFuture<T> call(@NotNull Function<FactionsAPI, T> function) {
+        final FactionsAPI factionsAPI = api.get();
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        if (factionsAPI == null) {
+            future.completeExceptionally(new IllegalStateException("FactionsBridge isn't connected."));
+            return future;
+        }
+        final Call<T> call = new Call<>(function, future);
+        if (factionsAPI.isThreadSafe() || Bukkit.isPrimaryThread()) {
+            call.run(factionsAPI);
+            return future;
+        }
+        queue.add(call);
+        if (scheduled.compareAndSet(false, true)) schedule();
+        return future;
+    }
+
+    /**
+     * Method to obtain all Factions.
+     *
+     * @return {@link CompletableFuture} of the Factions.
+     * @see FactionsAPI#getFactions()
+     */
+    @NotNull
+    public CompletableFuture<List<Faction>> getFactions() {
+        return call(FactionsAPI::getFactions);
+    }
+
+    /**
+     * Method to retrieve a Faction by Id.
+     *
+     * @param id of the Faction.
+     * @return {@link CompletableFuture} of the Faction, completed with {@code null} if it doesn't exist.
+     * @see FactionsAPI#getFaction(String)
+     */
+    @NotNull
+    public CompletableFuture<Faction> getFaction(@NotNull String id) {
+        return call(factionsAPI -> factionsAPI.getFaction(id));
+    }
+
+    /**
+     * Method to retrieve a Faction by Tag.
+     *
+     * @param tag of the Faction.
+     * @return {@link CompletableFuture} of the Faction, completed with {@code null} if it doesn't exist.
+     * @see FactionsAPI#getFactionByTag(String)
+     */
+    @NotNull
+    public CompletableFuture<Faction> getFactionByTag(@NotNull String tag) {
+        return call(factionsAPI -> factionsAPI.getFactionByTag(tag));
+    }
+
+    /**
+     * Method to obtain the Faction which owns the given chunk.
+     *
+     * @param world name of the chunk.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return {@link CompletableFuture} of the Faction.
+     * @see FactionsAPI#getFactionAt(String, int, int)
+     */
+    @NotNull
+    public CompletableFuture<Faction> getFactionAt(@NotNull String world, int x, int z) {
+        return call(factionsAPI -> factionsAPI.getFactionAt(world, x, z));
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World.
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link cc.javajobs.factionsbridge.bridge.index.ChunkKey}.
+     * @return {@link CompletableFuture} of the Factions, index-aligned with the given chunks.
+     * @see FactionsAPI#getFactionsAt(World, long[])
+     */
+    @NotNull
+    public CompletableFuture<Faction[]> getFactionsAt(@NotNull World world, long[] packedChunks) {
+        return call(factionsAPI -> factionsAPI.getFactionsAt(world, packedChunks));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     *
+     * @param world name of the chunk.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return {@link CompletableFuture} of the Claim.
+     * @see FactionsAPI#getClaim(String, int, int)
+     */
+    @NotNull
+    public CompletableFuture<Claim> getClaim(@NotNull String world, int x, int z) {
+        return call(factionsAPI -> factionsAPI.getClaim(world, x, z));
+    }
+
+    /**
+     * Method to obtain the FPlayer of a UUID.
+     *
+     * @param uuid of the FPlayer.
+     * @return {@link CompletableFuture} of the FPlayer.
+     * @see FactionsAPI#getFPlayer(UUID)
+     */
+    @NotNull
+    public CompletableFuture<FPlayer> getFPlayer(@NotNull UUID uuid) {
+        return call(factionsAPI -> factionsAPI.getFPlayer(uuid));
+    }
+
+    /**
+     * Method to obtain the FPlayers of many UUIDs.
+     *
+     * @param uuids of the FPlayers.
+     * @return {@link CompletableFuture} of the UUID to FPlayer lookup.
+     * @see FactionsAPI#getFPlayers(Collection)
+     */
+    @NotNull
+    public CompletableFuture<Map<UUID, FPlayer>> getFPlayers(@NotNull Collection<UUID> uuids) {
+        return call(factionsAPI -> factionsAPI.getFPlayers(uuids));
+    }
+
+    /**
+     * Method to schedule the main-thread task which answers the queue.
+     */
+    private void schedule() {
+        final Plugin owner = plugin.get();
+        if (owner == null || !owner.isEnabled()) {
+            scheduled.set(false);
+            Call<?> call;
+            while ((call = queue.poll()) != null) {
+                call.future.completeExceptionally(new IllegalStateException("FactionsBridge isn't connected."));
+            }
+            return;
+        }
+        Bukkit.getScheduler().runTask(owner, this::drain);
+    }
+
+    /**
+     * Method to answer the queued calls until the budget for this tick has been used.
+     * <p>
+     *     If calls remain (or arrived while draining), another task is scheduled for the next tick.
+     * </p>
+     */
+    private void drain() {
+        final FactionsAPI factionsAPI = api.get();
+        final long start = System.nanoTime();
+        Call<?> call;
+        while ((call = queue.poll()) != null) {
+            call.run(factionsAPI);
+            if (System.nanoTime() - start >= budget) break;
+        }
+        scheduled.set(false);
+        if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) schedule();
+    }
+
+    /**
+     * The Call class pairs a queued function with the future waiting for its result.
+     *
+     * @param <T> type of the result.
+     * @author Callum Johnson
+     * @since 17/10/2026 - 14:05
+     */
+    private static class Call<T> {
+
+        /**
+         * The function to apply to the API.
+         */
+        private final Function<FactionsAPI, T> function;
+
+        /**
+         * The future to complete.
+         */
+        private final CompletableFuture<T> future;
+
+        /**
+         * Constructor to create a Call.
+         *
+         * @param function to apply to the API.
+         * @param future   to complete.
+         */
+        private Call(@NotNull Function<FactionsAPI, T> function, @NotNull CompletableFuture<T> future) {
+            this.function = function;
+            this.future = future;
+        }
+
+        /**
+         * Method to run the call and complete the future.
+         *
+         * @param api to apply the function to.
+         */
+        private void run(FactionsAPI api) {
+            try {
+                future.complete(function.apply(api));
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,581 @@
+package cc.javajobs.factionsbridge.bridge.detection;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimAllEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The ChangeDetector calls bridge events for Providers which don't call (some of) their own.
+ * <p>
+ *     Every Faction has a cheap fingerprint (name, claim count and hash, member count and hash), which is
+ *     recomputed without allocating a copy of its Claims or Members.
+ *     <br>Only a Faction whose fingerprint changed is compared in full against its previous state, and only the
+ *     {@link Change changes} the detector was created with are turned into events.
+ * </p>
+ * <p>
+ *     A pass over every Faction starts every {@code period} ticks and is spread over as many ticks as needed,
+ *     stopping each tick once the time budget ({@link #DEFAULT_BUDGET_NANOS} by default) has been used.
+ *     <br>Factions (or players) which are likely to have changed, for example after a command, can be
+ *     {@link #hint(Faction) hinted}, so they are checked on the next tick instead of waiting for the next pass.
+ *     <br>The first pass only records the current state, it doesn't call any events.
+ * </p>
+ * <p>
+ *     This class is not thread-safe and should only be used on the main thread.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 16:50
+ */
+public class ChangeDetector implements Runnable, Communicator {
+
+    /**
+     * The default amount of time the detector may use each tick.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * The API to read the Factions from.
+     */
+    private final Supplier<FactionsAPI> api;
+
+    /**
+     * The changes to call events for.
+     */
+    private final Set<Change> changes;
+
+    /**
+     * The amount of ticks between the start of each pass.
+     */
+    private final long period;
+
+    /**
+     * Faction id to recorded state lookup.
+     */
+    private final Map<String, State> states = new HashMap<>();
+
+    /**
+     * Member UUID to Faction id lookup, used to re-check the previous Faction of a hinted player.
+     */
+    private final Map<UUID, String> memberOf = new HashMap<>();
+
+    /**
+     * Factions to check on the next tick.
+     */
+    private final Set<Faction> hintedFactions = new LinkedHashSet<>();
+
+    /**
+     * Players whose Faction (current and previous) should be checked on the next tick.
+     */
+    private final Set<UUID> hintedPlayers = new LinkedHashSet<>();
+
+    /**
+     * The amount of time the detector may use each tick, in nanoseconds.
+     */
+    private long budget = DEFAULT_BUDGET_NANOS;
+
+    /**
+     * The Factions of the pass in progress, {@code null} between passes.
+     */
+    private List<Faction> pass = null;
+
+    /**
+     * The ids of the Factions seen during the pass in progress.
+     */
+    private Set<String> seen = null;
+
+    /**
+     * The index of the next Faction of the pass to check.
+     */
+    private int cursor = 0;
+
+    /**
+     * The amount of ticks until the next pass starts.
+     */
+    private long untilPass = 0;
+
+    /**
+     * {@code true} once the first pass has recorded every Faction.
+     */
+    private boolean seeded = false;
+
+    /**
+     * The task running the detector, can be {@code null}.
+     */
+    private BukkitTask task = null;
+
+    /**
+     * Constructor to initialise a ChangeDetector.
+     *
+     * @param api     supplier of the API to read the Factions from.
+     * @param changes to call events for.
+     * @param period  amount of ticks between the start of each pass.
+     */
+    public ChangeDetector(@NotNull Supplier<FactionsAPI> api, @NotNull Set<Change> changes, long period) {
+        this.api = api;
+        this.changes = changes.isEmpty() ? EnumSet.noneOf(Change.class) : EnumSet.copyOf(changes);
+        this.period = Math.max(1, period);
+    }
+
+    /**
+     * Method to start the detector, replacing any previous task.
+     *
+     * @param plugin to schedule the detector for.
+     */
+    public void start(@NotNull Plugin plugin) {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this, 1L, 1L);
+    }
+
+    /**
+     * Method to stop the detector, the recorded state is kept.
+     */
+    public void stop() {
+        if (task == null) return;
+        task.cancel();
+        task = null;
+    }
+
+    /**
+     * Method to set the amount of time the detector may use each tick.
+     *
+     * @param budget in nanoseconds, at least one Faction is checked each tick regardless.
+     */
+    public void setBudget(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Method to check the given Faction on the next tick.
+     *
+     * @param faction which may have changed.
+     */
+    public void hint(@NotNull Faction faction) {
+        hintedFactions.add(faction);
+    }
+
+    /**
+     * Method to check the current and previous Faction of the given player on the next tick.
+     * <p>
+     *     The Faction is resolved when the hint is processed, so a hint given before a command runs
+     *     still finds a Faction which the command creates or joins.
+     * </p>
+     *
+     * @param player which may have changed Faction.
+     */
+    public void hint(@NotNull UUID player) {
+        hintedPlayers.add(player);
+    }
+
+    /**
+     * Method to start the next pass on the next tick, rather than waiting for the period to elapse.
+     */
+    public void hintAll() {
+        untilPass = 0;
+    }
+
+    /**
+     * Method to check the hinted Factions and continue the pass until the budget for this tick has been used.
+     */
+    @Override
+    public void run() {
+        final FactionsAPI factionsAPI = api.get();
+        if (factionsAPI == null) return;
+        final long start = System.nanoTime();
+        if (seeded) processHints(factionsAPI);
+        if (pass == null) {
+            if (--untilPass > 0) return;
+            pass = factionsAPI.getFactions();
+            seen = new HashSet<>(pass.size() * 2);
+            cursor = 0;
+        }
+        while (cursor < pass.size()) {
+            final Faction faction = pass.get(cursor++);
+            check(faction);
+            seen.add(faction.getId());
+            if (System.nanoTime() - start >= budget) return;
+        }
+        finishPass();
+    }
+
+    /**
+     * Method to check every hinted Faction and player.
+     *
+     * @param factionsAPI to resolve the players with.
+     */
+    private void processHints(@NotNull FactionsAPI factionsAPI) {
+        if (!hintedPlayers.isEmpty()) {
+            final Iterator<UUID> players = hintedPlayers.iterator();
+            while (players.hasNext()) {
+                final UUID uuid = players.next();
+                players.remove();
+                final String previous = memberOf.get(uuid);
+                if (previous != null) {
+                    final Faction faction = factionsAPI.getFaction(previous);
+                    if (faction != null) hintedFactions.add(faction);
+                }
+                final Faction current = factionsAPI.getFPlayer(uuid).getFaction();
+                if (current != null) hintedFactions.add(current);
+            }
+        }
+        if (hintedFactions.isEmpty()) return;
+        final Iterator<Faction> factions = hintedFactions.iterator();
+        while (factions.hasNext()) {
+            final Faction faction = factions.next();
+            factions.remove();
+            check(faction);
+        }
+    }
+
+    /**
+     * Method to forget the Factions which weren't seen during the pass and schedule the next pass.
+     */
+    private void finishPass() {
+        final Iterator<Map.Entry<String, State>> iterator = states.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, State> entry = iterator.next();
+            if (seen.contains(entry.getKey())) continue;
+            for (UUID member : entry.getValue().members) memberOf.remove(member, entry.getKey());
+            iterator.remove();
+        }
+        pass = null;
+        seen = null;
+        seeded = true;
+        untilPass = period;
+    }
+
+    /**
+     * Method to check one Faction, calling events for the changes since it was last checked.
+     * <p>
+     *     A Faction which fails to check is skipped, so that one broken Faction doesn't stop the detector.
+     * </p>
+     *
+     * @param faction to check.
+     */
+    private void check(@NotNull Faction faction) {
+        try {
+            if (faction.isServerFaction()) return;
+            final String id = faction.getId();
+            final State state = states.get(id);
+            if (state == null) {
+                final State created = new State(faction);
+                created.record(faction);
+                states.put(id, created);
+                for (UUID member : created.members) memberOf.put(member, id);
+                if (seeded && emits(Change.CREATE, FactionCreateEvent.class)) {
+                    final FPlayer leader = faction.getLeader();
+                    if (leader != null) call(new FactionCreateEvent(faction, leader, null, true));
+                }
+                return;
+            }
+            final Fingerprint current = Fingerprint.of(faction);
+            if (current.equals(state.fingerprint)) return;
+            diff(faction, state, current);
+        } catch (Exception ex) {
+            exception(ex, "Failed to check a Faction for changes.");
+        }
+    }
+
+    /**
+     * Method to compare a Faction against its recorded state, calling events for the differences.
+     * <p>
+     *     The unclaim events need a player, so while a Faction without a leader has unclaimed land its previous
+     *     Claims are kept, and the unclaims are called once it has a leader again rather than being lost.
+     * </p>
+     *
+     * @param faction to compare.
+     * @param state   recorded for the Faction.
+     * @param current fingerprint of the Faction.
+     */
+    private void diff(@NotNull Faction faction, @NotNull State state, @NotNull Fingerprint current) {
+        final Fingerprint previous = state.fingerprint;
+        final String id = faction.getId();
+        if (!current.name.equals(previous.name) && emits(Change.RENAME, FactionRenameEvent.class)) {
+            call(new FactionRenameEvent(faction, current.name, null));
+        }
+        if (current.claimCount != previous.claimCount || current.claimHash != previous.claimHash) {
+            final Set<Claim> claims = new HashSet<>(faction.getAllClaims());
+            final boolean unclaimedAll = claims.isEmpty() && !state.claims.isEmpty()
+                    && changes.contains(Change.UNCLAIM_ALL);
+            final boolean emitting = unclaimedAll ? emits(Change.UNCLAIM_ALL, FactionUnclaimAllEvent.class)
+                    : emits(Change.UNCLAIM, FactionUnclaimEvent.class) && !claims.containsAll(state.claims);
+            final FPlayer leader = emitting ? faction.getLeader() : null;
+            if (emitting && leader == null) {
+                current = new Fingerprint(current.name, previous.claimCount, previous.claimHash,
+                        current.memberCount, current.memberHash);
+            } else {
+                if (unclaimedAll && emitting) {
+                    call(new FactionUnclaimAllEvent(faction, leader, null));
+                } else if (emitting) {
+                    for (Claim claim : state.claims) {
+                        if (!claims.contains(claim)) call(new FactionUnclaimEvent(claim, faction, leader, null));
+                    }
+                }
+                state.claims = claims;
+            }
+        }
+        if (current.memberCount != previous.memberCount || current.memberHash != previous.memberHash) {
+            final Set<UUID> members = new HashSet<>(current.memberCount * 2);
+            faction.forEachMember(member -> members.add(member.getUniqueId()));
+            final FactionsAPI factionsAPI = api.get();
+            for (UUID member : state.members) {
+                if (members.contains(member)) continue;
+                memberOf.remove(member, id);
+                if (emits(Change.LEAVE, FactionLeaveEvent.class)) {
+                    call(new FactionLeaveEvent(faction, factionsAPI.getFPlayer(member),
+                            FactionLeaveEvent.LeaveReason.UNKNOWN, null));
+                }
+            }
+            for (UUID member : members) {
+                if (state.members.contains(member)) continue;
+                memberOf.put(member, id);
+                if (emits(Change.JOIN, FactionJoinEvent.class)) {
+                    call(new FactionJoinEvent(faction, factionsAPI.getFPlayer(member), null));
+                }
+            }
+            state.members = members;
+        }
+        state.fingerprint = current;
+    }
+
+    /**
+     * Method to determine if an event should be created for the given change.
+     *
+     * @param change which was detected.
+     * @param type   of the event called for the change.
+     * @return {@code true} if the change is enabled and anything listens for or observes the event.
+     */
+    private boolean emits(@NotNull Change change, @NotNull Class<? extends Event> type) {
+        return changes.contains(change) && FactionsBridge.get().getEventDispatcher().isWanted(type);
+    }
+
+    /**
+     * Method to call a bridge event.
+     * <p>
+     *     The change has already been made, so the event is committed and reaches the bridge-owned indices too.
+     * </p>
+     *
+     * @param event to call.
+     */
+    private void call(@NotNull Event event) {
+        FactionsBridge.get().getEventDispatcher().call(null, event);
+    }
+
+    /**
+     * The Change enumeration lists the changes the detector can call events for.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 16:50
+     */
+    public enum Change {
+
+        /**
+         * A new Faction, calls the {@link FactionCreateEvent}.
+         */
+        CREATE,
+
+        /**
+         * A new name, calls the {@link FactionRenameEvent}.
+         */
+        RENAME,
+
+        /**
+         * A new Member, calls the {@link FactionJoinEvent}.
+         */
+        JOIN,
+
+        /**
+         * A Member which is gone, calls the {@link FactionLeaveEvent}.
+         */
+        LEAVE,
+
+        /**
+         * A Claim which is gone, calls the {@link FactionUnclaimEvent}.
+         */
+        UNCLAIM,
+
+        /**
+         * Every Claim is gone, calls the {@link FactionUnclaimAllEvent}.
+         */
+        UNCLAIM_ALL
+
+    }
+
+    /**
+     * The Fingerprint class summarises a Faction, so that an unchanged Faction is recognised without a full diff.
+     * <p>
+     *     The hashes are sums of mixed per-element hashes, so they don't depend on the order of the elements.
+     * </p>
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 16:50
+     */
+    private static final class Fingerprint {
+
+        /**
+         * The name of the Faction.
+         */
+        private final String name;
+
+        /**
+         * The amount of Claims of the Faction.
+         */
+        private final int claimCount;
+
+        /**
+         * The hash of the Claims of the Faction.
+         */
+        private final long claimHash;
+
+        /**
+         * The amount of Members of the Faction.
+         */
+        private final int memberCount;
+
+        /**
+         * The hash of the Members of the Faction.
+         */
+        private final long memberHash;
+
+        /**
+         * Constructor to create a Fingerprint.
+         *
+         * @param name        of the Faction.
+         * @param claimCount  of the Faction.
+         * @param claimHash   of the Faction.
+         * @param memberCount of the Faction.
+         * @param memberHash  of the Faction.
+         */
+        private Fingerprint(@NotNull String name, int claimCount, long claimHash, int memberCount, long memberHash) {
+            this.name = name;
+            this.claimCount = claimCount;
+            this.claimHash = claimHash;
+            this.memberCount = memberCount;
+            this.memberHash = memberHash;
+        }
+
+        /**
+         * Method to compute the Fingerprint of a Faction without copying its Claims or Members.
+         *
+         * @param faction to fingerprint.
+         * @return {@link Fingerprint} of the Faction.
+         */
+        @NotNull
+        private static Fingerprint of(@NotNull Faction faction) {
+            final long[] claims = {0, 0};
+            faction.forEachClaim(claim -> {
+                claims[0]++;
+                claims[1] += mix(ChunkKey.pack(claim.getX(), claim.getZ()) ^ mix(claim.getWorldName().hashCode()));
+            });
+            final long[] members = {0, 0};
+            faction.forEachMember(member -> {
+                final UUID uuid = member.getUniqueId();
+                members[0]++;
+                members[1] += mix(uuid.getMostSignificantBits() ^ Long.rotateLeft(uuid.getLeastSignificantBits(), 32));
+            });
+            return new Fingerprint(faction.getName(), (int) claims[0], claims[1], (int) members[0], members[1]);
+        }
+
+        /**
+         * Method to spread the bits of a value, so that sums of similar values rarely collide.
+         *
+         * @param value to mix.
+         * @return mixed value.
+         */
+        private static long mix(long value) {
+            value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+            value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return value ^ (value >>> 33);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Fingerprint)) return false;
+            final Fingerprint other = (Fingerprint) obj;
+            return claimCount == other.claimCount && claimHash == other.claimHash
+                    && memberCount == other.memberCount && memberHash == other.memberHash && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(claimHash ^ memberHash) * 31 + name.hashCode();
+        }
+
+    }
+
+    /**
+     * The State class stores what was last recorded for one Faction.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 16:50
+     */
+    private static final class State {
+
+        /**
+         * The fingerprint of the Faction.
+         */
+        private Fingerprint fingerprint;
+
+        /**
+         * The Claims of the Faction.
+         */
+        private Set<Claim> claims = Collections.emptySet();
+
+        /**
+         * The UUIDs of the Members of the Faction.
+         */
+        private Set<UUID> members = Collections.emptySet();
+
+        /**
+         * Constructor to create the State of a Faction.
+         *
+         * @param faction to create the State for.
+         */
+        private State(@NotNull Faction faction) {
+            this.fingerprint = Fingerprint.of(faction);
+        }
+
+        /**
+         * Method to record the Claims and Members of the Faction in full.
+         *
+         * @param faction to record.
+         */
+        private void record(@NotNull Faction faction) {
+            claims = new HashSet<>(faction.getAllClaims());
+            final Set<UUID> uuids = new HashSet<>(fingerprint.memberCount * 2);
+            faction.forEachMember(member -> uuids.add(member.getUniqueId()));
+            members = uuids;
+        }
+
+    }
+
+}
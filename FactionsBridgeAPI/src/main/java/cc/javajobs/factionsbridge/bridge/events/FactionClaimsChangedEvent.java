@@ -0,0 +1,97 @@
+package cc.javajobs.factionsbridge.bridge.events;
+
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.ClaimChangeBatcher;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.FactionEvent;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * FactionClaimsChangedEvent is called once per tick, per Faction and world, with every Claim change of that tick.
+ * <p>
+ *     The chunks are packed using {@link ChunkKey#pack(int, int)}, use {@link ChunkKey#getX(long)} and
+ *     {@link ChunkKey#getZ(long)} to unpack them.
+ *     <br>A chunk which was claimed and unclaimed (or the reverse) during the same tick isn't included.
+ *     <br>A chunk claimed from another Faction is also included in the unclaimed chunks of that Faction, once the
+ *     {@link cc.javajobs.factionsbridge.bridge.index.ClaimIndex} has been built.
+ * </p>
+ * <p>
+ *     This event is opt-in, it is only called once {@link ClaimChangeBatcher#enable(org.bukkit.plugin.Plugin)}
+ *     has been called, and it is called after the changes have happened, so it can't be cancelled.
+ *     <br>The individual {@link FactionClaimEvent}, {@link FactionUnclaimEvent} and {@link FactionUnclaimAllEvent}
+ *     events are still called.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 17:35
+ */
+public class FactionClaimsChangedEvent extends FactionEvent {
+
+    /**
+     * The name of the world the chunks are in.
+     */
+    private final String worldName;
+
+    /**
+     * The packed chunks which were claimed.
+     */
+    private final long[] claimed;
+
+    /**
+     * The packed chunks which were unclaimed.
+     */
+    private final long[] unclaimed;
+
+    /**
+     * Constructor to initialise a FactionClaimsChangedEvent.
+     *
+     * @param faction   whose Claims changed.
+     * @param worldName of the world the chunks are in.
+     * @param claimed   packed chunks which were claimed.
+     * @param unclaimed packed chunks which were unclaimed.
+     */
+    public FactionClaimsChangedEvent(@NotNull Faction faction, @NotNull String worldName,
+                                     @NotNull long[] claimed, @NotNull long[] unclaimed) {
+        super(faction, null);
+        this.worldName = worldName;
+        this.claimed = claimed;
+        this.unclaimed = unclaimed;
+    }
+
+    /**
+     * Method to obtain the name of the world the chunks are in.
+     *
+     * @return name of the world.
+     */
+    @NotNull
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /**
+     * Method to obtain the packed chunks which were claimed.
+     * <p>
+     *     The array is shared with every listener, so it shouldn't be modified.
+     * </p>
+     *
+     * @return array of packed chunks, can be empty.
+     */
+    @NotNull
+    public long[] getClaimed() {
+        return claimed;
+    }
+
+    /**
+     * Method to obtain the packed chunks which were unclaimed.
+     * <p>
+     *     The array is shared with every listener, so it shouldn't be modified.
+     * </p>
+     *
+     * @return array of packed chunks, can be empty.
+     */
+    @NotNull
+    public long[] getUnclaimed() {
+        return unclaimed;
+    }
+
+}
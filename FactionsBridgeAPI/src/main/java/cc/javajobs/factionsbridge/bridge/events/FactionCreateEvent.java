@@ -1,5 +1,6 @@
 package cc.javajobs.factionsbridge.bridge.events;
 
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import org.bukkit.OfflinePlayer;
@@ -38,6 +39,11 @@ public class FactionCreateEvent extends Event implements Cancellable {
      */
     private final Faction faction;
 
+    /**
+     * {@code true} if the event was called after the Faction was created.
+     */
+    private final boolean committed;
+
     /**
      * Constructor to initialise an FactionCreateEvent using the Faction and FPlayer objects.
      * <p>
@@ -49,9 +55,36 @@ public class FactionCreateEvent extends Event implements Cancellable {
      * @param other event object.
      */
     public FactionCreateEvent(@NotNull Faction faction, @NotNull FPlayer fplayer, @Nullable Event other) {
+        this(faction, fplayer, other, false);
+    }
+
+    /**
+     * Constructor to initialise an FactionCreateEvent which may be called after the Faction was created.
+     * <p>
+     *     A committed event is informational, it can't be cancelled as the Faction already exists.
+     * </p>
+     *
+     * @param fplayer who sent the create request.
+     * @param faction which has been created.
+     * @param other event object.
+     * @param committed {@code true} if the Faction has already been created.
+     * @see EventDispatcher#post(java.lang.Class, java.util.function.Supplier)
+     */
+    public FactionCreateEvent(@NotNull Faction faction, @NotNull FPlayer fplayer,
+                              @Nullable Event other, boolean committed) {
         this.faction = faction;
         this.sender = fplayer;
         this.event = other;
+        this.committed = committed;
+    }
+
+    /**
+     * Method to determine if the event was called after the Faction was created.
+     *
+     * @return {@code true} if it was, in which case the event can't be cancelled.
+     */
+    public boolean isCommitted() {
+        return committed;
     }
 
     /**
@@ -135,12 +168,13 @@ public class FactionCreateEvent extends Event implements Cancellable {
      * <p>
      *     As this is a bridge, this bridges to the 'other' object and determines
      *     if that has been cancelled.
+     *     <br>A {@link #isCommitted() committed} event is never cancelled.
      * </p>
      * @return {@code true} cancelled, {@code false} not cancelled.
      */
     @Override
     public boolean isCancelled() {
-        if (event == null) return false;
+        if (committed || event == null) return false;
         if (!(event instanceof Cancellable)) return false;
         return ((Cancellable) event).isCancelled();
     }
@@ -150,12 +184,13 @@ public class FactionCreateEvent extends Event implements Cancellable {
      * <p>
      *     As this is a bridge, this bridges to the 'other' object and cancels
      *     that instead.
+     *     <br>A {@link #isCommitted() committed} event can't be cancelled, so this does nothing.
      * </p>
      * @param b status of the cancel call (true/false).
      */
     @Override
     public void setCancelled(boolean b) {
-        if (event == null) return;
+        if (committed || event == null) return;
         if (!(event instanceof Cancellable)) return;
         ((Cancellable) event).setCancelled(b);
     }
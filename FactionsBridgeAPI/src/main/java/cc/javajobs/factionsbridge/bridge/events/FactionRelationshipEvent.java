@@ -0,0 +1,67 @@
+package cc.javajobs.factionsbridge.bridge.events;
+
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.FactionEvent;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * FactionRelationshipEvent is called when the Relationship of a Faction to another Faction changes.
+ * <p>
+ *     Only Providers which return {@code true} from
+ *     {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI#supportsRelationshipEvents()}
+ *     call this event.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 14:40
+ */
+public class FactionRelationshipEvent extends FactionEvent {
+
+    /**
+     * The other Faction of the Relationship.
+     */
+    private final Faction other;
+
+    /**
+     * The new Relationship.
+     */
+    private final Relationship relationship;
+
+    /**
+     * Constructor to initialise a FactionRelationshipEvent.
+     *
+     * @param faction      whose Relationship changed.
+     * @param other        Faction of the Relationship.
+     * @param relationship which is now in place.
+     * @param event        object.
+     */
+    public FactionRelationshipEvent(@NotNull Faction faction, @NotNull Faction other,
+                                    @NotNull Relationship relationship, @NotNull Event event) {
+        super(faction, event);
+        this.other = other;
+        this.relationship = relationship;
+    }
+
+    /**
+     * Method to obtain the other Faction of the Relationship.
+     *
+     * @return {@link Faction} the Relationship is to.
+     */
+    @NotNull
+    public Faction getOther() {
+        return other;
+    }
+
+    /**
+     * Method to obtain the new Relationship.
+     *
+     * @return {@link Relationship} enumeration.
+     */
+    @NotNull
+    public Relationship getRelationship() {
+        return relationship;
+    }
+
+}
@@ -0,0 +1,52 @@
+package cc.javajobs.factionsbridge.bridge.events;
+
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.FPlayerEvent;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The FactionRoleChangeEvent is an event which is called when the Role of an FPlayer in their Faction changes.
+ * <p>
+ *     Only some Providers call an event for this, see
+ *     {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI#supportsRoleEvents()}.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 21:15
+ */
+public class FactionRoleChangeEvent extends FPlayerEvent {
+
+    /**
+     * The new Role of the FPlayer.
+     */
+    private final Role role;
+
+    /**
+     * Constructor to initialise a FactionRoleChangeEvent.
+     *
+     * @param faction of the FPlayer.
+     * @param fplayer whose Role changed.
+     * @param role    the FPlayer now has.
+     * @param other   event object.
+     */
+    public FactionRoleChangeEvent(@NotNull Faction faction, @NotNull FPlayer fplayer, @NotNull Role role,
+                                  @Nullable Event other) {
+        super(faction, fplayer, other);
+        this.role = role;
+    }
+
+    /**
+     * Method to obtain the new Role of the FPlayer.
+     *
+     * @return {@link Role} of the FPlayer once the change is made.
+     */
+    @NotNull
+    public Role getRole() {
+        return role;
+    }
+
+}
@@ -0,0 +1,309 @@
+package cc.javajobs.factionsbridge.bridge.events.infrastructure;
+
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimsChangedEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimAllEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
+import cc.javajobs.factionsbridge.bridge.index.LongIntHashMap;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The ClaimChangeBatcher collects the Claim changes of a tick and calls one {@link FactionClaimsChangedEvent}
+ * per Faction and world at the end of it.
+ * <p>
+ *     Each change is stored against its packed chunk in a {@link LongIntHashMap}, so a radius claim of hundreds of
+ *     chunks costs one map entry per chunk, and a chunk which is claimed and unclaimed in the same tick cancels out.
+ *     <br>The batched events are called by a task scheduled when the first change of a tick is recorded.
+ * </p>
+ * <p>
+ *     The Claim events are observed once committed (see {@link EventDispatcher}), and before the
+ *     {@link ClaimIndex} applies them, so the index still holds the previous owner of a chunk which was claimed,
+ *     and the Claims of a Faction which unclaimed all land.
+ *     <br>The batcher is opt-in, nothing is recorded until it is enabled.
+ *     <br>This class is not thread-safe and should only be used on the main thread.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 17:35
+ */
+public class ClaimChangeBatcher implements Communicator {
+
+    /**
+     * The value stored for a chunk which was claimed.
+     */
+    private static final int CLAIMED = 1;
+
+    /**
+     * The value stored for a chunk which was unclaimed.
+     */
+    private static final int UNCLAIMED = -1;
+
+    /**
+     * The value returned for a chunk which hasn't changed.
+     */
+    private static final int UNCHANGED = 0;
+
+    /**
+     * The dispatcher to observe the Claim events of.
+     */
+    private final EventDispatcher dispatcher;
+
+    /**
+     * The index to read the Claims of a Faction from.
+     */
+    private final ClaimIndex index;
+
+    /**
+     * Faction id to changes lookup, for the tick in progress.
+     */
+    private final Map<String, Batch> batches = new LinkedHashMap<>();
+
+    /**
+     * The plugin the batcher was enabled for, {@code null} until enabled.
+     */
+    private Plugin plugin = null;
+
+    /**
+     * {@code true} if the task calling the batched events has been scheduled for this tick.
+     */
+    private boolean scheduled = false;
+
+    /**
+     * {@code true} once the Claim events are observed.
+     */
+    private boolean observing = false;
+
+    /**
+     * Constructor to initialise a ClaimChangeBatcher.
+     *
+     * @param dispatcher to observe the Claim events of.
+     * @param index      to read the Claims of a Faction from.
+     */
+    public ClaimChangeBatcher(@NotNull EventDispatcher dispatcher, @NotNull ClaimIndex index) {
+        this.dispatcher = dispatcher;
+        this.index = index;
+    }
+
+    /**
+     * Method to enable the batcher, after which {@link FactionClaimsChangedEvent} is called.
+     * <p>
+     *     Calling this method more than once has no effect.
+     * </p>
+     *
+     * @param plugin to schedule the task for.
+     */
+    public void enable(@NotNull Plugin plugin) {
+        if (this.plugin != null) return;
+        this.plugin = plugin;
+        observe();
+    }
+
+    /**
+     * Method to start observing the Claim events, ahead of any observer registered later.
+     * <p>
+     *     The bridge calls this before the {@link ClaimIndex} observes the same events.
+     *     <br>Calling this method more than once has no effect.
+     * </p>
+     */
+    public void observe() {
+        if (observing) return;
+        observing = true;
+        dispatcher.observe(FactionClaimEvent.class, this::onClaim);
+        dispatcher.observe(FactionUnclaimEvent.class, this::onUnclaim);
+        dispatcher.observe(FactionUnclaimAllEvent.class, this::onUnclaimAll);
+    }
+
+    /**
+     * Method to determine if the batcher has been enabled.
+     *
+     * @return {@code true} if it has.
+     */
+    public boolean isEnabled() {
+        return plugin != null;
+    }
+
+    /**
+     * Method to apply a committed {@link FactionClaimEvent}, recording the chunk as claimed.
+     * <p>
+     *     If the chunk was owned by another Faction (an overclaim), it is also recorded as unclaimed by that Faction.
+     *     The previous owner is read from the {@link ClaimIndex}, so until the index is built (or in a copy attached
+     *     to a shared bridge, or for a Provider which doesn't call every claim event) only the claim is recorded.
+     *     <br>A Claim by the Wilderness Faction returns the chunk to the Wilderness, so only the unclaim by the
+     *     previous owner is recorded.
+     * </p>
+     *
+     * @param event which was committed.
+     */
+    public void onClaim(@NotNull FactionClaimEvent event) {
+        if (!isRecording()) return;
+        final Faction faction = event.getFaction();
+        final Claim claim = event.getClaim();
+        final String world = claim.getWorldName();
+        final long key = ChunkKey.pack(claim.getX(), claim.getZ());
+        if (index.isBuilt()) {
+            final Faction previous = index.getFactionAt(world, claim.getX(), claim.getZ());
+            if (previous != null && !previous.isWilderness() && !previous.getId().equals(faction.getId())) {
+                record(previous, world, key, UNCLAIMED);
+            }
+        }
+        if (!faction.isWilderness()) record(faction, world, key, CLAIMED);
+    }
+
+    /**
+     * Method to apply a committed {@link FactionUnclaimEvent}, recording the chunk as unclaimed.
+     *
+     * @param event which was committed.
+     */
+    public void onUnclaim(@NotNull FactionUnclaimEvent event) {
+        record(event.getFaction(), event.getClaim(), UNCLAIMED);
+    }
+
+    /**
+     * Method to apply a committed {@link FactionUnclaimAllEvent}, recording every Claim of the Faction as unclaimed.
+     * <p>
+     *     The Provider has already removed the Claims, so they are read from the {@link ClaimIndex}.
+     *     <br>Until the index is built (or in a copy attached to a shared bridge, or for a Provider which doesn't
+     *     call every claim event), nothing is recorded.
+     * </p>
+     *
+     * @param event which was committed.
+     */
+    public void onUnclaimAll(@NotNull FactionUnclaimAllEvent event) {
+        if (!isRecording() || !index.isBuilt()) return;
+        final Faction faction = event.getFaction();
+        index.forEachClaim(faction, (world, key) -> record(faction, world, key, UNCLAIMED));
+    }
+
+    /**
+     * Method to determine if changes should be recorded.
+     *
+     * @return {@code true} if the batcher is enabled and anything listens for the batched event.
+     */
+    private boolean isRecording() {
+        return plugin != null && EventSubscribers.isListening(FactionClaimsChangedEvent.class);
+    }
+
+    /**
+     * Method to record a change to a Claim.
+     *
+     * @param faction whose Claims changed.
+     * @param claim   which changed.
+     * @param change  {@link #CLAIMED} or {@link #UNCLAIMED}.
+     */
+    private void record(@NotNull Faction faction, @NotNull Claim claim, int change) {
+        if (!isRecording()) return;
+        record(faction, claim.getWorldName(), ChunkKey.pack(claim.getX(), claim.getZ()), change);
+    }
+
+    /**
+     * Method to record a change to a chunk, cancelling out an opposite change from the same tick.
+     *
+     * @param faction whose Claims changed.
+     * @param world   name of the chunk.
+     * @param key     packed using {@link ChunkKey#pack(int, int)}.
+     * @param change  {@link #CLAIMED} or {@link #UNCLAIMED}.
+     */
+    private void record(@NotNull Faction faction, @NotNull String world, long key, int change) {
+        try {
+            final Batch batch = batches.computeIfAbsent(faction.getId(), id -> new Batch(faction));
+            final LongIntHashMap changes = batch.worlds.computeIfAbsent(
+                    world, name -> new LongIntHashMap(UNCHANGED)
+            );
+            final int previous = changes.get(key);
+            if (previous == -change) changes.remove(key);
+            else changes.put(key, change);
+        } catch (Exception ex) {
+            exception(ex, "Failed to record a Claim change.");
+            return;
+        }
+        if (scheduled) return;
+        scheduled = true;
+        Bukkit.getScheduler().runTask(plugin, this::flush);
+    }
+
+    /**
+     * Method to call the batched events for every change recorded this tick.
+     */
+    private void flush() {
+        scheduled = false;
+        if (batches.isEmpty()) return;
+        final Batch[] pending = batches.values().toArray(new Batch[0]);
+        batches.clear();
+        for (Batch batch : pending) {
+            for (Map.Entry<String, LongIntHashMap> world : batch.worlds.entrySet()) {
+                final LongIntHashMap changes = world.getValue();
+                if (changes.isEmpty()) continue;
+                final long[] claimed = new long[count(changes, CLAIMED)];
+                final long[] unclaimed = new long[changes.size() - claimed.length];
+                final int[] written = {0, 0};
+                changes.forEach((key, change) -> {
+                    if (change == CLAIMED) claimed[written[0]++] = key;
+                    else unclaimed[written[1]++] = key;
+                });
+                try {
+                    Bukkit.getPluginManager().callEvent(
+                            new FactionClaimsChangedEvent(batch.faction, world.getKey(), claimed, unclaimed)
+                    );
+                } catch (Exception ex) {
+                    exception(ex, "Failed to call the FactionClaimsChangedEvent.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to count the chunks with the given change.
+     *
+     * @param changes to count.
+     * @param change  to count.
+     * @return amount of chunks.
+     */
+    private static int count(@NotNull LongIntHashMap changes, int change) {
+        final int[] count = {0};
+        changes.forEach((key, value) -> {
+            if (value == change) count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * The Batch class stores the changes of one Faction, for the tick in progress.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 17:35
+     */
+    private static final class Batch {
+
+        /**
+         * The Faction whose Claims changed.
+         */
+        private final Faction faction;
+
+        /**
+         * World name to changes lookup.
+         */
+        private final Map<String, LongIntHashMap> worlds = new HashMap<>();
+
+        /**
+         * Constructor to create a Batch.
+         *
+         * @param faction whose Claims changed.
+         */
+        private Batch(@NotNull Faction faction) {
+            this.faction = faction;
+        }
+
+    }
+
+}
@@ -0,0 +1,377 @@
+package cc.javajobs.factionsbridge.bridge.events.infrastructure;
+
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The EventDispatcher calls bridge events either before or after the Provider commits the change they describe.
+ * <p>
+ *     <b>Pre-commit</b> events are called immediately using {@link #call(Class, Event, Supplier)}, while the
+ *     Provider's own event is still in progress, so cancelling the bridge event cancels the change.
+ *     <br><b>Post-commit</b> events are queued using {@link #post(Class, Supplier)} and created and called on the
+ *     next tick, once the change has been made (a new Faction exists for example), so they are informational only.
+ * </p>
+ * <p>
+ *     The bridge-owned indices {@link #observe(Class, Consumer) observe} the bridge events instead of listening
+ *     to them, so {@link EventSubscribers} only counts the listeners of other plugins.
+ *     <br>An observed event is always created, so while the indices are built the claim, membership, name and
+ *     disband events are created whether or not another plugin listens for them; only the events which no
+ *     index observes (such as {@link cc.javajobs.factionsbridge.bridge.events.FactionClaimsChangedEvent}, or the
+ *     claim events of a Provider without claim events) are skipped when nothing else wants them.
+ *     <br>Observers only receive a pre-commit event on the next tick, once every listener of the Provider's event
+ *     has run, and only if the Provider's event wasn't cancelled, so a change which is cancelled after the bridge
+ *     event (at {@code HIGHEST} for example) never reaches an index.
+ *     <br>An event without a Provider event (called by a detector for example), or whose Provider event can't be
+ *     cancelled, is always committed.
+ *     <br>The observers of an event are called in the order they were registered.
+ * </p>
+ * <p>
+ *     The shaded copies attached to this bridge {@link #relay(Plugin, Class, BooleanSupplier, Consumer) relay}
+ *     its events to their own listeners. A relay is called straight after the listeners of this copy, and only
+ *     counts as wanting an event while its copy does, so attaching a copy doesn't make an event wanted on its own.
+ * </p>
+ * <p>
+ *     Every queued event of a tick is handled by one scheduler task, which is scheduled by the first event
+ *     queued during the tick.
+ *     <br>Events can be queued from any thread, they are always created, called and observed on the main thread.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 17:55
+ */
+public class EventDispatcher implements Communicator {
+
+    /**
+     * Supplier of the plugin to schedule the task for.
+     */
+    private final Supplier<Plugin> plugin;
+
+    /**
+     * The work waiting for the next tick, each entry calls or observes one event.
+     */
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Event type to observers lookup.
+     */
+    private final Map<Class<?>, List<Consumer<Event>>> observers = new ConcurrentHashMap<>();
+
+    /**
+     * Event type to relays lookup.
+     */
+    private final Map<Class<?>, List<Relay>> relays = new ConcurrentHashMap<>();
+
+    /**
+     * {@code true} if the task handling the pending events has been scheduled.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * Constructor to initialise an EventDispatcher.
+     *
+     * @param plugin supplier of the plugin to schedule the task for.
+     */
+    public EventDispatcher(@NotNull Supplier<Plugin> plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Method to observe the committed events of the given type.
+     * <p>
+     *     This is intended for the bridge-owned indices, other plugins should listen for the event instead.
+     * </p>
+     *
+     * @param type     of the event.
+     * @param observer to give each committed event to.
+     * @param <E>      type of the event.
+     */
+    public <E extends Event> void observe(@NotNull Class<E> type, @NotNull Consumer<? super E> observer) {
+        observers.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>())
+                .add(event -> observer.accept(type.cast(event)));
+    }
+
+    /**
+     * Method to determine if the committed events of the given type are observed.
+     *
+     * @param type of the event.
+     * @return {@code true} if an index observes the event.
+     */
+    public boolean isObserved(@NotNull Class<? extends Event> type) {
+        return observers.containsKey(type);
+    }
+
+    /**
+     * Method to relay the events of the given type to an attached copy.
+     * <p>
+     *     The relay is removed once its plugin is disabled, or by {@link #removeRelays(Plugin)}.
+     * </p>
+     *
+     * @param consumer which attached the copy.
+     * @param type     of the event.
+     * @param wanted   {@code true} while the attached copy listens for or observes the event.
+     * @param relay    to give each event to, straight after the listeners of this copy.
+     */
+    public void relay(@NotNull Plugin consumer, @NotNull Class<? extends Event> type,
+                      @NotNull BooleanSupplier wanted, @NotNull Consumer<Object> relay) {
+        relays.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(new Relay(consumer, wanted, relay));
+    }
+
+    /**
+     * Method to stop relaying events to the copy attached by the given plugin.
+     *
+     * @param consumer which attached the copy.
+     */
+    public void removeRelays(@NotNull Plugin consumer) {
+        for (List<Relay> list : relays.values()) list.removeIf(relay -> relay.consumer.equals(consumer));
+    }
+
+    /**
+     * Method to determine if an attached copy wants the events of the given type.
+     *
+     * @param type of the event.
+     * @return {@code true} if a relay of an enabled plugin wants the event.
+     */
+    public boolean isRelayed(@NotNull Class<? extends Event> type) {
+        final List<Relay> list = relays.get(type);
+        if (list == null) return false;
+        for (Relay relay : list) {
+            if (relay.consumer.isEnabled() && relay.wanted.getAsBoolean()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method to determine if an event of the given type should be created.
+     * <p>
+     *     An event observed by an index is always wanted, so only the events which no index observes
+     *     are ever skipped.
+     * </p>
+     *
+     * @param type of the event.
+     * @return {@code true} if anything listens for, observes or relays the event.
+     */
+    public boolean isWanted(@NotNull Class<? extends Event> type) {
+        return isObserved(type) || EventSubscribers.isListening(type) || isRelayed(type);
+    }
+
+    /**
+     * Method to determine if an event of either of the given types should be created.
+     *
+     * @param type  of the first event.
+     * @param other type of the second event.
+     * @return {@code true} if anything listens for, observes or relays either event.
+     */
+    public boolean isWanted(@NotNull Class<? extends Event> type, @NotNull Class<? extends Event> other) {
+        return isWanted(type) || isWanted(other);
+    }
+
+    /**
+     * Method to call a pre-commit event immediately.
+     * <p>
+     *     The event is only created if anything listens for, observes or relays it.
+     * </p>
+     *
+     * @param type  of the event.
+     * @param other the Provider event which the bridge event describes, can be {@code null}.
+     * @param event supplier of the event to call.
+     * @param <E>   type of the event.
+     * @return {@code true} if the event is {@link Cancellable} and was cancelled.
+     * @see #call(Event, Event)
+     */
+    public <E extends Event> boolean call(@NotNull Class<E> type, @Nullable Event other,
+                                          @NotNull Supplier<? extends E> event) {
+        if (!isWanted(type)) return false;
+        final E created = event.get();
+        return created != null && call(other, created);
+    }
+
+    /**
+     * Method to call a pre-commit event which has already been created.
+     * <p>
+     *     The event is called for the listeners and relays straight away, and queued for the observers until
+     *     the next tick.
+     * </p>
+     *
+     * @param other the Provider event which the bridge event describes, can be {@code null}.
+     * @param event to call.
+     * @return {@code true} if the event is {@link Cancellable} and was cancelled.
+     */
+    public boolean call(@Nullable Event other, @NotNull Event event) {
+        final Class<? extends Event> type = event.getClass();
+        if (EventSubscribers.isListening(type)) Bukkit.getPluginManager().callEvent(event);
+        relay(event);
+        if (isObserved(type)) schedule(() -> {
+            if (!isCancelled(other)) deliver(event);
+        });
+        return isCancelled(event);
+    }
+
+    /**
+     * Method to queue a post-commit event for the next tick.
+     * <p>
+     *     The event is created when it is called, so the supplier can look up state which doesn't exist yet.
+     *     <br>A supplier which returns {@code null} (or throws) is skipped.
+     * </p>
+     *
+     * @param type  of the event.
+     * @param event supplier of the event to call.
+     * @param <E>   type of the event.
+     */
+    public <E extends Event> void post(@NotNull Class<E> type, @NotNull Supplier<? extends E> event) {
+        if (!isWanted(type)) return;
+        schedule(() -> {
+            final E created = event.get();
+            if (created == null) return;
+            if (EventSubscribers.isListening(type)) Bukkit.getPluginManager().callEvent(created);
+            relay(created);
+            deliver(created);
+        });
+    }
+
+    /**
+     * Method to obtain the amount of events waiting for the next tick.
+     *
+     * @return amount of events.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Method to determine if an event has been cancelled.
+     *
+     * @param event to test, can be {@code null}.
+     * @return {@code true} if the event is {@link Cancellable} and was cancelled.
+     */
+    private static boolean isCancelled(@Nullable Event event) {
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    /**
+     * Method to give a committed event to its observers.
+     *
+     * @param event which was committed.
+     */
+    private void deliver(@NotNull Event event) {
+        final List<Consumer<Event>> list = observers.get(event.getClass());
+        if (list == null) return;
+        for (Consumer<Event> observer : list) {
+            try {
+                observer.accept(event);
+            } catch (Exception ex) {
+                exception(ex, "Failed to observe the " + event.getClass().getSimpleName() + ".");
+            }
+        }
+    }
+
+    /**
+     * Method to give an event to the relays which want it, removing the relays of disabled plugins.
+     *
+     * @param event to relay.
+     */
+    private void relay(@NotNull Event event) {
+        final List<Relay> list = relays.get(event.getClass());
+        if (list == null) return;
+        for (Relay relay : list) {
+            if (!relay.consumer.isEnabled()) {
+                list.remove(relay);
+                continue;
+            }
+            if (!relay.wanted.getAsBoolean()) continue;
+            try {
+                relay.relay.accept(event);
+            } catch (Exception ex) {
+                exception(ex, "Failed to relay the " + event.getClass().getSimpleName()
+                        + " to " + relay.consumer.getName() + ".");
+            }
+        }
+    }
+
+    /**
+     * Method to queue work for the next tick.
+     *
+     * @param work to run.
+     */
+    private void schedule(@NotNull Runnable work) {
+        pending.add(work);
+        if (!scheduled.compareAndSet(false, true)) return;
+        Bukkit.getScheduler().runTask(plugin.get(), this::drain);
+    }
+
+    /**
+     * Method to handle every event queued before this task started.
+     * <p>
+     *     Events queued by the listeners of these events are handled on the following tick.
+     * </p>
+     */
+    private void drain() {
+        scheduled.set(false);
+        for (int remaining = pending.size(); remaining > 0; remaining--) {
+            final Runnable work = pending.poll();
+            if (work == null) break;
+            try {
+                work.run();
+            } catch (Exception ex) {
+                exception(ex, "Failed to call a post-commit event.");
+            }
+        }
+        if (!pending.isEmpty() && scheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin.get(), this::drain);
+        }
+    }
+
+    /**
+     * The Relay class is one event type relayed to an attached copy.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 21:40
+     */
+    private static final class Relay {
+
+        /**
+         * The plugin which attached the copy.
+         */
+        private final Plugin consumer;
+
+        /**
+         * {@code true} while the attached copy wants the event.
+         */
+        private final BooleanSupplier wanted;
+
+        /**
+         * The relay of the attached copy.
+         */
+        private final Consumer<Object> relay;
+
+        /**
+         * Constructor to create a Relay.
+         *
+         * @param consumer which attached the copy.
+         * @param wanted   {@code true} while the attached copy wants the event.
+         * @param relay    of the attached copy.
+         */
+        private Relay(@NotNull Plugin consumer, @NotNull BooleanSupplier wanted, @NotNull Consumer<Object> relay) {
+            this.consumer = consumer;
+            this.wanted = wanted;
+            this.relay = relay;
+        }
+
+    }
+
+}
@@ -0,0 +1,227 @@
+package cc.javajobs.factionsbridge.bridge.events.infrastructure;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.RegisteredListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The EventSubscribers class determines if anything is listening for a bridge event, before the event is created.
+ * <p>
+ *     The bridge-owned indices observe the bridge events through the {@link EventDispatcher} rather than listening
+ *     for them, so only the listeners of other plugins are counted.
+ *     <br>The dispatcher still creates every observed event, see {@link EventDispatcher#isWanted(Class)}.
+ * </p>
+ * <p>
+ *     Most bridge events share the {@link HandlerList} of {@link FactionEvent}, so the listeners of that list are
+ *     matched against the event type using the parameter of their {@link EventHandler} methods.
+ *     <br>The answer is cached per event type, and recomputed only when the baked listener array of the
+ *     HandlerList changes, which Bukkit replaces whenever a listener is registered or unregistered.
+ * </p>
+ * <p>
+ *     A listener which wasn't registered through {@link EventHandler} methods can't be matched,
+ *     so it is assumed to listen for every event of its HandlerList.
+ *     <br>This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 17:10
+ */
+public final class EventSubscribers {
+
+    /**
+     * Event type to cached answer lookup.
+     */
+    private static final Map<Class<?>, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Listener type to handled event types lookup, an empty array means the types are unknown.
+     */
+    private static final Map<Class<?>, Class<?>[]> handledTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor as this is a utility class.
+     */
+    private EventSubscribers() {
+        throw new UnsupportedOperationException("EventSubscribers is a utility class.");
+    }
+
+    /**
+     * Method to determine if anything is listening for the given event type.
+     *
+     * @param type of the event.
+     * @return {@code true} if the event should be created and called.
+     */
+    public static boolean isListening(@NotNull Class<? extends Event> type) {
+        return subscriptions.computeIfAbsent(type, Subscription::new).isListening();
+    }
+
+    /**
+     * Method to determine if anything is listening for either of the given event types.
+     *
+     * @param type  of the first event.
+     * @param other type of the second event.
+     * @return {@code true} if either event should be created and called.
+     */
+    public static boolean isListening(@NotNull Class<? extends Event> type, @NotNull Class<? extends Event> other) {
+        return isListening(type) || isListening(other);
+    }
+
+    /**
+     * Method to find the HandlerList of an event type, the same way Bukkit does when registering a listener.
+     *
+     * @param type of the event.
+     * @return {@link HandlerList} or {@code null} if it couldn't be found.
+     */
+    @Nullable
+    private static HandlerList findHandlerList(@NotNull Class<?> type) {
+        for (Class<?> current = type; current != null && Event.class.isAssignableFrom(current);
+             current = current.getSuperclass()) {
+            try {
+                final Method method = current.getDeclaredMethod("getHandlerList");
+                if (!Modifier.isStatic(method.getModifiers())) continue;
+                method.setAccessible(true);
+                return (HandlerList) method.invoke(null);
+            } catch (NoSuchMethodException ignored) {
+                // Bukkit also continues with the superclass.
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method to find the event types handled by the {@link EventHandler} methods of a listener type.
+     *
+     * @param listener type of the listener.
+     * @return array of event types, empty if the listener has no {@link EventHandler} methods.
+     */
+    @NotNull
+    private static Class<?>[] scan(@NotNull Class<?> listener) {
+        final Set<Method> methods = new LinkedHashSet<>();
+        try {
+            for (Method method : listener.getMethods()) methods.add(method);
+            for (Method method : listener.getDeclaredMethods()) methods.add(method);
+        } catch (NoClassDefFoundError ex) {
+            return new Class<?>[0];
+        }
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        for (Method method : methods) {
+            if (method.getAnnotation(EventHandler.class) == null || method.getParameterCount() != 1) continue;
+            types.add(method.getParameterTypes()[0]);
+        }
+        return types.toArray(new Class<?>[0]);
+    }
+
+    /**
+     * Method to determine if any of the given listeners handles the given event type.
+     *
+     * @param type      of the event.
+     * @param listeners registered to the HandlerList of the event.
+     * @return {@code true} if at least one does (or might).
+     */
+    private static boolean handles(@NotNull Class<?> type, @NotNull RegisteredListener[] listeners) {
+        for (RegisteredListener registered : listeners) {
+            final Listener listener = registered.getListener();
+            final Class<?>[] types = handledTypes.computeIfAbsent(listener.getClass(), EventSubscribers::scan);
+            if (types.length == 0) return true;
+            for (Class<?> handled : types) {
+                if (handled.isAssignableFrom(type)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The Subscription class caches the answer for one event type.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 17:10
+     */
+    private static final class Subscription {
+
+        /**
+         * The event type.
+         */
+        private final Class<?> type;
+
+        /**
+         * The HandlerList of the event type, {@code null} if it couldn't be found.
+         */
+        private final HandlerList handlerList;
+
+        /**
+         * The last answer, replaced (never modified) when the listeners change.
+         */
+        private volatile Answer answer = null;
+
+        /**
+         * Constructor to create a Subscription.
+         *
+         * @param type of the event.
+         */
+        private Subscription(@NotNull Class<?> type) {
+            this.type = type;
+            this.handlerList = findHandlerList(type);
+        }
+
+        /**
+         * Method to determine if anything is listening for the event type.
+         *
+         * @return {@code true} if anything is (or might be).
+         */
+        private boolean isListening() {
+            if (handlerList == null) return true;
+            final RegisteredListener[] listeners = handlerList.getRegisteredListeners();
+            final Answer current = answer;
+            if (current != null && current.listeners == listeners) return current.listening;
+            final boolean listening = handles(type, listeners);
+            answer = new Answer(listeners, listening);
+            return listening;
+        }
+
+    }
+
+    /**
+     * The Answer class pairs a baked listener array with the answer computed from it.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 17:10
+     */
+    private static final class Answer {
+
+        /**
+         * The baked listener array the answer was computed from.
+         */
+        private final RegisteredListener[] listeners;
+
+        /**
+         * {@code true} if anything is listening.
+         */
+        private final boolean listening;
+
+        /**
+         * Constructor to create an Answer.
+         *
+         * @param listeners baked listener array.
+         * @param listening {@code true} if anything is listening.
+         */
+        private Answer(@NotNull RegisteredListener[] listeners, boolean listening) {
+            this.listeners = listeners;
+            this.listening = listening;
+        }
+
+    }
+
+}
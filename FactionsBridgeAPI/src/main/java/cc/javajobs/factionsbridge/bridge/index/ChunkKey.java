@@ -0,0 +1,52 @@
+package cc.javajobs.factionsbridge.bridge.index;
+
+/**
+ * The ChunkKey class packs chunk coordinates into a single {@code long}, used as the key of the claim indices.
+ * <p>
+ *     The 'x' coordinate is stored in the upper 32 bits and the 'z' coordinate in the lower 32 bits.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 09:20
+ */
+public final class ChunkKey {
+
+    /**
+     * Private constructor as this is a utility class.
+     */
+    private ChunkKey() {
+        throw new UnsupportedOperationException("ChunkKey is a utility class.");
+    }
+
+    /**
+     * Method to pack the given chunk coordinates.
+     *
+     * @param x coordinate of the chunk.
+     * @param z coordinate of the chunk.
+     * @return packed key.
+     */
+    public static long pack(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Method to obtain the 'x' coordinate from a packed key.
+     *
+     * @param key to unpack.
+     * @return chunk 'x' coordinate.
+     */
+    public static int getX(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Method to obtain the 'z' coordinate from a packed key.
+     *
+     * @param key to unpack.
+     * @return chunk 'z' coordinate.
+     */
+    public static int getZ(long key) {
+        return (int) key;
+    }
+
+}
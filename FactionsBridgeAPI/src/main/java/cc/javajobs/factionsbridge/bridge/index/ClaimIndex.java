@@ -0,0 +1,349 @@
+package cc.javajobs.factionsbridge.bridge.index;
+
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimAllEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * The ClaimIndex is a bridge-owned copy of every Claim on the server.
+ * <p>
+ *     Each world has its own {@link LongIntHashMap}, keyed by {@link ChunkKey#pack(int, int)} and holding the
+ *     {@link FactionHandleRegistry handle} of the owning Faction.
+ *     <br>The index is built once from {@link FactionsAPI#getFactions()} and is then kept current using the
+ *     {@link FactionClaimEvent}, {@link FactionUnclaimEvent}, {@link FactionUnclaimAllEvent} and
+ *     {@link FactionDisbandEvent} bridge events, so lookups never touch the Provider's board and allocate nothing.
+ *     <br>The events are observed once committed (see {@link EventDispatcher}), so a change which the Provider
+ *     cancels after the bridge event never reaches the index.
+ *     <br>The bridge only builds the index if the Provider calls an event for every change
+ *     (see {@link FactionsAPI#supportsClaimEvents()}), otherwise lookups are always answered by the Provider.
+ *     Factions deleted through the {@link FactionsAPI} are removed using {@link #forget(Faction)}, as most
+ *     Providers don't call an event for them.
+ * </p>
+ * <p>
+ *     Land which isn't in the index is owned by the Wilderness Faction (if the Provider has one).
+ *     <br>This class is not thread-safe and should only be used on the main thread, {@link #isBuilt()} returns
+ *     {@code false} elsewhere.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 09:40
+ */
+public class ClaimIndex implements Communicator {
+
+    /**
+     * Handle registry used to convert Factions into the values stored in the index.
+     */
+    private final FactionHandleRegistry handles;
+
+    /**
+     * World name to Claim lookup.
+     */
+    private final HashMap<String, LongIntHashMap> worlds = new HashMap<>();
+
+    /**
+     * The Faction which owns unclaimed land, can be {@code null} if the Provider doesn't have one.
+     */
+    private Faction wilderness = null;
+
+    /**
+     * {@code true} once {@link #build(FactionsAPI)} has completed.
+     */
+    private boolean built = false;
+
+    /**
+     * Constructor to initialise a ClaimIndex.
+     *
+     * @param handles registry to obtain Faction handles from.
+     */
+    public ClaimIndex(@NotNull FactionHandleRegistry handles) {
+        this.handles = handles;
+    }
+
+    /**
+     * Method to (re)build the index from the given API.
+     * <p>
+     *     A Faction which fails to convert is skipped, so that one broken Faction doesn't disable the index.
+     * </p>
+     *
+     * @param api to read the Factions and Claims from.
+     * @return the amount of Claims indexed.
+     */
+    public int build(@NotNull FactionsAPI api) {
+        built = false;
+        worlds.clear();
+        wilderness = null;
+        int claims = 0;
+        for (Faction faction : api.getFactions()) {
+            try {
+                if (faction.isWilderness()) {
+                    wilderness = faction;
+                    continue;
+                }
+                final int handle = handles.register(faction);
+                for (Claim claim : faction.getAllClaims()) {
+                    getWorld(claim.getWorldName()).put(ChunkKey.pack(claim.getX(), claim.getZ()), handle);
+                    claims++;
+                }
+            } catch (Exception ex) {
+                exception(ex, "Failed to index the Claims of a Faction.");
+            }
+        }
+        built = true;
+        return claims;
+    }
+
+    /**
+     * Method to determine if the index has been built and can be used for lookups.
+     * <p>
+     *     The index can only be used from the main thread, so this returns {@code false} elsewhere.
+     * </p>
+     *
+     * @return {@code true} if it can.
+     */
+    public boolean isBuilt() {
+        return built && Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * Method to obtain the handle of the Faction which owns the given chunk.
+     *
+     * @param world name of the chunk.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return handle or {@link FactionHandleRegistry#NO_FACTION} if the land isn't claimed.
+     */
+    public int getHandleAt(@NotNull String world, int x, int z) {
+        final LongIntHashMap claims = worlds.get(world);
+        if (claims == null) return FactionHandleRegistry.NO_FACTION;
+        return claims.get(ChunkKey.pack(x, z));
+    }
+
+    /**
+     * Method to obtain the Faction which owns the given chunk.
+     *
+     * @param world name of the chunk.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return {@link Faction} or the Wilderness Faction ({@code null} if the Provider doesn't have one).
+     */
+    @Nullable
+    public Faction getFactionAt(@NotNull String world, int x, int z) {
+        final Faction faction = handles.getFaction(getHandleAt(world, x, z));
+        return faction == null ? wilderness : faction;
+    }
+
+    /**
+     * Method to obtain the Faction which owns the given chunk.
+     *
+     * @param chunk to look up.
+     * @return {@link Faction} or the Wilderness Faction ({@code null} if the Provider doesn't have one).
+     */
+    @Nullable
+    public Faction getFactionAt(@NotNull Chunk chunk) {
+        return getFactionAt(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Method to obtain the Faction which owns the chunk at the given location.
+     * <p>
+     *     Unlike {@link Location#getChunk()}, this method never loads the chunk.
+     * </p>
+     *
+     * @param location to look up.
+     * @return {@link Faction} or the Wilderness Faction ({@code null} if the Provider doesn't have one).
+     */
+    @Nullable
+    public Faction getFactionAt(@NotNull Location location) {
+        final World world = location.getWorld();
+        if (world == null) return wilderness;
+        return getFactionAt(world.getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Method to obtain the Factions which own the given chunks.
+     *
+     * @param world  name of the chunks.
+     * @param chunks packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @NotNull
+    public Faction[] getFactionsAt(@NotNull String world, long[] chunks) {
+        final Faction[] factions = new Faction[chunks.length];
+        final LongIntHashMap claims = worlds.get(world);
+        for (int i = 0; i < chunks.length; i++) {
+            final Faction faction = claims == null ? null : handles.getFaction(claims.get(chunks[i]));
+            factions[i] = faction == null ? wilderness : faction;
+        }
+        return factions;
+    }
+
+    /**
+     * Method to visit every chunk of the given Faction in the index.
+     * <p>
+     *     This is a full scan of the index, so should be kept off of the hot path.
+     * </p>
+     *
+     * @param faction  to visit the chunks of.
+     * @param consumer to call with the world name and packed chunk of each Claim.
+     */
+    public void forEachClaim(@NotNull Faction faction, @NotNull ObjLongConsumer<String> consumer) {
+        final int handle = handles.getHandle(faction.getId());
+        if (handle == FactionHandleRegistry.NO_FACTION) return;
+        for (Map.Entry<String, LongIntHashMap> world : worlds.entrySet()) {
+            world.getValue().forEach((key, value) -> {
+                if (value == handle) consumer.accept(world.getKey(), key);
+            });
+        }
+    }
+
+    /**
+     * Method to visit every chunk in the index.
+     *
+     * @param visitor to call with the world name, packed chunk and Faction handle of each Claim.
+     */
+    public void forEachClaim(@NotNull ClaimVisitor visitor) {
+        for (Map.Entry<String, LongIntHashMap> world : worlds.entrySet()) {
+            world.getValue().forEach((key, value) -> visitor.accept(world.getKey(), key, value));
+        }
+    }
+
+    /**
+     * Method to obtain the amount of Claims in the index.
+     *
+     * @return total Claims.
+     */
+    public int size() {
+        int size = 0;
+        for (LongIntHashMap claims : worlds.values()) size += claims.size();
+        return size;
+    }
+
+    /**
+     * Method to apply a committed {@link FactionClaimEvent}, storing the new owner of the chunk.
+     * <p>
+     *     A Claim by the Wilderness Faction names the new owner of the chunk rather than the previous one,
+     *     and the events are observed in the order they were called, so it always returns the chunk to the
+     *     Wilderness.
+     * </p>
+     *
+     * @param event which was committed.
+     */
+    public void onClaim(@NotNull FactionClaimEvent event) {
+        if (!built) return;
+        final Claim claim = event.getClaim();
+        final long key = ChunkKey.pack(claim.getX(), claim.getZ());
+        if (event.getFaction().isWilderness()) {
+            final LongIntHashMap claims = worlds.get(claim.getWorldName());
+            if (claims != null) claims.remove(key);
+            return;
+        }
+        getWorld(claim.getWorldName()).put(key, handles.register(event.getFaction()));
+    }
+
+    /**
+     * Method to apply a committed {@link FactionUnclaimEvent}, removing the chunk from the index.
+     * <p>
+     *     The chunk is only removed if it is still owned by the Faction of the event, so an unclaim by the
+     *     previous owner which is observed after an overclaim doesn't remove the land of the new owner.
+     * </p>
+     *
+     * @param event which was committed.
+     */
+    public void onUnclaim(@NotNull FactionUnclaimEvent event) {
+        if (!built) return;
+        final Claim claim = event.getClaim();
+        final LongIntHashMap claims = worlds.get(claim.getWorldName());
+        if (claims == null) return;
+        final long key = ChunkKey.pack(claim.getX(), claim.getZ());
+        final int owner = claims.get(key);
+        if (owner != FactionHandleRegistry.NO_FACTION && owner == handles.getHandle(event.getFaction().getId())) {
+            claims.remove(key);
+        }
+    }
+
+    /**
+     * Method to apply a committed {@link FactionUnclaimAllEvent}, removing every chunk of the Faction from the index.
+     *
+     * @param event which was committed.
+     */
+    public void onUnclaimAll(@NotNull FactionUnclaimAllEvent event) {
+        if (!built) return;
+        removeAll(handles.getHandle(event.getFaction().getId()));
+    }
+
+    /**
+     * Method to apply a committed {@link FactionDisbandEvent}, removing every chunk of the Faction from the index.
+     *
+     * @param event which was committed.
+     */
+    public void onDisband(@NotNull FactionDisbandEvent event) {
+        forget(event.getFaction());
+    }
+
+    /**
+     * Method to remove every chunk of a Faction which was disbanded or deleted.
+     *
+     * @param faction which no longer exists.
+     */
+    public void forget(@NotNull Faction faction) {
+        if (built) removeAll(handles.getHandle(faction.getId()));
+    }
+
+    /**
+     * Method to remove every chunk owned by the given handle.
+     *
+     * @param handle of the Faction.
+     */
+    private void removeAll(int handle) {
+        if (handle == FactionHandleRegistry.NO_FACTION) return;
+        for (LongIntHashMap claims : worlds.values()) claims.removeValue(handle);
+    }
+
+    /**
+     * Method to obtain (or create) the claims of the given world.
+     *
+     * @param world name of the world.
+     * @return {@link LongIntHashMap} of the world.
+     */
+    @NotNull
+    private LongIntHashMap getWorld(@NotNull String world) {
+        return worlds.computeIfAbsent(world, name -> new LongIntHashMap(FactionHandleRegistry.NO_FACTION));
+    }
+
+    /**
+     * The ClaimVisitor is a primitive callback used by {@link #forEachClaim(ClaimVisitor)}.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 21:35
+     */
+    @FunctionalInterface
+    public interface ClaimVisitor {
+
+        /**
+         * Method to accept a Claim.
+         *
+         * @param world  name of the World.
+         * @param chunk  packed using {@link ChunkKey#pack(int, int)}.
+         * @param handle of the Faction which owns the chunk.
+         */
+        void accept(@NotNull String world, long chunk, int handle);
+
+    }
+
+}
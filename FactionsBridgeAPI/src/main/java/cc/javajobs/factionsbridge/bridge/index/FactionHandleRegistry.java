@@ -0,0 +1,174 @@
+package cc.javajobs.factionsbridge.bridge.index;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The FactionHandleRegistry assigns each known Faction a small integer 'handle'.
+ * <p>
+ *     Handles allow the bridge-owned indices to store Factions in primitive collections and arrays
+ *     instead of keeping String ids or wrapper objects around.
+ *     <br>Handles start at {@code 1}; {@link #NO_FACTION} ({@code 0}) is reserved for 'no Faction'.
+ *     Handles released by a disbanded Faction are re-used so that the handle space stays dense.
+ * </p>
+ * <p>
+ *     This class is not thread-safe and should only be used on the main thread.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 09:25
+ */
+public class FactionHandleRegistry {
+
+    /**
+     * The handle which represents 'no Faction'.
+     */
+    public static final int NO_FACTION = 0;
+
+    /**
+     * Faction id to handle lookup.
+     */
+    private final HashMap<String, Integer> handles = new HashMap<>();
+
+    /**
+     * Handle to Faction lookup, index {@link #NO_FACTION} is always {@code null}.
+     */
+    private Faction[] factions = new Faction[64];
+
+    /**
+     * Handles which have been released and can be re-used.
+     */
+    private int[] released = new int[16];
+
+    /**
+     * Amount of entries in {@link #released}.
+     */
+    private int releasedCount = 0;
+
+    /**
+     * The next never-used handle.
+     */
+    private int next = 1;
+
+    /**
+     * Method to obtain the handle for the given Faction, assigning one if it hasn't been seen before.
+     * <p>
+     *     If the Faction is already known, the stored Faction is replaced with the given one.
+     * </p>
+     *
+     * @param faction to obtain a handle for.
+     * @return handle of the Faction.
+     */
+    public int register(@NotNull Faction faction) {
+        final String id = faction.getId();
+        final Integer existing = handles.get(id);
+        if (existing != null) {
+            factions[existing] = faction;
+            return existing;
+        }
+        final int handle = releasedCount != 0 ? released[--releasedCount] : next++;
+        if (handle >= factions.length) factions = Arrays.copyOf(factions, Math.max(handle + 1, factions.length << 1));
+        factions[handle] = faction;
+        handles.put(id, handle);
+        return handle;
+    }
+
+    /**
+     * Method to obtain the handle for the given Faction, assigning one if it hasn't been seen before.
+     * <p>
+     *     Unlike {@link #register(Faction)}, the handle cached by an {@link AbstractFaction} is used if it is
+     *     still valid, so the Id of the Faction isn't looked up.
+     *     <br>A Faction wrapped by {@link Instrumentation} is unwrapped first, so it shares the handle of the
+     *     Faction it wraps.
+     * </p>
+     *
+     * @param faction to obtain a handle for.
+     * @return handle of the Faction.
+     */
+    public int handleOf(@NotNull Faction faction) {
+        faction = Instrumentation.unwrap(faction);
+        if (!(faction instanceof AbstractFaction)) return register(faction);
+        final AbstractFaction<?> abstractFaction = (AbstractFaction<?>) faction;
+        final int cached = abstractFaction.getHandle();
+        if (cached > NO_FACTION && cached < factions.length && factions[cached] == faction) return cached;
+        final int handle = register(faction);
+        abstractFaction.setHandle(handle);
+        return handle;
+    }
+
+    /**
+     * Method to obtain the handle for the given Faction id.
+     *
+     * @param id of the Faction.
+     * @return handle or {@link #NO_FACTION} if the Faction isn't known.
+     */
+    public int getHandle(@NotNull String id) {
+        final Integer handle = handles.get(id);
+        return handle == null ? NO_FACTION : handle;
+    }
+
+    /**
+     * Method to obtain the Faction linked to the given handle.
+     *
+     * @param handle of the Faction.
+     * @return {@link Faction} or {@code null} if the handle isn't in use.
+     */
+    @Nullable
+    public Faction getFaction(int handle) {
+        if (handle <= NO_FACTION || handle >= factions.length) return null;
+        return factions[handle];
+    }
+
+    /**
+     * Method to release the handle of the given Faction id, allowing it to be re-used.
+     *
+     * @param id of the Faction which no longer exists.
+     * @return the released handle or {@link #NO_FACTION} if the Faction wasn't known.
+     */
+    public int release(@NotNull String id) {
+        final Integer handle = handles.remove(id);
+        if (handle == null) return NO_FACTION;
+        factions[handle] = null;
+        if (releasedCount == released.length) released = Arrays.copyOf(released, releasedCount << 1);
+        released[releasedCount++] = handle;
+        return handle;
+    }
+
+    /**
+     * Method to obtain the amount of Factions with a handle.
+     *
+     * @return amount of registered Factions.
+     */
+    public int size() {
+        return handles.size();
+    }
+
+    /**
+     * Method to obtain one more than the highest handle ever assigned.
+     * <p>
+     *     This is useful to size arrays which are indexed by handle.
+     * </p>
+     *
+     * @return handle capacity.
+     */
+    public int getCapacity() {
+        return next;
+    }
+
+    /**
+     * Method to remove every handle from the registry.
+     */
+    public void clear() {
+        handles.clear();
+        Arrays.fill(factions, null);
+        releasedCount = 0;
+        next = 1;
+    }
+
+}
@@ -0,0 +1,285 @@
+package cc.javajobs.factionsbridge.bridge.index;
+
+import cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The FactionNameIndex is a bridge-owned, case-insensitive lookup of every Faction by name.
+ * <p>
+ *     Names are normalised to lower case and mapped to the {@link FactionHandleRegistry handle} of the Faction,
+ *     so a lookup is a single hash lookup no matter how the Provider stores its Factions.
+ *     <br>The index is built once from {@link FactionsAPI#getFactions()} and is then kept current using the
+ *     {@link FactionCreateEvent}, {@link FactionRenameEvent} and {@link FactionDisbandEvent} bridge events,
+ *     which are observed once committed (see {@link EventDispatcher}).
+ * </p>
+ * <p>
+ *     A name which isn't in the index is looked up through the Provider, and added to the index if found, so
+ *     Factions created or renamed without an event (through the API of the Provider for example), or before
+ *     their committed event is observed on the next tick, are never missed.
+ *     <br>Factions created through the {@link FactionsAPI} are added using {@link #add(Faction)}.
+ *     <br>If the Provider doesn't call an event for every name change (see
+ *     {@link FactionsAPI#supportsFactionEvents()}), a name which is in the index is checked against the current
+ *     name of its Faction, so a rename without an event isn't answered with the old name.
+ *     <br>This class is not thread-safe and should only be used on the main thread, {@link #isBuilt()} returns
+ *     {@code false} elsewhere.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 15:30
+ */
+public class FactionNameIndex implements Communicator {
+
+    /**
+     * Handle registry used to convert Factions into the values stored in the index.
+     */
+    private final FactionHandleRegistry handles;
+
+    /**
+     * Normalised name to handle lookup.
+     */
+    private final HashMap<String, Integer> byName = new HashMap<>();
+
+    /**
+     * Normalised name to display name lookup, sorted for prefix completion.
+     */
+    private final TreeMap<String, String> sorted = new TreeMap<>();
+
+    /**
+     * Handle to normalised name lookup, used to remove the old name of a Faction.
+     */
+    private String[] names = new String[64];
+
+    /**
+     * {@code true} once {@link #build(FactionsAPI)} has completed.
+     */
+    private boolean built = false;
+
+    /**
+     * {@code true} if the Provider calls an event for every name change, so the indexed names are current.
+     */
+    private boolean current = false;
+
+    /**
+     * Constructor to initialise a FactionNameIndex.
+     *
+     * @param handles registry to obtain Faction handles from.
+     */
+    public FactionNameIndex(@NotNull FactionHandleRegistry handles) {
+        this.handles = handles;
+    }
+
+    /**
+     * Method to (re)build the index from the given API.
+     * <p>
+     *     A Faction which fails to convert is skipped, so that one broken Faction doesn't disable the index.
+     * </p>
+     *
+     * @param api to read the Factions from.
+     * @return the amount of names indexed.
+     */
+    public int build(@NotNull FactionsAPI api) {
+        built = false;
+        current = api.supportsFactionEvents();
+        byName.clear();
+        sorted.clear();
+        Arrays.fill(names, null);
+        for (Faction faction : api.getFactions()) {
+            try {
+                put(faction, faction.getName());
+            } catch (Exception ex) {
+                exception(ex, "Failed to index the name of a Faction.");
+            }
+        }
+        built = true;
+        return byName.size();
+    }
+
+    /**
+     * Method to determine if the index has been built and can be used for lookups.
+     * <p>
+     *     The index can only be used from the main thread, so this returns {@code false} elsewhere.
+     * </p>
+     *
+     * @return {@code true} if it can.
+     */
+    public boolean isBuilt() {
+        return built && Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * Method to normalise a Faction name for the index.
+     *
+     * @param name to normalise.
+     * @return lower case name.
+     */
+    @NotNull
+    public static String normalise(@NotNull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Method to obtain a Faction by name, ignoring case.
+     *
+     * @param api  to fall back to if the name isn't indexed.
+     * @param name of the Faction.
+     * @return {@link Faction} or {@code null} if no Faction has the name.
+     */
+    @Nullable
+    public Faction getFaction(@NotNull FactionsAPI api, @NotNull String name) {
+        final String normalised = normalise(name);
+        final Integer handle = byName.get(normalised);
+        if (handle != null) {
+            final Faction faction = handles.getFaction(handle);
+            if (faction != null && (current || normalise(faction.getName()).equals(normalised))) return faction;
+            if (faction != null && built) put(faction, faction.getName());
+        }
+        final Faction faction = api.getFactionByTag(name);
+        if (faction != null && built) put(faction, faction.getName());
+        return faction;
+    }
+
+    /**
+     * Method to determine if a name is in the index, ignoring case.
+     * <p>
+     *     Unlike {@link #getFaction(FactionsAPI, String)}, this never falls back to the Provider.
+     * </p>
+     *
+     * @param name to test.
+     * @return {@code true} if a Faction with the name is indexed.
+     */
+    public boolean contains(@NotNull String name) {
+        return byName.containsKey(normalise(name));
+    }
+
+    /**
+     * Method to obtain the names of the Factions which start with the given prefix, ignoring case.
+     * <p>
+     *     This is intended for command tab-completion, the names are returned in alphabetical order.
+     * </p>
+     *
+     * @param prefix to complete.
+     * @param limit  maximum amount of names to return.
+     * @return List of Faction names, as the Provider displays them.
+     */
+    @NotNull
+    public List<String> complete(@NotNull String prefix, int limit) {
+        final List<String> completions = new ArrayList<>(Math.min(limit, 16));
+        final String from = normalise(prefix);
+        for (Map.Entry<String, String> entry : sorted.tailMap(from, true).entrySet()) {
+            if (completions.size() == limit || !entry.getKey().startsWith(from)) break;
+            completions.add(entry.getValue());
+        }
+        return completions;
+    }
+
+    /**
+     * Method to obtain the amount of names in the index.
+     *
+     * @return total names.
+     */
+    public int size() {
+        return byName.size();
+    }
+
+    /**
+     * Method to add a Faction created without an event, through the {@link FactionsAPI} for example.
+     *
+     * @param faction which was created.
+     */
+    public void add(@NotNull Faction faction) {
+        if (built) put(faction, faction.getName());
+    }
+
+    /**
+     * Method to apply a committed {@link FactionCreateEvent}, adding the name of the new Faction.
+     *
+     * @param event which was committed.
+     */
+    public void onCreate(@NotNull FactionCreateEvent event) {
+        if (built) put(event.getFaction(), event.getTag());
+    }
+
+    /**
+     * Method to apply a committed {@link FactionRenameEvent}, replacing the name of the Faction.
+     *
+     * @param event which was committed.
+     */
+    public void onRename(@NotNull FactionRenameEvent event) {
+        if (built) put(event.getFaction(), event.getName());
+    }
+
+    /**
+     * Method to apply a committed {@link FactionDisbandEvent}, removing the name of the Faction.
+     *
+     * @param event which was committed.
+     */
+    public void onDisband(@NotNull FactionDisbandEvent event) {
+        forget(event.getFaction());
+    }
+
+    /**
+     * Method to remove the name of a Faction which was disbanded or deleted.
+     *
+     * @param faction which no longer exists.
+     */
+    public void forget(@NotNull Faction faction) {
+        if (!built) return;
+        int handle = handles.getHandle(faction.getId());
+        if (handle == FactionHandleRegistry.NO_FACTION) {
+            final Integer named = byName.get(normalise(faction.getName()));
+            if (named == null) return;
+            handle = named;
+        }
+        remove(handle);
+    }
+
+    /**
+     * Method to index the given name of a Faction, replacing any previous name of the Faction.
+     *
+     * @param faction to index.
+     * @param name    of the Faction.
+     */
+    private void put(@NotNull Faction faction, @NotNull String name) {
+        final int handle = handles.handleOf(faction);
+        remove(handle);
+        final String normalised = normalise(name);
+        byName.put(normalised, handle);
+        sorted.put(normalised, name);
+        if (handle >= names.length) names = Arrays.copyOf(names, Math.max(handle + 1, names.length << 1));
+        names[handle] = normalised;
+    }
+
+    /**
+     * Method to remove the name of the given handle.
+     *
+     * @param handle of the Faction.
+     */
+    private void remove(int handle) {
+        if (handle <= FactionHandleRegistry.NO_FACTION || handle >= names.length) return;
+        final String normalised = names[handle];
+        if (normalised == null) return;
+        names[handle] = null;
+        final Integer current = byName.get(normalised);
+        if (current != null && current == handle) {
+            byName.remove(normalised);
+            sorted.remove(normalised);
+        }
+    }
+
+}
@@ -0,0 +1,352 @@
+package cc.javajobs.factionsbridge.bridge.index;
+
+import java.util.Arrays;
+
+/**
+ * The LongIntHashMap class is a primitive, open-addressing map from {@code long} keys to {@code int} values.
+ * <p>
+ *     Unlike {@link java.util.HashMap}, neither the keys nor the values are boxed, so {@link #get(long)},
+ *     {@link #put(long, int)} and {@link #remove(long)} allocate nothing once the table has been sized.
+ *     <br>Collisions are resolved with linear probing and removals use backward-shift deletion,
+ *     so there are no tombstones to clean up.
+ * </p>
+ * <p>
+ *     This class is not thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 09:12
+ */
+public class LongIntHashMap {
+
+    /**
+     * The key used to mark an empty slot in the table.
+     * <p>
+     *     A real entry with this key is stored outside of the table, see {@link #hasFreeKey}.
+     * </p>
+     */
+    private static final long FREE_KEY = 0L;
+
+    /**
+     * The maximum ratio of entries to slots before the table is doubled.
+     */
+    private static final float LOAD_FACTOR = 0.6f;
+
+    /**
+     * The value returned when a key isn't present.
+     */
+    private final int missingValue;
+
+    /**
+     * Keys stored in the table.
+     */
+    private long[] keys;
+
+    /**
+     * Values stored in the table, indexed the same as {@link #keys}.
+     */
+    private int[] values;
+
+    /**
+     * {@code true} if an entry exists for {@link #FREE_KEY}.
+     */
+    private boolean hasFreeKey;
+
+    /**
+     * The value linked to {@link #FREE_KEY}, only valid when {@link #hasFreeKey} is {@code true}.
+     */
+    private int freeValue;
+
+    /**
+     * The number of entries stored in the table (excluding {@link #FREE_KEY}).
+     */
+    private int size;
+
+    /**
+     * The number of entries the table can hold before it has to grow.
+     */
+    private int threshold;
+
+    /**
+     * Constructor to initialise a LongIntHashMap with the default capacity.
+     *
+     * @param missingValue returned by {@link #get(long)} when a key isn't present.
+     */
+    public LongIntHashMap(int missingValue) {
+        this(16, missingValue);
+    }
+
+    /**
+     * Constructor to initialise a LongIntHashMap which can hold the given amount of entries without resizing.
+     *
+     * @param expected     amount of entries.
+     * @param missingValue returned by {@link #get(long)} when a key isn't present.
+     */
+    public LongIntHashMap(int expected, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(tableSizeFor(expected));
+    }
+
+    /**
+     * Method to obtain the value linked to the given key.
+     *
+     * @param key to look up.
+     * @return value or the configured missing value.
+     */
+    public int get(long key) {
+        if (key == FREE_KEY) return hasFreeKey ? freeValue : missingValue;
+        final int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    /**
+     * Method to determine if the given key has a value.
+     *
+     * @param key to test.
+     * @return {@code true} if it does.
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE_KEY) return hasFreeKey;
+        final int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Method to link a value to the given key.
+     *
+     * @param key   to store.
+     * @param value to store.
+     * @return the previous value or the configured missing value.
+     */
+    public int put(long key, int value) {
+        if (key == FREE_KEY) {
+            final int previous = hasFreeKey ? freeValue : missingValue;
+            hasFreeKey = true;
+            freeValue = value;
+            return previous;
+        }
+        final int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) {
+                final int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= threshold) rehash(keys.length << 1);
+        return missingValue;
+    }
+
+    /**
+     * Method to remove the value linked to the given key.
+     *
+     * @param key to remove.
+     * @return the removed value or the configured missing value.
+     */
+    public int remove(long key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) return missingValue;
+            hasFreeKey = false;
+            return freeValue;
+        }
+        final int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) {
+                final int previous = values[slot];
+                shiftKeys(slot);
+                size--;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    /**
+     * Method to remove every entry which has the given value.
+     * <p>
+     *     This is a full scan of the table, so should be kept off of the hot path.
+     * </p>
+     *
+     * @param value to remove.
+     * @return the amount of entries removed.
+     */
+    public int removeValue(int value) {
+        int removed = 0;
+        if (hasFreeKey && freeValue == value) {
+            hasFreeKey = false;
+            removed++;
+        }
+        int slot = 0;
+        while (slot < keys.length) {
+            if (keys[slot] != FREE_KEY && values[slot] == value) {
+                shiftKeys(slot);
+                size--;
+                removed++;
+                // A different entry may have been shifted into this slot, so test it again.
+                continue;
+            }
+            slot++;
+        }
+        return removed;
+    }
+
+    /**
+     * Method to obtain the amount of entries in the map.
+     *
+     * @return size of the map.
+     */
+    public int size() {
+        return hasFreeKey ? size + 1 : size;
+    }
+
+    /**
+     * Method to determine if the map is empty.
+     *
+     * @return {@code true} if it is.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Method to remove every entry from the map.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        hasFreeKey = false;
+        size = 0;
+    }
+
+    /**
+     * Method to visit every entry in the map without allocating an iterator.
+     *
+     * @param consumer to call for each entry.
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (hasFreeKey) consumer.accept(FREE_KEY, freeValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) consumer.accept(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Method to remove the entry at the given slot and shift the following run of entries back into place.
+     *
+     * @param slot to clear.
+     */
+    private void shiftKeys(int slot) {
+        final int mask = keys.length - 1;
+        int last;
+        long key;
+        while (true) {
+            last = slot;
+            slot = (slot + 1) & mask;
+            while (true) {
+                if ((key = keys[slot]) == FREE_KEY) {
+                    keys[last] = FREE_KEY;
+                    return;
+                }
+                final int ideal = mix(key) & mask;
+                // Only move the entry if its ideal slot doesn't sit between 'last' and 'slot' (cyclically).
+                if (last <= slot ? last >= ideal || ideal > slot : last >= ideal && ideal > slot) break;
+                slot = (slot + 1) & mask;
+            }
+            keys[last] = key;
+            values[last] = values[slot];
+        }
+    }
+
+    /**
+     * Method to grow the table to the given capacity, re-inserting every entry.
+     *
+     * @param capacity of the new table, must be a power of two.
+     */
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long key = oldKeys[i];
+            if (key == FREE_KEY) continue;
+            int slot = mix(key) & mask;
+            while (keys[slot] != FREE_KEY) slot = (slot + 1) & mask;
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Method to allocate a fresh table of the given capacity.
+     *
+     * @param capacity of the table, must be a power of two.
+     */
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.threshold = Math.max(1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    /**
+     * Method to obtain the smallest power of two table which can hold the expected amount of entries.
+     *
+     * @param expected amount of entries.
+     * @return table size.
+     */
+    private static int tableSizeFor(int expected) {
+        final long needed = (long) Math.ceil(Math.max(expected, 2) / LOAD_FACTOR);
+        if (needed >= (1 << 30)) return 1 << 30;
+        return Math.max(4, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    /**
+     * Method to spread the bits of a key so that neighbouring chunks don't cluster in the table.
+     *
+     * @param key to mix.
+     * @return hashed key.
+     */
+    private static int mix(long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * The EntryConsumer is a primitive callback used by {@link #forEach(EntryConsumer)}.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 09:12
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * Method to accept an entry.
+         *
+         * @param key   of the entry.
+         * @param value of the entry.
+         */
+        void accept(long key, int value);
+
+    }
+
+}
@@ -0,0 +1,417 @@
+package cc.javajobs.factionsbridge.bridge.index;
+
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRoleChangeEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * The MembershipIndex is a bridge-owned copy of the Members of every Faction.
+ * <p>
+ *     The Members of each Faction are stored by {@link FactionHandleRegistry handle} as UUIDs, partitioned into
+ *     online and offline Members, so that online Members can be listed without wrapping (or resolving through
+ *     {@link Bukkit#getOfflinePlayer(UUID)}) every Member of the Faction.
+ *     <br>The index is built once from {@link FactionsAPI#getFactions()} and is then kept current using the
+ *     {@link PlayerJoinEvent}, {@link PlayerQuitEvent} and the {@link FactionJoinEvent}, {@link FactionLeaveEvent}
+ *     and {@link FactionDisbandEvent} bridge events, which are observed once committed (see {@link EventDispatcher}).
+ * </p>
+ * <p>
+ *     If the Provider calls the {@link FactionRoleChangeEvent} (see {@link FactionsAPI#supportsRoleEvents()}),
+ *     the {@link Role} partition of a Faction is read from the Provider when it is first requested and then kept
+ *     until a Member joins, leaves or changes Role.
+ *     <br>Otherwise the index doesn't hold Roles, as a change could never be observed.
+ *     <br>This class is not thread-safe and should only be used on the main thread.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 15:55
+ */
+public class MembershipIndex implements Listener, Communicator {
+
+    /**
+     * Handle registry used to convert Factions into the index.
+     */
+    private final FactionHandleRegistry handles;
+
+    /**
+     * The API to read the Roles of the Members from.
+     */
+    private final Supplier<FactionsAPI> api;
+
+    /**
+     * Member UUID to handle lookup.
+     */
+    private final HashMap<UUID, Integer> players = new HashMap<>();
+
+    /**
+     * Handle to Members lookup, index {@link FactionHandleRegistry#NO_FACTION} is always {@code null}.
+     */
+    private Members[] factions = new Members[64];
+
+    /**
+     * {@code true} once {@link #build(FactionsAPI)} has completed.
+     */
+    private boolean built = false;
+
+    /**
+     * {@code true} if the Provider calls the {@link FactionRoleChangeEvent}, so the Roles can be kept.
+     */
+    private boolean roles = false;
+
+    /**
+     * Constructor to initialise a MembershipIndex.
+     *
+     * @param handles registry to obtain Faction handles from.
+     * @param api     supplier of the API to read the Roles of the Members from.
+     */
+    public MembershipIndex(@NotNull FactionHandleRegistry handles, @NotNull Supplier<FactionsAPI> api) {
+        this.handles = handles;
+        this.api = api;
+    }
+
+    /**
+     * Method to (re)build the index from the given API.
+     * <p>
+     *     A Faction which fails to convert is skipped, so that one broken Faction doesn't disable the index.
+     * </p>
+     *
+     * @param api to read the Factions and Members from.
+     * @return the amount of Members indexed.
+     */
+    public int build(@NotNull FactionsAPI api) {
+        built = false;
+        roles = api.supportsRoleEvents();
+        players.clear();
+        Arrays.fill(factions, null);
+        final Set<UUID> online = new HashSet<>();
+        for (Player player : Bukkit.getOnlinePlayers()) online.add(player.getUniqueId());
+        for (Faction faction : api.getFactions()) {
+            try {
+                if (faction.isServerFaction()) continue;
+                final int handle = handles.register(faction);
+                faction.forEachMember(member -> {
+                    final UUID uuid = member.getUniqueId();
+                    add(handle, uuid, online.contains(uuid));
+                });
+            } catch (Exception ex) {
+                exception(ex, "Failed to index the Members of a Faction.");
+            }
+        }
+        built = true;
+        return players.size();
+    }
+
+    /**
+     * Method to determine if the index has been built and can be used for lookups.
+     * <p>
+     *     The index can only be used from the main thread, so this returns {@code false} elsewhere.
+     * </p>
+     *
+     * @return {@code true} if it can.
+     */
+    public boolean isBuilt() {
+        return built && Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * Method to determine if the index holds the Roles of the Members.
+     *
+     * @return {@code true} if {@link #getMembersByRole(Faction, Role)} can be used.
+     */
+    public boolean hasRoles() {
+        return roles && isBuilt();
+    }
+
+    /**
+     * Method to obtain the UUIDs of the online Members of the given Faction.
+     *
+     * @param faction to get the Members of.
+     * @return Set of UUIDs, a copy which can be modified.
+     */
+    @NotNull
+    public Set<UUID> getOnlineMemberIds(@NotNull Faction faction) {
+        final Members members = getMembers(faction);
+        return members == null ? new HashSet<>() : new LinkedHashSet<>(members.online);
+    }
+
+    /**
+     * Method to obtain the UUIDs of the offline Members of the given Faction.
+     *
+     * @param faction to get the Members of.
+     * @return Set of UUIDs, a copy which can be modified.
+     */
+    @NotNull
+    public Set<UUID> getOfflineMemberIds(@NotNull Faction faction) {
+        final Members members = getMembers(faction);
+        return members == null ? new HashSet<>() : new LinkedHashSet<>(members.offline);
+    }
+
+    /**
+     * Method to obtain the amount of online Members of the given Faction.
+     *
+     * @param faction to count the Members of.
+     * @return amount of online Members.
+     */
+    public int getOnlineMemberCount(@NotNull Faction faction) {
+        final Members members = getMembers(faction);
+        return members == null ? 0 : members.online.size();
+    }
+
+    /**
+     * Method to obtain the UUIDs of the Members of the given Faction with the given Role.
+     * <p>
+     *     Use {@link #hasRoles()} before relying on this method.
+     * </p>
+     *
+     * @param faction to get the Members of.
+     * @param role    of the Members.
+     * @return Set of UUIDs, a copy which can be modified.
+     */
+    @NotNull
+    public Set<UUID> getMembersByRole(@NotNull Faction faction, @NotNull Role role) {
+        final Members members = getMembers(faction);
+        if (members == null) return new HashSet<>();
+        final Set<UUID> withRole = getRoles(members).get(role);
+        return withRole == null ? new HashSet<>() : new LinkedHashSet<>(withRole);
+    }
+
+    /**
+     * Method to obtain the handle of the Faction the given player is a Member of.
+     *
+     * @param uuid of the player.
+     * @return handle or {@link FactionHandleRegistry#NO_FACTION} if the player isn't in a Faction.
+     */
+    public int getHandle(@NotNull UUID uuid) {
+        final Integer handle = players.get(uuid);
+        return handle == null ? FactionHandleRegistry.NO_FACTION : handle;
+    }
+
+    /**
+     * Method to obtain the amount of Members in the index.
+     *
+     * @return total Members.
+     */
+    public int size() {
+        return players.size();
+    }
+
+    /**
+     * Listener for the {@link PlayerJoinEvent}, moving the player to the online Members of their Faction.
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(@NotNull PlayerJoinEvent event) {
+        if (built) setOnline(event.getPlayer().getUniqueId(), true);
+    }
+
+    /**
+     * Listener for the {@link PlayerQuitEvent}, moving the player to the offline Members of their Faction.
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
+        if (built) setOnline(event.getPlayer().getUniqueId(), false);
+    }
+
+    /**
+     * Method to apply a committed {@link FactionJoinEvent}, adding the player to the Members of the Faction.
+     *
+     * @param event which was committed.
+     */
+    public void onJoin(@NotNull FactionJoinEvent event) {
+        if (!built) return;
+        final FPlayer fPlayer = event.getFPlayer();
+        add(handles.handleOf(event.getFaction()), fPlayer.getUniqueId(), fPlayer.isOnline());
+    }
+
+    /**
+     * Method to apply a committed {@link FactionLeaveEvent}, removing the player from the Members of the Faction.
+     *
+     * @param event which was committed.
+     */
+    public void onLeave(@NotNull FactionLeaveEvent event) {
+        if (built) remove(event.getFPlayer().getUniqueId());
+    }
+
+    /**
+     * Method to apply a committed {@link FactionRoleChangeEvent}, forgetting the Roles of the Faction.
+     *
+     * @param event which was committed.
+     */
+    public void onRoleChange(@NotNull FactionRoleChangeEvent event) {
+        if (!built) return;
+        final Integer handle = players.get(event.getFPlayer().getUniqueId());
+        if (handle == null || handle >= factions.length) return;
+        final Members members = factions[handle];
+        if (members != null) members.roles = null;
+    }
+
+    /**
+     * Method to apply a committed {@link FactionDisbandEvent}, removing every Member of the Faction.
+     *
+     * @param event which was committed.
+     */
+    public void onDisband(@NotNull FactionDisbandEvent event) {
+        forget(event.getFaction());
+    }
+
+    /**
+     * Method to remove every Member of a Faction which was disbanded or deleted.
+     *
+     * @param faction which no longer exists.
+     */
+    public void forget(@NotNull Faction faction) {
+        if (!built) return;
+        final int handle = handles.getHandle(faction.getId());
+        if (handle <= FactionHandleRegistry.NO_FACTION || handle >= factions.length) return;
+        final Members members = factions[handle];
+        if (members == null) return;
+        for (UUID uuid : members.online) players.remove(uuid);
+        for (UUID uuid : members.offline) players.remove(uuid);
+        factions[handle] = null;
+    }
+
+    /**
+     * Method to obtain the Members of the given Faction.
+     *
+     * @param faction to get the Members of.
+     * @return {@link Members} or {@code null} if the Faction has no indexed Members.
+     */
+    @Nullable
+    private Members getMembers(@NotNull Faction faction) {
+        final int handle = handles.handleOf(faction);
+        return handle < factions.length ? factions[handle] : null;
+    }
+
+    /**
+     * Method to obtain the Role partition of the given Members, reading it from the Provider if it isn't known.
+     *
+     * @param members to partition.
+     * @return Role to UUIDs lookup.
+     */
+    @NotNull
+    private Map<Role, Set<UUID>> getRoles(@NotNull Members members) {
+        if (members.roles != null) return members.roles;
+        final Map<Role, Set<UUID>> roles = new EnumMap<>(Role.class);
+        final Set<UUID> all = new LinkedHashSet<>(members.online);
+        all.addAll(members.offline);
+        for (Map.Entry<UUID, FPlayer> entry : api.get().getFPlayers(all).entrySet()) {
+            Role role;
+            try {
+                role = entry.getValue().getRole();
+            } catch (Exception ex) {
+                role = Role.DEFAULT_ROLE;
+            }
+            roles.computeIfAbsent(role, key -> new LinkedHashSet<>()).add(entry.getKey());
+        }
+        members.roles = Collections.unmodifiableMap(roles);
+        return members.roles;
+    }
+
+    /**
+     * Method to add a player to the Members of the given handle, removing them from any previous Faction.
+     *
+     * @param handle of the Faction.
+     * @param uuid   of the player.
+     * @param online {@code true} if the player is online.
+     */
+    private void add(int handle, @NotNull UUID uuid, boolean online) {
+        if (handle <= FactionHandleRegistry.NO_FACTION) return;
+        remove(uuid);
+        if (handle >= factions.length) factions = Arrays.copyOf(factions, Math.max(handle + 1, factions.length << 1));
+        Members members = factions[handle];
+        if (members == null) members = factions[handle] = new Members();
+        (online ? members.online : members.offline).add(uuid);
+        members.roles = null;
+        players.put(uuid, handle);
+    }
+
+    /**
+     * Method to remove a player from the Members of their Faction.
+     *
+     * @param uuid of the player.
+     */
+    private void remove(@NotNull UUID uuid) {
+        final Integer handle = players.remove(uuid);
+        if (handle == null || handle >= factions.length) return;
+        final Members members = factions[handle];
+        if (members == null) return;
+        members.online.remove(uuid);
+        members.offline.remove(uuid);
+        members.roles = null;
+    }
+
+    /**
+     * Method to move a player between the online and offline Members of their Faction.
+     *
+     * @param uuid   of the player.
+     * @param online {@code true} if the player is now online.
+     */
+    private void setOnline(@NotNull UUID uuid, boolean online) {
+        final Integer handle = players.get(uuid);
+        if (handle == null || handle >= factions.length) return;
+        final Members members = factions[handle];
+        if (members == null) return;
+        if (online) {
+            members.offline.remove(uuid);
+            members.online.add(uuid);
+        } else {
+            members.online.remove(uuid);
+            members.offline.add(uuid);
+        }
+    }
+
+    /**
+     * The Members class stores the Members of one Faction.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 15:55
+     */
+    private static final class Members {
+
+        /**
+         * UUIDs of the online Members.
+         */
+        private final Set<UUID> online = new LinkedHashSet<>();
+
+        /**
+         * UUIDs of the offline Members.
+         */
+        private final Set<UUID> offline = new LinkedHashSet<>();
+
+        /**
+         * Role to UUIDs lookup, {@code null} until requested or after the Members or their Roles change.
+         */
+        private Map<Role, Set<UUID>> roles = null;
+
+    }
+
+}
@@ -0,0 +1,316 @@
+package cc.javajobs.factionsbridge.bridge.index;
+
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent;
+import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The RelationshipCache remembers the Relationship between each pair of Factions.
+ * <p>
+ *     Pairs are keyed by {@link FactionHandleRegistry handle}, so a cached lookup is a single array read.
+ *     <br>Up to {@link #DENSE_LIMIT} handles, the cache is a dense {@code byte} matrix; beyond that it
+ *     switches to a sparse {@link LongIntHashMap} so memory grows with the pairs actually looked up.
+ * </p>
+ * <p>
+ *     The pairs of a Faction are invalidated whenever a relation, join, leave or disband event is committed for it
+ *     (see {@link EventDispatcher}).
+ *     <br>If the Provider doesn't call the {@link FactionRelationshipEvent}, there is no way to observe relation
+ *     changes, so the cache is never enabled and every lookup asks the Provider.
+ * </p>
+ * <p>
+ *     Lookups made off the main thread bypass the cache.
+ *     <br>This class is not thread-safe and should only be used on the main thread.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 14:45
+ */
+public class RelationshipCache {
+
+    /**
+     * The highest handle count which uses the dense matrix (4 MiB at most).
+     */
+    public static final int DENSE_LIMIT = 2048;
+
+    /**
+     * {@link Relationship} values by ordinal, stored as {@code ordinal + 1} so that {@code 0} means 'unknown'.
+     */
+    private static final Relationship[] RELATIONSHIPS = Relationship.values();
+
+    /**
+     * Handle registry used to convert Factions into matrix indices.
+     */
+    private final FactionHandleRegistry handles;
+
+    /**
+     * Dense matrix of {@code ordinal + 1}, indexed by {@code handle * side + other}, {@code null} once sparse.
+     */
+    private byte[] matrix = new byte[0];
+
+    /**
+     * The side length of the dense matrix.
+     */
+    private int side = 0;
+
+    /**
+     * Sparse map of packed pairs to {@code ordinal + 1}, {@code null} while dense.
+     */
+    private LongIntHashMap sparse = null;
+
+    /**
+     * {@code true} once the cache is in use.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Constructor to initialise a RelationshipCache.
+     *
+     * @param handles registry to obtain Faction handles from.
+     */
+    public RelationshipCache(@NotNull FactionHandleRegistry handles) {
+        this.handles = handles;
+    }
+
+    /**
+     * Method to start using the cache.
+     * <p>
+     *     The cache stays disabled if the Provider doesn't call the {@link FactionRelationshipEvent}, as a cached
+     *     Relationship could never be invalidated.
+     * </p>
+     *
+     * @param observed {@code true} if the Provider calls the {@link FactionRelationshipEvent}.
+     */
+    public void enable(boolean observed) {
+        clear();
+        this.enabled = observed;
+    }
+
+    /**
+     * Method to determine if the cache is in use.
+     *
+     * @return {@code true} if it is.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Method to obtain the Relationship between two Factions, asking the Provider if it isn't cached.
+     *
+     * @param faction to get the Relationship of.
+     * @param other   to get the Relationship to.
+     * @return {@link Relationship} enumeration.
+     */
+    @NotNull
+    public Relationship getRelationship(@NotNull Faction faction, @NotNull Faction other) {
+        if (!enabled || !Bukkit.isPrimaryThread()) return faction.getRelationshipTo(unwrap(other));
+        final int a = handles.handleOf(faction), b = handles.handleOf(other);
+        final int cached = get(a, b);
+        if (cached != 0) return RELATIONSHIPS[cached - 1];
+        final Relationship relationship = faction.getRelationshipTo(unwrap(other));
+        put(a, b, relationship.ordinal() + 1);
+        return relationship;
+    }
+
+    /**
+     * Method to obtain the Relationships between one Faction and many others, asking the Provider for the pairs
+     * which aren't cached.
+     * <p>
+     *     The handle of the given Faction is resolved, and the thread checked, once for the whole call.
+     * </p>
+     *
+     * @param faction to get the Relationships of.
+     * @param others  to get the Relationships to.
+     * @return array of {@link Relationship}, in the iteration order of the given Factions.
+     */
+    @NotNull
+    public Relationship[] getRelationships(@NotNull Faction faction, @NotNull Collection<Faction> others) {
+        final Relationship[] relationships = new Relationship[others.size()];
+        int i = 0;
+        if (!enabled || !Bukkit.isPrimaryThread()) {
+            for (Faction other : others) relationships[i++] = faction.getRelationshipTo(unwrap(other));
+            return relationships;
+        }
+        final int a = handles.handleOf(faction);
+        for (Faction other : others) {
+            final int b = handles.handleOf(other);
+            final int cached = get(a, b);
+            if (cached != 0) {
+                relationships[i++] = RELATIONSHIPS[cached - 1];
+                continue;
+            }
+            final Relationship relationship = faction.getRelationshipTo(unwrap(other));
+            put(a, b, relationship.ordinal() + 1);
+            relationships[i++] = relationship;
+        }
+        return relationships;
+    }
+
+    /**
+     * Method to forget every cached Relationship of the given Faction, in both directions.
+     *
+     * @param faction to invalidate.
+     */
+    public void invalidate(@NotNull Faction faction) {
+        faction = Instrumentation.unwrap(faction);
+        int handle = FactionHandleRegistry.NO_FACTION;
+        if (faction instanceof AbstractFaction) handle = ((AbstractFaction<?>) faction).getHandle();
+        if (handle == FactionHandleRegistry.NO_FACTION) handle = handles.getHandle(faction.getId());
+        invalidate(handle);
+    }
+
+    /**
+     * Method to forget every cached Relationship.
+     */
+    public void clear() {
+        if (sparse != null) sparse.clear();
+        else Arrays.fill(matrix, (byte) 0);
+    }
+
+    /**
+     * Method to apply a committed {@link FactionRelationshipEvent}.
+     *
+     * @param event which was committed.
+     */
+    public void onRelationship(@NotNull FactionRelationshipEvent event) {
+        if (!enabled) return;
+        invalidate(event.getFaction());
+        invalidate(event.getOther());
+    }
+
+    /**
+     * Method to apply a committed {@link FactionJoinEvent}.
+     *
+     * @param event which was committed.
+     */
+    public void onJoin(@NotNull FactionJoinEvent event) {
+        if (enabled) invalidate(event.getFaction());
+    }
+
+    /**
+     * Method to apply a committed {@link FactionLeaveEvent}.
+     *
+     * @param event which was committed.
+     */
+    public void onLeave(@NotNull FactionLeaveEvent event) {
+        if (enabled) invalidate(event.getFaction());
+    }
+
+    /**
+     * Method to apply a committed {@link FactionDisbandEvent}.
+     *
+     * @param event which was committed.
+     */
+    public void onDisband(@NotNull FactionDisbandEvent event) {
+        if (enabled) invalidate(event.getFaction());
+    }
+
+    /**
+     * Method to obtain the cached value of a pair.
+     *
+     * @param a handle of the Faction.
+     * @param b handle of the other Faction.
+     * @return {@code ordinal + 1} or {@code 0} if it isn't cached.
+     */
+    private int get(int a, int b) {
+        if (sparse != null) return sparse.get(key(a, b));
+        if (a >= side || b >= side) return 0;
+        return matrix[a * side + b];
+    }
+
+    /**
+     * Method to cache the value of a pair.
+     *
+     * @param a     handle of the Faction.
+     * @param b     handle of the other Faction.
+     * @param value {@code ordinal + 1}.
+     */
+    private void put(int a, int b, int value) {
+        if (sparse == null && (a >= side || b >= side)) grow(Math.max(a, b) + 1);
+        if (sparse != null) sparse.put(key(a, b), value);
+        else matrix[a * side + b] = (byte) value;
+    }
+
+    /**
+     * Method to forget every cached pair of the given handle.
+     *
+     * @param handle to invalidate.
+     */
+    private void invalidate(int handle) {
+        if (handle == FactionHandleRegistry.NO_FACTION) return;
+        if (sparse != null) {
+            final long[] keys = new long[sparse.size()];
+            final int[] count = {0};
+            sparse.forEach((key, value) -> {
+                if ((int) (key >> 32) == handle || (int) key == handle) keys[count[0]++] = key;
+            });
+            for (int i = 0; i < count[0]; i++) sparse.remove(keys[i]);
+            return;
+        }
+        if (handle >= side) return;
+        Arrays.fill(matrix, handle * side, (handle + 1) * side, (byte) 0);
+        for (int row = 0; row < side; row++) matrix[row * side + handle] = 0;
+    }
+
+    /**
+     * Method to grow the dense matrix to fit the given handle count, switching to sparse beyond the limit.
+     *
+     * @param required handle count.
+     */
+    private void grow(int required) {
+        if (required > DENSE_LIMIT) {
+            sparse = new LongIntHashMap(0);
+            for (int a = 0; a < side; a++) {
+                for (int b = 0; b < side; b++) {
+                    final byte value = matrix[a * side + b];
+                    if (value != 0) sparse.put(key(a, b), value);
+                }
+            }
+            matrix = null;
+            side = 0;
+            return;
+        }
+        final int newSide = Math.min(DENSE_LIMIT, Math.max(required, Math.max(64, side << 1)));
+        final byte[] grown = new byte[newSide * newSide];
+        for (int a = 0; a < side; a++) System.arraycopy(matrix, a * side, grown, a * newSide, side);
+        matrix = grown;
+        side = newSide;
+    }
+
+    /**
+     * Method to pack a pair of handles into a sparse key.
+     *
+     * @param a handle of the Faction.
+     * @param b handle of the other Faction.
+     * @return packed key.
+     */
+    private static long key(int a, int b) {
+        return ((long) a << 32) | (b & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Method to obtain the Provider Faction to pass to {@link Faction#getRelationshipTo(AbstractFaction)}.
+     * <p>
+     *     A Faction wrapped by {@link Instrumentation} is unwrapped, as the proxy only implements {@link Faction}.
+     * </p>
+     *
+     * @param faction to unwrap.
+     * @return {@link AbstractFaction} of the Provider.
+     */
+    @NotNull
+    private static AbstractFaction<?> unwrap(@NotNull Faction faction) {
+        return (AbstractFaction<?>) Instrumentation.unwrap(faction);
+    }
+
+}
@@ -2,7 +2,11 @@ package cc.javajobs.factionsbridge.bridge.infrastructure;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Objects;
@@ -49,6 +53,24 @@ public abstract class AbstractClaim<C> implements Claim, ErrorParticipator {
         return claim;
     }
 
+    /**
+     * Method to obtain a loaded World by name.
+     * <p>
+     *     Implementations which know the name of their World use this to implement {@link #getWorld()}
+     *     without loading the chunk.
+     * </p>
+     *
+     * @param name of the World.
+     * @return {@link World} with the given name.
+     * @throws IllegalStateException if the World isn't loaded.
+     */
+    @NotNull
+    protected World getWorld(@NotNull String name) {
+        final World world = Bukkit.getWorld(name);
+        if (world == null) throw new IllegalStateException("World '" + name + "' isn't loaded!");
+        return world;
+    }
+
     /**
      * Method to obtain the String representation of the {@link AbstractClaim}.
      *
@@ -60,17 +82,66 @@ public abstract class AbstractClaim<C> implements Claim, ErrorParticipator {
         return "AbstractClaim={claimObject:" + claim + "}";
     }
 
+    /**
+     * Method to obtain the hash code of the Claim, from its World name and chunk coordinates.
+     * <p>
+     *     The Provider object isn't used, so Claims of the same chunk hash the same even if the Provider creates
+     *     a new object for each lookup.
+     * </p>
+     *
+     * @return hash code.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(claim, getWorldName(), getX(), getZ());
+        return hashOf(this);
     }
 
+    /**
+     * Method to determine if the given object is a Claim of the same chunk.
+     * <p>
+     *     The World is compared by name, so neither the World nor the chunk is loaded.
+     * </p>
+     *
+     * @param obj to compare.
+     * @return {@code true} if it is.
+     */
     @Override
     public boolean equals(Object obj) {
-        if (!(obj instanceof AbstractClaim)) return false;
-        final AbstractClaim<?> claim = (AbstractClaim<?>) obj;
-        if (getX() == claim.getX() && getZ() == claim.getX() && getWorldUID().equals(claim.getWorldUID())) return true;
-        else return hashCode() == claim.hashCode();
+        return isSameChunk(this, obj);
+    }
+
+    /**
+     * Method to obtain the hash code of a Claim, from its World name and chunk coordinates.
+     * <p>
+     *     Every bridged Claim hashes using this method, so Claims of the same chunk hash the same
+     *     regardless of their implementation.
+     * </p>
+     *
+     * @param claim to hash.
+     * @return hash code.
+     */
+    static int hashOf(@NotNull Claim claim) {
+        return Objects.hash(claim.getWorldName(), claim.getX(), claim.getZ());
+    }
+
+    /**
+     * Method to determine if the given object is a Claim of the same chunk as the given Claim.
+     * <p>
+     *     Any {@link Claim} is accepted, so an {@link AbstractClaim} and a {@link CoordinateClaim} of the same
+     *     chunk are equal in both directions.
+     * </p>
+     *
+     * @param claim to compare against.
+     * @param obj   to compare.
+     * @return {@code true} if it is.
+     */
+    static boolean isSameChunk(@NotNull Claim claim, @Nullable Object obj) {
+        obj = Instrumentation.unwrap(obj);
+        if (claim == obj) return true;
+        if (!(obj instanceof Claim)) return false;
+        final Claim other = (Claim) obj;
+        return claim.getX() == other.getX() && claim.getZ() == other.getZ()
+                && claim.getWorldName().equals(other.getWorldName());
     }
 
 }
@@ -2,6 +2,7 @@ package cc.javajobs.factionsbridge.bridge.infrastructure;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
@@ -66,6 +67,8 @@ public abstract class AbstractFPlayer<FP> implements FPlayer, ErrorParticipator
 
     @Override
     public boolean equals(Object obj) {
+        obj = Instrumentation.unwrap(obj);
+        if (this == obj) return true;
         if (!(obj instanceof AbstractFPlayer)) return false;
         final AbstractFPlayer<?> fpl = (AbstractFPlayer<?>) obj;
         if (getUniqueId().equals(fpl.getUniqueId()) && getName().equals(fpl.getName())) return true;
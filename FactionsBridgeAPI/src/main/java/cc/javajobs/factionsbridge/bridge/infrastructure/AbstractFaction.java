@@ -1,7 +1,9 @@
 package cc.javajobs.factionsbridge.bridge.infrastructure;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.FactionHandleRegistry;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
@@ -26,6 +28,11 @@ public abstract class AbstractFaction<F> implements Faction, ErrorParticipator {
      */
     protected final FactionsBridge bridge;
 
+    /**
+     * Handle assigned by the {@link FactionHandleRegistry}, cached to avoid looking it up by Id.
+     */
+    private int handle = FactionHandleRegistry.NO_FACTION;
+
     /**
      * Constructor to create an AbstractFaction.
      * <p>
@@ -49,6 +56,27 @@ public abstract class AbstractFaction<F> implements Faction, ErrorParticipator {
         return faction;
     }
 
+    /**
+     * Method to obtain the handle last assigned to this Faction by the {@link FactionHandleRegistry}.
+     * <p>
+     *     The handle may be stale, use {@link FactionHandleRegistry#handleOf(Faction)} to obtain a valid one.
+     * </p>
+     *
+     * @return handle or {@link FactionHandleRegistry#NO_FACTION} if one hasn't been assigned.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    /**
+     * Method to cache the handle assigned to this Faction by the {@link FactionHandleRegistry}.
+     *
+     * @param handle assigned to this Faction.
+     */
+    public void setHandle(int handle) {
+        this.handle = handle;
+    }
+
     /**
      * Method to obtain the String representation of the {@link AbstractFaction}.
      *
@@ -67,6 +95,8 @@ public abstract class AbstractFaction<F> implements Faction, ErrorParticipator {
 
     @Override
     public boolean equals(Object obj) {
+        obj = Instrumentation.unwrap(obj);
+        if (this == obj) return true;
         if (!(obj instanceof AbstractFaction)) return false;
         final AbstractFaction<?> fac = (AbstractFaction<?>) obj;
         if (getId().equals(fac.getId()) && getName().equals(fac.getName())) return true;
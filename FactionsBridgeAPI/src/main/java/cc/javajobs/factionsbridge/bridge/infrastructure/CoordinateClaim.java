@@ -0,0 +1,166 @@
+package cc.javajobs.factionsbridge.bridge.infrastructure;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The CoordinateClaim class is a Claim which only stores the World name and chunk coordinates.
+ * <p>
+ *     This class is used where the bridge knows the owner of a chunk without asking the Provider
+ *     (such as the {@link cc.javajobs.factionsbridge.bridge.index.ClaimIndex}), so creating a Claim never loads a chunk.
+ *     <br>Only {@link #getChunk()} loads the chunk, and only when it is called.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 11:30
+ */
+public class CoordinateClaim implements Claim {
+
+    /**
+     * Name of the World of the Claim.
+     */
+    private final String worldName;
+
+    /**
+     * Chunk coordinates of the Claim.
+     */
+    private final int x, z;
+
+    /**
+     * The Faction which owns the Claim, can be {@code null}.
+     */
+    private final Faction faction;
+
+    /**
+     * Constructor to create a CoordinateClaim.
+     *
+     * @param worldName name of the World of the Claim.
+     * @param x         coordinate of the chunk.
+     * @param z         coordinate of the chunk.
+     * @param faction   which owns the Claim, or {@code null} if it isn't known.
+     */
+    public CoordinateClaim(@NotNull String worldName, int x, int z, @Nullable Faction faction) {
+        this.worldName = worldName;
+        this.x = x;
+        this.z = z;
+        this.faction = faction;
+    }
+
+    /**
+     * Method to obtain the Chunk related to the Claim.
+     * <p>
+     *     This method loads the chunk if it isn't loaded already.
+     * </p>
+     *
+     * @return {@link Chunk} represented by the 'Claim'.
+     */
+    @NotNull
+    @Override
+    public Chunk getChunk() {
+        return getWorld().getChunkAt(x, z);
+    }
+
+    /**
+     * Method to obtain the 'x' coordinate of the Claim.
+     *
+     * @return integer position on the 'x' axis.
+     */
+    @Override
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Method to obtain the 'z' coordinate of the Claim.
+     *
+     * @return integer position on the 'z' axis.
+     */
+    @Override
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * Method to obtain the World linked to the Claim.
+     *
+     * @return {@link World} related to the Claim.
+     * @throws IllegalStateException if the World isn't loaded.
+     */
+    @NotNull
+    @Override
+    public World getWorld() {
+        final World world = Bukkit.getWorld(worldName);
+        if (world == null) throw new IllegalStateException("World '" + worldName + "' isn't loaded!");
+        return world;
+    }
+
+    /**
+     * Method to obtain the name of the World linked to the Claim.
+     *
+     * @return String name of the {@link World}
+     */
+    @NotNull
+    @Override
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /**
+     * Method to obtain the Faction related to the Claim.
+     *
+     * @return {@link Faction} or {@code null}.
+     */
+    @Nullable
+    @Override
+    public Faction getFaction() {
+        return faction;
+    }
+
+    /**
+     * Method to determine if the Claim has a Faction related to it.
+     *
+     * @return {@code true} if a Faction owns this land (not Wilderness)
+     */
+    @Override
+    public boolean isClaimed() {
+        return faction != null && !faction.isWilderness();
+    }
+
+    /**
+     * Method to obtain the Provider name for Debugging/Console output purposes.
+     *
+     * @return String name of the Provider.
+     */
+    @NotNull
+    @Override
+    public String getProvider() {
+        return faction == null ? "Coordinate" : faction.getProvider();
+    }
+
+    /**
+     * Method to obtain the String representation of the {@link CoordinateClaim}.
+     *
+     * @return String representation of the {@link CoordinateClaim}.
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return "CoordinateClaim={world:" + worldName + ",x:" + x + ",z:" + z + ",faction:" + faction + "}";
+    }
+
+    @Override
+    public int hashCode() {
+        return AbstractClaim.hashOf(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return AbstractClaim.isSameChunk(this, obj);
+    }
+
+}
@@ -0,0 +1,130 @@
+package cc.javajobs.factionsbridge.bridge.infrastructure;
+
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The LazyFPlayer class is an FPlayer for Providers which store their players by UUID alone.
+ * <p>
+ *     Only the UUID is held, the {@link OfflinePlayer} and the name are resolved on first use and then remembered.
+ *     <br>On Spigot, {@link Bukkit#getOfflinePlayer(UUID)} can read the user cache or the disk for a player
+ *     who isn't cached, so listing the Members of a Faction using this class does no player-profile I/O at all.
+ *     <br>Online players are always answered through {@link Bukkit#getPlayer(UUID)}, which is an in-memory lookup.
+ * </p>
+ * <p>
+ *     Equality is based on the UUID only, so comparing LazyFPlayers never resolves their names.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 16:20
+ */
+public abstract class LazyFPlayer extends AbstractFPlayer<UUID> {
+
+    /**
+     * The resolved OfflinePlayer, {@code null} until first used.
+     */
+    private volatile OfflinePlayer offlinePlayer = null;
+
+    /**
+     * The resolved name, {@code null} until first used (or if the player has never played).
+     */
+    private volatile String name = null;
+
+    /**
+     * Constructor to create a LazyFPlayer.
+     *
+     * @param uuid of the player, also the object bridged using the FactionsBridge.
+     */
+    public LazyFPlayer(@NotNull UUID uuid) {
+        super(uuid);
+    }
+
+    /**
+     * Method to get the unique Id of the FPlayer.
+     *
+     * @return UUID (UniqueId).
+     */
+    @NotNull
+    @Override
+    public UUID getUniqueId() {
+        return fPlayer;
+    }
+
+    /**
+     * Method to get the Name of the FPlayer.
+     * <p>
+     *     If the player has never played on the server, the UUID is returned instead.
+     * </p>
+     *
+     * @return name of the Player.
+     */
+    @NotNull
+    @Override
+    public String getName() {
+        String resolved = name;
+        if (resolved != null) return resolved;
+        final Player player = Bukkit.getPlayer(fPlayer);
+        resolved = player != null ? player.getName() : getOfflinePlayer().getName();
+        if (resolved == null) return fPlayer.toString();
+        return name = resolved;
+    }
+
+    /**
+     * Method to get the Offline form of the Player.
+     * <p>
+     *     The OfflinePlayer of a player who isn't online is resolved once and then remembered.
+     * </p>
+     *
+     * @return {@link OfflinePlayer}
+     */
+    @NotNull
+    @Override
+    public OfflinePlayer getOfflinePlayer() {
+        final Player player = Bukkit.getPlayer(fPlayer);
+        if (player != null) return player;
+        OfflinePlayer resolved = offlinePlayer;
+        if (resolved == null) offlinePlayer = resolved = Bukkit.getOfflinePlayer(fPlayer);
+        return resolved;
+    }
+
+    /**
+     * Method to get the Online form of the Player.
+     *
+     * @return {@link Player} or {@code null} if the Player isn't online.
+     */
+    @Nullable
+    @Override
+    public Player getPlayer() {
+        return Bukkit.getPlayer(fPlayer);
+    }
+
+    /**
+     * Method to determine if the Player is online, without resolving the {@link OfflinePlayer}.
+     *
+     * @return {@code true} = yes, {@code false} = no.
+     */
+    @Override
+    public boolean isOnline() {
+        return Bukkit.getPlayer(fPlayer) != null;
+    }
+
+    @Override
+    public int hashCode() {
+        return fPlayer.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        obj = Instrumentation.unwrap(obj);
+        if (this == obj) return true;
+        if (obj == null || obj.getClass() != getClass()) return false;
+        return fPlayer.equals(((LazyFPlayer) obj).fPlayer);
+    }
+
+}
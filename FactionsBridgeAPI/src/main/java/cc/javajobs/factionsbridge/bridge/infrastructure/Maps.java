@@ -0,0 +1,28 @@
+package cc.javajobs.factionsbridge.bridge.infrastructure;
+
+/**
+ * The Maps class sizes the Maps created by the bulk lookups of the Providers.
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 21:30
+ */
+public final class Maps {
+
+    /**
+     * Private constructor as this is a utility class.
+     */
+    private Maps() {
+        throw new UnsupportedOperationException("Maps is a utility class.");
+    }
+
+    /**
+     * Method to obtain the initial capacity of a {@link java.util.HashMap} which will hold the given amount of entries.
+     *
+     * @param expected amount of entries.
+     * @return capacity which avoids resizing.
+     */
+    public static int capacity(int expected) {
+        return expected < 3 ? expected + 1 : (int) (expected / 0.75f + 1.0f);
+    }
+
+}
@@ -0,0 +1,219 @@
+package cc.javajobs.factionsbridge.bridge.infrastructure;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The WrapperCache class interns the wrappers created for Provider objects.
+ * <p>
+ *     Each implementation of {@link AbstractFaction}, {@link AbstractFPlayer} and {@link AbstractClaim} owns
+ *     a WrapperCache, so the same Provider object maps to the same wrapper instance for as long as that wrapper
+ *     is referenced.
+ *     <br>A wrapper holds onto its Provider object, so the cache can't hold onto the wrapper without keeping
+ *     both alive forever. Provider objects and wrappers are held weakly instead: once no caller holds onto
+ *     the wrapper, the entry disappears and the next lookup creates a new wrapper.
+ *     Code which must survive that should compare wrappers using equals, never identity.
+ *     <br>Provider objects are matched using their own equals/hashCode, so a Provider which creates new
+ *     (but equal) objects for the same data, such as an 'FLocation', still maps to one wrapper.
+ * </p>
+ * <p>
+ *     Lookups never lock, entries are stored in a {@link ConcurrentHashMap} and collected entries are removed
+ *     when the next wrapper is created.
+ *     <br>This class is thread-safe.
+ * </p>
+ *
+ * @param <K> Provider object which is wrapped.
+ * @param <W> wrapper created for the Provider object.
+ * @author Callum Johnson
+ * @since 17/10/2026 - 10:45
+ */
+public class WrapperCache<K, W> {
+
+    /**
+     * Provider object to wrapper lookup.
+     */
+    private final ConcurrentHashMap<Object, WeakReference<W>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Queue of the keys whose Provider object has been garbage collected.
+     */
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Function used to create a wrapper for a Provider object which hasn't been seen before.
+     */
+    private final Function<K, W> factory;
+
+    /**
+     * Constructor to initialise a WrapperCache.
+     *
+     * @param factory used to create a wrapper, generally the constructor of the wrapper.
+     */
+    public WrapperCache(@NotNull Function<K, W> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Method to obtain the wrapper of the given Provider object, creating it if it doesn't exist.
+     * <p>
+     *     {@code null} is never cached, the factory is called for it every time.
+     * </p>
+     *
+     * @param key Provider object to wrap.
+     * @return the wrapper of the Provider object.
+     */
+    public W get(@Nullable K key) {
+        if (key == null) return factory.apply(null);
+        final WeakReference<W> reference = cache.get(new Lookup(key));
+        final W cached = reference == null ? null : reference.get();
+        if (cached != null) return cached;
+        expunge();
+        final W created = factory.apply(key);
+        final WeakReference<W> stored = cache.merge(new WeakKey(key, collected), new WeakReference<>(created),
+                (current, replacement) -> current.get() == null ? replacement : current);
+        final W wrapper = stored.get();
+        return wrapper == null ? created : wrapper;
+    }
+
+    /**
+     * Method to remove the wrapper of the given Provider object, the next call to {@link #get(Object)}
+     * will create a new one.
+     *
+     * @param key Provider object to forget.
+     */
+    public void invalidate(@NotNull K key) {
+        cache.remove(new Lookup(key));
+    }
+
+    /**
+     * Method to remove every wrapper from the cache.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Method to obtain the amount of wrappers in the cache.
+     * <p>
+     *     Entries which have been garbage collected but not yet expunged may still be counted.
+     * </p>
+     *
+     * @return size of the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Method to remove the entries whose Provider object has been garbage collected.
+     */
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) cache.remove(reference);
+    }
+
+    /**
+     * The WeakKey class holds a Provider object weakly, and matches other keys by their Provider object.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 21:20
+     */
+    private static final class WeakKey extends WeakReference<Object> {
+
+        /**
+         * The hash code of the Provider object, kept so that the entry can be removed once it is collected.
+         */
+        private final int hash;
+
+        /**
+         * Constructor to create a WeakKey.
+         *
+         * @param key   Provider object.
+         * @param queue to enqueue the key to once the Provider object is collected.
+         */
+        private WeakKey(@NotNull Object key, @NotNull ReferenceQueue<Object> queue) {
+            super(key, queue);
+            this.hash = key.hashCode();
+        }
+
+        /**
+         * Method to obtain the hash code of the Provider object.
+         *
+         * @return hash code.
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        /**
+         * Method to determine if the given key holds an equal Provider object.
+         * <p>
+         *     A collected key is only equal to itself.
+         * </p>
+         *
+         * @param object to compare.
+         * @return {@code true} if it does.
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            if (!(object instanceof WeakKey)) return false;
+            final Object key = get();
+            return key != null && key.equals(((WeakKey) object).get());
+        }
+
+    }
+
+    /**
+     * The Lookup class is the short-lived key used to look up a Provider object, without registering a reference.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 21:20
+     */
+    private static final class Lookup {
+
+        /**
+         * The Provider object to look up.
+         */
+        private final Object key;
+
+        /**
+         * Constructor to create a Lookup.
+         *
+         * @param key Provider object to look up.
+         */
+        private Lookup(@NotNull Object key) {
+            this.key = key;
+        }
+
+        /**
+         * Method to obtain the hash code of the Provider object.
+         *
+         * @return hash code.
+         */
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+
+        /**
+         * Method to determine if the given key holds an equal Provider object.
+         *
+         * @param object to compare, the stored {@link WeakKey}.
+         * @return {@code true} if it does.
+         */
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof WeakKey && key.equals(((WeakKey) object).get());
+        }
+
+    }
+
+}
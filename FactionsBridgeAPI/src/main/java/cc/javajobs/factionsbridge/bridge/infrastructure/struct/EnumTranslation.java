@@ -0,0 +1,145 @@
+package cc.javajobs.factionsbridge.bridge.infrastructure.struct;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * The EnumTranslation class converts the enumerations of a Provider into an enumeration of the bridge.
+ * <p>
+ *     The name of each native constant is matched once, the first time a constant of its enumeration is seen
+ *     (or when the enumeration is {@link #register(Class) registered}), and stored in an array indexed by ordinal.
+ *     <br>Every translation after that is a single array lookup, no String matching is involved.
+ * </p>
+ * <p>
+ *     Several native enumerations can be translated by the same instance, each has its own table.
+ *     <br>This class is thread-safe.
+ * </p>
+ *
+ * @param <B> the enumeration of the bridge.
+ * @author Callum Johnson
+ * @since 17/10/2026 - 15:05
+ */
+public final class EnumTranslation<B extends Enum<B>> {
+
+    /**
+     * Function to match the name of a native constant.
+     */
+    private final Function<String, B> byName;
+
+    /**
+     * The value used for {@code null}.
+     */
+    private final B fallback;
+
+    /**
+     * The tables built so far, replaced (never modified) when a table is added.
+     */
+    private volatile Table[] tables = new Table[0];
+
+    /**
+     * Constructor to initialise an EnumTranslation.
+     *
+     * @param byName   function to match the name of a native constant.
+     * @param fallback value used for {@code null}.
+     */
+    public EnumTranslation(@NotNull Function<String, B> byName, @NotNull B fallback) {
+        this.byName = byName;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Method to build the table of a native enumeration ahead of its first translation.
+     *
+     * @param nativeType enumeration of the Provider.
+     * @return this, for chaining.
+     */
+    @NotNull
+    public EnumTranslation<B> register(@NotNull Class<? extends Enum<?>> nativeType) {
+        table(nativeType);
+        return this;
+    }
+
+    /**
+     * Method to translate a native constant.
+     *
+     * @param value to translate.
+     * @return the matching constant of the bridge, or the fallback if {@code value} is {@code null}.
+     */
+    @NotNull
+    public B translate(@Nullable Enum<?> value) {
+        if (value == null) return fallback;
+        final Class<?> type = value.getDeclaringClass();
+        for (Table table : tables) {
+            if (table.type == type) return castValue(table.values[value.ordinal()]);
+        }
+        return castValue(table(type).values[value.ordinal()]);
+    }
+
+    /**
+     * Method to obtain (or build) the table of a native enumeration.
+     *
+     * @param type enumeration of the Provider.
+     * @return {@link Table} of the enumeration.
+     */
+    @NotNull
+    private synchronized Table table(@NotNull Class<?> type) {
+        final Table[] current = tables;
+        for (Table table : current) {
+            if (table.type == type) return table;
+        }
+        final Object[] constants = type.getEnumConstants();
+        final Object[] values = new Object[constants.length];
+        for (int i = 0; i < constants.length; i++) values[i] = byName.apply(((Enum<?>) constants[i]).name());
+        final Table table = new Table(type, values);
+        final Table[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = table;
+        tables = grown;
+        return table;
+    }
+
+    /**
+     * Method to cast a stored value back to the enumeration of the bridge.
+     *
+     * @param value from a table.
+     * @return the value as {@code B}.
+     */
+    @SuppressWarnings("unchecked")
+    private B castValue(Object value) {
+        return (B) value;
+    }
+
+    /**
+     * The Table class stores the translation of one native enumeration, indexed by ordinal.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 15:05
+     */
+    private static final class Table {
+
+        /**
+         * The native enumeration.
+         */
+        private final Class<?> type;
+
+        /**
+         * The translated values, indexed by the ordinal of the native constant.
+         */
+        private final Object[] values;
+
+        /**
+         * Constructor to create a Table.
+         *
+         * @param type   native enumeration.
+         * @param values translated values.
+         */
+        private Table(@NotNull Class<?> type, @NotNull Object[] values) {
+            this.type = type;
+            this.values = values;
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package cc.javajobs.factionsbridge.bridge.infrastructure.struct;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -127,8 +128,9 @@ public interface FPlayer {
      */
     @NotNull
     default Relationship getRelationshipTo(@NotNull AbstractFaction<?> faction) {
-        if (!hasFaction() || getFaction() == null) return Relationship.NONE;
-        return getFaction().getRelationshipTo(faction);
+        final Faction own = getFaction();
+        if (!hasFaction() || own == null) return Relationship.NONE;
+        return own.getRelationshipTo((Faction) faction);
     }
 
     /**
@@ -155,7 +157,7 @@ public interface FPlayer {
     @NotNull
     default Relationship getRelationshipTo(@NotNull FPlayer fPlayer) {
         if (fPlayer.getFaction() == null || !fPlayer.hasFaction()) return Relationship.NONE;
-        return getRelationshipTo((AbstractFaction<?>) fPlayer.getFaction());
+        return getRelationshipTo((AbstractFaction<?>) Instrumentation.unwrap(fPlayer.getFaction()));
     }
 
     /**
@@ -1,6 +1,7 @@
 package cc.javajobs.factionsbridge.bridge.infrastructure.struct;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.MembershipIndex;
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
 import org.apache.commons.lang.StringUtils;
 import org.bukkit.Chunk;
@@ -9,10 +10,17 @@ import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.apache.commons.lang.StringUtils.reverse;
 
@@ -104,26 +112,155 @@ public interface Faction {
     @NotNull
     List<FPlayer> getMembers();
 
+    /**
+     * Method to obtain a Stream of the Claims linked to the Faction.
+     * <p>
+     *     Implementations override this method to stream the Provider's Claims directly, so a caller which only
+     *     needs the first match doesn't wrap every Claim.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim} related to the Faction.
+     */
+    @NotNull
+    default Stream<Claim> streamClaims() {
+        return getAllClaims().stream();
+    }
+
+    /**
+     * Method to perform an action for every Claim linked to the Faction, without copying them into a List.
+     *
+     * @param consumer to call for each Claim.
+     * @see #streamClaims()
+     */
+    default void forEachClaim(@NotNull Consumer<Claim> consumer) {
+        streamClaims().forEach(consumer);
+    }
+
+    /**
+     * Method to obtain the amount of Claims linked to the Faction.
+     * <p>
+     *     Implementations override this method to count the Provider's Claims without wrapping them.
+     * </p>
+     *
+     * @return amount of Claims.
+     */
+    default int getClaimCount() {
+        return getAllClaims().size();
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     *     Implementations override this method to stream the Provider's Members directly, so a caller which only
+     *     needs the first match doesn't wrap every Member.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer} related to the Faction.
+     */
+    @NotNull
+    default Stream<FPlayer> streamMembers() {
+        return getMembers().stream();
+    }
+
+    /**
+     * Method to perform an action for every Member of the Faction, without copying them into a List.
+     *
+     * @param consumer to call for each Member.
+     * @see #streamMembers()
+     */
+    default void forEachMember(@NotNull Consumer<FPlayer> consumer) {
+        streamMembers().forEach(consumer);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction.
+     * <p>
+     *     Implementations override this method to count the Provider's Members without wrapping them.
+     * </p>
+     *
+     * @return amount of Members.
+     */
+    default int getMemberCount() {
+        return getMembers().size();
+    }
+
     /**
      * Method to obtain all Online Members of the Faction.
+     * <p>
+     *     Once the {@link MembershipIndex} has been built, only the online Members are wrapped.
+     * </p>
      *
      * @return {@link List} of {@link FPlayer} who are online.
-     * @see #getMembers()
+     * @see #streamMembers()
      */
     @NotNull
     default List<FPlayer> getOnlineMembers() {
-        return getMembers().stream().filter(FPlayer::isOnline).collect(Collectors.toList());
+        final MembershipIndex index = FactionsBridge.get().getMembershipIndex();
+        if (index.isBuilt() && !isServerFaction()) {
+            return new ArrayList<>(FactionsBridge.getFactionsAPI().getFPlayers(index.getOnlineMemberIds(this)).values());
+        }
+        return streamMembers().filter(FPlayer::isOnline).collect(Collectors.toList());
     }
 
     /**
      * Method to obtain all Offline Members of the Faction.
      *
      * @return {@link List} of {@link FPlayer} who are offline.
-     * @see #getMembers()
+     * @see #streamMembers()
      */
     @NotNull
     default List<FPlayer> getOfflineMembers() {
-        return getMembers().stream().filter(fPlayer -> !fPlayer.isOnline()).collect(Collectors.toList());
+        return streamMembers().filter(fPlayer -> !fPlayer.isOnline()).collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain the UUIDs of the Online Members of the Faction.
+     * <p>
+     *     Once the {@link MembershipIndex} has been built, this doesn't touch the Provider at all.
+     * </p>
+     *
+     * @return {@link Set} of UUIDs of the Members who are online.
+     */
+    @NotNull
+    default Set<UUID> getOnlineMemberIds() {
+        final MembershipIndex index = FactionsBridge.get().getMembershipIndex();
+        if (index.isBuilt() && !isServerFaction()) return index.getOnlineMemberIds(this);
+        return streamMembers().filter(FPlayer::isOnline).map(FPlayer::getUniqueId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Method to obtain the UUIDs of the Offline Members of the Faction.
+     * <p>
+     *     Once the {@link MembershipIndex} has been built, this doesn't touch the Provider at all.
+     * </p>
+     *
+     * @return {@link Set} of UUIDs of the Members who are offline.
+     */
+    @NotNull
+    default Set<UUID> getOfflineMemberIds() {
+        final MembershipIndex index = FactionsBridge.get().getMembershipIndex();
+        if (index.isBuilt() && !isServerFaction()) return index.getOfflineMemberIds(this);
+        return streamMembers().filter(fPlayer -> !fPlayer.isOnline()).map(FPlayer::getUniqueId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Method to obtain the UUIDs of the Members of the Faction with the given Role.
+     * <p>
+     *     If the {@link MembershipIndex} holds Roles, they are only read from the Provider after a Member joins,
+     *     leaves or changes Role.
+     * </p>
+     *
+     * @param role of the Members.
+     * @return {@link Set} of UUIDs of the Members with the Role.
+     */
+    @NotNull
+    default Set<UUID> getMembersByRole(@NotNull Role role) {
+        final MembershipIndex index = FactionsBridge.get().getMembershipIndex();
+        if (index.hasRoles() && !isServerFaction()) return index.getMembersByRole(this, role);
+        return streamMembers().filter(fPlayer -> fPlayer.getRole() == role).map(FPlayer::getUniqueId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     /**
@@ -304,7 +441,24 @@ public interface Faction {
      */
     @NotNull
     default Relationship getRelationshipTo(@NotNull Faction faction) {
-        return getRelationshipTo(((AbstractFaction<?>) faction));
+        return FactionsBridge.get().getRelationshipCache().getRelationship(this, faction);
+    }
+
+    /**
+     * Method to obtain the Factions which this Faction may have a non-neutral Relationship with.
+     * <p>
+     *     Implementations override this method to read the Provider's own relation lists, so that a caller which
+     *     needs every Relationship of a Faction doesn't have to ask for the Relationship to every other Faction.
+     *     <br>The result can contain Factions which turn out to be neutral.
+     *     <br>Some Providers combine the wishes of both Factions, so a non-neutral pair is only guaranteed to be
+     *     listed by one of the two Factions.
+     * </p>
+     *
+     * @return Collection of {@link Faction}, or {@code null} if the Provider can't list them.
+     */
+    @Nullable
+    default Collection<Faction> getRelationshipCandidates() {
+        return null;
     }
 
     /**
@@ -332,8 +486,9 @@ public interface Faction {
      */
     @NotNull
     default Relationship getRelationshipTo(@NotNull FPlayer fPlayer) {
-        if (fPlayer.getFaction() == null || !fPlayer.hasFaction()) return Relationship.NONE;
-        return getRelationshipTo((AbstractFaction<?>) fPlayer.getFaction());
+        final Faction faction = fPlayer.getFaction();
+        if (faction == null || !fPlayer.hasFaction()) return Relationship.NONE;
+        return getRelationshipTo(faction);
     }
 
     /**
@@ -1,15 +1,28 @@
 package cc.javajobs.factionsbridge.bridge.infrastructure.struct;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
+import cc.javajobs.factionsbridge.bridge.index.FactionNameIndex;
+import cc.javajobs.factionsbridge.bridge.index.RelationshipCache;
+import cc.javajobs.factionsbridge.bridge.infrastructure.CoordinateClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.Maps;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface FactionsAPI {
 
@@ -35,26 +48,132 @@ public interface FactionsAPI {
         return getFactions();
     }
 
+    /**
+     * Method to obtain a Stream of all Factions.
+     * <p>
+     *     Implementations override this method to stream the Provider's Factions directly, so a caller which only
+     *     needs the first match doesn't wrap every Faction.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    default Stream<Faction> streamFactions() {
+        return getFactions().stream();
+    }
+
+    /**
+     * Method to perform an action for every Faction, without copying them into a List.
+     *
+     * @param consumer to call for each Faction.
+     * @see #streamFactions()
+     */
+    default void forEachFaction(@NotNull Consumer<Faction> consumer) {
+        streamFactions().forEach(consumer);
+    }
+
+    /**
+     * Method to obtain the amount of Factions.
+     * <p>
+     *     Implementations override this method to count the Provider's Factions without wrapping them.
+     * </p>
+     *
+     * @return amount of Factions.
+     */
+    default int getFactionCount() {
+        return getFactions().size();
+    }
+
     /**
      * Method to obtain a Faction from Chunk.
+     * <p>
+     *     This method uses {@link #getFactionAt(String, int, int)} to obtain the Faction.
+     * </p>
      *
      * @param chunk of the faction.
      * @return Faction at that location
      */
     @Nullable
     default Faction getFactionAt(@NotNull Chunk chunk) {
-        return getClaim(chunk).getFaction();
+        return getFactionAt(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
     }
 
     /**
      * Method to obtain a Faction from Location.
+     * <p>
+     *     This method uses {@link #getFactionAt(String, int, int)} to obtain the Faction, so the chunk is never loaded.
+     * </p>
      *
      * @param location of the faction.
      * @return Faction at that location
      */
     @Nullable
     default Faction getFactionAt(@NotNull Location location) {
-        return getFactionAt(location.getChunk());
+        return getFactionAt(WorldNames.of(location), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Method to obtain a Faction from chunk coordinates.
+     * <p>
+     *     On the main thread, once the {@link ClaimIndex} has been built, this method is answered by the index
+     *     instead of the Provider. The index is only built if the Provider {@link #supportsClaimEvents() calls an
+     *     event for every claim change}.
+     *     <br>Otherwise this method uses {@link #getClaim(String, int, int)} and {@link Claim#getFaction()}.
+     *     <br>An unclaimed chunk is owned by the {@link #getWilderness() Wilderness}, or is {@code null} for
+     *     Providers which don't have a Wilderness Faction (Towny and Kingdoms).
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Faction at that location
+     */
+    @Nullable
+    default Faction getFactionAt(@NotNull String world, int x, int z) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionAt(world, x, z);
+        return getClaim(world, x, z).getFaction();
+    }
+
+    /**
+     * Method to obtain a Faction from chunk coordinates.
+     * <p>
+     *     This method uses {@link #getFactionAt(String, int, int)} to obtain the Faction.
+     * </p>
+     *
+     * @param world unique id of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Faction at that location
+     */
+    @Nullable
+    default Faction getFactionAt(@NotNull UUID world, int x, int z) {
+        return getFactionAt(WorldNames.of(world), x, z);
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World in one call.
+     * <p>
+     *     On the main thread, once the {@link ClaimIndex} has been built, this method is answered by the index
+     *     instead of the Provider.
+     *     <br>Implementations override this method to look up the Provider's board once for every chunk.
+     *     <br>Unclaimed chunks are answered the same way as {@link #getFactionAt(String, int, int)}.
+     * </p>
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @NotNull
+    default Faction[] getFactionsAt(@NotNull World world, long[] packedChunks) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionsAt(world.getName(), packedChunks);
+        final String name = world.getName();
+        final Faction[] factions = new Faction[packedChunks.length];
+        for (int i = 0; i < packedChunks.length; i++) {
+            factions[i] = getFactionAt(name, ChunkKey.getX(packedChunks[i]), ChunkKey.getZ(packedChunks[i]));
+        }
+        return factions;
     }
 
     /**
@@ -68,13 +187,58 @@ public interface FactionsAPI {
 
     /**
      * Method to obtain a Claim by location.
+     * <p>
+     *     This method uses {@link #getClaim(String, int, int)} to obtain the Claim, so the chunk is never loaded.
+     * </p>
      *
      * @param location of the claim.
      * @return Claim implementation.
      */
     @NotNull
     default Claim getClaim(@NotNull Location location) {
-        return getClaim(location.getChunk());
+        return getClaim(WorldNames.of(location), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     *     Providers which can look up land by coordinates override this method, so that the chunk is never loaded.
+     *     <br>Otherwise, on the main thread once the {@link ClaimIndex} has been built, a {@link CoordinateClaim} is
+     *     created from the index.
+     *     Before that (or if the index isn't built), the default implementation has to fall back to
+     *     {@link #getClaim(Chunk)}, which loads the chunk.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     * @throws IllegalArgumentException if the World isn't loaded.
+     */
+    @NotNull
+    default Claim getClaim(@NotNull String world, int x, int z) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return new CoordinateClaim(world, x, z, index.getFactionAt(world, x, z));
+        final World bukkitWorld = Bukkit.getWorld(world);
+        if (bukkitWorld == null) throw new IllegalArgumentException("World '" + world + "' isn't loaded!");
+        return getClaim(bukkitWorld.getChunkAt(x, z));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     *     This method uses {@link #getClaim(String, int, int)} to obtain the Claim.
+     * </p>
+     *
+     * @param world unique id of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     * @throws IllegalArgumentException if the World isn't loaded.
+     */
+    @NotNull
+    default Claim getClaim(@NotNull UUID world, int x, int z) {
+        return getClaim(WorldNames.of(world), x, z);
     }
 
     /**
@@ -110,15 +274,42 @@ public interface FactionsAPI {
 
     /**
      * Method to retrieve an Faction from Name.
+     * <p>
+     *     On the main thread, once the {@link FactionNameIndex} has been built, names are looked up in the index
+     *     (ignoring case).
+     *     <br>Names which aren't indexed are passed to {@link #getFactionByTag(String)}, and indexed if found.
+     * </p>
      *
      * @param name of the Faction
      * @return Faction implementation.
      */
     @Nullable
     default Faction getFactionByName(@NotNull String name) {
+        final FactionNameIndex index = FactionsBridge.get().getFactionNameIndex();
+        if (index.isBuilt()) return index.getFaction(this, name);
         return getFactionByTag(name);
     }
 
+    /**
+     * Method to obtain the names of the Factions which start with the given prefix, ignoring case.
+     * <p>
+     *     This is intended for command tab-completion, using the {@link FactionNameIndex} once it has been built.
+     * </p>
+     *
+     * @param prefix to complete.
+     * @param limit  maximum amount of names to return.
+     * @return List of Faction names.
+     */
+    @NotNull
+    default List<String> completeFactionName(@NotNull String prefix, int limit) {
+        final FactionNameIndex index = FactionsBridge.get().getFactionNameIndex();
+        if (index.isBuilt()) return index.complete(prefix, limit);
+        final String normalised = FactionNameIndex.normalise(prefix);
+        return streamFactions().map(Faction::getName)
+                .filter(name -> FactionNameIndex.normalise(name).startsWith(normalised))
+                .sorted(String.CASE_INSENSITIVE_ORDER).limit(limit).collect(Collectors.toList());
+    }
+
     /**
      * Method to obtain the Faction by Player.
      * <p>
@@ -158,6 +349,41 @@ public interface FactionsAPI {
         return getFPlayer(Bukkit.getOfflinePlayer(uuid));
     }
 
+    /**
+     * Method to obtain the FPlayers of many UUIDs in one call.
+     * <p>
+     *     Implementations override this method to look up the Provider's player store once for every UUID.
+     *     <br>A UUID which the Provider has no player for is left out of the Map, rather than failing the call.
+     *     Providers which create their players on demand (FactionsUUID for example) have a player for every UUID.
+     * </p>
+     *
+     * @param uuids to get the FPlayer equivalents for.
+     * @return {@link Map} of UUID to {@link FPlayer}, in the iteration order of the given UUIDs.
+     */
+    @NotNull
+    default Map<UUID, FPlayer> getFPlayers(@NotNull Collection<UUID> uuids) {
+        final Map<UUID, FPlayer> fPlayers = new LinkedHashMap<>(Maps.capacity(uuids.size()));
+        for (UUID uuid : uuids) fPlayers.put(uuid, getFPlayer(uuid));
+        return fPlayers;
+    }
+
+    /**
+     * Method to obtain the Relationships between one Faction and many others in one call.
+     * <p>
+     *     The Relationships are answered by the {@link RelationshipCache}, which resolves the given Faction once
+     *     for every other Faction.
+     * </p>
+     *
+     * @param faction to get the Relationships of.
+     * @param others  to get the Relationships to.
+     * @return array of {@link Relationship}, in the iteration order of the given Factions.
+     * @see Faction#getRelationshipTo(Faction)
+     */
+    @NotNull
+    default Relationship[] getRelationships(@NotNull Faction faction, @NotNull Collection<Faction> others) {
+        return FactionsBridge.get().getRelationshipCache().getRelationships(faction, others);
+    }
+
     /**
      * Method to obtain WarZone.
      *
@@ -184,6 +410,10 @@ public interface FactionsAPI {
 
     /**
      * Method to create a new Faction with the given name.
+     * <p>
+     *     Implementations pass the created Faction to {@link FactionsBridge#onFactionCreated(Faction)}, as most
+     *     Providers don't call an event when a Faction is created through their API.
+     * </p>
      *
      * @param name of the new Faction.
      * @return IFaction implementation.
@@ -194,6 +424,10 @@ public interface FactionsAPI {
 
     /**
      * Method to delete a Faction.
+     * <p>
+     *     Implementations pass the deleted Faction to {@link FactionsBridge#onFactionDeleted(Faction)}, as most
+     *     Providers don't call an event when a Faction is deleted through their API.
+     * </p>
      *
      * @param faction to delete
      * @throws IllegalStateException if the Faction doesn't exist.
@@ -224,6 +458,76 @@ public interface FactionsAPI {
         return false;
     }
 
+    /**
+     * Method to determine if the Provider calls the
+     * {@link cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent}.
+     * <p>
+     *     If it does, the {@link cc.javajobs.factionsbridge.bridge.index.RelationshipCache} keeps Relationships
+     *     until a change is observed, otherwise Relationships aren't cached.
+     * </p>
+     *
+     * @return {@code true} if relation changes are observable.
+     */
+    default boolean supportsRelationshipEvents() {
+        return false;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     * <p>
+     *     If it does, the bridge builds the {@link cc.javajobs.factionsbridge.bridge.index.ClaimIndex} and answers
+     *     land lookups from it, otherwise every lookup is answered by the Provider, as the index couldn't see
+     *     every change (unclaiming all land for example).
+     * </p>
+     *
+     * @return {@code true} if every claim change is observable.
+     */
+    default boolean supportsClaimEvents() {
+        return false;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     * <p>
+     *     If it doesn't, the {@link FactionNameIndex} checks each name it finds against the current name of the
+     *     Faction, as a rename may not have been observed.
+     * </p>
+     *
+     * @return {@code true} if every name change is observable.
+     */
+    default boolean supportsFactionEvents() {
+        return false;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever the Role of a Member changes.
+     * <p>
+     *     If it does, the {@link cc.javajobs.factionsbridge.bridge.index.MembershipIndex} keeps the Roles of the
+     *     Members until a change is observed, otherwise Roles are always read from the Provider.
+     * </p>
+     *
+     * @return {@code true} if Role changes are observable.
+     * @see cc.javajobs.factionsbridge.bridge.events.FactionRoleChangeEvent
+     */
+    default boolean supportsRoleEvents() {
+        return false;
+    }
+
+    /**
+     * Method to determine if the Provider can be read safely from any thread.
+     * <p>
+     *     Most Providers store their data in collections which are only safe to use on the main thread,
+     *     so the {@link cc.javajobs.factionsbridge.bridge.async.AsyncFactionsAPI} queues calls for the main thread.
+     *     <br>Implementations which are safe to read concurrently return {@code true}, and are then called directly
+     *     on the calling thread.
+     * </p>
+     *
+     * @return {@code true} if the Provider is thread-safe.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Method to determine if the {@link FactionsAPI#register()} method has been called.
      * @return {@code true} yes, {@code false} no
@@ -1,6 +1,7 @@
 package cc.javajobs.factionsbridge.bridge.infrastructure.struct;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The Relationship class stands for individualised relationships between relationship participating objects.
@@ -20,6 +21,12 @@ public enum Relationship {
      */
     public static final Relationship DEFAULT_RELATIONSHIP = NONE;
 
+    /**
+     * Translation of native relation enumerations, built once per enumeration.
+     */
+    private static final EnumTranslation<Relationship> TRANSLATION =
+            new EnumTranslation<>(Relationship::getRelationship, DEFAULT_RELATIONSHIP);
+
     /**
      * Accessible method to convert a string into a {@link Relationship}.
      * <p>
@@ -39,4 +46,29 @@ public enum Relationship {
         return DEFAULT_RELATIONSHIP;
     }
 
+    /**
+     * Accessible method to convert a native relation enumeration into a {@link Relationship}.
+     * <p>
+     *     The names of the native constants are matched once per enumeration using {@link #getRelationship(String)},
+     *     after that this method is a single array lookup.
+     * </p>
+     *
+     * @param nativeRelation to convert
+     * @return {@link Relationship} even if there is no match.
+     */
+    @NotNull
+    public static Relationship translate(@Nullable Enum<?> nativeRelation) {
+        return TRANSLATION.translate(nativeRelation);
+    }
+
+    /**
+     * Method to match the constants of a native relation enumeration ahead of their first translation.
+     *
+     * @param nativeType enumeration of the Provider.
+     * @see #translate(Enum)
+     */
+    public static void register(@NotNull Class<? extends Enum<?>> nativeType) {
+        TRANSLATION.register(nativeType);
+    }
+
 }
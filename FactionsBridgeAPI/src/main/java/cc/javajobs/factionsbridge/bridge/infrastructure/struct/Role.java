@@ -1,6 +1,7 @@
 package cc.javajobs.factionsbridge.bridge.infrastructure.struct;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The Role class stands for an individual Role provided by the FactionsProvider.
@@ -55,6 +56,11 @@ public enum Role {
      */
     public static final Role DEFAULT_ROLE = CUSTOM;
 
+    /**
+     * Translation of native role enumerations, built once per enumeration.
+     */
+    private static final EnumTranslation<Role> TRANSLATION = new EnumTranslation<>(Role::getRole, DEFAULT_ROLE);
+
     /**
      * Alt/Alternative names provided by different Factions implementations.
      */
@@ -83,6 +89,31 @@ public enum Role {
         return DEFAULT_ROLE;
     }
 
+    /**
+     * Method to obtain a Role from a native role enumeration.
+     * <p>
+     *     The names of the native constants are matched once per enumeration using {@link #getRole(String)},
+     *     after that this method is a single array lookup.
+     * </p>
+     *
+     * @param nativeRole to get the role equivalent for.
+     * @return {@link Role} related to the constant or default {@link #DEFAULT_ROLE}.
+     */
+    @NotNull
+    public static Role translate(@Nullable Enum<?> nativeRole) {
+        return TRANSLATION.translate(nativeRole);
+    }
+
+    /**
+     * Method to match the constants of a native role enumeration ahead of their first translation.
+     *
+     * @param nativeType enumeration of the Provider.
+     * @see #translate(Enum)
+     */
+    public static void register(@NotNull Class<? extends Enum<?>> nativeType) {
+        TRANSLATION.register(nativeType);
+    }
+
     /**
      * Method to obtain the Owner role for all implementations.
      *
@@ -0,0 +1,53 @@
+package cc.javajobs.factionsbridge.bridge.infrastructure.struct;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * The WorldNames class resolves the World names used by the coordinate lookups of {@link FactionsAPI}.
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 21:25
+ */
+final class WorldNames {
+
+    /**
+     * Private constructor as this is a utility class.
+     */
+    private WorldNames() {
+        throw new UnsupportedOperationException("WorldNames is a utility class.");
+    }
+
+    /**
+     * Method to obtain the name of the World of the given Location.
+     *
+     * @param location to obtain the World name from.
+     * @return String name of the World.
+     * @throws IllegalArgumentException if the Location doesn't have a World.
+     */
+    @NotNull
+    static String of(@NotNull Location location) {
+        final World world = location.getWorld();
+        if (world == null) throw new IllegalArgumentException("Location '" + location + "' doesn't have a World!");
+        return world.getName();
+    }
+
+    /**
+     * Method to obtain the name of the World with the given unique id.
+     *
+     * @param world unique id of the World.
+     * @return String name of the World.
+     * @throws IllegalArgumentException if the World isn't loaded.
+     */
+    @NotNull
+    static String of(@NotNull UUID world) {
+        final World bukkitWorld = Bukkit.getWorld(world);
+        if (bukkitWorld == null) throw new IllegalArgumentException("World '" + world + "' isn't loaded!");
+        return bukkitWorld.getName();
+    }
+
+}
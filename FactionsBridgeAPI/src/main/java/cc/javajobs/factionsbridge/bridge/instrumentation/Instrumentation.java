@@ -0,0 +1,228 @@
+package cc.javajobs.factionsbridge.bridge.instrumentation;
+
+import cc.javajobs.factionsbridge.bridge.Provider;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The Instrumentation class records the call count and latency of every {@link FactionsAPI}, {@link Faction},
+ * {@link FPlayer} and {@link Claim} method, per Provider.
+ * <p>
+ *     Once {@link #setEnabled(boolean) enabled}, {@link cc.javajobs.factionsbridge.FactionsBridge#getFactionsAPI()}
+ *     returns a {@link Proxy} of the API, and every Faction, FPlayer and Claim it returns (including inside Lists,
+ *     Sets, Maps, arrays and Streams) is wrapped the same way.
+ *     <br>While disabled, the API isn't wrapped at all, and objects wrapped earlier call straight through.
+ * </p>
+ * <p>
+ *     Arguments are unwrapped before they reach the Provider, and the bridge unwraps a wrapped object wherever
+ *     it needs the Provider implementation (the relationship cache and handle registry for example), so wrapped
+ *     objects can be passed anywhere, including inside Collections.
+ *     <br>A wrapped object is {@code equal} to the object it wraps, in both directions, and has the same hash code.
+ *     <br>This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:50
+ */
+public class Instrumentation {
+
+    /**
+     * The interfaces which are wrapped.
+     */
+    private static final Class<?>[] INSTRUMENTED = {FactionsAPI.class, Faction.class, FPlayer.class, Claim.class};
+
+    /**
+     * Provider name to method statistics lookup.
+     */
+    private final Map<String, Map<Method, MethodStats>> providers = new ConcurrentHashMap<>();
+
+    /**
+     * The wrapped API, reused while the Provider doesn't change.
+     */
+    private volatile FactionsAPI wrapped = null;
+
+    /**
+     * {@code true} while calls are recorded.
+     */
+    private volatile boolean enabled = false;
+
+    /**
+     * Method to determine if calls are being recorded.
+     *
+     * @return {@code true} if they are.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Method to start or stop recording calls.
+     *
+     * @param enabled {@code true} to start recording.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Method to clear every recorded call.
+     */
+    public void reset() {
+        for (Map<Method, MethodStats> methods : providers.values()) {
+            for (MethodStats stats : methods.values()) stats.reset();
+        }
+    }
+
+    /**
+     * Method to obtain the statistics of every method which has been called, sorted by total time spent.
+     *
+     * @return List of {@link MethodStats}.
+     */
+    @NotNull
+    public List<MethodStats> getStats() {
+        final List<MethodStats> stats = new ArrayList<>();
+        for (Map<Method, MethodStats> methods : providers.values()) {
+            for (MethodStats method : methods.values()) {
+                if (method.getCalls() != 0) stats.add(method);
+            }
+        }
+        stats.sort(Comparator.comparingLong((MethodStats method) -> method.getLatency().getTotal()).reversed());
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Method to obtain the statistics of one Provider, sorted by total time spent.
+     *
+     * @param provider name of the Provider.
+     * @return List of {@link MethodStats}, empty if nothing was recorded for the Provider.
+     */
+    @NotNull
+    public List<MethodStats> getStats(@NotNull String provider) {
+        final List<MethodStats> stats = new ArrayList<>();
+        for (MethodStats method : getStats()) {
+            if (method.getProvider().equalsIgnoreCase(provider)) stats.add(method);
+        }
+        return stats;
+    }
+
+    /**
+     * Method to wrap the given API, if calls are being recorded.
+     *
+     * @param api to wrap.
+     * @return the wrapped API, or {@code api} if calls aren't being recorded.
+     */
+    @NotNull
+    public FactionsAPI wrap(@NotNull FactionsAPI api) {
+        if (!enabled) return api;
+        final FactionsAPI current = wrapped;
+        if (current != null && unwrap(current) == api) return current;
+        final FactionsAPI proxy = (FactionsAPI) wrapObject(api, providerOf(api));
+        wrapped = proxy;
+        return proxy;
+    }
+
+    /**
+     * Method to obtain the object wrapped by a proxy created by this class.
+     *
+     * @param object to unwrap.
+     * @param <T> type of the object.
+     * @return the wrapped object, or {@code object} if it isn't a proxy.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T unwrap(@Nullable T object) {
+        if (object == null || !Proxy.isProxyClass(object.getClass())) return object;
+        final Object handler = Proxy.getInvocationHandler(object);
+        return handler instanceof InstrumentedHandler ? (T) ((InstrumentedHandler) handler).getTarget() : object;
+    }
+
+    /**
+     * Method to wrap an object, if it implements one of the instrumented interfaces.
+     *
+     * @param object   to wrap.
+     * @param provider name of the Provider.
+     * @return proxy of the object, or {@code object}.
+     */
+    @Nullable
+    Object wrapObject(@Nullable Object object, @NotNull String provider) {
+        if (object == null || Proxy.isProxyClass(object.getClass())) return object;
+        for (Class<?> type : INSTRUMENTED) {
+            if (type.isInstance(object)) {
+                return Proxy.newProxyInstance(
+                        type.getClassLoader(), new Class<?>[] {type}, new InstrumentedHandler(this, object, provider)
+                );
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Method to determine if an object implements one of the instrumented interfaces.
+     *
+     * @param object to test.
+     * @return {@code true} if it does.
+     */
+    static boolean isInstrumented(@Nullable Object object) {
+        if (object == null) return false;
+        for (Class<?> type : INSTRUMENTED) {
+            if (type.isInstance(object)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method to obtain (or create) the statistics of a method.
+     *
+     * @param provider name of the Provider.
+     * @param method   which was called.
+     * @return {@link MethodStats}.
+     */
+    @NotNull
+    MethodStats statsOf(@NotNull String provider, @NotNull Method method) {
+        return providers.computeIfAbsent(provider, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new MethodStats(provider, nameOf(key)));
+    }
+
+    /**
+     * Method to name a method, as {@code Type#method(Parameters)}.
+     *
+     * @param method to name.
+     * @return name of the method.
+     */
+    @NotNull
+    private static String nameOf(@NotNull Method method) {
+        final StringBuilder name = new StringBuilder(method.getDeclaringClass().getSimpleName())
+                .append('#').append(method.getName()).append('(');
+        final Class<?>[] parameters = method.getParameterTypes();
+        for (int i = 0; i < parameters.length; i++) {
+            if (i != 0) name.append(", ");
+            name.append(parameters[i].getSimpleName());
+        }
+        return name.append(')').toString();
+    }
+
+    /**
+     * Method to obtain the name of the Provider of the given API.
+     *
+     * @param api to obtain the Provider of.
+     * @return name of the Provider, or the name of the API class if it isn't a known Provider.
+     */
+    @NotNull
+    private static String providerOf(@NotNull FactionsAPI api) {
+        final Provider provider = Provider.getFromAPI(api.getClass().getName());
+        return provider == null ? api.getClass().getSimpleName() : provider.name();
+    }
+
+}
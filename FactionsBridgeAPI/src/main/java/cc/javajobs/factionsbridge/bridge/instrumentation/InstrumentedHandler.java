@@ -0,0 +1,184 @@
+package cc.javajobs.factionsbridge.bridge.instrumentation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * The InstrumentedHandler class times the calls made to one wrapped object and wraps the objects it returns.
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:50
+ */
+final class InstrumentedHandler implements InvocationHandler {
+
+    /**
+     * The instrumentation recording the calls.
+     */
+    private final Instrumentation instrumentation;
+
+    /**
+     * The wrapped object.
+     */
+    private final Object target;
+
+    /**
+     * The name of the Provider of the wrapped object.
+     */
+    private final String provider;
+
+    /**
+     * Constructor to create an InstrumentedHandler.
+     *
+     * @param instrumentation recording the calls.
+     * @param target          to wrap.
+     * @param provider        name of the Provider.
+     */
+    InstrumentedHandler(@NotNull Instrumentation instrumentation, @NotNull Object target, @NotNull String provider) {
+        this.instrumentation = instrumentation;
+        this.target = target;
+        this.provider = provider;
+    }
+
+    /**
+     * Method to obtain the wrapped object.
+     *
+     * @return wrapped object.
+     */
+    @NotNull
+    Object getTarget() {
+        return target;
+    }
+
+    /**
+     * Method to call the wrapped object, timing the call while the instrumentation is enabled.
+     *
+     * @param proxy  which was called.
+     * @param method which was called.
+     * @param args   of the call, can be {@code null}.
+     * @return the result of the call, wrapped if it is (or contains) an instrumented object.
+     * @throws Throwable thrown by the wrapped object.
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return target.equals(Instrumentation.unwrap(args[0]));
+                case "hashCode":
+                    return target.hashCode();
+                default:
+                    return target.toString();
+            }
+        }
+        final Object[] arguments = unwrapAll(args);
+        if (!instrumentation.isEnabled()) return call(method, arguments);
+        final MethodStats stats = instrumentation.statsOf(provider, method);
+        final long start = System.nanoTime();
+        boolean failed = true;
+        final Object result;
+        try {
+            result = call(method, arguments);
+            failed = false;
+        } finally {
+            stats.record(System.nanoTime() - start, failed);
+        }
+        return wrapResult(result);
+    }
+
+    /**
+     * Method to call the wrapped object, rethrowing what it throws.
+     *
+     * @param method    to call.
+     * @param arguments of the call.
+     * @return the result of the call.
+     * @throws Throwable thrown by the wrapped object.
+     */
+    @Nullable
+    private Object call(@NotNull Method method, @Nullable Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Method to unwrap every argument which is a proxy, copying the array only if needed.
+     *
+     * @param args to unwrap, can be {@code null}.
+     * @return the unwrapped arguments.
+     */
+    @Nullable
+    private static Object[] unwrapAll(@Nullable Object[] args) {
+        if (args == null) return null;
+        Object[] unwrapped = args;
+        for (int i = 0; i < args.length; i++) {
+            final Object argument = Instrumentation.unwrap(args[i]);
+            if (argument == args[i]) continue;
+            if (unwrapped == args) unwrapped = args.clone();
+            unwrapped[i] = argument;
+        }
+        return unwrapped;
+    }
+
+    /**
+     * Method to wrap a result, or the instrumented objects inside it.
+     *
+     * @param result to wrap.
+     * @return the wrapped result.
+     */
+    @Nullable
+    private Object wrapResult(@Nullable Object result) {
+        if (result == null) return null;
+        if (Instrumentation.isInstrumented(result)) return instrumentation.wrapObject(result, provider);
+        if (result instanceof List) {
+            final List<Object> wrapped = new ArrayList<>(((List<?>) result).size());
+            for (Object element : (List<?>) result) wrapped.add(wrapElement(element));
+            return wrapped;
+        }
+        if (result instanceof Set) {
+            final Set<Object> wrapped = new LinkedHashSet<>();
+            for (Object element : (Set<?>) result) wrapped.add(wrapElement(element));
+            return wrapped;
+        }
+        if (result instanceof Map) {
+            final Map<Object, Object> wrapped = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                wrapped.put(entry.getKey(), wrapElement(entry.getValue()));
+            }
+            return wrapped;
+        }
+        if (result instanceof Stream) return ((Stream<?>) result).map(this::wrapElement);
+        if (result instanceof Object[] && result.getClass().getComponentType().isInterface()) {
+            final Object[] array = (Object[]) result;
+            final Object[] wrapped = (Object[]) Array.newInstance(result.getClass().getComponentType(), array.length);
+            for (int i = 0; i < array.length; i++) wrapped[i] = wrapElement(array[i]);
+            return wrapped;
+        }
+        return result;
+    }
+
+    /**
+     * Method to wrap an element of a result, if it is an instrumented object.
+     *
+     * @param element to wrap.
+     * @return the wrapped element.
+     */
+    @Nullable
+    private Object wrapElement(@Nullable Object element) {
+        return Instrumentation.isInstrumented(element) ? instrumentation.wrapObject(element, provider) : element;
+    }
+
+}
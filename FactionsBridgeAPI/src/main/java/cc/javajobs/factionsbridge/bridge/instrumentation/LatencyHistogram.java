@@ -0,0 +1,178 @@
+package cc.javajobs.factionsbridge.bridge.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LatencyHistogram class records latencies into log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ *     Values below 32 have a bucket each, above that every power of two is split into 16 buckets,
+ *     so any recorded value is reported within 1/16th (about 6%) of its real value, up to {@link Long#MAX_VALUE}.
+ *     <br>Recording is a few bit operations and one atomic increment, nothing is allocated.
+ * </p>
+ * <p>
+ *     This class is thread-safe, reads taken while values are being recorded are approximate.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:50
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The amount of bits of precision kept below the highest set bit.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The amount of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Values below this have a bucket each.
+     */
+    private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+
+    /**
+     * The highest set bit of {@link #LINEAR_LIMIT}, the first power of two which is split.
+     */
+    private static final int FIRST_SPLIT_BIT = SUB_BUCKET_BITS + 1;
+
+    /**
+     * The total amount of buckets.
+     */
+    private static final int BUCKETS = LINEAR_LIMIT + (63 - FIRST_SPLIT_BIT) * SUB_BUCKETS;
+
+    /**
+     * The amount of values recorded into each bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The amount of values recorded.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The sum of the values recorded.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * The highest value recorded.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Method to record a value.
+     *
+     * @param value to record, negative values are recorded as {@code 0}.
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) current = max.get();
+    }
+
+    /**
+     * Method to obtain the amount of values recorded.
+     *
+     * @return amount of values.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Method to obtain the sum of the values recorded.
+     *
+     * @return sum of the values.
+     */
+    public long getTotal() {
+        return sum.sum();
+    }
+
+    /**
+     * Method to obtain the mean of the values recorded.
+     *
+     * @return mean, {@code 0} if nothing was recorded.
+     */
+    public double getMean() {
+        final long recorded = count.sum();
+        return recorded == 0 ? 0 : (double) sum.sum() / recorded;
+    }
+
+    /**
+     * Method to obtain the highest value recorded.
+     *
+     * @return highest value, {@code 0} if nothing was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Method to obtain the value at the given percentile.
+     *
+     * @param percentile between {@code 0} and {@code 100}.
+     * @return the highest value of the bucket containing the percentile, capped at {@link #getMax()}.
+     */
+    public long getValueAtPercentile(double percentile) {
+        final long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) total += snapshot[i] = counts.get(i);
+        if (total == 0) return 0;
+        final long target = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) return Math.min(highestValueOf(i), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * Method to clear every recorded value.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Method to find the bucket of a value.
+     *
+     * @param value to find the bucket of.
+     * @return index of the bucket.
+     */
+    private static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) return (int) value;
+        final int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = highestBit - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (highestBit - FIRST_SPLIT_BIT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Method to find the highest value which is recorded into a bucket.
+     *
+     * @param bucket index of the bucket.
+     * @return highest value of the bucket.
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) return bucket;
+        final int highestBit = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + FIRST_SPLIT_BIT;
+        final int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        final int shift = highestBit - SUB_BUCKET_BITS;
+        final long lowest = ((long) (SUB_BUCKETS + subBucket)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+}
@@ -0,0 +1,113 @@
+package cc.javajobs.factionsbridge.bridge.instrumentation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The MethodStats class holds the call count, failures and latency of one bridge method, for one Provider.
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:50
+ */
+public final class MethodStats {
+
+    /**
+     * The name of the Provider.
+     */
+    private final String provider;
+
+    /**
+     * The name of the method, as {@code Type#method(Parameters)}.
+     */
+    private final String method;
+
+    /**
+     * The latency of each call, in nanoseconds.
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * The amount of calls which threw an exception.
+     */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Constructor to create MethodStats.
+     *
+     * @param provider name of the Provider.
+     * @param method   name of the method.
+     */
+    MethodStats(@NotNull String provider, @NotNull String method) {
+        this.provider = provider;
+        this.method = method;
+    }
+
+    /**
+     * Method to record a call.
+     *
+     * @param nanos  the call took.
+     * @param failed {@code true} if the call threw an exception.
+     */
+    void record(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) failures.increment();
+    }
+
+    /**
+     * Method to clear the recorded calls.
+     */
+    void reset() {
+        latency.reset();
+        failures.reset();
+    }
+
+    /**
+     * Method to obtain the name of the Provider.
+     *
+     * @return name of the Provider.
+     */
+    @NotNull
+    public String getProvider() {
+        return provider;
+    }
+
+    /**
+     * Method to obtain the name of the method, as {@code Type#method(Parameters)}.
+     *
+     * @return name of the method.
+     */
+    @NotNull
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to obtain the amount of calls.
+     *
+     * @return amount of calls.
+     */
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    /**
+     * Method to obtain the amount of calls which threw an exception.
+     *
+     * @return amount of calls.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Method to obtain the latency of the calls, in nanoseconds.
+     *
+     * @return {@link LatencyHistogram}.
+     */
+    @NotNull
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+}
@@ -0,0 +1,139 @@
+package cc.javajobs.factionsbridge.bridge.shared;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * The BridgeService interface is how a connected bridge is shared with the shaded copies of other plugins.
+ * <p>
+ *     The first bridge to connect registers a BridgeService with the Bukkit ServicesManager, and every copy which
+ *     connects later attaches to it instead of discovering, registering and indexing the Provider again.
+ *     <br>Each copy is relocated to its own package, so a copy can't cast the service of another.
+ *     The service is called by method name instead, which is why this interface only uses JDK and Bukkit types.
+ * </p>
+ * <p>
+ *     Methods may be added to this interface, but the existing methods must never change.
+ *     <br>A breaking change must increase {@link #PROTOCOL}, so older copies stop attaching.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 20:50
+ */
+public interface BridgeService {
+
+    /**
+     * The protocol of this interface, a copy only attaches to a service with the same protocol.
+     */
+    int PROTOCOL = 2;
+
+    /**
+     * Method to obtain the protocol of the service.
+     *
+     * @return {@link #PROTOCOL} of the copy which registered the service.
+     */
+    int getProtocol();
+
+    /**
+     * Method to obtain the version of the bridge which registered the service.
+     *
+     * @return FactionsBridge version.
+     */
+    @NotNull
+    String getBridgeVersion();
+
+    /**
+     * Method to obtain the plugin which connected the shared bridge.
+     *
+     * @return {@link Plugin} owning the service.
+     */
+    @NotNull
+    Plugin getOwner();
+
+    /**
+     * Method to obtain the name of the hooked Provider.
+     *
+     * @return Provider name, or {@code null} if none was hooked.
+     */
+    @Nullable
+    String getProviderName();
+
+    /**
+     * Method to obtain the FactionsAPI of the shared bridge.
+     *
+     * @return FactionsAPI of the owning copy, which attaching copies call by method name.
+     */
+    @NotNull
+    Object getFactionsAPI();
+
+    /**
+     * Method to obtain a bridge event class of the shared bridge.
+     *
+     * @param simpleName of the event, for example {@code FactionClaimEvent}.
+     * @return the event class of the owning copy, or {@code null} if it has no such event.
+     */
+    @Nullable
+    Class<?> getEventClass(@NotNull String simpleName);
+
+    /**
+     * Method to attach a plugin to the shared bridge.
+     *
+     * @param consumer which attached.
+     */
+    void attach(@NotNull Plugin consumer);
+
+    /**
+     * Method to detach a plugin from the shared bridge, removing its relays.
+     *
+     * @param consumer which attached.
+     */
+    void detach(@NotNull Plugin consumer);
+
+    /**
+     * Method to relay a bridge event of the shared bridge to an attached copy.
+     * <p>
+     *     The shared bridge only creates an event for the relay while {@code wanted} is {@code true}, and calls the
+     *     relay straight after its own listeners.
+     * </p>
+     *
+     * @param consumer   which attached.
+     * @param simpleName of the event, for example {@code FactionClaimEvent}.
+     * @param wanted     {@code true} while the attached copy listens for or observes the event.
+     * @param relay      to give each event of the shared bridge to.
+     * @return {@code true} if the shared bridge has such an event.
+     */
+    boolean relay(@NotNull Plugin consumer, @NotNull String simpleName, @NotNull BooleanSupplier wanted,
+                  @NotNull Consumer<Object> relay);
+
+    /**
+     * Method to obtain the plugins which attached to the shared bridge.
+     *
+     * @return {@link List} of plugin names, in the order they attached.
+     */
+    @NotNull
+    List<String> getConsumers();
+
+    /**
+     * Method to record a phase of connecting an attached copy in the startup timeline of the shared bridge.
+     *
+     * @param consumer which attached.
+     * @param phase    name of the phase.
+     * @param start    of the phase, from {@link System#nanoTime()}.
+     * @param end      of the phase, from {@link System#nanoTime()}.
+     */
+    void recordStartupPhase(@NotNull String consumer, @NotNull String phase, long start, long end);
+
+    /**
+     * Method to obtain the startup timeline of the shared bridge, including the phases of every attached copy.
+     *
+     * @return {@link List} of phases, see {@link cc.javajobs.factionsbridge.bridge.startup.StartupTimeline#toMaps()}.
+     */
+    @NotNull
+    List<Map<String, Object>> getStartupPhases();
+
+}
@@ -0,0 +1,469 @@
+package cc.javajobs.factionsbridge.bridge.shared;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent;
+import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodUnsupportedException;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * The ForeignHandler class calls an object of another (relocated) copy of the bridge through a local interface.
+ * <p>
+ *     Methods are matched by name and by the simple names of their parameter types, as the package of every bridge
+ *     type differs between copies.
+ *     <br>Arguments and results are converted between the copies: bridge objects are wrapped or unwrapped,
+ *     bridge enumerations are matched by constant name, and collections, streams and arrays are converted
+ *     element by element.
+ * </p>
+ * <p>
+ *     Each method is bound once per foreign class, along with whether its arguments and result can need converting,
+ *     so a call which only passes JDK values is a single reflective call.
+ *     <br>The proxy of a foreign object is cached (see {@link WrapperCache}), and a collection is only copied if
+ *     one of its elements had to be converted.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 20:50
+ */
+final class ForeignHandler implements InvocationHandler {
+
+    /**
+     * The bridge interfaces which are wrapped when returned by another copy.
+     */
+    private static final Class<?>[] SHARED = {
+            FactionsAPI.class, Faction.class, FPlayer.class, Claim.class, BridgeService.class
+    };
+
+    /**
+     * The bridge enumerations which are matched by constant name when returned by another copy.
+     */
+    private static final Class<?>[] ENUMS = {
+            Relationship.class, Role.class, FactionDisbandEvent.DisbandReason.class, FactionLeaveEvent.LeaveReason.class
+    };
+
+    /**
+     * Foreign class to local interface lookup, {@link Void} if the class isn't a foreign bridge type.
+     */
+    private static final Map<Class<?>, Class<?>> localTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Foreign class to method binding lookup, shared by every handler of the class.
+     */
+    private static final Map<Class<?>, Map<Method, Binding>> bindings = new ConcurrentHashMap<>();
+
+    /**
+     * Local interface to proxy lookup, so a foreign object is wrapped by the same proxy while it is referenced.
+     */
+    private static final Map<Class<?>, WrapperCache<Object, Object>> proxies = new ConcurrentHashMap<>();
+
+    /**
+     * The wrapped object, from another copy.
+     */
+    private final Object target;
+
+    /**
+     * Local method to binding lookup, for the class of the wrapped object.
+     */
+    private final Map<Method, Binding> methods;
+
+    /**
+     * Constructor to create a ForeignHandler.
+     *
+     * @param target to wrap.
+     */
+    private ForeignHandler(@NotNull Object target) {
+        this.target = target;
+        this.methods = bindings.computeIfAbsent(target.getClass(), type -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Method to wrap an object of another copy in a local interface.
+     *
+     * @param foreign to wrap.
+     * @param type    local interface to wrap it in.
+     * @param <T>     type of the interface.
+     * @return the wrapped object, or the object itself if it already implements the interface.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    static <T> T wrap(@NotNull Object foreign, @NotNull Class<T> type) {
+        if (type.isInstance(foreign)) return (T) foreign;
+        return (T) proxies.computeIfAbsent(type, local -> new WrapperCache<>(object -> Proxy.newProxyInstance(
+                local.getClassLoader(), new Class<?>[] {local}, new ForeignHandler(object)
+        ))).get(foreign);
+    }
+
+    /**
+     * Method to unwrap an object, if it wraps an object of another copy.
+     *
+     * @param object to unwrap.
+     * @return the wrapped object, or the object itself if it isn't wrapped.
+     */
+    @Nullable
+    static Object unwrap(@Nullable Object object) {
+        if (object == null || !Proxy.isProxyClass(object.getClass())) return object;
+        final InvocationHandler handler = Proxy.getInvocationHandler(object);
+        return handler instanceof ForeignHandler ? ((ForeignHandler) handler).target : object;
+    }
+
+    /**
+     * Method to call the wrapped object, converting the arguments and the result.
+     *
+     * @param proxy  which was called.
+     * @param method which was called.
+     * @param args   of the call, can be {@code null}.
+     * @return the converted result of the call.
+     * @throws Throwable thrown by the wrapped object.
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return target.equals(unwrap(args[0]));
+                case "hashCode":
+                    return target.hashCode();
+                default:
+                    return target.toString();
+            }
+        }
+        final Binding binding = bind(method);
+        final Object[] arguments = binding.convertArguments ? toForeign(args, binding.parameters) : args;
+        final Object result;
+        try {
+            result = binding.foreign.invoke(target, arguments);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+        return binding.convertResult ? toLocal(result, method.getReturnType()) : result;
+    }
+
+    /**
+     * Method to find the method of the wrapped object matching a local method.
+     *
+     * @param method to match.
+     * @return the {@link Binding} of the matching method.
+     * @throws BridgeMethodUnsupportedException if the copy of the wrapped object has no such method.
+     */
+    @NotNull
+    private Binding bind(@NotNull Method method) {
+        final Binding bound = methods.get(method);
+        if (bound != null) return bound;
+        Method foreign = null;
+        final Class<?>[] parameters = method.getParameterTypes();
+        for (Method candidate : target.getClass().getMethods()) {
+            if (candidate.isBridge() || !candidate.getName().equals(method.getName())) continue;
+            if (matches(candidate.getParameterTypes(), parameters)) {
+                foreign = candidate;
+                break;
+            }
+        }
+        if (foreign == null) {
+            throw new BridgeMethodUnsupportedException("The shared FactionsBridge doesn't support "
+                    + method.getDeclaringClass().getSimpleName() + "#" + method.getName() + ", it may be outdated.");
+        }
+        try {
+            foreign.setAccessible(true);
+        } catch (RuntimeException ignored) {
+            // The method is public, so only calls to a non-public class would fail.
+        }
+        final Binding binding = new Binding(method, foreign);
+        methods.put(method, binding);
+        return binding;
+    }
+
+    /**
+     * Method to determine if two parameter lists match, ignoring the package of each type.
+     *
+     * @param foreign parameter types of the foreign method.
+     * @param local   parameter types of the local method.
+     * @return {@code true} if they match.
+     */
+    private static boolean matches(@NotNull Class<?>[] foreign, @NotNull Class<?>[] local) {
+        if (foreign.length != local.length) return false;
+        for (int i = 0; i < foreign.length; i++) {
+            if (foreign[i] != local[i] && !foreign[i].getSimpleName().equals(local[i].getSimpleName())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Method to convert the arguments of a call for another copy, copying the array only if needed.
+     *
+     * @param args       to convert, can be {@code null}.
+     * @param parameters types of the foreign method.
+     * @return the converted arguments.
+     */
+    @Nullable
+    private static Object[] toForeign(@Nullable Object[] args, @NotNull Class<?>[] parameters) {
+        if (args == null) return null;
+        Object[] converted = args;
+        for (int i = 0; i < args.length; i++) {
+            final Object argument = toForeign(args[i], parameters[i]);
+            if (argument == args[i]) continue;
+            if (converted == args) converted = args.clone();
+            converted[i] = argument;
+        }
+        return converted;
+    }
+
+    /**
+     * Method to convert an argument for another copy.
+     *
+     * @param argument to convert.
+     * @param type     of the foreign parameter.
+     * @return the converted argument.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static Object toForeign(@Nullable Object argument, @NotNull Class<?> type) {
+        if (argument == null) return null;
+        final Object unwrapped = unwrap(argument);
+        if (unwrapped != argument) return unwrapped;
+        if (argument instanceof Enum && type.isEnum() && !type.isInstance(argument)) {
+            return toEnum(type, ((Enum<?>) argument).name());
+        }
+        if (argument instanceof Consumer) {
+            final Consumer<Object> consumer = (Consumer<Object>) argument;
+            return (Consumer<Object>) element -> consumer.accept(toLocal(element, Object.class));
+        }
+        if (argument instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) argument;
+            return convert(collection, Set.class.isAssignableFrom(type)
+                    ? LinkedHashSet::new : () -> new ArrayList<>(collection.size()),
+                    element -> toForeign(element, Object.class));
+        }
+        return argument;
+    }
+
+    /**
+     * Method to convert a result of another copy.
+     *
+     * @param value to convert.
+     * @param type  of the local result.
+     * @return the converted result.
+     */
+    @Nullable
+    static Object toLocal(@Nullable Object value, @NotNull Class<?> type) {
+        if (value == null || type.isPrimitive()) return value;
+        final Class<?> local = localTypeOf(value.getClass());
+        if (local != null) return wrap(value, local);
+        if (value instanceof Enum) {
+            final Class<?> declaring = ((Enum<?>) value).getDeclaringClass();
+            for (Class<?> candidate : ENUMS) {
+                if (candidate != declaring && declaring.getName().endsWith(suffixOf(candidate))) {
+                    return toEnum(candidate, ((Enum<?>) value).name());
+                }
+            }
+            return value;
+        }
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            return convert(list, () -> new ArrayList<>(list.size()), element -> toLocal(element, Object.class));
+        }
+        if (value instanceof Set) {
+            return convert((Set<?>) value, LinkedHashSet::new, element -> toLocal(element, Object.class));
+        }
+        if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> converted = null;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                final Object local = toLocal(entry.getValue(), Object.class);
+                if (converted == null && local != entry.getValue()) {
+                    converted = new LinkedHashMap<>(map.size());
+                    for (Map.Entry<?, ?> seen : map.entrySet()) {
+                        if (seen.getKey() == entry.getKey()) break;
+                        converted.put(seen.getKey(), seen.getValue());
+                    }
+                }
+                if (converted != null) converted.put(entry.getKey(), local);
+            }
+            return converted == null ? map : converted;
+        }
+        if (value instanceof Stream) return ((Stream<?>) value).map(element -> toLocal(element, Object.class));
+        if (value instanceof Object[] && type.isArray() && !type.isInstance(value)) {
+            final Object[] array = (Object[]) value;
+            final Object[] converted = (Object[]) Array.newInstance(type.getComponentType(), array.length);
+            for (int i = 0; i < array.length; i++) converted[i] = toLocal(array[i], type.getComponentType());
+            return converted;
+        }
+        return value;
+    }
+
+    /**
+     * Method to convert the elements of a collection, copying it only if an element is converted.
+     *
+     * @param collection to convert.
+     * @param copy       supplier of the collection to copy into.
+     * @param conversion of each element.
+     * @return the converted copy, or {@code collection} if no element was converted.
+     */
+    @NotNull
+    private static Collection<?> convert(@NotNull Collection<?> collection,
+                                         @NotNull Supplier<Collection<Object>> copy,
+                                         @NotNull UnaryOperator<Object> conversion) {
+        Collection<Object> converted = null;
+        int index = 0;
+        for (Object element : collection) {
+            final Object result = conversion.apply(element);
+            if (converted == null && result != element) {
+                converted = copy.get();
+                final Iterator<?> seen = collection.iterator();
+                for (int i = 0; i < index; i++) converted.add(seen.next());
+            }
+            if (converted != null) converted.add(result);
+            index++;
+        }
+        return converted == null ? collection : converted;
+    }
+
+    /**
+     * Method to determine if a value of a type can need converting between copies.
+     * <p>
+     *     Only a final type which both copies share (such as {@link String} or {@link java.util.UUID}) can't hold
+     *     a bridge object.
+     * </p>
+     *
+     * @param local   type of this copy.
+     * @param foreign type of the other copy.
+     * @return {@code true} if a value may need converting.
+     */
+    private static boolean needsConversion(@NotNull Class<?> local, @NotNull Class<?> foreign) {
+        return !local.isPrimitive() && (local != foreign || !Modifier.isFinal(local.getModifiers()));
+    }
+
+    /**
+     * Method to obtain the local interface of a foreign bridge type.
+     *
+     * @param type to obtain the local interface of.
+     * @return the local interface, or {@code null} if the type isn't a foreign bridge type.
+     */
+    @Nullable
+    private static Class<?> localTypeOf(@NotNull Class<?> type) {
+        final Class<?> local = localTypes.computeIfAbsent(type, foreign -> {
+            for (Class<?> shared : SHARED) {
+                if (shared.isAssignableFrom(foreign)) return Void.class;
+                if (implementsNamed(foreign, suffixOf(shared))) return shared;
+            }
+            return Void.class;
+        });
+        return local == Void.class ? null : local;
+    }
+
+    /**
+     * Method to determine if a type implements an interface whose name ends with the given suffix.
+     *
+     * @param type   to check.
+     * @param suffix of the interface name.
+     * @return {@code true} if it does.
+     */
+    private static boolean implementsNamed(@NotNull Class<?> type, @NotNull String suffix) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> implemented : current.getInterfaces()) {
+                if (implemented.getName().endsWith(suffix) || implementsNamed(implemented, suffix)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method to obtain the name of a bridge type without the root package, which relocation replaces.
+     *
+     * @param type to obtain the name of.
+     * @return name, starting with a {@code '.'}.
+     */
+    @NotNull
+    private static String suffixOf(@NotNull Class<?> type) {
+        final String root = FactionsBridge.class.getName();
+        return type.getName().substring(root.lastIndexOf('.'));
+    }
+
+    /**
+     * The Binding class is a local method bound to the matching method of a foreign class.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 21:40
+     */
+    private static final class Binding {
+
+        /**
+         * The method of the foreign class.
+         */
+        private final Method foreign;
+
+        /**
+         * The parameter types of the foreign method.
+         */
+        private final Class<?>[] parameters;
+
+        /**
+         * {@code true} if an argument can need converting.
+         */
+        private final boolean convertArguments;
+
+        /**
+         * {@code true} if the result can need converting.
+         */
+        private final boolean convertResult;
+
+        /**
+         * Constructor to create a Binding.
+         *
+         * @param local   method of the local interface.
+         * @param foreign matching method of the foreign class.
+         */
+        private Binding(@NotNull Method local, @NotNull Method foreign) {
+            this.foreign = foreign;
+            this.parameters = foreign.getParameterTypes();
+            final Class<?>[] locals = local.getParameterTypes();
+            boolean convert = false;
+            for (int i = 0; i < locals.length && !convert; i++) convert = needsConversion(locals[i], parameters[i]);
+            this.convertArguments = convert;
+            this.convertResult = needsConversion(local.getReturnType(), foreign.getReturnType());
+        }
+
+    }
+
+    /**
+     * Method to obtain the constant of an enumeration by name.
+     *
+     * @param type of the enumeration.
+     * @param name of the constant.
+     * @return the constant.
+     * @throws IllegalArgumentException if the enumeration has no such constant.
+     */
+    @NotNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object toEnum(@NotNull Class<?> type, @NotNull String name) {
+        return Enum.valueOf((Class) type, name);
+    }
+
+}
@@ -0,0 +1,269 @@
+package cc.javajobs.factionsbridge.bridge.shared;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
+import cc.javajobs.factionsbridge.bridge.instrumentation.Instrumentation;
+import cc.javajobs.factionsbridge.bridge.startup.StartupTimeline;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.ServicesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * The SharedBridge class is the {@link BridgeService} registered by the first bridge to connect.
+ * <p>
+ *     The service is found by the simple name of its interface, as each shaded copy relocates
+ *     {@link BridgeService} to its own package.
+ *     <br>Setting the {@value #PROPERTY} system property to {@code false} stops copies from attaching,
+ *     so each connects its own bridge as before.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 20:50
+ */
+public class SharedBridge implements BridgeService {
+
+    /**
+     * System property which, when {@code false}, stops copies from sharing a bridge.
+     */
+    public static final String PROPERTY = "factionsbridge.shared";
+
+    /**
+     * The plugin which connected the bridge.
+     */
+    private final Plugin owner;
+
+    /**
+     * The name of the hooked Provider, {@code null} if none was hooked.
+     */
+    private final String provider;
+
+    /**
+     * The names of the plugins which attached, in the order they attached.
+     */
+    private final List<String> consumers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor to create a SharedBridge.
+     *
+     * @param owner    which connected the bridge.
+     * @param provider name of the hooked Provider, or {@code null}.
+     */
+    public SharedBridge(@NotNull Plugin owner, @Nullable String provider) {
+        this.owner = owner;
+        this.provider = provider;
+    }
+
+    /**
+     * Method to register a SharedBridge with the ServicesManager.
+     *
+     * @param owner    which connected the bridge.
+     * @param provider name of the hooked Provider, or {@code null}.
+     */
+    public static void publish(@NotNull Plugin owner, @Nullable String provider) {
+        if (!isEnabled()) return;
+        Bukkit.getServicesManager().register(
+                BridgeService.class, new SharedBridge(owner, provider), owner, ServicePriority.Normal
+        );
+    }
+
+    /**
+     * Method to find the bridge shared by another copy.
+     *
+     * @return {@link BridgeService} calling the service of the other copy, or {@code null} if no copy with the same
+     * {@link BridgeService#PROTOCOL} has shared its bridge.
+     */
+    @Nullable
+    public static BridgeService find() {
+        if (!isEnabled()) return null;
+        final ServicesManager services = Bukkit.getServicesManager();
+        for (Class<?> type : services.getKnownServices()) {
+            if (type == BridgeService.class || !type.getSimpleName().equals(BridgeService.class.getSimpleName())) {
+                continue;
+            }
+            final RegisteredServiceProvider<?> registration = services.getRegistration(type);
+            if (registration == null || !registration.getPlugin().isEnabled()) continue;
+            final BridgeService service = ForeignHandler.wrap(registration.getProvider(), BridgeService.class);
+            try {
+                if (service.getProtocol() == PROTOCOL) return service;
+            } catch (RuntimeException ignored) {
+                // Not a bridge, or one this copy can't call.
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method to determine if copies may share a bridge.
+     *
+     * @return {@code true} unless {@value #PROPERTY} is {@code false}.
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty(PROPERTY));
+    }
+
+    /**
+     * Method to obtain the protocol of the service.
+     *
+     * @return {@link #PROTOCOL}.
+     */
+    @Override
+    public int getProtocol() {
+        return PROTOCOL;
+    }
+
+    /**
+     * Method to obtain the version of the bridge which registered the service.
+     *
+     * @return FactionsBridge version.
+     */
+    @NotNull
+    @Override
+    public String getBridgeVersion() {
+        return FactionsBridge.getVersion();
+    }
+
+    /**
+     * Method to obtain the plugin which connected the shared bridge.
+     *
+     * @return {@link Plugin} owning the service.
+     */
+    @NotNull
+    @Override
+    public Plugin getOwner() {
+        return owner;
+    }
+
+    /**
+     * Method to obtain the name of the hooked Provider.
+     *
+     * @return Provider name, or {@code null} if none was hooked.
+     */
+    @Nullable
+    @Override
+    public String getProviderName() {
+        return provider;
+    }
+
+    /**
+     * Method to obtain the FactionsAPI of the shared bridge.
+     * <p>
+     *     Calls from attached copies are recorded by the {@link Instrumentation} of this copy while it is enabled.
+     * </p>
+     *
+     * @return {@link FactionsBridge#getFactionsAPI()}.
+     */
+    @NotNull
+    @Override
+    public Object getFactionsAPI() {
+        return FactionsBridge.getFactionsAPI();
+    }
+
+    /**
+     * Method to obtain a bridge event class of this copy.
+     *
+     * @param simpleName of the event, for example {@code FactionClaimEvent}.
+     * @return the event class, or {@code null} if there is no such event.
+     */
+    @Nullable
+    @Override
+    public Class<?> getEventClass(@NotNull String simpleName) {
+        try {
+            final String events = FactionClaimEvent.class.getName();
+            return Class.forName(events.substring(0, events.lastIndexOf('.') + 1) + simpleName,
+                    false, FactionClaimEvent.class.getClassLoader());
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to attach a plugin to the shared bridge.
+     *
+     * @param consumer which attached.
+     */
+    @Override
+    public void attach(@NotNull Plugin consumer) {
+        consumers.add(consumer.getName());
+    }
+
+    /**
+     * Method to detach a plugin from the shared bridge, removing its relays.
+     *
+     * @param consumer which attached.
+     */
+    @Override
+    public void detach(@NotNull Plugin consumer) {
+        consumers.remove(consumer.getName());
+        FactionsBridge.get().getEventDispatcher().removeRelays(consumer);
+    }
+
+    /**
+     * Method to relay a bridge event of this copy to an attached copy.
+     *
+     * @param consumer   which attached.
+     * @param simpleName of the event, for example {@code FactionClaimEvent}.
+     * @param wanted     {@code true} while the attached copy listens for or observes the event.
+     * @param relay      to give each event of this copy to.
+     * @return {@code true} if this copy has such an event.
+     * @see EventDispatcher#relay(Plugin, Class, BooleanSupplier, Consumer)
+     */
+    @Override
+    public boolean relay(@NotNull Plugin consumer, @NotNull String simpleName, @NotNull BooleanSupplier wanted,
+                         @NotNull Consumer<Object> relay) {
+        final Class<?> type = getEventClass(simpleName);
+        if (type == null || !Event.class.isAssignableFrom(type)) return false;
+        FactionsBridge.get().getEventDispatcher().relay(consumer, type.asSubclass(Event.class), wanted, relay);
+        return true;
+    }
+
+    /**
+     * Method to obtain the plugins which attached to the shared bridge.
+     *
+     * @return {@link List} of plugin names, in the order they attached.
+     */
+    @NotNull
+    @Override
+    public List<String> getConsumers() {
+        return new ArrayList<>(consumers);
+    }
+
+    /**
+     * Method to record a phase of connecting an attached copy in the startup timeline of this copy.
+     *
+     * @param consumer which attached.
+     * @param phase    name of the phase.
+     * @param start    of the phase, from {@link System#nanoTime()}.
+     * @param end      of the phase, from {@link System#nanoTime()}.
+     */
+    @Override
+    public void recordStartupPhase(@NotNull String consumer, @NotNull String phase, long start, long end) {
+        final StartupTimeline timeline = FactionsBridge.get().getStartupTimeline();
+        timeline.setProvider(consumer, provider);
+        timeline.record(consumer, phase, start, end);
+    }
+
+    /**
+     * Method to obtain the startup timeline of this copy, including the phases of every attached copy.
+     *
+     * @return {@link StartupTimeline#toMaps()}.
+     */
+    @NotNull
+    @Override
+    public List<Map<String, Object>> getStartupPhases() {
+        return FactionsBridge.get().getStartupTimeline().toMaps();
+    }
+
+}
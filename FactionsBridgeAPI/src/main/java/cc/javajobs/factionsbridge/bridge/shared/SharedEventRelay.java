@@ -0,0 +1,294 @@
+package cc.javajobs.factionsbridge.bridge.shared;
+
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRoleChangeEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimAllEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * The SharedEventRelay class calls the bridge events of this copy when the shared bridge calls its own.
+ * <p>
+ *     A copy which attached to a shared bridge doesn't listen to the Provider, so the Provider events are only
+ *     translated once per server.
+ *     <br>Each event type is relayed through {@link BridgeService#relay}, rather than a Bukkit listener, so the
+ *     shared bridge only creates an event for this copy while something listens to or observes the event of this
+ *     copy (see {@link EventDispatcher}).
+ *     <br>Each relayed event wraps the same Provider event, so cancelling it cancels the Provider event.
+ *     The {@link FactionCreateEvent} doesn't expose its Provider event, so it wraps the event of the shared bridge.
+ * </p>
+ * <p>
+ *     The {@link cc.javajobs.factionsbridge.bridge.events.FactionClaimsChangedEvent} isn't relayed,
+ *     as it is called by the ClaimChangeBatcher of this copy from the relayed claim events.
+ *     <br>When the plugin owning the shared bridge is disabled, the relay detaches and tells the bridge of this copy,
+ *     which re-attaches to another shared bridge or hooks the Provider itself.
+ *     <br>This class is not thread-safe and should only be used on the main thread.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 20:50
+ */
+public class SharedEventRelay implements Listener, Communicator {
+
+    /**
+     * The shared bridge to relay the events of.
+     */
+    private final BridgeService service;
+
+    /**
+     * The dispatcher of this copy, which calls the relayed events.
+     */
+    private final EventDispatcher dispatcher;
+
+    /**
+     * Called once the plugin owning the shared bridge is disabled.
+     */
+    private final Runnable detached;
+
+    /**
+     * The plugin the relays were registered for, {@code null} until {@link #register(Plugin)} is called.
+     */
+    private Plugin plugin = null;
+
+    /**
+     * Constructor to create a SharedEventRelay.
+     *
+     * @param service    to relay the events of.
+     * @param dispatcher of this copy, which calls the relayed events.
+     * @param detached   called once the plugin owning the shared bridge is disabled.
+     */
+    public SharedEventRelay(@NotNull BridgeService service, @NotNull EventDispatcher dispatcher,
+                            @NotNull Runnable detached) {
+        this.service = service;
+        this.dispatcher = dispatcher;
+        this.detached = detached;
+    }
+
+    /**
+     * Method to start relaying the events of the shared bridge.
+     *
+     * @param plugin to register the relays for.
+     */
+    public void register(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        relay(FactionClaimEvent.class, (getters, event) -> new FactionClaimEvent(
+                getters.local(event, "getClaim", Claim.class), getters.local(event, "getFaction", Faction.class),
+                getters.local(event, "getFPlayer", FPlayer.class), getters.other(event)
+        ));
+        relay(FactionUnclaimEvent.class, (getters, event) -> new FactionUnclaimEvent(
+                getters.local(event, "getClaim", Claim.class), getters.local(event, "getFaction", Faction.class),
+                getters.local(event, "getFPlayer", FPlayer.class), getters.other(event)
+        ));
+        relay(FactionUnclaimAllEvent.class, (getters, event) -> new FactionUnclaimAllEvent(
+                getters.local(event, "getFaction", Faction.class), getters.local(event, "getFPlayer", FPlayer.class),
+                getters.other(event)
+        ));
+        relay(FactionCreateEvent.class, (getters, event) -> new FactionCreateEvent(
+                getters.local(event, "getFaction", Faction.class), getters.local(event, "getFPlayer", FPlayer.class),
+                event, Boolean.TRUE.equals(getters.get(event, "isCommitted"))
+        ));
+        relay(FactionDisbandEvent.class, (getters, event) -> new FactionDisbandEvent(
+                getters.local(event, "getFPlayer", FPlayer.class), getters.local(event, "getFaction", Faction.class),
+                getters.reason(event, FactionDisbandEvent.DisbandReason.class,
+                        FactionDisbandEvent.DisbandReason.UNKNOWN),
+                getters.other(event)
+        ));
+        relay(FactionJoinEvent.class, (getters, event) -> new FactionJoinEvent(
+                getters.local(event, "getFaction", Faction.class), getters.local(event, "getFPlayer", FPlayer.class),
+                getters.other(event)
+        ));
+        relay(FactionLeaveEvent.class, (getters, event) -> new FactionLeaveEvent(
+                getters.local(event, "getFaction", Faction.class), getters.local(event, "getFPlayer", FPlayer.class),
+                getters.reason(event, FactionLeaveEvent.LeaveReason.class, FactionLeaveEvent.LeaveReason.UNKNOWN),
+                getters.other(event)
+        ));
+        relay(FactionRelationshipEvent.class, (getters, event) -> new FactionRelationshipEvent(
+                getters.local(event, "getFaction", Faction.class), getters.local(event, "getOther", Faction.class),
+                getters.local(event, "getRelationship", Relationship.class), getters.other(event)
+        ));
+        relay(FactionRenameEvent.class, (getters, event) -> new FactionRenameEvent(
+                getters.local(event, "getFaction", Faction.class), String.valueOf(getters.get(event, "getName")),
+                getters.other(event)
+        ));
+        relay(FactionRoleChangeEvent.class, (getters, event) -> new FactionRoleChangeEvent(
+                getters.local(event, "getFaction", Faction.class), getters.local(event, "getFPlayer", FPlayer.class),
+                getters.local(event, "getRole", Role.class), getters.other(event)
+        ));
+    }
+
+    /**
+     * Method to detach from the shared bridge once either plugin is disabled.
+     * <p>
+     *     If this copy is disabled, the shared bridge forgets its relays.
+     *     <br>If the shared bridge is disabled, its relays go with it, and the bridge of this copy is told.
+     * </p>
+     *
+     * @param event called by Bukkit, before the plugin is disabled.
+     */
+    @EventHandler
+    public void onDisable(@NotNull PluginDisableEvent event) {
+        if (event.getPlugin().equals(plugin)) {
+            HandlerList.unregisterAll(this);
+            service.detach(plugin);
+        } else if (event.getPlugin().equals(service.getOwner())) {
+            HandlerList.unregisterAll(this);
+            warn("The shared FactionsBridge of " + event.getPlugin().getName() + " is being disabled, detaching.");
+            detached.run();
+        }
+    }
+
+    /**
+     * Method to relay one event of the shared bridge.
+     *
+     * @param type        of the event of this copy.
+     * @param translation from the event of the shared bridge to the event of this copy.
+     * @param <E>         type of the event.
+     */
+    private <E extends Event> void relay(@NotNull Class<E> type, @NotNull BiFunction<Getters, Event, E> translation) {
+        final Class<?> foreign = service.getEventClass(type.getSimpleName());
+        if (foreign == null || !Event.class.isAssignableFrom(foreign)) {
+            warn("The shared FactionsBridge has no " + type.getSimpleName() + ", it won't be relayed.");
+            return;
+        }
+        final Getters getters = new Getters(foreign);
+        service.relay(plugin, type.getSimpleName(), () -> dispatcher.isWanted(type), object -> {
+            final Event event = (Event) object;
+            final E local;
+            try {
+                local = translation.apply(getters, event);
+            } catch (RuntimeException ex) {
+                exception(ex, "Failed to relay the " + type.getSimpleName() + " of the shared FactionsBridge.");
+                return;
+            }
+            dispatcher.call(event, local);
+        });
+    }
+
+    /**
+     * The Getters class holds the getters of one event class of the shared bridge, bound once when the relay
+     * is registered.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 21:40
+     */
+    private static final class Getters {
+
+        /**
+         * Getter name to getter lookup.
+         */
+        private final Map<String, Method> methods = new HashMap<>();
+
+        /**
+         * Constructor to bind the getters of an event class of the shared bridge.
+         *
+         * @param foreign event class of the shared bridge.
+         */
+        private Getters(@NotNull Class<?> foreign) {
+            for (Method method : foreign.getMethods()) {
+                if (method.getParameterCount() != 0 || method.getDeclaringClass() == Object.class) continue;
+                try {
+                    method.setAccessible(true);
+                } catch (RuntimeException ignored) {
+                    // The getter is public, so only a non-public event class would fail.
+                }
+                methods.put(method.getName(), method);
+            }
+        }
+
+        /**
+         * Method to obtain a bridge object from an event of the shared bridge.
+         *
+         * @param event  of the shared bridge.
+         * @param getter name of the getter.
+         * @param type   local type of the object.
+         * @param <T>    local type of the object.
+         * @return the converted object, or {@code null} if the event has no such getter.
+         */
+        @Nullable
+        private <T> T local(@NotNull Event event, @NotNull String getter, @NotNull Class<T> type) {
+            return type.cast(ForeignHandler.toLocal(get(event, getter), type));
+        }
+
+        /**
+         * Method to obtain the reason of an event of the shared bridge.
+         *
+         * @param event    of the shared bridge.
+         * @param type     of the reason.
+         * @param fallback used if the reason is missing or unknown to this copy.
+         * @param <T>      type of the reason.
+         * @return the reason.
+         */
+        @NotNull
+        private <T extends Enum<T>> T reason(@NotNull Event event, @NotNull Class<T> type, @NotNull T fallback) {
+            try {
+                final T reason = local(event, "getReason", type);
+                return reason == null ? fallback : reason;
+            } catch (IllegalArgumentException ex) {
+                return fallback;
+            }
+        }
+
+        /**
+         * Method to obtain the Provider event behind an event of the shared bridge.
+         *
+         * @param event of the shared bridge.
+         * @return the Provider {@link Event}, or {@code null} if there is none.
+         */
+        @Nullable
+        private Event other(@NotNull Event event) {
+            final Object other = get(event, "getEvent");
+            return other instanceof Event ? (Event) other : null;
+        }
+
+        /**
+         * Method to call a getter of an event of the shared bridge.
+         *
+         * @param event  of the shared bridge.
+         * @param getter name of the getter.
+         * @return the result of the getter, or {@code null} if the event has no such getter.
+         */
+        @Nullable
+        private Object get(@NotNull Event event, @NotNull String getter) {
+            final Method method = methods.get(getter);
+            if (method == null) return null;
+            try {
+                return method.invoke(event);
+            } catch (IllegalAccessException ex) {
+                return null;
+            } catch (InvocationTargetException ex) {
+                final Throwable cause = ex.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+package cc.javajobs.factionsbridge.bridge.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The BridgeSnapshot class is an immutable, versioned view of every Faction and claim at the time of capture.
+ * <p>
+ *     Snapshots are captured on the main thread by the {@link SnapshotManager} and published as a whole,
+ *     so a reader always sees one consistent version, from any thread, without synchronisation.
+ * </p>
+ * <p>
+ *     This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 13:30
+ */
+public final class BridgeSnapshot {
+
+    /**
+     * The snapshot published before the first capture completes.
+     */
+    public static final BridgeSnapshot EMPTY = new BridgeSnapshot(0, 0, Collections.emptyMap(), Collections.emptyMap());
+
+    /**
+     * Version of the snapshot, increasing by one for each capture.
+     */
+    private final long version;
+
+    /**
+     * Time the capture completed, in milliseconds since the epoch.
+     */
+    private final long capturedAt;
+
+    /**
+     * Faction id to Faction lookup.
+     */
+    private final Map<String, FactionSnapshot> factions;
+
+    /**
+     * Lowercase Faction name to Faction lookup.
+     */
+    private final Map<String, FactionSnapshot> factionsByName;
+
+    /**
+     * World name to claims lookup.
+     */
+    private final Map<String, WorldClaimsSnapshot> worlds;
+
+    /**
+     * Constructor to create a BridgeSnapshot.
+     * <p>
+     *     The maps are owned by the snapshot and must not be modified afterwards.
+     * </p>
+     *
+     * @param version    of the snapshot.
+     * @param capturedAt time of capture.
+     * @param factions   Faction id to Faction lookup.
+     * @param worlds     World name to claims lookup.
+     */
+    BridgeSnapshot(long version, long capturedAt, @NotNull Map<String, FactionSnapshot> factions,
+                   @NotNull Map<String, WorldClaimsSnapshot> worlds) {
+        this.version = version;
+        this.capturedAt = capturedAt;
+        this.factions = Collections.unmodifiableMap(factions);
+        this.worlds = Collections.unmodifiableMap(worlds);
+        final Map<String, FactionSnapshot> byName = new HashMap<>();
+        for (FactionSnapshot faction : factions.values()) byName.put(faction.getName().toLowerCase(), faction);
+        this.factionsByName = byName;
+    }
+
+    /**
+     * Method to obtain the version of the snapshot.
+     *
+     * @return version, {@code 0} for {@link #EMPTY}.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Method to obtain the time the snapshot was captured.
+     *
+     * @return milliseconds since the epoch, {@code 0} for {@link #EMPTY}.
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * Method to obtain every Faction.
+     *
+     * @return unmodifiable Collection of {@link FactionSnapshot}.
+     */
+    @NotNull
+    public Collection<FactionSnapshot> getFactions() {
+        return factions.values();
+    }
+
+    /**
+     * Method to obtain a Faction by Id.
+     *
+     * @param id of the Faction.
+     * @return {@link FactionSnapshot} or {@code null}.
+     */
+    @Nullable
+    public FactionSnapshot getFaction(@NotNull String id) {
+        return factions.get(id);
+    }
+
+    /**
+     * Method to obtain a Faction by name, ignoring case.
+     *
+     * @param name of the Faction.
+     * @return {@link FactionSnapshot} or {@code null}.
+     */
+    @Nullable
+    public FactionSnapshot getFactionByName(@NotNull String name) {
+        return factionsByName.get(name.toLowerCase());
+    }
+
+    /**
+     * Method to obtain the claims of a World.
+     *
+     * @param world name of the World.
+     * @return {@link WorldClaimsSnapshot} or {@code null} if the World had no claims.
+     */
+    @Nullable
+    public WorldClaimsSnapshot getWorld(@NotNull String world) {
+        return worlds.get(world);
+    }
+
+    /**
+     * Method to obtain the claims of every World.
+     *
+     * @return unmodifiable Collection of {@link WorldClaimsSnapshot}.
+     */
+    @NotNull
+    public Collection<WorldClaimsSnapshot> getWorlds() {
+        return worlds.values();
+    }
+
+    /**
+     * Method to obtain the Faction which owned the given chunk.
+     *
+     * @param world name of the chunk.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return {@link FactionSnapshot} or {@code null} if the chunk wasn't claimed.
+     */
+    @Nullable
+    public FactionSnapshot getFactionAt(@NotNull String world, int x, int z) {
+        final WorldClaimsSnapshot claims = worlds.get(world);
+        return claims == null ? null : claims.getFactionAt(x, z);
+    }
+
+    /**
+     * Method to obtain the String representation of the {@link BridgeSnapshot}.
+     *
+     * @return String representation of the {@link BridgeSnapshot}.
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return "BridgeSnapshot={version:" + version + ",factions:" + factions.size() + ",worlds:" + worlds.size() + "}";
+    }
+
+}
@@ -0,0 +1,124 @@
+package cc.javajobs.factionsbridge.bridge.snapshot;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The FPlayerSnapshot class is an immutable copy of an {@link FPlayer} at the time of capture.
+ * <p>
+ *     This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 13:05
+ */
+public final class FPlayerSnapshot {
+
+    /**
+     * UUID of the FPlayer.
+     */
+    private final UUID uniqueId;
+
+    /**
+     * Name of the FPlayer.
+     */
+    private final String name;
+
+    /**
+     * Role of the FPlayer in their Faction.
+     */
+    private final Role role;
+
+    /**
+     * Power of the FPlayer.
+     */
+    private final double power;
+
+    /**
+     * Title of the FPlayer, can be {@code null}.
+     */
+    private final String title;
+
+    /**
+     * Constructor to create an FPlayerSnapshot.
+     *
+     * @param uniqueId of the FPlayer.
+     * @param name     of the FPlayer.
+     * @param role     of the FPlayer.
+     * @param power    of the FPlayer.
+     * @param title    of the FPlayer, or {@code null}.
+     */
+    public FPlayerSnapshot(@NotNull UUID uniqueId, @NotNull String name, @NotNull Role role, double power,
+                           @Nullable String title) {
+        this.uniqueId = uniqueId;
+        this.name = name;
+        this.role = role;
+        this.power = power;
+        this.title = title;
+    }
+
+    /**
+     * Method to obtain the UUID of the FPlayer.
+     *
+     * @return {@link UUID} of the FPlayer.
+     */
+    @NotNull
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    /**
+     * Method to obtain the name of the FPlayer.
+     *
+     * @return name of the FPlayer.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Method to obtain the Role of the FPlayer.
+     *
+     * @return {@link Role} of the FPlayer.
+     */
+    @NotNull
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * Method to obtain the power of the FPlayer.
+     *
+     * @return power of the FPlayer.
+     */
+    public double getPower() {
+        return power;
+    }
+
+    /**
+     * Method to obtain the title of the FPlayer.
+     *
+     * @return title or {@code null}.
+     */
+    @Nullable
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Method to obtain the String representation of the {@link FPlayerSnapshot}.
+     *
+     * @return String representation of the {@link FPlayerSnapshot}.
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return "FPlayerSnapshot={uuid:" + uniqueId + ",name:" + name + ",role:" + role + ",power:" + power + "}";
+    }
+
+}
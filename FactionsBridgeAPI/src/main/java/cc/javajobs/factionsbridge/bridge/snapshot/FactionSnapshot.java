@@ -0,0 +1,214 @@
+package cc.javajobs.factionsbridge.bridge.snapshot;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The FactionSnapshot class is an immutable copy of a {@link Faction} at the time of capture.
+ * <p>
+ *     The claims of the Faction are held by the {@link WorldClaimsSnapshot}s of the same {@link BridgeSnapshot}.
+ *     <br>Relations only include Factions with a Relationship other than {@link Relationship#NONE}.
+ * </p>
+ * <p>
+ *     This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 13:10
+ */
+public final class FactionSnapshot {
+
+    /**
+     * Id of the Faction.
+     */
+    private final String id;
+
+    /**
+     * Name of the Faction.
+     */
+    private final String name;
+
+    /**
+     * UUID of the leader of the Faction, can be {@code null}.
+     */
+    private final UUID leader;
+
+    /**
+     * Members of the Faction.
+     */
+    private final List<FPlayerSnapshot> members;
+
+    /**
+     * Faction id to Relationship lookup.
+     */
+    private final Map<String, Relationship> relations;
+
+    /**
+     * Power of the Faction.
+     */
+    private final double power;
+
+    /**
+     * Bank balance of the Faction.
+     */
+    private final double bank;
+
+    /**
+     * Amount of claims of the Faction.
+     */
+    private final int claimCount;
+
+    /**
+     * {@code true} if the Faction is the Wilderness, WarZone or SafeZone.
+     */
+    private final boolean serverFaction;
+
+    /**
+     * Constructor to create a FactionSnapshot.
+     *
+     * @param id            of the Faction.
+     * @param name          of the Faction.
+     * @param leader        of the Faction, or {@code null}.
+     * @param members       of the Faction, the list is copied.
+     * @param relations     of the Faction, the map is copied.
+     * @param power         of the Faction.
+     * @param bank          of the Faction.
+     * @param claimCount    of the Faction.
+     * @param serverFaction {@code true} if the Faction is a server Faction.
+     */
+    public FactionSnapshot(@NotNull String id, @NotNull String name, @Nullable UUID leader,
+                           @NotNull List<FPlayerSnapshot> members, @NotNull Map<String, Relationship> relations,
+                           double power, double bank, int claimCount, boolean serverFaction) {
+        this.id = id;
+        this.name = name;
+        this.leader = leader;
+        this.members = members.isEmpty()
+                ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(members));
+        this.relations = relations.isEmpty()
+                ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(relations));
+        this.power = power;
+        this.bank = bank;
+        this.claimCount = claimCount;
+        this.serverFaction = serverFaction;
+    }
+
+    /**
+     * Method to obtain the Id of the Faction.
+     *
+     * @return Id of the Faction.
+     */
+    @NotNull
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Method to obtain the name of the Faction.
+     *
+     * @return name of the Faction.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Method to obtain the UUID of the leader of the Faction.
+     *
+     * @return {@link UUID} or {@code null} if the Faction doesn't have a leader.
+     */
+    @Nullable
+    public UUID getLeader() {
+        return leader;
+    }
+
+    /**
+     * Method to obtain the members of the Faction.
+     *
+     * @return unmodifiable List of {@link FPlayerSnapshot}.
+     */
+    @NotNull
+    public List<FPlayerSnapshot> getMembers() {
+        return members;
+    }
+
+    /**
+     * Method to obtain the Relationship between this Faction and another Faction.
+     *
+     * @param faction to get the relative relationship to this Faction.
+     * @return {@link Relationship} enumeration.
+     */
+    @NotNull
+    public Relationship getRelationshipTo(@NotNull FactionSnapshot faction) {
+        if (faction.id.equals(id)) return Relationship.MEMBER;
+        return relations.getOrDefault(faction.id, Relationship.DEFAULT_RELATIONSHIP);
+    }
+
+    /**
+     * Method to obtain every Relationship of the Faction other than {@link Relationship#NONE}.
+     *
+     * @return unmodifiable Map of Faction id to {@link Relationship}.
+     */
+    @NotNull
+    public Map<String, Relationship> getRelations() {
+        return relations;
+    }
+
+    /**
+     * Method to obtain the power of the Faction.
+     *
+     * @return power of the Faction.
+     */
+    public double getPower() {
+        return power;
+    }
+
+    /**
+     * Method to obtain the bank balance of the Faction.
+     *
+     * @return balance, {@code 0} if the Provider doesn't support banks.
+     */
+    public double getBank() {
+        return bank;
+    }
+
+    /**
+     * Method to obtain the amount of claims of the Faction.
+     *
+     * @return amount of claims.
+     */
+    public int getClaimCount() {
+        return claimCount;
+    }
+
+    /**
+     * Method to determine if the Faction is the Wilderness, WarZone or SafeZone.
+     *
+     * @return {@code true} if it is.
+     */
+    public boolean isServerFaction() {
+        return serverFaction;
+    }
+
+    /**
+     * Method to obtain the String representation of the {@link FactionSnapshot}.
+     *
+     * @return String representation of the {@link FactionSnapshot}.
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return "FactionSnapshot={id:" + id + ",name:" + name + ",members:" + members.size()
+                + ",claims:" + claimCount + ",power:" + power + "}";
+    }
+
+}
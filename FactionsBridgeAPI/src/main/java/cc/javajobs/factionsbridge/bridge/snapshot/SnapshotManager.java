@@ -0,0 +1,402 @@
+package cc.javajobs.factionsbridge.bridge.snapshot;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
+import cc.javajobs.factionsbridge.bridge.index.FactionHandleRegistry;
+import cc.javajobs.factionsbridge.bridge.index.LongIntHashMap;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The SnapshotManager captures {@link BridgeSnapshot}s and publishes them for every thread to read.
+ * <p>
+ *     A capture runs on the main thread, a few Factions each tick, stopping once the tick's time budget
+ *     ({@link #DEFAULT_BUDGET_NANOS} by default) has been used, so a large server never stalls a tick.
+ *     <br>Once every Faction has been captured, the new snapshot replaces the old one through a single
+ *     volatile write, so {@link #getSnapshot()} is safe to call from any thread without locking.
+ * </p>
+ * <p>
+ *     Claims are read from the {@link ClaimIndex} once per capture when it has been built, otherwise from each
+ *     Faction.
+ *     <br>Relationships are only asked for the Factions listed by {@link Faction#getRelationshipCandidates()},
+ *     falling back to every other Faction if the Provider can't list them.
+ * </p>
+ * <p>
+ *     Each Faction is captured within a single tick, however a capture as a whole spans several ticks,
+ *     so a Faction which changed part-way through a capture may appear as it was before the change.
+ *     <br>Captures are only started on request, use {@link #refresh(Plugin)} or {@link #schedule(Plugin, long)}.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 13:40
+ */
+public class SnapshotManager implements Communicator {
+
+    /**
+     * The default amount of time a capture may use each tick.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * The API to capture the snapshots from.
+     */
+    private final Supplier<FactionsAPI> api;
+
+    /**
+     * The latest published snapshot.
+     */
+    private volatile BridgeSnapshot snapshot = BridgeSnapshot.EMPTY;
+
+    /**
+     * The amount of time a capture may use each tick, in nanoseconds.
+     */
+    private volatile long budget = DEFAULT_BUDGET_NANOS;
+
+    /**
+     * The capture in progress, only accessed on the main thread.
+     */
+    private Capture capture = null;
+
+    /**
+     * The task which refreshes the snapshot periodically, can be {@code null}.
+     */
+    private BukkitTask refreshTask = null;
+
+    /**
+     * Constructor to initialise a SnapshotManager.
+     *
+     * @param api supplier of the API to capture the snapshots from.
+     */
+    public SnapshotManager(@NotNull Supplier<FactionsAPI> api) {
+        this.api = api;
+    }
+
+    /**
+     * Method to obtain the latest published snapshot.
+     * <p>
+     *     This method can be called from any thread.
+     * </p>
+     *
+     * @return {@link BridgeSnapshot}, {@link BridgeSnapshot#EMPTY} until the first capture completes.
+     */
+    @NotNull
+    public BridgeSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Method to set the amount of time a capture may use each tick.
+     *
+     * @param budget in nanoseconds, at least one Faction is captured each tick regardless.
+     */
+    public void setBudget(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Method to start a capture, unless one is already in progress.
+     * <p>
+     *     This method can be called from any thread, the capture is always run on the main thread.
+     * </p>
+     *
+     * @param plugin to schedule the capture for.
+     */
+    public void refresh(@NotNull Plugin plugin) {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(plugin, () -> refresh(plugin));
+            return;
+        }
+        if (capture != null) return;
+        final FactionsAPI factionsAPI = api.get();
+        if (factionsAPI == null) return;
+        capture = new Capture(factionsAPI.getFactions());
+        capture.task = Bukkit.getScheduler().runTaskTimer(plugin, capture, 0L, 1L);
+    }
+
+    /**
+     * Method to refresh the snapshot periodically, replacing any previous schedule.
+     *
+     * @param plugin to schedule the captures for.
+     * @param period between the start of each capture, in ticks.
+     */
+    public void schedule(@NotNull Plugin plugin, long period) {
+        cancel();
+        refreshTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> refresh(plugin), 0L, period);
+    }
+
+    /**
+     * Method to stop the periodic refresh and any capture in progress.
+     * <p>
+     *     The latest published snapshot remains available.
+     * </p>
+     */
+    public void cancel() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+        if (capture != null) {
+            capture.task.cancel();
+            capture = null;
+        }
+    }
+
+    /**
+     * Method to determine if a capture is in progress.
+     *
+     * @return {@code true} if it is.
+     */
+    public boolean isCapturing() {
+        return capture != null;
+    }
+
+    /**
+     * Method to read a value from the Provider, falling back if the Provider doesn't support it.
+     *
+     * @param getter   to read the value with.
+     * @param fallback to use if the read fails.
+     * @param <T>      type of the value.
+     * @return the value or the fallback.
+     */
+    private static <T> T read(@NotNull Supplier<T> getter, T fallback) {
+        try {
+            final T value = getter.get();
+            return value == null ? fallback : value;
+        } catch (Exception ex) {
+            return fallback;
+        }
+    }
+
+    /**
+     * The Capture class copies the Factions, a time slice at a time, and publishes the snapshot when done.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 13:40
+     */
+    private class Capture implements Runnable {
+
+        /**
+         * The Factions to capture.
+         */
+        private final List<Faction> factions;
+
+        /**
+         * The Factions which can have Relationships (every Faction which isn't a server Faction).
+         */
+        private final List<Faction> relationTargets = new ArrayList<>();
+
+        /**
+         * Faction id to (Faction id to Faction) lookup of the Factions which may be related,
+         * {@code null} if the Provider can't list them.
+         */
+        private Map<String, Map<String, Faction>> candidates = new HashMap<>();
+
+        /**
+         * Slot to amount of Claims lookup, {@code null} if the Claims are read from each Faction.
+         */
+        private int[] claimCounts = null;
+
+        /**
+         * Faction id to captured Faction lookup.
+         */
+        private final Map<String, FactionSnapshot> captured;
+
+        /**
+         * Slot to captured Faction lookup, slot {@code 0} is unused.
+         */
+        private final FactionSnapshot[] slots;
+
+        /**
+         * World name to (packed chunk to slot) lookup.
+         */
+        private final Map<String, LongIntHashMap> worlds = new HashMap<>();
+
+        /**
+         * The index of the next Faction to capture.
+         */
+        private int next = 0;
+
+        /**
+         * The task running this capture.
+         */
+        private BukkitTask task;
+
+        /**
+         * Constructor to initialise a Capture.
+         *
+         * @param factions to capture.
+         */
+        private Capture(@NotNull List<Faction> factions) {
+            this.factions = factions;
+            this.captured = new LinkedHashMap<>(factions.size() * 2);
+            this.slots = new FactionSnapshot[factions.size() + 1];
+            for (Faction faction : factions) {
+                if (!read(faction::isServerFaction, true)) relationTargets.add(faction);
+            }
+            collectCandidates();
+            readClaimIndex();
+        }
+
+        /**
+         * Method to collect the Factions which may be related, in both directions, from the Provider's lists.
+         */
+        private void collectCandidates() {
+            for (Faction faction : relationTargets) {
+                final Collection<Faction> related = read(faction::getRelationshipCandidates, null);
+                if (related == null) {
+                    candidates = null;
+                    return;
+                }
+                for (Faction other : related) {
+                    if (other.getId().equals(faction.getId())) continue;
+                    candidates.computeIfAbsent(faction.getId(), id -> new HashMap<>()).put(other.getId(), other);
+                    candidates.computeIfAbsent(other.getId(), id -> new HashMap<>()).put(faction.getId(), faction);
+                }
+            }
+        }
+
+        /**
+         * Method to read every Claim from the {@link ClaimIndex} in one pass, if it has been built.
+         */
+        private void readClaimIndex() {
+            final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+            if (!index.isBuilt()) return;
+            final FactionHandleRegistry handles = FactionsBridge.get().getFactionHandles();
+            final LongIntHashMap handleSlots = new LongIntHashMap(factions.size(), 0);
+            for (int i = 0; i < factions.size(); i++) handleSlots.put(handles.handleOf(factions.get(i)), i + 1);
+            claimCounts = new int[slots.length];
+            index.forEachClaim((world, chunk, handle) -> {
+                final int slot = handleSlots.get(handle);
+                if (slot == 0) return;
+                worlds.computeIfAbsent(world, name -> new LongIntHashMap(0)).put(chunk, slot);
+                claimCounts[slot]++;
+            });
+        }
+
+        /**
+         * Method to capture Factions until the budget for this tick has been used.
+         */
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            do {
+                if (next == factions.size()) {
+                    publish();
+                    return;
+                }
+                final int slot = ++next;
+                captureFaction(factions.get(slot - 1), slot);
+            } while (System.nanoTime() - start < budget);
+        }
+
+        /**
+         * Method to capture one Faction.
+         * <p>
+         *     A Faction which fails to capture is skipped, so that one broken Faction doesn't stop the capture.
+         * </p>
+         *
+         * @param faction to capture.
+         * @param slot    to store the Faction in.
+         */
+        private void captureFaction(@NotNull Faction faction, int slot) {
+            try {
+                final boolean serverFaction = read(faction::isServerFaction, true);
+                final List<FPlayerSnapshot> members = new ArrayList<>();
+                final Map<String, Relationship> relations = new HashMap<>();
+                if (!serverFaction) {
+                    for (FPlayer member : faction.getMembers()) {
+                        members.add(new FPlayerSnapshot(
+                                member.getUniqueId(),
+                                read(member::getName, member.getUniqueId().toString()),
+                                read(member::getRole, Role.DEFAULT_ROLE),
+                                read(member::getPower, 0.0),
+                                read(member::getTitle, null)
+                        ));
+                    }
+                    final Collection<Faction> targets = candidates == null ? relationTargets
+                            : candidates.getOrDefault(faction.getId(), Collections.emptyMap()).values();
+                    for (Faction other : targets) {
+                        if (other == faction) continue;
+                        final Relationship relationship = read(() -> faction.getRelationshipTo(other), Relationship.NONE);
+                        if (relationship != Relationship.NONE) relations.put(other.getId(), relationship);
+                    }
+                }
+                final int claims = claimCounts == null ? readClaims(faction, slot) : claimCounts[slot];
+                final FPlayer leader = read(faction::getLeader, null);
+                final UUID leaderId = leader == null ? null : leader.getUniqueId();
+                final FactionSnapshot snapshot = new FactionSnapshot(
+                        faction.getId(), faction.getName(), leaderId, members, relations,
+                        read(faction::getPower, 0.0), read(faction::getBank, 0.0), claims, serverFaction
+                );
+                slots[slot] = snapshot;
+                captured.put(snapshot.getId(), snapshot);
+            } catch (Exception ex) {
+                exception(ex, "Failed to capture a Faction for the snapshot.");
+            }
+        }
+
+        /**
+         * Method to read the Claims of one Faction, used when the {@link ClaimIndex} hasn't been built.
+         *
+         * @param faction to read the Claims of.
+         * @param slot    the Faction is stored in.
+         * @return amount of Claims read.
+         */
+        private int readClaims(@NotNull Faction faction, int slot) {
+            int claims = 0;
+            for (Claim claim : read(faction::getAllClaims, Collections.<Claim>emptyList())) {
+                worlds.computeIfAbsent(claim.getWorldName(), name -> new LongIntHashMap(0))
+                        .put(ChunkKey.pack(claim.getX(), claim.getZ()), slot);
+                claims++;
+            }
+            return claims;
+        }
+
+        /**
+         * Method to build the World claims and publish the snapshot.
+         */
+        private void publish() {
+            task.cancel();
+            capture = null;
+            final Map<String, WorldClaimsSnapshot> worldClaims = new HashMap<>(worlds.size() * 2);
+            for (Map.Entry<String, LongIntHashMap> entry : worlds.entrySet()) {
+                final LongIntHashMap claims = entry.getValue();
+                final long[] chunks = new long[claims.size()];
+                final int[] size = {0};
+                claims.forEach((key, slot) -> {
+                    if (slots[slot] != null) chunks[size[0]++] = key;
+                });
+                final long[] sorted = Arrays.copyOf(chunks, size[0]);
+                Arrays.sort(sorted);
+                final FactionSnapshot[] owners = new FactionSnapshot[sorted.length];
+                for (int i = 0; i < sorted.length; i++) owners[i] = slots[claims.get(sorted[i])];
+                worldClaims.put(entry.getKey(), new WorldClaimsSnapshot(entry.getKey(), sorted, owners));
+            }
+            snapshot = new BridgeSnapshot(snapshot.getVersion() + 1, System.currentTimeMillis(), captured, worldClaims);
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+package cc.javajobs.factionsbridge.bridge.snapshot;
+
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * The WorldClaimsSnapshot class is an immutable copy of every claim of one World at the time of capture.
+ * <p>
+ *     The chunks are stored sorted, packed using {@link ChunkKey#pack(int, int)}, alongside an array of
+ *     their owners, so a lookup is a binary search over a primitive array.
+ * </p>
+ * <p>
+ *     This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 13:20
+ */
+public final class WorldClaimsSnapshot {
+
+    /**
+     * Name of the World.
+     */
+    private final String worldName;
+
+    /**
+     * Sorted packed chunk coordinates.
+     */
+    private final long[] chunks;
+
+    /**
+     * Owners of the chunks, index-aligned with {@link #chunks}.
+     */
+    private final FactionSnapshot[] owners;
+
+    /**
+     * Constructor to create a WorldClaimsSnapshot.
+     * <p>
+     *     The arrays are owned by the snapshot and must not be modified afterwards.
+     * </p>
+     *
+     * @param worldName name of the World.
+     * @param chunks    sorted packed chunk coordinates.
+     * @param owners    of the chunks, index-aligned with the chunks.
+     */
+    WorldClaimsSnapshot(@NotNull String worldName, long[] chunks, @NotNull FactionSnapshot[] owners) {
+        this.worldName = worldName;
+        this.chunks = chunks;
+        this.owners = owners;
+    }
+
+    /**
+     * Method to obtain the name of the World.
+     *
+     * @return name of the World.
+     */
+    @NotNull
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /**
+     * Method to obtain the Faction which owned the given chunk.
+     *
+     * @param x coordinate of the chunk.
+     * @param z coordinate of the chunk.
+     * @return {@link FactionSnapshot} or {@code null} if the chunk wasn't claimed.
+     */
+    @Nullable
+    public FactionSnapshot getFactionAt(int x, int z) {
+        final int index = Arrays.binarySearch(chunks, ChunkKey.pack(x, z));
+        return index < 0 ? null : owners[index];
+    }
+
+    /**
+     * Method to determine if the given chunk was claimed.
+     *
+     * @param x coordinate of the chunk.
+     * @param z coordinate of the chunk.
+     * @return {@code true} if it was.
+     */
+    public boolean isClaimed(int x, int z) {
+        return Arrays.binarySearch(chunks, ChunkKey.pack(x, z)) >= 0;
+    }
+
+    /**
+     * Method to obtain the chunks claimed by the given Faction.
+     *
+     * @param faction to obtain the chunks of.
+     * @return packed chunk coordinates, see {@link ChunkKey}.
+     */
+    public long[] getClaims(@NotNull FactionSnapshot faction) {
+        int count = 0;
+        for (FactionSnapshot owner : owners) if (owner == faction) count++;
+        final long[] claims = new long[count];
+        for (int i = 0, j = 0; j < count; i++) if (owners[i] == faction) claims[j++] = chunks[i];
+        return claims;
+    }
+
+    /**
+     * Method to obtain every claimed chunk.
+     *
+     * @return copy of the sorted packed chunk coordinates, see {@link ChunkKey}.
+     */
+    public long[] getChunks() {
+        return chunks.clone();
+    }
+
+    /**
+     * Method to obtain the amount of claimed chunks.
+     *
+     * @return amount of claims.
+     */
+    public int size() {
+        return chunks.length;
+    }
+
+    /**
+     * Method to obtain the String representation of the {@link WorldClaimsSnapshot}.
+     *
+     * @return String representation of the {@link WorldClaimsSnapshot}.
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return "WorldClaimsSnapshot={world:" + worldName + ",claims:" + chunks.length + "}";
+    }
+
+}
@@ -0,0 +1,117 @@
+package cc.javajobs.factionsbridge.bridge.startup;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The StartupPhase class is one timed phase of connecting the bridge, such as discovering the Provider.
+ * <p>
+ *     Phases are immutable and are created by the {@link StartupTimeline}.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 20:10
+ */
+public class StartupPhase {
+
+    /**
+     * The name of the plugin which connected the bridge.
+     */
+    private final String consumer;
+
+    /**
+     * The name of the Provider, {@code null} if none was hooked.
+     */
+    private final String provider;
+
+    /**
+     * The name of the phase.
+     */
+    private final String name;
+
+    /**
+     * The start of the phase, in nanoseconds since the timeline was created.
+     */
+    private final long start;
+
+    /**
+     * The duration of the phase, in nanoseconds.
+     */
+    private final long duration;
+
+    /**
+     * Constructor to create a StartupPhase.
+     *
+     * @param consumer which connected the bridge.
+     * @param provider which was hooked, or {@code null}.
+     * @param name     of the phase.
+     * @param start    of the phase, in nanoseconds since the timeline was created.
+     * @param duration of the phase, in nanoseconds.
+     */
+    StartupPhase(@NotNull String consumer, @Nullable String provider, @NotNull String name, long start, long duration) {
+        this.consumer = consumer;
+        this.provider = provider;
+        this.name = name;
+        this.start = start;
+        this.duration = duration;
+    }
+
+    /**
+     * Method to obtain the name of the plugin which connected the bridge.
+     *
+     * @return plugin name.
+     */
+    @NotNull
+    public String getConsumer() {
+        return consumer;
+    }
+
+    /**
+     * Method to obtain the name of the Provider.
+     *
+     * @return Provider name, or {@code null} if none was hooked.
+     */
+    @Nullable
+    public String getProvider() {
+        return provider;
+    }
+
+    /**
+     * Method to obtain the name of the phase.
+     *
+     * @return phase name.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Method to obtain the start of the phase.
+     *
+     * @return nanoseconds since the timeline was created.
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Method to obtain the duration of the phase.
+     *
+     * @return duration in nanoseconds.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Method to obtain the phase as a String.
+     *
+     * @return {@link String} representation of this class.
+     */
+    @Override
+    public String toString() {
+        return consumer + "/" + (provider == null ? "none" : provider) + " " + name + " " + duration + "ns";
+    }
+
+}
@@ -0,0 +1,210 @@
+package cc.javajobs.factionsbridge.bridge.startup;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * The StartupTimeline class records how long each phase of connecting the bridge took.
+ * <p>
+ *     Phases are recorded per plugin which connected the bridge (the consumer), and tagged with the Provider
+ *     hooked for that consumer, so a slow start can be traced to discovery, the API class, {@code register()},
+ *     bStats or the indices.
+ *     <br>Timings are taken with {@link System#nanoTime()}, and phases start relative to the creation of the
+ *     timeline.
+ * </p>
+ * <p>
+ *     Each shaded copy of the bridge has its own timeline, but a copy attached to a shared bridge records its
+ *     phases in the timeline of the shared bridge (see {@link cc.javajobs.factionsbridge.bridge.shared.BridgeService}),
+ *     so that timeline holds every consumer of the server.
+ *     <br>A copy which doesn't share its bridge only holds its own consumers.
+ * </p>
+ * <p>
+ *     This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 20:10
+ */
+public class StartupTimeline {
+
+    /**
+     * The time the timeline was created, which phases start relative to.
+     */
+    private final long origin = System.nanoTime();
+
+    /**
+     * The recorded phases, in the order they completed.
+     */
+    private final List<StartupPhase> phases = new CopyOnWriteArrayList<>();
+
+    /**
+     * Consumer to Provider name lookup.
+     */
+    private final Map<String, String> providers = new ConcurrentHashMap<>();
+
+    /**
+     * Method to set the Provider hooked for a consumer, which tags the phases recorded after it.
+     *
+     * @param consumer which connected the bridge.
+     * @param provider which was hooked, or {@code null} if none was.
+     */
+    public void setProvider(@NotNull String consumer, @Nullable String provider) {
+        if (provider == null) providers.remove(consumer);
+        else providers.put(consumer, provider);
+    }
+
+    /**
+     * Method to record a phase.
+     *
+     * @param consumer which connected the bridge.
+     * @param phase    name of the phase.
+     * @param start    of the phase, from {@link System#nanoTime()}.
+     * @param end      of the phase, from {@link System#nanoTime()}.
+     */
+    public void record(@NotNull String consumer, @NotNull String phase, long start, long end) {
+        phases.add(new StartupPhase(consumer, providers.get(consumer), phase, start - origin, end - start));
+    }
+
+    /**
+     * Method to obtain every recorded phase.
+     *
+     * @return {@link List} of {@link StartupPhase}, in the order they completed.
+     */
+    @NotNull
+    public List<StartupPhase> getPhases() {
+        return new ArrayList<>(phases);
+    }
+
+    /**
+     * Method to obtain the recorded phases of one consumer.
+     *
+     * @param consumer which connected the bridge.
+     * @return {@link List} of {@link StartupPhase}, in the order they completed.
+     */
+    @NotNull
+    public List<StartupPhase> getPhases(@NotNull String consumer) {
+        return phases.stream().filter(phase -> phase.getConsumer().equals(consumer)).collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain every recorded phase as JDK types, so it can be passed between shaded copies.
+     *
+     * @return {@link List} of phases, each a {@link Map} using the keys of {@link #toJson()}.
+     */
+    @NotNull
+    public List<Map<String, Object>> toMaps() {
+        final List<Map<String, Object>> maps = new ArrayList<>(phases.size());
+        for (StartupPhase phase : phases) {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            map.put("consumer", phase.getConsumer());
+            map.put("provider", phase.getProvider());
+            map.put("phase", phase.getName());
+            map.put("startNanos", phase.getStart());
+            map.put("durationNanos", phase.getDuration());
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    /**
+     * Method to create a timeline from phases obtained using {@link #toMaps()}, possibly by another copy.
+     *
+     * @param maps of the phases.
+     * @return a new {@link StartupTimeline} holding the phases.
+     */
+    @NotNull
+    public static StartupTimeline fromMaps(@NotNull List<Map<String, Object>> maps) {
+        final StartupTimeline timeline = new StartupTimeline();
+        for (Map<String, Object> map : maps) {
+            final Object provider = map.get("provider");
+            timeline.phases.add(new StartupPhase(
+                    String.valueOf(map.get("consumer")), provider == null ? null : String.valueOf(provider),
+                    String.valueOf(map.get("phase")), ((Number) map.get("startNanos")).longValue(),
+                    ((Number) map.get("durationNanos")).longValue()
+            ));
+        }
+        return timeline;
+    }
+
+    /**
+     * Method to obtain the total time of the recorded phases of one consumer.
+     *
+     * @param consumer which connected the bridge.
+     * @return total time in nanoseconds.
+     */
+    public long getTotal(@NotNull String consumer) {
+        return getPhases(consumer).stream().mapToLong(StartupPhase::getDuration).sum();
+    }
+
+    /**
+     * Method to write the timeline as JSON.
+     *
+     * @return JSON object, with a {@code phases} array.
+     */
+    @NotNull
+    public String toJson() {
+        final StringBuilder json = new StringBuilder("{\n  \"phases\": [");
+        final List<StartupPhase> snapshot = getPhases();
+        for (int i = 0; i < snapshot.size(); i++) {
+            final StartupPhase phase = snapshot.get(i);
+            final String provider = phase.getProvider();
+            json.append(i == 0 ? "\n" : ",\n").append("    {")
+                    .append("\"consumer\": ").append(quote(phase.getConsumer()))
+                    .append(", \"provider\": ").append(provider == null ? "null" : quote(provider))
+                    .append(", \"phase\": ").append(quote(phase.getName()))
+                    .append(", \"startNanos\": ").append(phase.getStart())
+                    .append(", \"durationNanos\": ").append(phase.getDuration())
+                    .append('}');
+        }
+        return json.append(snapshot.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+    }
+
+    /**
+     * Method to write the timeline to a JSON file.
+     *
+     * @param file to write, replacing it if it exists.
+     * @throws IOException if the file can't be written.
+     */
+    public void writeJson(@NotNull File file) throws IOException {
+        final File folder = file.getAbsoluteFile().getParentFile();
+        if (folder != null && !folder.isDirectory() && !folder.mkdirs()) {
+            throw new IOException("Failed to create '" + folder + "'.");
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(toJson());
+        }
+    }
+
+    /**
+     * Method to quote a String for JSON.
+     *
+     * @param value to quote.
+     * @return quoted and escaped value.
+     */
+    @NotNull
+    private static String quote(@NotNull String value) {
+        final StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') quoted.append('\\').append(c);
+            else if (c < 0x20) quoted.append(String.format("\\u%04x", (int) c));
+            else quoted.append(c);
+        }
+        return quoted.append('"').toString();
+    }
+
+}
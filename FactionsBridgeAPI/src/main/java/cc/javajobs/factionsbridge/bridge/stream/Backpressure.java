@@ -0,0 +1,34 @@
+package cc.javajobs.factionsbridge.bridge.stream;
+
+/**
+ * The Backpressure enumeration decides what a {@link StreamSubscription} does when its buffer is full.
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:20
+ */
+public enum Backpressure {
+
+    /**
+     * The oldest waiting event is dropped to make space for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The thread calling the event waits for space, up to the block timeout of the subscription.
+     * <p>
+     *     This is normally the main thread, so a slow subscriber slows the server down,
+     *     if the timeout is reached the new event is dropped.
+     * </p>
+     */
+    BLOCK,
+
+    /**
+     * Only the latest waiting event of each Faction is kept, events for the same Faction replace each other.
+     * <p>
+     *     The delivered event reports how many events it replaced, using {@link StreamedEvent#getCoalesced()}.
+     *     <br>If the buffer is full of different Factions, the oldest Faction is dropped.
+     * </p>
+     */
+    COALESCE_BY_FACTION
+
+}
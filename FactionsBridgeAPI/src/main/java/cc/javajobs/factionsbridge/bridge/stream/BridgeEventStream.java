@@ -0,0 +1,289 @@
+package cc.javajobs.factionsbridge.bridge.stream;
+
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimAllEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.FactionEvent;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The BridgeEventStream mirrors every bridge event to consumers running on their own threads.
+ * <p>
+ *     Each event is copied into an immutable {@link StreamedEvent} once, on the thread which called it,
+ *     and then handed to every {@link StreamSubscription}, which buffers it in a lock-free {@link RingBuffer}
+ *     until its worker thread delivers it.
+ *     <br>This keeps heavy work (database writes, webhooks, map rendering) off the main thread,
+ *     without each plugin having to re-schedule it by hand.
+ * </p>
+ * <p>
+ *     The stream only listens for the bridge events while it has subscriptions, so an unused stream
+ *     doesn't make the Providers create events which nothing else wants.
+ *     <br>This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:20
+ */
+public class BridgeEventStream implements Listener, Communicator {
+
+    /**
+     * The default capacity of a subscription's buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Supplier of the plugin to register the listeners for.
+     */
+    private final Supplier<Plugin> plugin;
+
+    /**
+     * The open subscriptions.
+     */
+    private final List<StreamSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * The sequence number of the last event.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * {@code true} while the listeners are registered.
+     */
+    private boolean registered = false;
+
+    /**
+     * Constructor to initialise a BridgeEventStream.
+     *
+     * @param plugin supplier of the plugin to register the listeners for.
+     */
+    public BridgeEventStream(@NotNull Supplier<Plugin> plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Method to subscribe to the stream, with a buffer of {@link #DEFAULT_CAPACITY} and
+     * {@link Backpressure#DROP_OLDEST}.
+     *
+     * @param consumer of the events, called on the worker thread of the subscription.
+     * @return {@link StreamSubscription}, close it to unsubscribe.
+     */
+    @NotNull
+    public StreamSubscription subscribe(@NotNull Consumer<StreamedEvent> consumer) {
+        return subscribe(consumer, DEFAULT_CAPACITY, Backpressure.DROP_OLDEST);
+    }
+
+    /**
+     * Method to subscribe to the stream.
+     *
+     * @param consumer     of the events, called on the worker thread of the subscription.
+     * @param capacity     of the buffer, rounded up to a power of two.
+     * @param backpressure to apply when the buffer is full.
+     * @return {@link StreamSubscription}, close it to unsubscribe.
+     */
+    @NotNull
+    public StreamSubscription subscribe(@NotNull Consumer<StreamedEvent> consumer, int capacity,
+                                        @NotNull Backpressure backpressure) {
+        final StreamSubscription subscription = new StreamSubscription(this, consumer, capacity, backpressure);
+        subscription.start();
+        synchronized (this) {
+            subscriptions.add(subscription);
+            if (!registered) {
+                Bukkit.getPluginManager().registerEvents(this, plugin.get());
+                registered = true;
+            }
+        }
+        return subscription;
+    }
+
+    /**
+     * Method to remove a closed subscription, the listeners are unregistered with the last one.
+     *
+     * @param subscription to remove.
+     */
+    synchronized void unsubscribe(@NotNull StreamSubscription subscription) {
+        subscriptions.remove(subscription);
+        if (subscriptions.isEmpty() && registered) {
+            HandlerList.unregisterAll(this);
+            registered = false;
+        }
+    }
+
+    /**
+     * Method to obtain the amount of open subscriptions.
+     *
+     * @return amount of subscriptions.
+     */
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Listener for every {@link FactionEvent}, streaming it.
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFactionEvent(@NotNull FactionEvent event) {
+        if (subscriptions.isEmpty()) return;
+        final StreamedEvent streamed;
+        try {
+            streamed = copy(event);
+        } catch (Exception ex) {
+            exception(ex, "Failed to stream a bridge event.");
+            return;
+        }
+        if (streamed != null) publish(streamed);
+    }
+
+    /**
+     * Listener for the {@link FactionCreateEvent}, which has a HandlerList of its own, streaming it.
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCreate(@NotNull FactionCreateEvent event) {
+        if (subscriptions.isEmpty()) return;
+        try {
+            final Faction faction = event.getFaction();
+            publish(create(StreamedEvent.Type.CREATE, faction.getId(), event.getTag(),
+                    uuid(event.getFPlayer()), null, null, null, null, 0, 0));
+        } catch (Exception ex) {
+            exception(ex, "Failed to stream a bridge event.");
+        }
+    }
+
+    /**
+     * Method to hand an event to every subscription.
+     *
+     * @param event to hand over.
+     */
+    private void publish(@NotNull StreamedEvent event) {
+        for (StreamSubscription subscription : subscriptions) subscription.publish(event);
+    }
+
+    /**
+     * Method to copy a bridge event into a {@link StreamedEvent}.
+     *
+     * @param event to copy.
+     * @return {@link StreamedEvent} or {@code null} if the event isn't streamed.
+     */
+    @Nullable
+    private StreamedEvent copy(@NotNull FactionEvent event) {
+        final Faction faction = event.getFaction();
+        final String id = faction.getId();
+        if (event instanceof FactionClaimEvent) {
+            final FactionClaimEvent claimEvent = (FactionClaimEvent) event;
+            return claim(StreamedEvent.Type.CLAIM, faction, uuid(claimEvent.getFPlayer()), claimEvent.getClaim());
+        }
+        if (event instanceof FactionUnclaimEvent) {
+            final FactionUnclaimEvent unclaimEvent = (FactionUnclaimEvent) event;
+            return claim(StreamedEvent.Type.UNCLAIM, faction, uuid(unclaimEvent.getFPlayer()),
+                    unclaimEvent.getClaim());
+        }
+        if (event instanceof FactionUnclaimAllEvent) {
+            final UUID player = uuid(((FactionUnclaimAllEvent) event).getFPlayer());
+            return create(StreamedEvent.Type.UNCLAIM_ALL, id, faction.getName(), player, null, null, null, null, 0, 0);
+        }
+        if (event instanceof FactionJoinEvent) {
+            final UUID player = uuid(((FactionJoinEvent) event).getFPlayer());
+            return create(StreamedEvent.Type.JOIN, id, faction.getName(), player, null, null, null, null, 0, 0);
+        }
+        if (event instanceof FactionLeaveEvent) {
+            final FactionLeaveEvent leaveEvent = (FactionLeaveEvent) event;
+            return create(StreamedEvent.Type.LEAVE, id, faction.getName(), uuid(leaveEvent.getFPlayer()),
+                    null, null, leaveEvent.getReason().name(), null, 0, 0);
+        }
+        if (event instanceof FactionRenameEvent) {
+            final String name = ((FactionRenameEvent) event).getName();
+            return create(StreamedEvent.Type.RENAME, id, name, null, null, null, null, null, 0, 0);
+        }
+        if (event instanceof FactionDisbandEvent) {
+            final FactionDisbandEvent disbandEvent = (FactionDisbandEvent) event;
+            return create(StreamedEvent.Type.DISBAND, id, faction.getName(), uuid(disbandEvent.getFPlayer()),
+                    null, null, disbandEvent.getReason().name(), null, 0, 0);
+        }
+        if (event instanceof FactionRelationshipEvent) {
+            final FactionRelationshipEvent relationshipEvent = (FactionRelationshipEvent) event;
+            return create(StreamedEvent.Type.RELATIONSHIP, id, faction.getName(), null,
+                    relationshipEvent.getOther().getId(), relationshipEvent.getRelationship(), null, null, 0, 0);
+        }
+        return null;
+    }
+
+    /**
+     * Method to copy a Claim event into a {@link StreamedEvent}.
+     *
+     * @param type    of the event.
+     * @param faction of the event.
+     * @param player  of the event, can be {@code null}.
+     * @param claim   of the event.
+     * @return {@link StreamedEvent}.
+     */
+    @NotNull
+    private StreamedEvent claim(@NotNull StreamedEvent.Type type, @NotNull Faction faction,
+                                @Nullable UUID player, @NotNull Claim claim) {
+        return create(type, faction.getId(), faction.getName(), player, null, null, null,
+                claim.getWorldName(), claim.getX(), claim.getZ());
+    }
+
+    /**
+     * Method to create a {@link StreamedEvent}, assigning the next sequence number.
+     *
+     * @param type           of the event.
+     * @param factionId      of the Faction.
+     * @param factionName    of the Faction.
+     * @param playerId       of the player, can be {@code null}.
+     * @param otherFactionId of the other Faction, can be {@code null}.
+     * @param relationship   which is now in place, can be {@code null}.
+     * @param reason         of the event, can be {@code null}.
+     * @param worldName      of the chunk, can be {@code null}.
+     * @param chunkX         coordinate of the chunk.
+     * @param chunkZ         coordinate of the chunk.
+     * @return {@link StreamedEvent}.
+     */
+    @NotNull
+    private StreamedEvent create(@NotNull StreamedEvent.Type type, @NotNull String factionId,
+                                 @NotNull String factionName, @Nullable UUID playerId,
+                                 @Nullable String otherFactionId, @Nullable Relationship relationship,
+                                 @Nullable String reason, @Nullable String worldName, int chunkX, int chunkZ) {
+        return new StreamedEvent(type, sequence.incrementAndGet(), System.currentTimeMillis(), factionId,
+                factionName, playerId, otherFactionId, relationship, reason, worldName, chunkX, chunkZ, 0);
+    }
+
+    /**
+     * Method to obtain the UUID of an FPlayer which may be missing.
+     *
+     * @param fplayer to obtain the UUID of, can be {@code null}.
+     * @return {@link UUID} or {@code null}.
+     */
+    @Nullable
+    private UUID uuid(@Nullable FPlayer fplayer) {
+        return fplayer == null ? null : fplayer.getUniqueId();
+    }
+
+}
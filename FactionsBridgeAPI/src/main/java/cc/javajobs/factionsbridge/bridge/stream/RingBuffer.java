@@ -0,0 +1,149 @@
+package cc.javajobs.factionsbridge.bridge.stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The RingBuffer class is a bounded, lock-free queue which any number of threads can offer to and poll from.
+ * <p>
+ *     Each slot has a sequence number which tells a producer (or consumer) whether the slot is free (or filled)
+ *     for its position, so a position is claimed with a single compare-and-set and nothing ever blocks.
+ *     <br>The capacity is rounded up to a power of two, so positions map to slots with a mask.
+ * </p>
+ * <p>
+ *     This class is thread-safe.
+ * </p>
+ *
+ * @param <T> type of the elements.
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:20
+ */
+public final class RingBuffer<T> {
+
+    /**
+     * The elements, indexed by position masked to the capacity.
+     */
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * The sequence number of each slot.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The mask used to convert a position into a slot.
+     */
+    private final int mask;
+
+    /**
+     * The next position to offer to.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position to poll from.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Constructor to initialise a RingBuffer.
+     *
+     * @param capacity minimum amount of elements the buffer can hold, at least 2.
+     */
+    public RingBuffer(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30, not " + capacity + ".");
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Method to add an element to the buffer, if there is space for it.
+     *
+     * @param element to add.
+     * @return {@code true} if it was added, {@code false} if the buffer is full.
+     */
+    public boolean offer(@NotNull T element) {
+        long position = tail.get();
+        while (true) {
+            final int slot = (int) position & mask;
+            final long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(slot, element);
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Method to remove the oldest element from the buffer.
+     *
+     * @return the element or {@code null} if the buffer is empty.
+     */
+    @Nullable
+    public T poll() {
+        long position = head.get();
+        while (true) {
+            final int slot = (int) position & mask;
+            final long difference = sequences.get(slot) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    final T element = slots.get(slot);
+                    slots.lazySet(slot, null);
+                    sequences.set(slot, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Method to obtain the approximate amount of elements in the buffer.
+     *
+     * @return amount of elements.
+     */
+    public int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+
+    /**
+     * Method to determine if the buffer is (approximately) empty.
+     *
+     * @return {@code true} if it is.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Method to obtain the amount of elements the buffer can hold.
+     *
+     * @return capacity.
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+}
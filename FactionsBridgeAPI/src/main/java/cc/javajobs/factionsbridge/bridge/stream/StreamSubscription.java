@@ -0,0 +1,257 @@
+package cc.javajobs.factionsbridge.bridge.stream;
+
+import cc.javajobs.factionsbridge.util.Communicator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * The StreamSubscription class delivers the events of a {@link BridgeEventStream} to one consumer,
+ * on a worker thread of its own.
+ * <p>
+ *     Events are buffered in a {@link RingBuffer}, what happens when it is full depends on the {@link Backpressure}.
+ *     <br>The consumer is only ever called by the worker thread, one event at a time and in order.
+ * </p>
+ * <p>
+ *     This class is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:20
+ */
+public final class StreamSubscription implements AutoCloseable, Communicator {
+
+    /**
+     * The default amount of time {@link Backpressure#BLOCK} waits for space.
+     */
+    public static final long DEFAULT_BLOCK_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * The longest the worker sleeps before checking the buffer again, in case a wake-up was missed.
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Counter used to name the worker threads.
+     */
+    private static final AtomicInteger ids = new AtomicInteger();
+
+    /**
+     * The stream the subscription belongs to.
+     */
+    private final BridgeEventStream stream;
+
+    /**
+     * The consumer of the events.
+     */
+    private final Consumer<StreamedEvent> consumer;
+
+    /**
+     * What to do when the buffer is full.
+     */
+    private final Backpressure backpressure;
+
+    /**
+     * The waiting events, or the ids of the waiting Factions for {@link Backpressure#COALESCE_BY_FACTION}.
+     */
+    private final RingBuffer<Object> buffer;
+
+    /**
+     * Faction id to latest waiting event lookup, only used for {@link Backpressure#COALESCE_BY_FACTION}.
+     */
+    private final Map<String, StreamedEvent> latest = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of events dropped because the buffer was full.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * The amount of events delivered to the consumer.
+     */
+    private final AtomicLong delivered = new AtomicLong();
+
+    /**
+     * The thread calling the consumer.
+     */
+    private final Thread worker;
+
+    /**
+     * The amount of time {@link Backpressure#BLOCK} waits for space, in nanoseconds.
+     */
+    private volatile long blockTimeout = DEFAULT_BLOCK_TIMEOUT_NANOS;
+
+    /**
+     * {@code true} while the worker is (about to be) parked.
+     */
+    private volatile boolean waiting = false;
+
+    /**
+     * {@code true} once the subscription has been closed.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor to create a StreamSubscription, the worker is started by the stream.
+     *
+     * @param stream       the subscription belongs to.
+     * @param consumer     of the events.
+     * @param capacity     of the buffer.
+     * @param backpressure to apply when the buffer is full.
+     */
+    StreamSubscription(@NotNull BridgeEventStream stream, @NotNull Consumer<StreamedEvent> consumer,
+                       int capacity, @NotNull Backpressure backpressure) {
+        this.stream = stream;
+        this.consumer = consumer;
+        this.backpressure = backpressure;
+        this.buffer = new RingBuffer<>(capacity);
+        this.worker = new Thread(this::work, "FactionsBridge-Stream-" + ids.incrementAndGet());
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Method to start the worker thread.
+     */
+    void start() {
+        worker.start();
+    }
+
+    /**
+     * Method to add an event to the buffer, applying the backpressure if it is full.
+     *
+     * @param event to add.
+     */
+    void publish(@NotNull StreamedEvent event) {
+        if (closed) return;
+        switch (backpressure) {
+            case DROP_OLDEST:
+                while (!buffer.offer(event)) {
+                    if (buffer.poll() != null) dropped.incrementAndGet();
+                }
+                break;
+            case BLOCK:
+                final long deadline = System.nanoTime() + blockTimeout;
+                while (!buffer.offer(event)) {
+                    if (closed || System.nanoTime() - deadline >= 0) {
+                        dropped.incrementAndGet();
+                        return;
+                    }
+                    LockSupport.unpark(worker);
+                    LockSupport.parkNanos(this, TimeUnit.MICROSECONDS.toNanos(50));
+                }
+                break;
+            case COALESCE_BY_FACTION:
+                final StreamedEvent[] previous = new StreamedEvent[1];
+                latest.compute(event.getFactionId(), (id, old) -> {
+                    previous[0] = old;
+                    return old == null ? event : event.coalesce(old.getCoalesced() + 1);
+                });
+                if (previous[0] != null) break;
+                while (!buffer.offer(event.getFactionId())) {
+                    final Object oldest = buffer.poll();
+                    if (oldest != null && latest.remove(oldest) != null) dropped.incrementAndGet();
+                }
+                break;
+        }
+        if (waiting) LockSupport.unpark(worker);
+    }
+
+    /**
+     * Method to deliver the buffered events until the subscription is closed.
+     */
+    private void work() {
+        while (!closed) {
+            final Object next = buffer.poll();
+            if (next == null) {
+                waiting = true;
+                if (buffer.isEmpty() && !closed) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                waiting = false;
+                continue;
+            }
+            final StreamedEvent event = next instanceof String ? latest.remove(next) : (StreamedEvent) next;
+            if (event == null) continue;
+            try {
+                consumer.accept(event);
+                delivered.incrementAndGet();
+            } catch (Exception ex) {
+                exception(ex, "A bridge event stream consumer failed to handle " + event + ".");
+            }
+        }
+    }
+
+    /**
+     * Method to set the amount of time {@link Backpressure#BLOCK} waits for space.
+     *
+     * @param blockTimeout in nanoseconds.
+     */
+    public void setBlockTimeout(long blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+
+    /**
+     * Method to obtain the backpressure applied when the buffer is full.
+     *
+     * @return {@link Backpressure}.
+     */
+    @NotNull
+    public Backpressure getBackpressure() {
+        return backpressure;
+    }
+
+    /**
+     * Method to obtain the amount of events waiting to be delivered.
+     *
+     * @return amount of events (or Factions, for {@link Backpressure#COALESCE_BY_FACTION}).
+     */
+    public int getPending() {
+        return buffer.size();
+    }
+
+    /**
+     * Method to obtain the amount of events dropped because the buffer was full.
+     *
+     * @return amount of events.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Method to obtain the amount of events delivered to the consumer.
+     *
+     * @return amount of events.
+     */
+    public long getDelivered() {
+        return delivered.get();
+    }
+
+    /**
+     * Method to determine if the subscription has been closed.
+     *
+     * @return {@code true} if it has.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Method to close the subscription, the waiting events are discarded.
+     * <p>
+     *     The event being delivered (if any) completes, after which the worker thread stops.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        LockSupport.unpark(worker);
+        stream.unsubscribe(this);
+    }
+
+}
@@ -0,0 +1,323 @@
+package cc.javajobs.factionsbridge.bridge.stream;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The StreamedEvent class is an immutable copy of a bridge event, safe to read on any thread.
+ * <p>
+ *     Only ids, names and coordinates are copied, never the live Faction, FPlayer or Claim wrappers,
+ *     so reading a StreamedEvent never calls the Provider.
+ *     <br>Fields which don't apply to the {@link Type} of the event are {@code null} (or {@code 0}).
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 18:20
+ */
+public final class StreamedEvent {
+
+    /**
+     * The type of the event.
+     */
+    private final Type type;
+
+    /**
+     * The position of the event in the stream, starting at 1.
+     */
+    private final long sequence;
+
+    /**
+     * The time the event was called, in milliseconds since the epoch.
+     */
+    private final long timestamp;
+
+    /**
+     * The id of the Faction.
+     */
+    private final String factionId;
+
+    /**
+     * The name of the Faction, the new name for a {@link Type#RENAME}.
+     */
+    private final String factionName;
+
+    /**
+     * The UUID of the player, can be {@code null}.
+     */
+    private final UUID playerId;
+
+    /**
+     * The id of the other Faction of a {@link Type#RELATIONSHIP}, can be {@code null}.
+     */
+    private final String otherFactionId;
+
+    /**
+     * The new Relationship of a {@link Type#RELATIONSHIP}, can be {@code null}.
+     */
+    private final Relationship relationship;
+
+    /**
+     * The reason of a {@link Type#LEAVE} or {@link Type#DISBAND}, can be {@code null}.
+     */
+    private final String reason;
+
+    /**
+     * The world of a {@link Type#CLAIM} or {@link Type#UNCLAIM}, can be {@code null}.
+     */
+    private final String worldName;
+
+    /**
+     * The chunk 'x' coordinate of a {@link Type#CLAIM} or {@link Type#UNCLAIM}.
+     */
+    private final int chunkX;
+
+    /**
+     * The chunk 'z' coordinate of a {@link Type#CLAIM} or {@link Type#UNCLAIM}.
+     */
+    private final int chunkZ;
+
+    /**
+     * The amount of events this event replaced, see {@link Backpressure#COALESCE_BY_FACTION}.
+     */
+    private final int coalesced;
+
+    /**
+     * Constructor to create a StreamedEvent.
+     *
+     * @param type           of the event.
+     * @param sequence       of the event in the stream.
+     * @param timestamp      the event was called at.
+     * @param factionId      of the Faction.
+     * @param factionName    of the Faction.
+     * @param playerId       of the player, can be {@code null}.
+     * @param otherFactionId of the other Faction, can be {@code null}.
+     * @param relationship   which is now in place, can be {@code null}.
+     * @param reason         of the event, can be {@code null}.
+     * @param worldName      of the chunk, can be {@code null}.
+     * @param chunkX         coordinate of the chunk.
+     * @param chunkZ         coordinate of the chunk.
+     * @param coalesced      amount of events replaced by this event.
+     */
+    StreamedEvent(@NotNull Type type, long sequence, long timestamp, @NotNull String factionId,
+                  @NotNull String factionName, @Nullable UUID playerId, @Nullable String otherFactionId,
+                  @Nullable Relationship relationship, @Nullable String reason, @Nullable String worldName,
+                  int chunkX, int chunkZ, int coalesced) {
+        this.type = type;
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.factionId = factionId;
+        this.factionName = factionName;
+        this.playerId = playerId;
+        this.otherFactionId = otherFactionId;
+        this.relationship = relationship;
+        this.reason = reason;
+        this.worldName = worldName;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * Method to create a copy of this event which replaced the given amount of older events.
+     *
+     * @param replaced amount of older events.
+     * @return {@link StreamedEvent} copy.
+     */
+    @NotNull
+    StreamedEvent coalesce(int replaced) {
+        return new StreamedEvent(type, sequence, timestamp, factionId, factionName, playerId, otherFactionId,
+                relationship, reason, worldName, chunkX, chunkZ, coalesced + replaced);
+    }
+
+    /**
+     * Method to obtain the type of the event.
+     *
+     * @return {@link Type}.
+     */
+    @NotNull
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Method to obtain the position of the event in the stream, starting at 1.
+     * <p>
+     *     A gap between the sequences of two delivered events means events were dropped or coalesced.
+     * </p>
+     *
+     * @return sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Method to obtain the time the event was called.
+     *
+     * @return milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Method to obtain the id of the Faction.
+     *
+     * @return id of the Faction.
+     */
+    @NotNull
+    public String getFactionId() {
+        return factionId;
+    }
+
+    /**
+     * Method to obtain the name of the Faction, the new name for a {@link Type#RENAME}.
+     *
+     * @return name of the Faction.
+     */
+    @NotNull
+    public String getFactionName() {
+        return factionName;
+    }
+
+    /**
+     * Method to obtain the UUID of the player who caused the event.
+     *
+     * @return {@link UUID} or {@code null} if there wasn't one.
+     */
+    @Nullable
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Method to obtain the id of the other Faction of a {@link Type#RELATIONSHIP}.
+     *
+     * @return id of the other Faction or {@code null}.
+     */
+    @Nullable
+    public String getOtherFactionId() {
+        return otherFactionId;
+    }
+
+    /**
+     * Method to obtain the new Relationship of a {@link Type#RELATIONSHIP}.
+     *
+     * @return {@link Relationship} or {@code null}.
+     */
+    @Nullable
+    public Relationship getRelationship() {
+        return relationship;
+    }
+
+    /**
+     * Method to obtain the reason of a {@link Type#LEAVE} or {@link Type#DISBAND}.
+     *
+     * @return name of the reason or {@code null}.
+     */
+    @Nullable
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Method to obtain the world of a {@link Type#CLAIM} or {@link Type#UNCLAIM}.
+     *
+     * @return name of the world or {@code null}.
+     */
+    @Nullable
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /**
+     * Method to obtain the chunk 'x' coordinate of a {@link Type#CLAIM} or {@link Type#UNCLAIM}.
+     *
+     * @return chunk 'x' coordinate.
+     */
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    /**
+     * Method to obtain the chunk 'z' coordinate of a {@link Type#CLAIM} or {@link Type#UNCLAIM}.
+     *
+     * @return chunk 'z' coordinate.
+     */
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    /**
+     * Method to obtain the amount of older events of the same Faction this event replaced.
+     *
+     * @return amount of events, {@code 0} unless {@link Backpressure#COALESCE_BY_FACTION} is used.
+     */
+    public int getCoalesced() {
+        return coalesced;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamedEvent{" + type + " #" + sequence + " faction=" + factionId + "}";
+    }
+
+    /**
+     * The Type enumeration lists the bridge events which are streamed.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 18:20
+     */
+    public enum Type {
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent}.
+         */
+        CREATE,
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent}.
+         */
+        DISBAND,
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent}.
+         */
+        RENAME,
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent}.
+         */
+        JOIN,
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent}.
+         */
+        LEAVE,
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent}.
+         */
+        CLAIM,
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent}.
+         */
+        UNCLAIM,
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionUnclaimAllEvent}.
+         */
+        UNCLAIM_ALL,
+
+        /**
+         * A {@link cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent}.
+         */
+        RELATIONSHIP
+
+    }
+
+}
@@ -2,21 +2,32 @@ package atlasfactions;
 
 import atlasfactions.events.AtlasFactionsListener;
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
+import cc.javajobs.factionsbridge.bridge.infrastructure.Maps;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import com.massivecraft.factions.Board;
 import com.massivecraft.factions.FLocation;
 import com.massivecraft.factions.FPlayers;
 import com.massivecraft.factions.Factions;
+import com.massivecraft.factions.event.FactionRelationEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * AtlasFactions implementation of {@link FactionsAPI}.
@@ -31,8 +42,31 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
-        return Factions.getInstance().getAllFactions().stream().map(AtlasFactionsFaction::new)
-                .collect(Collectors.toList());
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
+        return Factions.getInstance().getAllFactions().stream().map(AtlasFactionsFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return Factions.getInstance().getAllFactions().size();
     }
 
     /**
@@ -44,7 +78,50 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new AtlasFactionsClaim(new FLocation(chunk.getWorld().getName(), chunk.getX(), chunk.getZ()));
+        return AtlasFactionsClaim.of(new FLocation(chunk.getWorld().getName(), chunk.getX(), chunk.getZ()));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The {@link FLocation} is created from the coordinates, so the chunk is never loaded.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return AtlasFactionsClaim.of(new FLocation(world, x, z));
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World in one call.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, this method is answered by the index instead.
+     * <br>Otherwise the board is looked up once, rather than once for every chunk, and no chunk is loaded.
+     * </p>
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @NotNull
+    @Override
+    public Faction[] getFactionsAt(@NotNull World world, long[] packedChunks) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionsAt(world.getName(), packedChunks);
+        final String name = world.getName();
+        final Faction[] factions = new Faction[packedChunks.length];
+        final Board board = Board.getInstance();
+        for (int i = 0; i < packedChunks.length; i++) {
+            final FLocation location = new FLocation(name, ChunkKey.getX(packedChunks[i]), ChunkKey.getZ(packedChunks[i]));
+            factions[i] = AtlasFactionsFaction.of(board.getFactionAt(location));
+        }
+        return factions;
     }
 
     /**
@@ -56,7 +133,7 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @Nullable
     @Override
     public Faction getFaction(@NotNull String id) {
-        return new AtlasFactionsFaction(Factions.getInstance().getFactionById(id));
+        return AtlasFactionsFaction.of(Factions.getInstance().getFactionById(id));
     }
 
     /**
@@ -68,7 +145,7 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @Nullable
     @Override
     public Faction getFactionByTag(@NotNull String tag) {
-        return new AtlasFactionsFaction(Factions.getInstance().getByTag(tag));
+        return AtlasFactionsFaction.of(Factions.getInstance().getByTag(tag));
     }
 
     /**
@@ -83,7 +160,29 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new AtlasFactionsFPlayer(FPlayers.getInstance().getByOfflinePlayer(player));
+        return AtlasFactionsFPlayer.of(FPlayers.getInstance().getByOfflinePlayer(player));
+    }
+
+    /**
+     * Method to obtain the FPlayers of many UUIDs in one call.
+     * <p>
+     * The player store is looked up once, rather than once for every UUID.
+     * <br>FPlayers are looked up by Id, so no OfflinePlayer is resolved, and are created on demand like
+     * {@link #getFPlayer(OfflinePlayer)}, so every UUID has an FPlayer.
+     * </p>
+     *
+     * @param uuids to get the FPlayer equivalents for.
+     * @return {@link Map} of UUID to {@link FPlayer}, in the iteration order of the given UUIDs.
+     */
+    @NotNull
+    @Override
+    public Map<UUID, FPlayer> getFPlayers(@NotNull Collection<UUID> uuids) {
+        final Map<UUID, FPlayer> fPlayers = new LinkedHashMap<>(Maps.capacity(uuids.size()));
+        final FPlayers players = FPlayers.getInstance();
+        for (UUID uuid : uuids) {
+            fPlayers.put(uuid, AtlasFactionsFPlayer.of(players.getById(uuid.toString())));
+        }
+        return fPlayers;
     }
 
     /**
@@ -94,7 +193,7 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWarZone() {
-        return new AtlasFactionsFaction(Factions.getInstance().getWarZone());
+        return AtlasFactionsFaction.of(Factions.getInstance().getWarZone());
     }
 
     /**
@@ -105,7 +204,7 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getSafeZone() {
-        return new AtlasFactionsFaction(Factions.getInstance().getSafeZone());
+        return AtlasFactionsFaction.of(Factions.getInstance().getSafeZone());
     }
 
     /**
@@ -116,7 +215,7 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWilderness() {
-        return new AtlasFactionsFaction(Factions.getInstance().getWilderness());
+        return AtlasFactionsFaction.of(Factions.getInstance().getWilderness());
     }
 
     /**
@@ -133,7 +232,9 @@ public class AtlasFactionsAPI implements FactionsAPI {
         if (fac != null && !fac.isServerFaction()) throw new IllegalStateException("Faction already exists.");
         com.massivecraft.factions.Faction faction = Factions.getInstance().createFaction();
         faction.setTag(name);
-        return new AtlasFactionsFaction(faction);
+        final Faction created = AtlasFactionsFaction.of(faction);
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
     }
 
     /**
@@ -145,6 +246,38 @@ public class AtlasFactionsAPI implements FactionsAPI {
     @Override
     public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
         Factions.getInstance().removeFaction(faction.getId());
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls the
+     * {@link cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent}.
+     *
+     * @return {@code true}, the {@link FactionRelationEvent} is bridged.
+     */
+    @Override
+    public boolean supportsRelationshipEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     *
+     * @return {@code true}, every claim change is bridged.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
     }
 
     /**
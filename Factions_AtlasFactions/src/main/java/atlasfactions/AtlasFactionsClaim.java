@@ -1,10 +1,12 @@
 package atlasfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import com.massivecraft.factions.Board;
 import com.massivecraft.factions.FLocation;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -14,6 +16,11 @@ import org.jetbrains.annotations.Nullable;
  */
 public class AtlasFactionsClaim extends AbstractClaim<FLocation> {
 
+    /**
+     * Cache of every AtlasFactionsClaim, keyed by the {@link FLocation} it wraps.
+     */
+    private static final WrapperCache<FLocation, AtlasFactionsClaim> CACHE = new WrapperCache<>(AtlasFactionsClaim::new);
+
     /**
      * Constructor to create a FactionsUUIDClaim.
      * <p>
@@ -26,6 +33,21 @@ public class AtlasFactionsClaim extends AbstractClaim<FLocation> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the AtlasFactionsClaim of the given {@link FLocation}.
+     * <p>
+     * The same {@link FLocation} returns the same AtlasFactionsClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new AtlasFactionsClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link AtlasFactionsClaim} linked to the {@link FLocation}.
+     */
+    @NotNull
+    public static AtlasFactionsClaim of(@Nullable FLocation claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -57,6 +79,34 @@ public class AtlasFactionsClaim extends AbstractClaim<FLocation> {
         return (int) claim.getZ();
     }
 
+    /**
+     * Method to obtain the name of the World linked to the Chunk.
+     * <p>
+     * The name is read from the {@link FLocation}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return String name of the {@link org.bukkit.World}
+     */
+    @NotNull
+    @Override
+    public String getWorldName() {
+        return claim.getWorldName();
+    }
+
+    /**
+     * Method to obtain the World linked to the Claim.
+     * <p>
+     * The World is looked up using {@link #getWorldName()}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return {@link World} related to the Claim.
+     */
+    @NotNull
+    @Override
+    public World getWorld() {
+        return getWorld(getWorldName());
+    }
+
     /**
      * Method to obtain the Faction related to the Claim.
      * <p>
@@ -68,7 +118,7 @@ public class AtlasFactionsClaim extends AbstractClaim<FLocation> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new AtlasFactionsFaction(Board.getInstance().getFactionAt(claim));
+        return AtlasFactionsFaction.of(Board.getInstance().getFactionAt(claim));
     }
 
     /**
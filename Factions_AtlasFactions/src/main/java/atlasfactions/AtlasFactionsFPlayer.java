@@ -1,6 +1,7 @@
 package atlasfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import com.massivecraft.factions.FPlayer;
@@ -18,6 +19,11 @@ import java.util.UUID;
  */
 public class AtlasFactionsFPlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every AtlasFactionsFPlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, AtlasFactionsFPlayer> CACHE = new WrapperCache<>(AtlasFactionsFPlayer::new);
+
     /**
      * Constructor to create a FactionsUUIDFPlayer.
      * <p>
@@ -30,6 +36,21 @@ public class AtlasFactionsFPlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the AtlasFactionsFPlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same AtlasFactionsFPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new AtlasFactionsFPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link AtlasFactionsFPlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static AtlasFactionsFPlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the UUID of the FPlayer.
      *
@@ -64,7 +85,7 @@ public class AtlasFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new AtlasFactionsFaction(fPlayer.getFaction());
+        return AtlasFactionsFaction.of(fPlayer.getFaction());
     }
 
     /**
@@ -163,7 +184,7 @@ public class AtlasFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @NotNull
     @Override
     public Role getRole() {
-        return Role.getRole(fPlayer.getRole().name());
+        return Role.translate(fPlayer.getRole());
     }
 
 }
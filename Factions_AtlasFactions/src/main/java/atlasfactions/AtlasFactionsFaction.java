@@ -2,6 +2,7 @@ package atlasfactions;
 
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodException;
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
@@ -17,8 +18,9 @@ import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.getRelationship;
+import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.translate;
 
 /**
  * AtlasFactions implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -52,6 +54,11 @@ public class AtlasFactionsFaction extends AbstractFaction<Faction> {
     }
 
 
+    /**
+     * Cache of every AtlasFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, AtlasFactionsFaction> CACHE = new WrapperCache<>(AtlasFactionsFaction::new);
+
     /**
      * Constructor to create a FactionsUUIDFaction.
      * <p>
@@ -64,6 +71,21 @@ public class AtlasFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the AtlasFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same AtlasFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new AtlasFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link AtlasFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static AtlasFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      * <p>
@@ -102,7 +124,7 @@ public class AtlasFactionsFaction extends AbstractFaction<Faction> {
     @Override
     public FPlayer getLeader() {
         try {
-            return new AtlasFactionsFPlayer(faction.getFPlayerAdmin());
+            return AtlasFactionsFPlayer.of(faction.getFPlayerAdmin());
         } catch (Exception ex) {
             if (bridge.catch_exceptions) return null;
             return (FPlayer) methodError(getClass(), "getLeader()", "Failed to find Leader for Faction.");
@@ -117,7 +139,31 @@ public class AtlasFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.getAllClaims().stream().map(AtlasFactionsClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.getAllClaims().stream().map(AtlasFactionsClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getAllClaims().size();
     }
 
     /**
@@ -128,7 +174,31 @@ public class AtlasFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.getFPlayers().stream().map(AtlasFactionsFPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.getFPlayers().stream().map(AtlasFactionsFPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getFPlayers().size();
     }
 
     /**
@@ -399,7 +469,7 @@ public class AtlasFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public Relationship getRelationshipTo(@NotNull AbstractFaction<?> faction) {
-        return getRelationship(this.faction.getRelationTo((RelationParticipator) faction.getFaction()).name());
+        return translate(this.faction.getRelationTo((RelationParticipator) faction.getFaction()));
     }
 
 }
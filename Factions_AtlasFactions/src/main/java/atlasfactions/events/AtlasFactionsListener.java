@@ -2,20 +2,21 @@ package atlasfactions.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import com.massivecraft.factions.event.FactionRelationEvent;
 import com.massivecraft.factions.event.LandClaimEvent;
 import com.massivecraft.factions.event.LandUnclaimAllEvent;
 import com.massivecraft.factions.event.LandUnclaimEvent;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 import java.util.UUID;
 
-import static org.bukkit.Bukkit.getPluginManager;
-import static org.bukkit.Bukkit.getScheduler;
-
 /**
  * AtlasFactions implementation of the Bridges needed to handle all Custom Events.
  *
@@ -24,6 +25,11 @@ import static org.bukkit.Bukkit.getScheduler;
  */
 public class AtlasFactionsListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -39,14 +45,12 @@ public class AtlasFactionsListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull LandClaimEvent event) {
-        FactionClaimEvent bridgeEvent = new FactionClaimEvent(
+        dispatcher.call(FactionClaimEvent.class, event, () -> new FactionClaimEvent(
                 api.getClaim(event.getLocation().getChunk()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 api.getFPlayer(UUID.fromString(event.getfPlayer().getId())),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -59,13 +63,11 @@ public class AtlasFactionsListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull com.massivecraft.factions.event.FPlayerJoinEvent event) {
-        FactionJoinEvent bridgeEvent = new FactionJoinEvent(
+        dispatcher.call(FactionJoinEvent.class, event, () -> new FactionJoinEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 api.getFPlayer(UUID.fromString(event.getfPlayer().getId())),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -78,14 +80,12 @@ public class AtlasFactionsListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull com.massivecraft.factions.event.FPlayerLeaveEvent event) {
-        FactionLeaveEvent bridgeEvent = new FactionLeaveEvent(
+        dispatcher.call(FactionLeaveEvent.class, event, () -> new FactionLeaveEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 api.getFPlayer(UUID.fromString(event.getfPlayer().getId())),
                 FactionLeaveEvent.LeaveReason.fromString(event.getReason().name()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -98,13 +98,11 @@ public class AtlasFactionsListener implements Listener {
      */
     @EventHandler
     public void onUnclaimAll(@NotNull LandUnclaimAllEvent event) {
-        FactionUnclaimAllEvent bridgeEvent = new FactionUnclaimAllEvent(
+        dispatcher.call(FactionUnclaimAllEvent.class, event, () -> new FactionUnclaimAllEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 api.getFPlayer(UUID.fromString(event.getfPlayer().getId())),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -117,35 +115,31 @@ public class AtlasFactionsListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull LandUnclaimEvent event) {
-        FactionUnclaimEvent bridgeEvent = new FactionUnclaimEvent(
+        dispatcher.call(FactionUnclaimEvent.class, event, () -> new FactionUnclaimEvent(
                 api.getClaim(event.getLocation().getChunk()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 api.getFPlayer(UUID.fromString(event.getfPlayer().getId())),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
      * Listener for the {@link com.massivecraft.factions.event.FactionCreateEvent}.
      * <p>
      *     This listener calls the {@link FactionCreateEvent}.
+     *     <br>The event is called on the next tick, once the Faction has been created, so it can't be cancelled.
      * </p>
      *
      * @param event to monitor.
      */
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onFactionCreate(@NotNull com.massivecraft.factions.event.FactionCreateEvent event) {
-        getScheduler().runTaskLater(FactionsBridge.get().getDevelopmentPlugin(), () -> {
-            FactionCreateEvent bridgeEvent = new FactionCreateEvent(
-                    Objects.requireNonNull(api.getFactionByTag(event.getFactionTag())),
-                    api.getFPlayer(UUID.fromString(event.getFPlayer().getId())),
-                    event
-            );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
-        }, 20);
+        dispatcher.post(FactionCreateEvent.class, () -> new FactionCreateEvent(
+                Objects.requireNonNull(api.getFactionByTag(event.getFactionTag())),
+                api.getFPlayer(UUID.fromString(event.getFPlayer().getId())),
+                event,
+                true
+        ));
     }
 
     /**
@@ -158,14 +152,12 @@ public class AtlasFactionsListener implements Listener {
      */
     @EventHandler
     public void onFactionDisband(@NotNull com.massivecraft.factions.event.FactionDisbandEvent event) {
-        FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
                 api.getFPlayer(event.getPlayer()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 FactionDisbandEvent.DisbandReason.fromString(event.getReason().name()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -178,13 +170,30 @@ public class AtlasFactionsListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull com.massivecraft.factions.event.FactionRenameEvent event) {
-        FactionRenameEvent bridgeEvent = new FactionRenameEvent(
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 event.getFactionTag(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
+    }
+
+    /**
+     * Listener for the {@link FactionRelationEvent}.
+     * <p>
+     *     This listener calls the {@link FactionRelationshipEvent}.
+     *     <br>The relation has already changed, so the bridge event can't be cancelled.
+     * </p>
+     *
+     * @param event to monitor.
+     */
+    @EventHandler
+    public void onRelation(@NotNull FactionRelationEvent event) {
+        dispatcher.call(FactionRelationshipEvent.class, event, () -> new FactionRelationshipEvent(
+                Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
+                Objects.requireNonNull(api.getFaction(event.getTargetFaction().getId())),
+                Relationship.translate(event.getRelation()),
+                event
+        ));
     }
 
 }
@@ -1,12 +1,12 @@
 package factionsblue;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.detection.ChangeDetector;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
 import factionsblue.events.FactionsBlueListener;
-import factionsblue.tasks.FactionsBlueTasks;
 import me.zysea.factions.FPlugin;
 import me.zysea.factions.api.FactionsApi;
 import me.zysea.factions.interfaces.Factions;
@@ -17,9 +17,13 @@ import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static cc.javajobs.factionsbridge.bridge.detection.ChangeDetector.Change.*;
 
 /**
  * FactionsBlue Implementation of the {@link FactionsAPI}.
@@ -29,6 +33,17 @@ import java.util.stream.Collectors;
  */
 public class FactionsBlueAPI implements FactionsAPI {
 
+    /**
+     * The amount of ticks between the start of each full pass of the {@link ChangeDetector}.
+     * <p>
+     * Commands are hinted to the detector by the {@link FactionsBlueListener}, so the full pass only has to catch
+     * the changes made some other way.
+     * <br>A pass is spread over as many ticks as its budget needs and only diffs the Factions whose fingerprint
+     * changed, so it runs every 30 seconds rather than every 10 minutes like the FactionsBlueTasks it replaced.
+     * </p>
+     */
+    private static final long DETECTION_PERIOD = 600L;
+
     /**
      * Method to obtain all Factions.
      *
@@ -37,9 +52,42 @@ public class FactionsBlueAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
+        return getAllFactions().stream().map(FactionsBlueFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return getAllFactions().size();
+    }
+
+    /**
+     * Method to obtain every FactionsBlue Faction.
+     *
+     * @return {@link Collection} of FactionsBlue Factions.
+     */
+    @NotNull
+    private Collection<me.zysea.factions.faction.Faction> getAllFactions() {
         Factions factions = FPlugin.getInstance().getFactions();
-        Collection<me.zysea.factions.faction.Faction> facs = ((FactionsMemory) factions).getAllFactions();
-        return facs.stream().map(FactionsBlueFaction::new).collect(Collectors.toList());
+        return ((FactionsMemory) factions).getAllFactions();
     }
 
     /**
@@ -51,7 +99,7 @@ public class FactionsBlueAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new FactionsBlueClaim(new me.zysea.factions.objects.Claim(chunk));
+        return FactionsBlueClaim.of(new me.zysea.factions.objects.Claim(chunk));
     }
 
     /**
@@ -63,7 +111,7 @@ public class FactionsBlueAPI implements FactionsAPI {
     @Override
     public Faction getFaction(@NotNull String id) {
         try {
-            return new FactionsBlueFaction(FactionsApi.getFaction(Integer.parseInt(id)));
+            return FactionsBlueFaction.of(FactionsApi.getFaction(Integer.parseInt(id)));
         } catch (NumberFormatException ex) {
             return null;
         }
@@ -77,7 +125,7 @@ public class FactionsBlueAPI implements FactionsAPI {
      */
     @Override
     public Faction getFactionByTag(@NotNull String name) {
-        return new FactionsBlueFaction(FactionsApi.getFaction(name));
+        return FactionsBlueFaction.of(FactionsApi.getFaction(name));
     }
 
     /**
@@ -88,7 +136,7 @@ public class FactionsBlueAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull OfflinePlayer player) {
-        return new FactionsBlueFaction(FactionsApi.getFaction(player));
+        return FactionsBlueFaction.of(FactionsApi.getFaction(player));
     }
 
     /**
@@ -103,7 +151,7 @@ public class FactionsBlueAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new FactionsBluePlayer(FactionsApi.getFPlayer(player));
+        return FactionsBluePlayer.of(FactionsApi.getFPlayer(player));
     }
 
     /**
@@ -124,7 +172,9 @@ public class FactionsBlueAPI implements FactionsAPI {
         int id = factions.generateFactionId();
         me.zysea.factions.faction.Faction f = new me.zysea.factions.faction.Faction(id, name);
         ((FactionsMemory) factions).put(f);
-        return new FactionsBlueFaction(f);
+        final Faction created = FactionsBlueFaction.of(f);
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
     }
 
     /**
@@ -136,23 +186,42 @@ public class FactionsBlueAPI implements FactionsAPI {
     @Override
     public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
         ((FactionsBlueFaction) faction).getFaction().disband();
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     * <p>
+     * FactionsBlue only calls an event for claiming, its unclaims (and the unclaim half of an overclaim) are found
+     * by the {@link ChangeDetector} up to a pass later, so land lookups are always answered by FactionsBlue.
+     * </p>
+     *
+     * @return {@code false}, unclaims aren't called straight away.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return false;
     }
 
     /**
      * Method to register events and handle event pass-through for the Bridge.
+     * <p>
+     * FactionsBlue only calls its own events for claiming and disbanding, the other events are called
+     * by a {@link ChangeDetector}, which is hinted by the {@link FactionsBlueListener} when a player uses a command.
+     * </p>
      */
     @Override
     public boolean register() {
+        final ChangeDetector detector = new ChangeDetector(
+                FactionsBridge::getFactionsAPI,
+                EnumSet.of(CREATE, RENAME, JOIN, LEAVE, UNCLAIM, UNCLAIM_ALL),
+                DETECTION_PERIOD
+        );
         Bukkit.getPluginManager().registerEvents(
-                new FactionsBlueListener(),
+                new FactionsBlueListener(detector),
                 FactionsBridge.get().getDevelopmentPlugin()
         );
-        Bukkit.getScheduler().runTaskTimer(
-                FactionsBridge.get().getDevelopmentPlugin(),
-                new FactionsBlueTasks(),
-                0,
-                12000
-        );
+        detector.start(FactionsBridge.get().getDevelopmentPlugin());
         return true;
     }
 
@@ -1,11 +1,13 @@
 package factionsblue;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import me.zysea.factions.FPlugin;
 import me.zysea.factions.objects.Claim;
 import org.bukkit.Chunk;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * FactionsBlue Implementation of the {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim}.
@@ -16,6 +18,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public class FactionsBlueClaim extends AbstractClaim<Claim> {
 
+    /**
+     * Cache of every FactionsBlueClaim, keyed by the {@link Claim} it wraps.
+     */
+    private static final WrapperCache<Claim, FactionsBlueClaim> CACHE = new WrapperCache<>(FactionsBlueClaim::new);
+
     /**
      * Constructor to create an AbstractClaim.
      * <p>
@@ -28,6 +35,21 @@ public class FactionsBlueClaim extends AbstractClaim<Claim> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the FactionsBlueClaim of the given {@link Claim}.
+     * <p>
+     * The same {@link Claim} returns the same FactionsBlueClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsBlueClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsBlueClaim} linked to the {@link Claim}.
+     */
+    @NotNull
+    public static FactionsBlueClaim of(@Nullable Claim claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -39,6 +61,20 @@ public class FactionsBlueClaim extends AbstractClaim<Claim> {
         return claim.asChunk();
     }
 
+    /**
+     * Method to obtain the name of the World linked to the Chunk.
+     * <p>
+     * The name is stored by the {@link Claim}, so the Chunk isn't loaded.
+     * </p>
+     *
+     * @return name of the World.
+     */
+    @NotNull
+    @Override
+    public String getWorldName() {
+        return claim.getWorldName();
+    }
+
     /**
      * Method to get the X of the Chunk.
      *
@@ -66,7 +102,7 @@ public class FactionsBlueClaim extends AbstractClaim<Claim> {
      */
     @Override
     public Faction getFaction() {
-        return new FactionsBlueFaction(FPlugin.getInstance().getClaims().getOwner(claim));
+        return FactionsBlueFaction.of(FPlugin.getInstance().getClaims().getOwner(claim));
     }
 
     /**
@@ -1,6 +1,7 @@
 package factionsblue;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
@@ -12,10 +13,12 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * FactionsBlue Implementation of the {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -26,6 +29,11 @@ import java.util.stream.Collectors;
  */
 public class FactionsBlueFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every FactionsBlueFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, FactionsBlueFaction> CACHE = new WrapperCache<>(FactionsBlueFaction::new);
+
     /**
      * Constructor to create an AbstractFaction.
      * <p>
@@ -38,6 +46,21 @@ public class FactionsBlueFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the FactionsBlueFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same FactionsBlueFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsBlueFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsBlueFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static FactionsBlueFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      *
@@ -70,7 +93,7 @@ public class FactionsBlueFaction extends AbstractFaction<Faction> {
         for (OfflinePlayer allMember : faction.getMembers().getAllMembers()) {
             Role role = faction.getRoles().getMemberRole(allMember.getUniqueId());
             if (role.getId() == 4) {
-                return new FactionsBluePlayer(FPlugin.getInstance().getFPlayers().getFPlayer(allMember));
+                return FactionsBluePlayer.of(FPlugin.getInstance().getFPlayers().getFPlayer(allMember));
             }
         }
         return null;
@@ -84,7 +107,31 @@ public class FactionsBlueFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.getAllClaims().stream().map(FactionsBlueClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.getAllClaims().stream().map(FactionsBlueClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getAllClaims().size();
     }
 
     /**
@@ -95,9 +142,33 @@ public class FactionsBlueFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
         return faction.getAllMembers()
                 .stream().map(allMember -> FPlugin.getInstance().getFPlayers().getFPlayer(allMember))
-                .map(FactionsBluePlayer::new).collect(Collectors.toList());
+                .map(FactionsBluePlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getAllMembers().size();
     }
 
     /**
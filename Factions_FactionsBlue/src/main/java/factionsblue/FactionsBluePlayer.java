@@ -2,6 +2,7 @@ package factionsblue;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import me.zysea.factions.api.FactionsApi;
@@ -23,6 +24,11 @@ import java.util.UUID;
  */
 public class FactionsBluePlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every FactionsBluePlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, FactionsBluePlayer> CACHE = new WrapperCache<>(FactionsBluePlayer::new);
+
     /**
      * Constructor to create an AbstractFPlayer.
      * <p>
@@ -35,6 +41,21 @@ public class FactionsBluePlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the FactionsBluePlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same FactionsBluePlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsBluePlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsBluePlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static FactionsBluePlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the unique Id of the Faction Player.
      *
@@ -66,9 +87,9 @@ public class FactionsBluePlayer extends AbstractFPlayer<FPlayer> {
     public Faction getFaction() {
         if (!fPlayer.hasFaction()) {
             // -2 is Wilderness/Factionless
-            return new FactionsBlueFaction(FactionsApi.getFaction(-2));
+            return FactionsBlueFaction.of(FactionsApi.getFaction(-2));
         }
-        return new FactionsBlueFaction(fPlayer.getFaction());
+        return FactionsBlueFaction.of(fPlayer.getFaction());
     }
 
     /**
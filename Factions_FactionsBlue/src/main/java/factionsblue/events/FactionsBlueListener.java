@@ -1,36 +1,77 @@
 package factionsblue.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.detection.ChangeDetector;
 import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
 import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
 import cc.javajobs.factionsbridge.util.Communicator;
-import factionsblue.tasks.FactionsBlueTasks;
 import me.zysea.factions.events.FPlayerClaimEvent;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Locale;
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * FactionsBlue implementation of the Bridges needed to handle all Custom Events.
  *
- * @see FactionsBlueTasks Other Events
+ * @see ChangeDetector Other Events
  * @author Callum Johnson
  * @since 28/02/2021 - 09:36
  */
 public class FactionsBlueListener implements Listener, Communicator {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
     private final FactionsAPI api = FactionsBridge.getFactionsAPI();
 
+    /**
+     * The detector which calls the events FactionsBlue doesn't call itself.
+     */
+    private final ChangeDetector detector;
+
+    /**
+     * Constructor to initialise the Listener.
+     *
+     * @param detector to hint when a player uses a Factions command.
+     */
+    public FactionsBlueListener(@NotNull ChangeDetector detector) {
+        this.detector = detector;
+    }
+
+    /**
+     * Listener for the {@link PlayerCommandPreprocessEvent}.
+     * <p>
+     * A Factions command can create, rename, join, leave or unclaim without calling an event, so the
+     * {@link ChangeDetector} is hinted to check the Faction of the player on the next tick.
+     * </p>
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCommand(@NotNull PlayerCommandPreprocessEvent event) {
+        final String message = event.getMessage();
+        final int end = message.indexOf(' ');
+        final String label = (end == -1 ? message : message.substring(0, end)).toLowerCase(Locale.ROOT);
+        if (label.equals("/f") || label.equals("/faction") || label.equals("/factions")
+                || label.endsWith(":f") || label.endsWith(":faction") || label.endsWith(":factions")) {
+            detector.hint(event.getPlayer().getUniqueId());
+        }
+    }
+
     /**
      * Listener for the {@link FPlayerClaimEvent}.
      * <p>
@@ -41,14 +82,12 @@ public class FactionsBlueListener implements Listener, Communicator {
      */
     @EventHandler
     public void onClaim(@NotNull FPlayerClaimEvent event) {
-        final FactionClaimEvent bridgeEvent = new FactionClaimEvent(
+        dispatcher.call(FactionClaimEvent.class, event, () -> new FactionClaimEvent(
                 api.getClaim(event.getClaim().asChunk()),
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getFaction().getId()))),
                 api.getFPlayer(event.getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -61,6 +100,7 @@ public class FactionsBlueListener implements Listener, Communicator {
      */
     @EventHandler
     public void onDisband(@NotNull me.zysea.factions.events.FactionDisbandEvent event) {
+        if (!dispatcher.isWanted(FactionDisbandEvent.class)) return;
         if (!(event.getSender() instanceof Player)) {
             warn("A Faction has been deleted by something other than a Player.");
             warn("This is not supported behaviour and will therefore cause issues.");
@@ -72,8 +112,7 @@ public class FactionsBlueListener implements Listener, Communicator {
                 FactionDisbandEvent.DisbandReason.UNKNOWN,
                 event
         );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        dispatcher.call(event, bridgeEvent);
     }
 
 }
@@ -1,22 +1,33 @@
 package factionsuuid;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
+import cc.javajobs.factionsbridge.bridge.infrastructure.Maps;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import com.massivecraft.factions.Board;
 import com.massivecraft.factions.FLocation;
 import com.massivecraft.factions.FPlayers;
 import com.massivecraft.factions.Factions;
+import com.massivecraft.factions.event.FactionRelationEvent;
 import factionsuuid.events.FactionsUUIDListener;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * FactionsUUID implementation of {@link FactionsAPI}.
@@ -31,8 +42,31 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
-        return Factions.getInstance().getAllFactions().stream().map(FactionsUUIDFaction::new)
-                .collect(Collectors.toList());
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
+        return Factions.getInstance().getAllFactions().stream().map(FactionsUUIDFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return Factions.getInstance().getAllFactions().size();
     }
 
     /**
@@ -44,7 +78,50 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new FactionsUUIDClaim(new FLocation(chunk));
+        return FactionsUUIDClaim.of(new FLocation(chunk));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The {@link FLocation} is created from the coordinates, so the chunk is never loaded.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return FactionsUUIDClaim.of(new FLocation(world, x, z));
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World in one call.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, this method is answered by the index instead.
+     * <br>Otherwise the board is looked up once, rather than once for every chunk, and no chunk is loaded.
+     * </p>
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @NotNull
+    @Override
+    public Faction[] getFactionsAt(@NotNull World world, long[] packedChunks) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionsAt(world.getName(), packedChunks);
+        final String name = world.getName();
+        final Faction[] factions = new Faction[packedChunks.length];
+        final Board board = Board.getInstance();
+        for (int i = 0; i < packedChunks.length; i++) {
+            final FLocation location = new FLocation(name, ChunkKey.getX(packedChunks[i]), ChunkKey.getZ(packedChunks[i]));
+            factions[i] = FactionsUUIDFaction.of(board.getFactionAt(location));
+        }
+        return factions;
     }
 
     /**
@@ -57,7 +134,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @Override
     public Faction getFaction(@NotNull String id) {
         com.massivecraft.factions.Faction faction = Factions.getInstance().getFactionById(id);
-        return faction == null ? null : new FactionsUUIDFaction(faction);
+        return faction == null ? null : FactionsUUIDFaction.of(faction);
     }
 
     /**
@@ -70,7 +147,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @Override
     public Faction getFactionByTag(@NotNull String tag) {
         com.massivecraft.factions.Faction faction = Factions.getInstance().getByTag(tag);
-        return faction == null ? null : new FactionsUUIDFaction(faction);
+        return faction == null ? null : FactionsUUIDFaction.of(faction);
     }
 
     /**
@@ -85,7 +162,29 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new FactionsUUIDFPlayer(FPlayers.getInstance().getByOfflinePlayer(player));
+        return FactionsUUIDFPlayer.of(FPlayers.getInstance().getByOfflinePlayer(player));
+    }
+
+    /**
+     * Method to obtain the FPlayers of many UUIDs in one call.
+     * <p>
+     * The player store is looked up once, rather than once for every UUID.
+     * <br>FPlayers are looked up by Id, so no OfflinePlayer is resolved, and are created on demand like
+     * {@link #getFPlayer(OfflinePlayer)}, so every UUID has an FPlayer.
+     * </p>
+     *
+     * @param uuids to get the FPlayer equivalents for.
+     * @return {@link Map} of UUID to {@link FPlayer}, in the iteration order of the given UUIDs.
+     */
+    @NotNull
+    @Override
+    public Map<UUID, FPlayer> getFPlayers(@NotNull Collection<UUID> uuids) {
+        final Map<UUID, FPlayer> fPlayers = new LinkedHashMap<>(Maps.capacity(uuids.size()));
+        final FPlayers players = FPlayers.getInstance();
+        for (UUID uuid : uuids) {
+            fPlayers.put(uuid, FactionsUUIDFPlayer.of(players.getById(uuid.toString())));
+        }
+        return fPlayers;
     }
 
     /**
@@ -96,7 +195,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWarZone() {
-        return new FactionsUUIDFaction(Factions.getInstance().getWarZone());
+        return FactionsUUIDFaction.of(Factions.getInstance().getWarZone());
     }
 
     /**
@@ -107,7 +206,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getSafeZone() {
-        return new FactionsUUIDFaction(Factions.getInstance().getSafeZone());
+        return FactionsUUIDFaction.of(Factions.getInstance().getSafeZone());
     }
 
     /**
@@ -118,7 +217,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWilderness() {
-        return new FactionsUUIDFaction(Factions.getInstance().getWilderness());
+        return FactionsUUIDFaction.of(Factions.getInstance().getWilderness());
     }
 
     /**
@@ -134,7 +233,9 @@ public class FactionsUUIDAPI implements FactionsAPI {
         if (Factions.getInstance().getByTag(name) != null) throw new IllegalStateException("Faction already exists.");
         com.massivecraft.factions.Faction faction = Factions.getInstance().createFaction();
         faction.setTag(name);
-        return new FactionsUUIDFaction(faction);
+        final Faction created = FactionsUUIDFaction.of(faction);
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
     }
 
     /**
@@ -148,6 +249,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
         com.massivecraft.factions.Faction fac = Factions.getInstance().getFactionById(faction.getId());
         if (fac == null) throw new IllegalStateException("Faction does not exist.");
         Factions.getInstance().removeFaction(fac.getId());
+        FactionsBridge.get().onFactionDeleted(faction);
     }
 
     @Override
@@ -155,6 +257,37 @@ public class FactionsUUIDAPI implements FactionsAPI {
         return true;
     }
 
+    /**
+     * Method to determine if the Provider calls the
+     * {@link cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent}.
+     *
+     * @return {@code true}, the {@link FactionRelationEvent} is bridged.
+     */
+    @Override
+    public boolean supportsRelationshipEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     *
+     * @return {@code true}, every claim change is bridged.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
+    }
+
     /**
      * Method to register events and handle event pass-through for the Bridge.
      */
@@ -2,20 +2,20 @@ package factionsuuid.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import com.massivecraft.factions.event.FactionRelationEvent;
 import com.massivecraft.factions.event.LandClaimEvent;
 import com.massivecraft.factions.event.LandUnclaimAllEvent;
 import com.massivecraft.factions.event.LandUnclaimEvent;
 import factionsuuid.FactionsUUIDClaim;
 import factionsuuid.FactionsUUIDFPlayer;
 import factionsuuid.FactionsUUIDFaction;
-import org.bukkit.event.Cancellable;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
 
-import static org.bukkit.Bukkit.getPluginManager;
-import static org.bukkit.Bukkit.getScheduler;
-
 /**
  * FactionsUUID implementation of the Bridges needed to handle all Custom Events.
  *
@@ -24,6 +24,11 @@ import static org.bukkit.Bukkit.getScheduler;
  */
 public class FactionsUUIDListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Listener for the {@link LandClaimEvent}.
      * <p>
@@ -34,14 +39,12 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull LandClaimEvent event) {
-        FactionClaimEvent bridgeEvent = new FactionClaimEvent(
-                new FactionsUUIDClaim(event.getLocation()),
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getfPlayer()),
+        dispatcher.call(FactionClaimEvent.class, event, () -> new FactionClaimEvent(
+                FactionsUUIDClaim.of(event.getLocation()),
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getfPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -54,13 +57,11 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull com.massivecraft.factions.event.FPlayerJoinEvent event) {
-        FactionJoinEvent bridgeEvent = new FactionJoinEvent(
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getfPlayer()),
+        dispatcher.call(FactionJoinEvent.class, event, () -> new FactionJoinEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getfPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -73,14 +74,12 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull com.massivecraft.factions.event.FPlayerLeaveEvent event) {
-        FactionLeaveEvent bridgeEvent = new FactionLeaveEvent(
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getfPlayer()),
+        dispatcher.call(FactionLeaveEvent.class, event, () -> new FactionLeaveEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getfPlayer()),
                 FactionLeaveEvent.LeaveReason.fromString(event.getReason().name()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -93,13 +92,11 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onUnclaimAll(@NotNull LandUnclaimAllEvent event) {
-        FactionUnclaimAllEvent bridgeEvent = new FactionUnclaimAllEvent(
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getfPlayer()),
+        dispatcher.call(FactionUnclaimAllEvent.class, event, () -> new FactionUnclaimAllEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getfPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -112,35 +109,31 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull LandUnclaimEvent event) {
-        FactionUnclaimEvent bridgeEvent = new FactionUnclaimEvent(
-                new FactionsUUIDClaim(event.getLocation()),
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getfPlayer()),
+        dispatcher.call(FactionUnclaimEvent.class, event, () -> new FactionUnclaimEvent(
+                FactionsUUIDClaim.of(event.getLocation()),
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getfPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
      * Listener for the {@link com.massivecraft.factions.event.FactionCreateEvent}.
      * <p>
      *     This listener calls the {@link FactionCreateEvent}.
+     *     <br>The event is called on the next tick, once the Faction has been created, so it can't be cancelled.
      * </p>
      *
      * @param event to monitor.
      */
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onFactionCreate(@NotNull com.massivecraft.factions.event.FactionCreateEvent event) {
-        getScheduler().runTaskLater(FactionsBridge.get().getDevelopmentPlugin(), () -> {
-            FactionCreateEvent bridgeEvent = new FactionCreateEvent(
-                    new FactionsUUIDFaction(event.getFaction()),
-                    new FactionsUUIDFPlayer(event.getFPlayer()),
-                    event
-            );
-            getPluginManager().callEvent(bridgeEvent);
-            if (event instanceof Cancellable) ((Cancellable) event).setCancelled(bridgeEvent.isCancelled());
-        }, 20);
+        dispatcher.post(FactionCreateEvent.class, () -> new FactionCreateEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getFPlayer()),
+                event,
+                true
+        ));
     }
 
     /**
@@ -153,14 +146,12 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onFactionDisband(@NotNull com.massivecraft.factions.event.FactionDisbandEvent event) {
-        FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
-                new FactionsUUIDFPlayer(event.getFPlayer()),
-                new FactionsUUIDFaction(event.getFaction()),
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
+                FactionsUUIDFPlayer.of(event.getFPlayer()),
+                FactionsUUIDFaction.of(event.getFaction()),
                 FactionDisbandEvent.DisbandReason.UNKNOWN,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -173,13 +164,30 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull com.massivecraft.factions.event.FactionRenameEvent event) {
-        FactionRenameEvent bridgeEvent = new FactionRenameEvent(
-                new FactionsUUIDFaction(event.getFaction()),
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
                 event.getFactionTag(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
+    }
+
+    /**
+     * Listener for the {@link FactionRelationEvent}.
+     * <p>
+     *     This listener calls the {@link FactionRelationshipEvent}.
+     *     <br>The relation has already changed, so the bridge event can't be cancelled.
+     * </p>
+     *
+     * @param event to monitor.
+     */
+    @EventHandler
+    public void onRelation(@NotNull FactionRelationEvent event) {
+        dispatcher.call(FactionRelationshipEvent.class, event, () -> new FactionRelationshipEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFaction.of(event.getTargetFaction()),
+                Relationship.translate(event.getRelation()),
+                event
+        ));
     }
 
 }
@@ -17,6 +17,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * FactionsUUID implementation of {@link FactionsAPI}.
@@ -31,8 +32,31 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
-        return Factions.factions().all().stream().map(FactionsUUIDFaction::new)
-                .collect(Collectors.toList());
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
+        return Factions.factions().all().stream().map(FactionsUUIDFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return Factions.factions().all().size();
     }
 
     /**
@@ -44,7 +68,24 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new FactionsUUIDClaim(new FLocation(chunk));
+        return FactionsUUIDClaim.of(new FLocation(chunk));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The {@link FLocation} is created from the coordinates, so the chunk is never loaded.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return FactionsUUIDClaim.of(new FLocation(world, x, z));
     }
 
     /**
@@ -57,7 +98,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @Override
     public Faction getFaction(@NotNull String id) {
         dev.kitteh.factions.Faction fac = getFactionInternalById(id);
-        return fac == null ? null : new FactionsUUIDFaction(fac);
+        return fac == null ? null : FactionsUUIDFaction.of(fac);
     }
 
     /**
@@ -70,7 +111,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @Override
     public Faction getFactionByTag(@NotNull String tag) {
         dev.kitteh.factions.Faction fac = Factions.factions().get(tag);
-        return fac == null ? null : new FactionsUUIDFaction(fac);
+        return fac == null ? null : FactionsUUIDFaction.of(fac);
     }
 
     /**
@@ -85,7 +126,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new FactionsUUIDFPlayer(FPlayers.fPlayers().get(player));
+        return FactionsUUIDFPlayer.of(FPlayers.fPlayers().get(player));
     }
 
     /**
@@ -96,7 +137,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWarZone() {
-        return new FactionsUUIDFaction(Factions.factions().warZone());
+        return FactionsUUIDFaction.of(Factions.factions().warZone());
     }
 
     /**
@@ -107,7 +148,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getSafeZone() {
-        return new FactionsUUIDFaction(Factions.factions().safeZone());
+        return FactionsUUIDFaction.of(Factions.factions().safeZone());
     }
 
     /**
@@ -118,7 +159,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWilderness() {
-        return new FactionsUUIDFaction(Factions.factions().wilderness());
+        return FactionsUUIDFaction.of(Factions.factions().wilderness());
     }
 
     /**
@@ -132,7 +173,9 @@ public class FactionsUUIDAPI implements FactionsAPI {
     @Override
     public Faction createFaction(@NotNull String name) throws IllegalStateException {
         if (Factions.factions().get(name) != null) throw new IllegalStateException("Faction already exists.");
-        return new FactionsUUIDFaction(Factions.factions().create(name));
+        final Faction created = FactionsUUIDFaction.of(Factions.factions().create(name));
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
     }
 
     /**
@@ -148,6 +191,7 @@ public class FactionsUUIDAPI implements FactionsAPI {
             throw new IllegalStateException("Invalid faction id from FactionsBridge: '" + faction.getId() + "'.");
         }
         Factions.factions().remove(fac);
+        FactionsBridge.get().onFactionDeleted(faction);
     }
 
     @Override
@@ -155,6 +199,26 @@ public class FactionsUUIDAPI implements FactionsAPI {
         return true;
     }
 
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     *
+     * @return {@code true}, every claim change is bridged.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
+    }
+
     /**
      * Method to register events and handle event pass-through for the Bridge.
      */
@@ -1,9 +1,11 @@
 package factionsuuidv4;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import dev.kitteh.factions.FLocation;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -13,6 +15,11 @@ import org.jetbrains.annotations.Nullable;
  */
 public class FactionsUUIDClaim extends AbstractClaim<FLocation> {
 
+    /**
+     * Cache of every FactionsUUIDClaim, keyed by the {@link FLocation} it wraps.
+     */
+    private static final WrapperCache<FLocation, FactionsUUIDClaim> CACHE = new WrapperCache<>(FactionsUUIDClaim::new);
+
     /**
      * Constructor to create a FactionsUUIDClaim.
      * <p>
@@ -25,6 +32,21 @@ public class FactionsUUIDClaim extends AbstractClaim<FLocation> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the FactionsUUIDClaim of the given {@link FLocation}.
+     * <p>
+     * The same {@link FLocation} returns the same FactionsUUIDClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsUUIDClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsUUIDClaim} linked to the {@link FLocation}.
+     */
+    @NotNull
+    public static FactionsUUIDClaim of(@Nullable FLocation claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -56,6 +78,34 @@ public class FactionsUUIDClaim extends AbstractClaim<FLocation> {
         return claim.z();
     }
 
+    /**
+     * Method to obtain the name of the World linked to the Chunk.
+     * <p>
+     * The name is read from the {@link FLocation}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return String name of the {@link org.bukkit.World}
+     */
+    @NotNull
+    @Override
+    public String getWorldName() {
+        return claim.worldName();
+    }
+
+    /**
+     * Method to obtain the World linked to the Claim.
+     * <p>
+     * The World is looked up using {@link #getWorldName()}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return {@link World} related to the Claim.
+     */
+    @NotNull
+    @Override
+    public World getWorld() {
+        return getWorld(getWorldName());
+    }
+
     /**
      * Method to obtain the Faction related to the Claim.
      * <p>
@@ -67,7 +117,7 @@ public class FactionsUUIDClaim extends AbstractClaim<FLocation> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new FactionsUUIDFaction(claim.faction());
+        return FactionsUUIDFaction.of(claim.faction());
     }
 
     /**
@@ -1,6 +1,7 @@
 package factionsuuidv4;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import dev.kitteh.factions.FPlayer;
@@ -18,6 +19,11 @@ import java.util.UUID;
  */
 public class FactionsUUIDFPlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every FactionsUUIDFPlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, FactionsUUIDFPlayer> CACHE = new WrapperCache<>(FactionsUUIDFPlayer::new);
+
     /**
      * Constructor to create a FactionsUUIDFPlayer.
      * <p>
@@ -30,6 +36,21 @@ public class FactionsUUIDFPlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the FactionsUUIDFPlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same FactionsUUIDFPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsUUIDFPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsUUIDFPlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static FactionsUUIDFPlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the UUID of the FPlayer.
      *
@@ -64,7 +85,7 @@ public class FactionsUUIDFPlayer extends AbstractFPlayer<FPlayer> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new FactionsUUIDFaction(fPlayer.faction());
+        return FactionsUUIDFaction.of(fPlayer.faction());
     }
 
     /**
@@ -163,7 +184,7 @@ public class FactionsUUIDFPlayer extends AbstractFPlayer<FPlayer> {
     @NotNull
     @Override
     public Role getRole() {
-        return Role.getRole(fPlayer.role().name());
+        return Role.translate(fPlayer.role());
     }
 
 }
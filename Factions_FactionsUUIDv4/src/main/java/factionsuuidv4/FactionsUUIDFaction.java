@@ -1,9 +1,11 @@
 package factionsuuidv4;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import dev.kitteh.factions.FLocation;
 import dev.kitteh.factions.Faction;
 import dev.kitteh.factions.FactionsPlugin;
 import dev.kitteh.factions.Participator;
@@ -15,9 +17,11 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.getRelationship;
+import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.translate;
 
 /**
  * FactionsUUID implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -25,6 +29,11 @@ import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationsh
  */
 public class FactionsUUIDFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every FactionsUUIDFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, FactionsUUIDFaction> CACHE = new WrapperCache<>(FactionsUUIDFaction::new);
+
     /**
      * Constructor to create a FactionsUUIDFaction.
      * <p>
@@ -37,6 +46,21 @@ public class FactionsUUIDFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the FactionsUUIDFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same FactionsUUIDFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsUUIDFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsUUIDFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static FactionsUUIDFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      * <p>
@@ -75,7 +99,7 @@ public class FactionsUUIDFaction extends AbstractFaction<Faction> {
     @Override
     public FPlayer getLeader() {
         dev.kitteh.factions.FPlayer admin = faction.admin();
-        return admin != null ? new FactionsUUIDFPlayer(admin) : null;
+        return admin != null ? FactionsUUIDFPlayer.of(admin) : null;
     }
 
     /**
@@ -86,7 +110,41 @@ public class FactionsUUIDFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.claims().stream().map(FactionsUUIDClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.claims().stream().map(FactionsUUIDClaim::of);
+    }
+
+    /**
+     * Method to perform an action for every Claim of the Faction, without streaming or copying them.
+     *
+     * @param consumer to call for each Claim.
+     */
+    @Override
+    public void forEachClaim(@NotNull Consumer<Claim> consumer) {
+        for (FLocation location : faction.claims()) consumer.accept(FactionsUUIDClaim.of(location));
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.claimCount();
     }
 
     /**
@@ -97,7 +155,43 @@ public class FactionsUUIDFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.members().stream().map(FactionsUUIDFPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.members().stream().map(FactionsUUIDFPlayer::of);
+    }
+
+    /**
+     * Method to perform an action for every Member of the Faction, without streaming or copying them.
+     *
+     * @param consumer to call for each Member.
+     */
+    @Override
+    public void forEachMember(@NotNull Consumer<FPlayer> consumer) {
+        for (dev.kitteh.factions.FPlayer member : faction.members()) {
+            consumer.accept(FactionsUUIDFPlayer.of(member));
+        }
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.members().size();
     }
 
     /**
@@ -358,7 +452,7 @@ public class FactionsUUIDFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public Relationship getRelationshipTo(@NotNull AbstractFaction<?> faction) {
-        return getRelationship(this.faction.relationTo((Participator) faction.getFaction()).name());
+        return translate(this.faction.relationTo((Participator) faction.getFaction()));
     }
 
     @Override
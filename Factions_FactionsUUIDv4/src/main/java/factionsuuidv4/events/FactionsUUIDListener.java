@@ -1,6 +1,8 @@
 package factionsuuidv4.events;
 
+import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import dev.kitteh.factions.FPlayer;
 import dev.kitteh.factions.event.LandClaimEvent;
 import dev.kitteh.factions.event.LandUnclaimAllEvent;
@@ -12,8 +14,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * FactionsUUID implementation of the Bridges needed to handle all Custom Events.
  *
@@ -22,6 +22,11 @@ import static org.bukkit.Bukkit.getPluginManager;
  */
 public class FactionsUUIDListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Listener for the {@link LandClaimEvent}.
      * <p>
@@ -32,14 +37,12 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull LandClaimEvent event) {
-        FactionClaimEvent bridgeEvent = new FactionClaimEvent(
-                new FactionsUUIDClaim(event.getLocation()),
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getFPlayer()),
+        dispatcher.call(FactionClaimEvent.class, event, () -> new FactionClaimEvent(
+                FactionsUUIDClaim.of(event.getLocation()),
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getFPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -52,15 +55,11 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull dev.kitteh.factions.event.FPlayerJoinEvent event) {
-        FactionJoinEvent bridgeEvent = new FactionJoinEvent(
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getFPlayer()),
+        dispatcher.call(FactionJoinEvent.class, event, () -> new FactionJoinEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getFPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        if (event.isCancellable()) {
-            event.setCancelled(bridgeEvent.isCancelled());
-        }
+        ));
     }
 
     /**
@@ -73,16 +72,12 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull dev.kitteh.factions.event.FPlayerLeaveEvent event) {
-        FactionLeaveEvent bridgeEvent = new FactionLeaveEvent(
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getFPlayer()),
+        dispatcher.call(FactionLeaveEvent.class, event, () -> new FactionLeaveEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getFPlayer()),
                 FactionLeaveEvent.LeaveReason.fromString(event.getReason().name()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        if (event.isCancellable()) {
-            event.setCancelled(bridgeEvent.isCancelled());
-        }
+        ));
     }
 
     /**
@@ -95,13 +90,11 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onUnclaimAll(@NotNull LandUnclaimAllEvent event) {
-        FactionUnclaimAllEvent bridgeEvent = new FactionUnclaimAllEvent(
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getFPlayer()),
+        dispatcher.call(FactionUnclaimAllEvent.class, event, () -> new FactionUnclaimAllEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getFPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -114,14 +107,12 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull LandUnclaimEvent event) {
-        FactionUnclaimEvent bridgeEvent = new FactionUnclaimEvent(
-                new FactionsUUIDClaim(event.getLocation()),
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(event.getFPlayer()),
+        dispatcher.call(FactionUnclaimEvent.class, event, () -> new FactionUnclaimEvent(
+                FactionsUUIDClaim.of(event.getLocation()),
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(event.getFPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -134,16 +125,17 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onFactionCreate(@NotNull dev.kitteh.factions.event.FactionCreateEvent event) {
+        if (!dispatcher.isWanted(FactionCreateEvent.class)) return;
         FPlayer fPlayer = event.getFPlayer();
         if (fPlayer == null) { // Plugin-created, not fitting API spec for bridge event
             return;
         }
         FactionCreateEvent bridgeEvent = new FactionCreateEvent(
-                new FactionsUUIDFaction(event.getFaction()),
-                new FactionsUUIDFPlayer(fPlayer),
+                FactionsUUIDFaction.of(event.getFaction()),
+                FactionsUUIDFPlayer.of(fPlayer),
                 event
         );
-        getPluginManager().callEvent(bridgeEvent);
+        dispatcher.call(event, bridgeEvent);
     }
 
     /**
@@ -156,14 +148,12 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onFactionDisband(@NotNull dev.kitteh.factions.event.FactionDisbandEvent event) {
-        FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
-                new FactionsUUIDFPlayer(event.getFPlayer()),
-                new FactionsUUIDFaction(event.getFaction()),
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
+                FactionsUUIDFPlayer.of(event.getFPlayer()),
+                FactionsUUIDFaction.of(event.getFaction()),
                 FactionDisbandEvent.DisbandReason.UNKNOWN,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -176,13 +166,11 @@ public class FactionsUUIDListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull dev.kitteh.factions.event.FactionRenameEvent event) {
-        FactionRenameEvent bridgeEvent = new FactionRenameEvent(
-                new FactionsUUIDFaction(event.getFaction()),
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
+                FactionsUUIDFaction.of(event.getFaction()),
                 event.getFactionTag(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
 }
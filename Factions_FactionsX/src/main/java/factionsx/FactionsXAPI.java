@@ -2,6 +2,7 @@ package factionsx;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodUnsupportedException;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
@@ -14,13 +15,13 @@ import net.prosavage.factionsx.manager.PlayerManager;
 import net.prosavage.factionsx.persist.data.FLocation;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
-import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * FactionsX implementation of {@link FactionsAPI}.
@@ -38,18 +39,50 @@ public class FactionsXAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
-        return FactionManager.INSTANCE.getFactions().stream().map(FactionsXFaction::new).collect(Collectors.toList());
+        return streamFactions().collect(Collectors.toList());
     }
 
     /**
-     * Method to obtain a Faction from Location.
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
      *
-     * @param location of the faction.
-     * @return IFaction at that location
+     * @return {@link Stream} of {@link Faction}.
      */
+    @NotNull
     @Override
-    public Faction getFactionAt(@NotNull Location location) {
-        return new FactionsXFaction(GridManager.INSTANCE.getFactionAt(location.getChunk()));
+    public Stream<Faction> streamFactions() {
+        return FactionManager.INSTANCE.getFactions().stream().map(FactionsXFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return FactionManager.INSTANCE.getFactions().size();
+    }
+
+    /**
+     * Method to obtain a Faction from chunk coordinates.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, this method is answered by the index instead of the Provider.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Faction at that location
+     */
+    @Nullable
+    @Override
+    public Faction getFactionAt(@NotNull String world, int x, int z) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionAt(world, x, z);
+        return FactionsXFaction.of(GridManager.INSTANCE.getFactionAt(new FLocation(x, z, world)));
     }
 
     /**
@@ -61,7 +94,24 @@ public class FactionsXAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new FactionsXClaim(new FLocation(chunk.getX(), chunk.getZ(), chunk.getWorld().getName()));
+        return FactionsXClaim.of(new FLocation(chunk.getX(), chunk.getZ(), chunk.getWorld().getName()));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The {@link FLocation} is created from the coordinates, so the chunk is never loaded.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return FactionsXClaim.of(new FLocation(x, z, world));
     }
 
     /**
@@ -72,7 +122,7 @@ public class FactionsXAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull String id) {
-        return new FactionsXFaction(FactionManager.INSTANCE.getFaction(Long.parseLong(id)));
+        return FactionsXFaction.of(FactionManager.INSTANCE.getFaction(Long.parseLong(id)));
     }
 
     /**
@@ -84,7 +134,7 @@ public class FactionsXAPI implements FactionsAPI {
     @Nullable
     @Override
     public Faction getFactionByTag(@NotNull String tag) {
-        return new FactionsXFaction(FactionManager.INSTANCE.getFaction(tag));
+        return FactionsXFaction.of(FactionManager.INSTANCE.getFaction(tag));
     }
 
     /**
@@ -95,7 +145,7 @@ public class FactionsXAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull OfflinePlayer player) {
-        return new FactionsXFaction(PlayerManager.INSTANCE.getFPlayer(player.getUniqueId()).getFaction());
+        return FactionsXFaction.of(PlayerManager.INSTANCE.getFPlayer(player.getUniqueId()).getFaction());
     }
 
     /**
@@ -110,7 +160,7 @@ public class FactionsXAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new FactionsXPlayer(PlayerManager.INSTANCE.getFPlayer(player.getUniqueId()));
+        return FactionsXPlayer.of(PlayerManager.INSTANCE.getFPlayer(player.getUniqueId()));
     }
 
     /**
@@ -139,6 +189,27 @@ public class FactionsXAPI implements FactionsAPI {
     public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
         FactionManager.INSTANCE.deleteFaction(
                 (net.prosavage.factionsx.core.Faction) ((AbstractFaction<?>) faction).getFaction());
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     *
+     * @return {@code true}, every claim change is bridged.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
     }
 
     /**
@@ -161,7 +232,7 @@ public class FactionsXAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWarZone() {
-        return new FactionsXFaction(FactionManager.INSTANCE.getFaction(FactionManager.WARZONE_ID));
+        return FactionsXFaction.of(FactionManager.INSTANCE.getFaction(FactionManager.WARZONE_ID));
     }
 
     /**
@@ -172,7 +243,7 @@ public class FactionsXAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getSafeZone() {
-        return new FactionsXFaction(FactionManager.INSTANCE.getFaction(FactionManager.SAFEZONE_ID));
+        return FactionsXFaction.of(FactionManager.INSTANCE.getFaction(FactionManager.SAFEZONE_ID));
     }
 
     /**
@@ -183,7 +254,7 @@ public class FactionsXAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWilderness() {
-        return new FactionsXFaction(FactionManager.INSTANCE.getWilderness());
+        return FactionsXFaction.of(FactionManager.INSTANCE.getWilderness());
     }
 
 }
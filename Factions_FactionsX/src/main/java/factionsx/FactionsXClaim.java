@@ -1,11 +1,14 @@
 package factionsx;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import net.prosavage.factionsx.persist.data.FLocation;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * FactionsX implementation of {@link Claim}.
@@ -16,6 +19,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public class FactionsXClaim extends AbstractClaim<FLocation> {
 
+    /**
+     * Cache of every FactionsXClaim, keyed by the {@link FLocation} it wraps.
+     */
+    private static final WrapperCache<FLocation, FactionsXClaim> CACHE = new WrapperCache<>(FactionsXClaim::new);
+
     /**
      * Constructor to create an FactionsXClaim.
      * <p>
@@ -28,6 +36,21 @@ public class FactionsXClaim extends AbstractClaim<FLocation> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the FactionsXClaim of the given {@link FLocation}.
+     * <p>
+     * The same {@link FLocation} returns the same FactionsXClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsXClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsXClaim} linked to the {@link FLocation}.
+     */
+    @NotNull
+    public static FactionsXClaim of(@Nullable FLocation claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -59,6 +82,34 @@ public class FactionsXClaim extends AbstractClaim<FLocation> {
         return (int) claim.getZ();
     }
 
+    /**
+     * Method to obtain the name of the World linked to the Chunk.
+     * <p>
+     * The name is read from the {@link FLocation}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return String name of the {@link org.bukkit.World}
+     */
+    @NotNull
+    @Override
+    public String getWorldName() {
+        return claim.getWorld();
+    }
+
+    /**
+     * Method to obtain the World linked to the Claim.
+     * <p>
+     * The World is looked up using {@link #getWorldName()}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return {@link World} related to the Claim.
+     */
+    @NotNull
+    @Override
+    public World getWorld() {
+        return getWorld(getWorldName());
+    }
+
     /**
      * Method to get the Faction linked to the Chunk.
      *
@@ -66,7 +117,7 @@ public class FactionsXClaim extends AbstractClaim<FLocation> {
      */
     @Override
     public Faction getFaction() {
-        return new FactionsXFaction(claim.getFaction());
+        return FactionsXFaction.of(claim.getFaction());
     }
 
     /**
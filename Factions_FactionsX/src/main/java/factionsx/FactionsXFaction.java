@@ -1,6 +1,7 @@
 package factionsx;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
@@ -11,11 +12,13 @@ import net.prosavage.factionsx.util.Relation;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * FactionsX implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -26,6 +29,11 @@ import java.util.stream.Collectors;
  */
 public class FactionsXFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every FactionsXFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, FactionsXFaction> CACHE = new WrapperCache<>(FactionsXFaction::new);
+
     /**
      * Constructor to create an FactionsXFaction.
      * <p>
@@ -38,6 +46,21 @@ public class FactionsXFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the FactionsXFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same FactionsXFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsXFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsXFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static FactionsXFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      *
@@ -67,7 +90,7 @@ public class FactionsXFaction extends AbstractFaction<Faction> {
      */
     @Override
     public FPlayer getLeader() {
-        return new FactionsXPlayer(faction.getLeader());
+        return FactionsXPlayer.of(faction.getLeader());
     }
 
     /**
@@ -78,8 +101,32 @@ public class FactionsXFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
         return GridManager.INSTANCE.getAllClaims(faction)
-                .stream().map(FactionsXClaim::new).collect(Collectors.toList());
+                .stream().map(FactionsXClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return GridManager.INSTANCE.getAllClaims(faction).size();
     }
 
     /**
@@ -90,7 +137,31 @@ public class FactionsXFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.getMembers().stream().map(FactionsXPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.getMembers().stream().map(FactionsXPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getMembers().size();
     }
 
     /**
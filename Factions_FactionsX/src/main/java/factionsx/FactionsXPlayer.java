@@ -1,6 +1,7 @@
 package factionsx;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import net.prosavage.factionsx.core.FPlayer;
@@ -20,6 +21,11 @@ import java.util.UUID;
  */
 public class FactionsXPlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every FactionsXPlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, FactionsXPlayer> CACHE = new WrapperCache<>(FactionsXPlayer::new);
+
     /**
      * Constructor to create an FactionsXPlayer.
      * <p>
@@ -32,6 +38,21 @@ public class FactionsXPlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the FactionsXPlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same FactionsXPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new FactionsXPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link FactionsXPlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static FactionsXPlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the unique Id of the Faction Player.
      *
@@ -61,7 +82,7 @@ public class FactionsXPlayer extends AbstractFPlayer<FPlayer> {
      */
     @Override
     public Faction getFaction() {
-        return new FactionsXFaction(fPlayer.getFaction());
+        return FactionsXFaction.of(fPlayer.getFaction());
     }
 
     /**
@@ -2,6 +2,7 @@ package factionsx.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
 import net.prosavage.factionsx.event.FPlayerFactionJoinEvent;
 import net.prosavage.factionsx.event.FactionPreClaimEvent;
@@ -13,8 +14,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * FactionsX implementation of the Bridges needed to handle all Custom Events.
  *
@@ -23,6 +22,11 @@ import static org.bukkit.Bukkit.getPluginManager;
  */
 public class FactionsXListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -38,14 +42,12 @@ public class FactionsXListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull FactionPreClaimEvent event) {
-        final FactionClaimEvent bridgeEvent = new FactionClaimEvent(
+        dispatcher.call(FactionClaimEvent.class, event, () -> new FactionClaimEvent(
                 api.getClaim(event.getFLocation().getChunk()),
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getFactionClaiming().getId()))),
                 api.getFPlayer(event.getFplayer().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -58,13 +60,11 @@ public class FactionsXListener implements Listener {
      */
     @EventHandler
     public void onUnclaimAll(@NotNull FactionUnClaimAllEvent event) {
-        final FactionUnclaimAllEvent bridgeEvent = new FactionUnclaimAllEvent(
+        dispatcher.call(FactionUnclaimAllEvent.class, event, () -> new FactionUnclaimAllEvent(
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getUnclaimingFaction().getId()))),
                 api.getFPlayer(event.getFplayer().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -77,14 +77,12 @@ public class FactionsXListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull FactionUnClaimEvent event) {
-        final FactionUnclaimEvent bridgeEvent = new FactionUnclaimEvent(
+        dispatcher.call(FactionUnclaimEvent.class, event, () -> new FactionUnclaimEvent(
                 api.getClaim(event.getFLocation().getChunk()),
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getFactionUnClaiming().getId()))),
                 api.getFPlayer(event.getFplayer().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -97,12 +95,11 @@ public class FactionsXListener implements Listener {
      */
     @EventHandler
     public void onCreate(@NotNull net.prosavage.factionsx.event.FactionCreateEvent event) {
-        final FactionCreateEvent bridgeEvent = new FactionCreateEvent(
+        dispatcher.call(FactionCreateEvent.class, event, () -> new FactionCreateEvent(
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getFaction().getId()))),
                 api.getFPlayer(event.getFPlayer().getOfflinePlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
 
     }
 
@@ -116,13 +113,12 @@ public class FactionsXListener implements Listener {
      */
     @EventHandler
     public void onDisband(@NotNull net.prosavage.factionsx.event.FactionDisbandEvent event) {
-        final FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
                 api.getFPlayer(event.getFPlayer().getPlayer()),
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getFaction().getId()))),
                 FactionDisbandEvent.DisbandReason.UNKNOWN,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -135,12 +131,11 @@ public class FactionsXListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull net.prosavage.factionsx.event.FactionRenameEvent event) {
-        final FactionRenameEvent bridgeEvent = new FactionRenameEvent(
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getFaction().getId()))),
                 event.getNewTag(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -153,12 +148,11 @@ public class FactionsXListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull FPlayerFactionJoinEvent event) {
-        final FactionJoinEvent bridgeEvent = new FactionJoinEvent(
+        dispatcher.call(FactionJoinEvent.class, event, () -> new FactionJoinEvent(
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getFaction().getId()))),
                 api.getFPlayer(event.getFPlayer().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -171,13 +165,12 @@ public class FactionsXListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull FPlayerFactionJoinEvent event) {
-        final FactionLeaveEvent bridgeEvent = new FactionLeaveEvent(
+        dispatcher.call(FactionLeaveEvent.class, event, () -> new FactionLeaveEvent(
                 Objects.requireNonNull(api.getFaction(String.valueOf(event.getFaction().getId()))),
                 api.getFPlayer(event.getFPlayer().getPlayer()),
                 (event.isAdmin() ? FactionLeaveEvent.LeaveReason.KICK : FactionLeaveEvent.LeaveReason.LEAVE),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
 }
@@ -2,6 +2,7 @@ package improvedfactions;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodUnsupportedException;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
@@ -18,7 +19,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * FactionsX implementation of {@link FactionsAPI}.
@@ -36,9 +39,32 @@ public class ImprovedFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
         return io.github.toberocat.improvedfactions.factions.Faction.getFACTIONS().stream()
-                .map(ImprovedFactionsFaction::new)
-                .collect(Collectors.toList());
+                .map(ImprovedFactionsFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return io.github.toberocat.improvedfactions.factions.Faction.getFACTIONS().size();
     }
 
     /**
@@ -49,7 +75,9 @@ public class ImprovedFactionsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFactionAt(@NotNull Location location) {
-        return new ImprovedFactionsFaction(ChunkUtils.GetFactionClaimedChunk(location.getChunk()));
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionAt(location);
+        return ImprovedFactionsFaction.of(ChunkUtils.GetFactionClaimedChunk(location.getChunk()));
     }
 
     /**
@@ -61,7 +89,7 @@ public class ImprovedFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new ImprovedFactionsClaim(chunk);
+        return ImprovedFactionsClaim.of(chunk);
     }
 
     /**
@@ -72,7 +100,7 @@ public class ImprovedFactionsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull String id) {
-        return new ImprovedFactionsFaction(FactionUtils.getFactionByRegistry(id));
+        return ImprovedFactionsFaction.of(FactionUtils.getFactionByRegistry(id));
     }
 
     /**
@@ -95,7 +123,7 @@ public class ImprovedFactionsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull OfflinePlayer player) {
-        return new ImprovedFactionsFaction(FactionUtils.getFaction(player.getUniqueId()));
+        return ImprovedFactionsFaction.of(FactionUtils.getFaction(player.getUniqueId()));
     }
 
     /**
@@ -110,7 +138,22 @@ public class ImprovedFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new ImprovedFactionsPlayer(player);
+        return ImprovedFactionsPlayer.of(player);
+    }
+
+    /**
+     * Method to obtain the FPlayer of a UUID.
+     * <p>
+     * The player is only resolved through Bukkit when the {@link OfflinePlayer} or name is needed.
+     * </p>
+     *
+     * @param uuid of the FPlayer.
+     * @return FPlayer implementation.
+     */
+    @NotNull
+    @Override
+    public FPlayer getFPlayer(@NotNull UUID uuid) {
+        return ImprovedFactionsPlayer.of(uuid);
     }
 
     /**
@@ -139,6 +182,7 @@ public class ImprovedFactionsAPI implements FactionsAPI {
     public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
         ((io.github.toberocat.improvedfactions.factions.Faction) ((AbstractFaction<?>) faction).getFaction())
                 .DeleteFaction();
+        FactionsBridge.get().onFactionDeleted(faction);
     }
 
     /**
@@ -175,7 +219,7 @@ public class ImprovedFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getSafeZone() {
-        return new ImprovedFactionsFaction(FactionUtils.getFactionByRegistry("safezone"));
+        return ImprovedFactionsFaction.of(FactionUtils.getFactionByRegistry("safezone"));
     }
 
     /**
@@ -1,11 +1,13 @@
 package improvedfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import io.github.toberocat.improvedfactions.utility.ChunkUtils;
 import org.bukkit.Chunk;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * FactionsX implementation of {@link Claim}.
@@ -16,6 +18,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public class ImprovedFactionsClaim extends AbstractClaim<Chunk> {
 
+    /**
+     * Cache of every ImprovedFactionsClaim, keyed by the {@link Chunk} it wraps.
+     */
+    private static final WrapperCache<Chunk, ImprovedFactionsClaim> CACHE = new WrapperCache<>(ImprovedFactionsClaim::new);
+
     /**
      * Constructor to create an FactionsXClaim.
      * <p>
@@ -28,6 +35,21 @@ public class ImprovedFactionsClaim extends AbstractClaim<Chunk> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the ImprovedFactionsClaim of the given {@link Chunk}.
+     * <p>
+     * The same {@link Chunk} returns the same ImprovedFactionsClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new ImprovedFactionsClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link ImprovedFactionsClaim} linked to the {@link Chunk}.
+     */
+    @NotNull
+    public static ImprovedFactionsClaim of(@Nullable Chunk claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -66,7 +88,7 @@ public class ImprovedFactionsClaim extends AbstractClaim<Chunk> {
      */
     @Override
     public Faction getFaction() {
-        return new ImprovedFactionsFaction(ChunkUtils.GetFactionClaimedChunk(claim));
+        return ImprovedFactionsFaction.of(ChunkUtils.GetFactionClaimedChunk(claim));
     }
 
     /**
@@ -0,0 +1,190 @@
+package improvedfactions;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.CoordinateClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import io.github.toberocat.improvedfactions.factions.Faction;
+import io.github.toberocat.improvedfactions.utility.ChunkUtils;
+import io.github.toberocat.improvedfactions.utility.Vector2;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The ImprovedFactionsClaimIndex keeps track of the Claims of each ImprovedFactions Faction.
+ * <p>
+ *     ImprovedFactions stores the owner of a chunk inside of the chunk itself, and its list of claimed chunks
+ *     doesn't record the World, so finding the Claims of a Faction requires loading every claimed chunk in every World.
+ *     <br>This index does that once, the first time it is used, and is then kept current by the
+ *     {@link improvedfactions.events.ImprovedFactionsListener}, so listing the Claims of a Faction never loads a chunk.
+ * </p>
+ * <p>
+ *     This class is not thread-safe and should only be used on the main thread.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 12:10
+ */
+public class ImprovedFactionsClaimIndex {
+
+    /**
+     * The single instance of the index.
+     */
+    private static final ImprovedFactionsClaimIndex instance = new ImprovedFactionsClaimIndex();
+
+    /**
+     * Faction registry name to Claim position lookup.
+     * <p>
+     *     The positions are stored as {@link CoordinateClaim}s without a Faction.
+     * </p>
+     */
+    private final HashMap<String, LinkedHashSet<CoordinateClaim>> claims = new HashMap<>();
+
+    /**
+     * Claim position to Faction registry name lookup.
+     */
+    private final HashMap<CoordinateClaim, String> owners = new HashMap<>();
+
+    /**
+     * {@code true} once the index has been built.
+     */
+    private boolean built = false;
+
+    /**
+     * Private constructor, use {@link #get()}.
+     */
+    private ImprovedFactionsClaimIndex() {
+    }
+
+    /**
+     * Method to obtain the instance of the index.
+     *
+     * @return {@link ImprovedFactionsClaimIndex} instance.
+     */
+    @NotNull
+    public static ImprovedFactionsClaimIndex get() {
+        return instance;
+    }
+
+    /**
+     * Method to obtain the Claims of the given Faction.
+     * <p>
+     *     The index is built the first time this method is called.
+     * </p>
+     *
+     * @param faction to obtain the Claims of.
+     * @return Claims in the form of a List of {@link CoordinateClaim}.
+     */
+    @NotNull
+    public List<Claim> getClaims(@NotNull Faction faction) {
+        if (!built) build();
+        final Set<CoordinateClaim> positions = claims.get(faction.getRegistryName());
+        if (positions == null) return new ArrayList<>();
+        final ImprovedFactionsFaction owner = ImprovedFactionsFaction.of(faction);
+        final List<Claim> result = new ArrayList<>(positions.size());
+        for (CoordinateClaim position : positions) {
+            result.add(new CoordinateClaim(position.getWorldName(), position.getX(), position.getZ(), owner));
+        }
+        return result;
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the given Faction.
+     *
+     * @param faction to count the Claims of.
+     * @return amount of Claims.
+     */
+    public int getClaimCount(@NotNull Faction faction) {
+        if (!built) build();
+        final Set<CoordinateClaim> positions = claims.get(faction.getRegistryName());
+        return positions == null ? 0 : positions.size();
+    }
+
+    /**
+     * Method to record that the given chunk has been claimed by the given Faction.
+     *
+     * @param chunk   which was claimed.
+     * @param faction which claimed the chunk.
+     */
+    public void claim(@NotNull Chunk chunk, @NotNull Faction faction) {
+        if (!built) return;
+        final CoordinateClaim position = toPosition(chunk);
+        final String previous = owners.put(position, faction.getRegistryName());
+        if (previous != null) removePosition(previous, position);
+        claims.computeIfAbsent(faction.getRegistryName(), id -> new LinkedHashSet<>()).add(position);
+    }
+
+    /**
+     * Method to record that the given chunk has been unclaimed.
+     *
+     * @param chunk which was unclaimed.
+     */
+    public void unclaim(@NotNull Chunk chunk) {
+        if (!built) return;
+        final CoordinateClaim position = toPosition(chunk);
+        final String previous = owners.remove(position);
+        if (previous != null) removePosition(previous, position);
+    }
+
+    /**
+     * Method to remove every Claim of the given Faction.
+     *
+     * @param faction which was deleted.
+     */
+    public void remove(@NotNull Faction faction) {
+        if (!built) return;
+        final Set<CoordinateClaim> positions = claims.remove(faction.getRegistryName());
+        if (positions == null) return;
+        for (CoordinateClaim position : positions) owners.remove(position);
+    }
+
+    /**
+     * Method to build the index from the ImprovedFactions claimed chunks.
+     * <p>
+     *     This is the only place which loads chunks, as the owner is stored inside of the chunk.
+     * </p>
+     */
+    private void build() {
+        claims.clear();
+        owners.clear();
+        final List<World> worlds = Bukkit.getWorlds();
+        for (Vector2 claimedChunk : ChunkUtils.claimedChunks) {
+            for (World world : worlds) {
+                final Chunk chunk = world.getChunkAt((int) claimedChunk.getX(), (int) claimedChunk.getY());
+                final Faction faction = ChunkUtils.GetFactionClaimedChunk(chunk);
+                if (faction == null) continue;
+                final CoordinateClaim position = toPosition(chunk);
+                owners.put(position, faction.getRegistryName());
+                claims.computeIfAbsent(faction.getRegistryName(), id -> new LinkedHashSet<>()).add(position);
+            }
+        }
+        built = true;
+    }
+
+    /**
+     * Method to remove the given position from the Claims of a Faction.
+     *
+     * @param id       registry name of the Faction.
+     * @param position to remove.
+     */
+    private void removePosition(@NotNull String id, @NotNull CoordinateClaim position) {
+        final Set<CoordinateClaim> positions = claims.get(id);
+        if (positions == null) return;
+        positions.remove(position);
+        if (positions.isEmpty()) claims.remove(id);
+    }
+
+    /**
+     * Method to convert a Chunk to the position stored by the index.
+     *
+     * @param chunk to convert.
+     * @return {@link CoordinateClaim} without a Faction.
+     */
+    @NotNull
+    private CoordinateClaim toPosition(@NotNull Chunk chunk) {
+        return new CoordinateClaim(chunk.getWorld().getName(), chunk.getX(), chunk.getZ(), null);
+    }
+
+}
@@ -1,6 +1,7 @@
 package improvedfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
@@ -10,18 +11,16 @@ import io.github.toberocat.improvedfactions.factions.Faction;
 import io.github.toberocat.improvedfactions.factions.FactionMember;
 import io.github.toberocat.improvedfactions.factions.economy.Bank;
 import io.github.toberocat.improvedfactions.factions.relation.RelationManager;
-import io.github.toberocat.improvedfactions.utility.ChunkUtils;
-import io.github.toberocat.improvedfactions.utility.Vector2;
 import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
 import org.bukkit.Location;
-import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * FactionsX implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -32,6 +31,11 @@ import java.util.stream.Collectors;
  */
 public class ImprovedFactionsFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every ImprovedFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, ImprovedFactionsFaction> CACHE = new WrapperCache<>(ImprovedFactionsFaction::new);
+
     /**
      * Constructor to create an FactionsXFaction.
      * <p>
@@ -44,6 +48,21 @@ public class ImprovedFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the ImprovedFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same ImprovedFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new ImprovedFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link ImprovedFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static ImprovedFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      *
@@ -73,29 +92,31 @@ public class ImprovedFactionsFaction extends AbstractFaction<Faction> {
      */
     @Override
     public FPlayer getLeader() {
-        return new ImprovedFactionsPlayer(Bukkit.getOfflinePlayer(faction.getOwner()));
+        return ImprovedFactionsPlayer.of(faction.getOwner());
     }
 
     /**
      * Method to get all Claims related to the Faction.
+     * <p>
+     * The Claims are read from the {@link ImprovedFactionsClaimIndex}, so no chunks are loaded.
+     * </p>
      *
      * @return Claims in the form List of {@link Claim}
      */
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        final List<Claim> claims = new ArrayList<>();
-        final List<Vector2> claimedChunks = ChunkUtils.claimedChunks;
-        for (Vector2 claimedChunk : claimedChunks) {
-            for (World world : Bukkit.getWorlds()) {
-                final Chunk chunk = world.getChunkAt((int) claimedChunk.getX(), (int) claimedChunk.getY());
-                final Faction faction = ChunkUtils.GetFactionClaimedChunk(chunk);
-                if (faction == this.faction) {
-                    claims.add(new ImprovedFactionsClaim(chunk));
-                }
-            }
-        }
-        return claims;
+        return ImprovedFactionsClaimIndex.get().getClaims(faction);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return ImprovedFactionsClaimIndex.get().getClaimCount(faction);
     }
 
     /**
@@ -106,11 +127,33 @@ public class ImprovedFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
         return Arrays.stream(faction.getMembers())
                 .map(FactionMember::getUuid)
-                .map(Bukkit::getOfflinePlayer)
-                .map(ImprovedFactionsPlayer::new)
-                .collect(Collectors.toList());
+                .map(ImprovedFactionsPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getMembers().length;
     }
 
     /**
@@ -1,6 +1,7 @@
 package improvedfactions;
 
-import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.LazyFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
@@ -10,7 +11,6 @@ import io.github.toberocat.improvedfactions.ranks.MemberRank;
 import io.github.toberocat.improvedfactions.ranks.OwnerRank;
 import io.github.toberocat.improvedfactions.ranks.Rank;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -19,45 +19,53 @@ import java.util.UUID;
 
 /**
  * ImprovedFactions implementation of {@link FPlayer}.
- * Object Target: {@link OfflinePlayer}.
+ * Object Target: UUID, see {@link LazyFPlayer}.
  *
  * @author Callum Johnson
  * @since 26/02/2021 - 16:31
  */
-public class ImprovedFactionsPlayer extends AbstractFPlayer<OfflinePlayer> {
+public class ImprovedFactionsPlayer extends LazyFPlayer {
 
     /**
-     * Constructor to create an FactionsXPlayer.
+     * Cache of every ImprovedFactionsPlayer, keyed by the UUID it wraps.
+     */
+    private static final WrapperCache<UUID, ImprovedFactionsPlayer> CACHE = new WrapperCache<>(ImprovedFactionsPlayer::new);
+
+    /**
+     * Constructor to create an ImprovedFactionsPlayer.
      * <p>
      * This class will be used to create each implementation of an 'FPlayer'.
      * </p>
      *
-     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @param uuid of the player which will be bridged using the FactionsBridge.
      */
-    public ImprovedFactionsPlayer(@NotNull OfflinePlayer fPlayer) {
-        super(fPlayer);
+    public ImprovedFactionsPlayer(@NotNull UUID uuid) {
+        super(uuid);
     }
 
     /**
-     * Method to get the unique Id of the Faction Player.
+     * Method to obtain the ImprovedFactionsPlayer of the given UUID.
+     * <p>
+     * The same UUID returns the same ImprovedFactionsPlayer for as long as it is referenced.
+     * </p>
      *
-     * @return UUID (UniqueId).
+     * @param uuid of the player which will be bridged using the FactionsBridge.
+     * @return {@link ImprovedFactionsPlayer} linked to the UUID.
      */
     @NotNull
-    @Override
-    public UUID getUniqueId() {
-        return fPlayer.getUniqueId();
+    public static ImprovedFactionsPlayer of(@NotNull UUID uuid) {
+        return CACHE.get(uuid);
     }
 
     /**
-     * Method to get the Name of the Faction Player.
+     * Method to obtain the ImprovedFactionsPlayer of the given {@link OfflinePlayer}.
      *
-     * @return name of the Player.
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link ImprovedFactionsPlayer} linked to the UUID of the {@link OfflinePlayer}.
      */
     @NotNull
-    @Override
-    public String getName() {
-        return fPlayer.getName();
+    public static ImprovedFactionsPlayer of(@Nullable OfflinePlayer fPlayer) {
+        return of(fPlayer.getUniqueId());
     }
 
     /**
@@ -67,7 +75,7 @@ public class ImprovedFactionsPlayer extends AbstractFPlayer<OfflinePlayer> {
      */
     @Override
     public Faction getFaction() {
-        return new ImprovedFactionsFaction(FactionUtils.getFaction(getUniqueId()));
+        return ImprovedFactionsFaction.of(FactionUtils.getFaction(getUniqueId()));
     }
 
     /**
@@ -85,38 +93,6 @@ public class ImprovedFactionsPlayer extends AbstractFPlayer<OfflinePlayer> {
         return FactionUtils.getFaction(getUniqueId()) != null;
     }
 
-    /**
-     * Method to get the Offline form of the Player.
-     *
-     * @return {@link OfflinePlayer}
-     */
-    @NotNull
-    @Override
-    public OfflinePlayer getOfflinePlayer() {
-        return fPlayer;
-    }
-
-    /**
-     * Method to get the Online form of the Player.
-     *
-     * @return {@link Player}
-     * @see FPlayer#isOnline()
-     */
-    @Override
-    public Player getPlayer() {
-        return ((Player) fPlayer);
-    }
-
-    /**
-     * Uses Bukkit methodology to determine if the Player is online.
-     *
-     * @return {@code true} = yes, {@code false} = no.
-     */
-    @Override
-    public boolean isOnline() {
-        return fPlayer.isOnline();
-    }
-
     /**
      * Method to get the power of the FPlayer.
      *
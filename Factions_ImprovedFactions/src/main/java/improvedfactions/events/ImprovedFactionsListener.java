@@ -2,18 +2,19 @@ package improvedfactions.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import improvedfactions.ImprovedFactionsClaimIndex;
 import io.github.toberocat.improvedfactions.event.chunk.ChunkClaimEvent;
 import io.github.toberocat.improvedfactions.event.chunk.ChunkUnclaimEvent;
 import io.github.toberocat.improvedfactions.event.faction.FactionDeleteEvent;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * FactionsX implementation of the Bridges needed to handle all Custom Events.
  *
@@ -22,6 +23,11 @@ import static org.bukkit.Bukkit.getPluginManager;
  */
 public class ImprovedFactionsListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -37,13 +43,12 @@ public class ImprovedFactionsListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull ChunkClaimEvent event) {
-        final FactionClaimEvent bridgeEvent = new FactionClaimEvent(
+        dispatcher.call(FactionClaimEvent.class, event, () -> new FactionClaimEvent(
                 api.getClaim(event.getChunk()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getRegistryName())),
                 api.getFPlayer(event.getFaction().getOwner()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -56,13 +61,12 @@ public class ImprovedFactionsListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull ChunkUnclaimEvent event) {
-        final FactionUnclaimEvent bridgeEvent = new FactionUnclaimEvent(
+        dispatcher.call(FactionUnclaimEvent.class, event, () -> new FactionUnclaimEvent(
                 api.getClaim(event.getChunk()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getRegistryName())),
                 api.getFPlayer(event.getFaction().getOwner()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -75,12 +79,11 @@ public class ImprovedFactionsListener implements Listener {
      */
     @EventHandler
     public void onCreate(@NotNull io.github.toberocat.improvedfactions.event.faction.FactionCreateEvent event) {
-        final FactionCreateEvent bridgeEvent = new FactionCreateEvent(
+        dispatcher.call(FactionCreateEvent.class, event, () -> new FactionCreateEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getRegistryName())),
                 api.getFPlayer(event.getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
 
     }
 
@@ -94,13 +97,12 @@ public class ImprovedFactionsListener implements Listener {
      */
     @EventHandler
     public void onDisband(@NotNull FactionDeleteEvent event) {
-        final FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
                 api.getFPlayer(event.getPlayer()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getRegistryName())),
                 FactionDisbandEvent.DisbandReason.UNKNOWN,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -113,12 +115,11 @@ public class ImprovedFactionsListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull io.github.toberocat.improvedfactions.event.faction.FactionJoinEvent event) {
-        final FactionJoinEvent bridgeEvent = new FactionJoinEvent(
+        dispatcher.call(FactionJoinEvent.class, event, () -> new FactionJoinEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getRegistryName())),
                 api.getFPlayer(event.getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -131,13 +132,42 @@ public class ImprovedFactionsListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull io.github.toberocat.improvedfactions.event.faction.FactionLeaveEvent event) {
-        final FactionLeaveEvent bridgeEvent = new FactionLeaveEvent(
+        dispatcher.call(FactionLeaveEvent.class, event, () -> new FactionLeaveEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getRegistryName())),
                 api.getFPlayer(event.getPlayer()),
                 FactionLeaveEvent.LeaveReason.UNKNOWN,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
+    }
+
+    /**
+     * Listener for the {@link ChunkClaimEvent}, keeping the {@link ImprovedFactionsClaimIndex} current.
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClaimMonitor(@NotNull ChunkClaimEvent event) {
+        ImprovedFactionsClaimIndex.get().claim(event.getChunk(), event.getFaction());
+    }
+
+    /**
+     * Listener for the {@link ChunkUnclaimEvent}, keeping the {@link ImprovedFactionsClaimIndex} current.
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onUnclaimMonitor(@NotNull ChunkUnclaimEvent event) {
+        ImprovedFactionsClaimIndex.get().unclaim(event.getChunk());
+    }
+
+    /**
+     * Listener for the {@link FactionDeleteEvent}, keeping the {@link ImprovedFactionsClaimIndex} current.
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDisbandMonitor(@NotNull FactionDeleteEvent event) {
+        ImprovedFactionsClaimIndex.get().remove(event.getFaction());
     }
 
 }
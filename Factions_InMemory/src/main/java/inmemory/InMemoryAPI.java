@@ -0,0 +1,438 @@
+package inmemory;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.infrastructure.CoordinateClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import inmemory.events.InMemoryListener;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * InMemory implementation of {@link FactionsAPI}.
+ * <p>
+ * This Provider doesn't need a Factions plugin, every Faction, claim and player is held by an {@link InMemoryStore}
+ * and nothing is saved, so it is meant for load-testing plugins and the bridge itself.
+ * <br>It is never discovered, a test server selects it with {@code -Dfactionsbridge.provider=InMemory},
+ * and {@link #GENERATE_PROPERTY} fills it with generated data when it is registered.
+ * <br>The API can also be created directly, around a store filled by an {@link InMemoryGenerator}.
+ * </p>
+ * <p>
+ * The API answers every lookup from the store, without the bridge indices, and is thread-safe.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:30
+ */
+public class InMemoryAPI implements FactionsAPI {
+
+    /**
+     * System property generating data on registration, {@code <factions>,<claims>,<players>[,<seed>]}.
+     */
+    public static final String GENERATE_PROPERTY = "factionsbridge.inmemory.generate";
+
+    /**
+     * The store holding the data.
+     */
+    private final InMemoryStore store;
+
+    /**
+     * The Faction wrappers, indexed by Faction number and created on demand.
+     */
+    private volatile InMemoryFaction[] factions = new InMemoryFaction[16];
+
+    /**
+     * The FPlayer wrappers, created on demand.
+     */
+    private final WrapperCache<UUID, InMemoryFPlayer> fPlayers = new WrapperCache<>(this::createFPlayer);
+
+    /**
+     * Constructor to create an InMemoryAPI with an empty store, used when the Provider is selected.
+     */
+    public InMemoryAPI() {
+        this(new InMemoryStore());
+    }
+
+    /**
+     * Constructor to create an InMemoryAPI around an existing store.
+     *
+     * @param store holding the data.
+     */
+    public InMemoryAPI(@NotNull InMemoryStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Method to obtain the store holding the data.
+     *
+     * @return {@link InMemoryStore}.
+     */
+    @NotNull
+    public InMemoryStore getStore() {
+        return store;
+    }
+
+    /**
+     * Method to obtain the Faction with the given number.
+     * <p>
+     * The same number will always return the same InMemoryFaction.
+     * </p>
+     *
+     * @param number of the Faction in the {@link InMemoryStore}.
+     * @return {@link InMemoryFaction}.
+     */
+    @NotNull
+    public InMemoryFaction getFaction(int number) {
+        final InMemoryFaction[] wrappers = factions;
+        if (number < wrappers.length && wrappers[number] != null) return wrappers[number];
+        return wrapFaction(number);
+    }
+
+    /**
+     * Method to create the wrapper of a Faction.
+     *
+     * @param number of the Faction in the {@link InMemoryStore}.
+     * @return {@link InMemoryFaction}.
+     */
+    @NotNull
+    private synchronized InMemoryFaction wrapFaction(int number) {
+        if (number >= factions.length) factions = Arrays.copyOf(factions, Math.max(number + 1, factions.length * 2));
+        if (factions[number] == null) factions[number] = new InMemoryFaction(this, number);
+        return factions[number];
+    }
+
+    /**
+     * Method to create the wrapper of a player.
+     *
+     * @param uuid of the player.
+     * @return {@link InMemoryFPlayer}.
+     */
+    @NotNull
+    private InMemoryFPlayer createFPlayer(@NotNull UUID uuid) {
+        return new InMemoryFPlayer(this, uuid);
+    }
+
+    /**
+     * Method to obtain all Factions.
+     *
+     * @return Factions in the form of a List.
+     */
+    @NotNull
+    @Override
+    public List<Faction> getFactions() {
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
+        return Arrays.stream(store.getFactions()).mapToObj(this::getFaction);
+    }
+
+    /**
+     * Method to perform an action for every Faction, without copying them into a List.
+     *
+     * @param consumer to call for each Faction.
+     */
+    @Override
+    public void forEachFaction(@NotNull Consumer<Faction> consumer) {
+        for (int faction : store.getFactions()) consumer.accept(getFaction(faction));
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return store.getFactionCount();
+    }
+
+    /**
+     * Method to obtain a Faction from chunk coordinates, straight from the store.
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Faction at that location.
+     */
+    @NotNull
+    @Override
+    public Faction getFactionAt(@NotNull String world, int x, int z) {
+        return getFaction(store.getOwner(world, x, z));
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World, straight from the store.
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @NotNull
+    @Override
+    public Faction[] getFactionsAt(@NotNull World world, long[] packedChunks) {
+        final int[] owners = store.getOwners(world.getName(), packedChunks);
+        final Faction[] result = new Faction[owners.length];
+        for (int i = 0; i < owners.length; i++) result[i] = getFaction(owners[i]);
+        return result;
+    }
+
+    /**
+     * Method to obtain a Claim from Chunk.
+     *
+     * @param chunk to convert
+     * @return Claim object.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull Chunk chunk) {
+        return getClaim(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates, without loading the chunk.
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim object.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return new CoordinateClaim(world, x, z, getFactionAt(world, x, z));
+    }
+
+    /**
+     * Method to retrieve a Faction from Id.
+     *
+     * @param id of the Faction
+     * @return Faction implementation.
+     */
+    @Nullable
+    @Override
+    public Faction getFaction(@NotNull String id) {
+        final int number;
+        try {
+            number = Integer.parseInt(id);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        return store.exists(number) ? getFaction(number) : null;
+    }
+
+    /**
+     * Method to retrieve a Faction from Tag.
+     *
+     * @param tag of the Faction
+     * @return Faction implementation.
+     */
+    @Nullable
+    @Override
+    public Faction getFactionByTag(@NotNull String tag) {
+        final int number = store.getFaction(tag);
+        return number == InMemoryStore.NONE ? null : getFaction(number);
+    }
+
+    /**
+     * Method to retrieve a Faction from Name, ignoring case.
+     * <p>
+     * The store looks names up without case already, so the bridge name index isn't needed.
+     * </p>
+     *
+     * @param name of the Faction
+     * @return Faction implementation.
+     */
+    @Nullable
+    @Override
+    public Faction getFactionByName(@NotNull String name) {
+        return getFactionByTag(name);
+    }
+
+    /**
+     * Method to obtain the FPlayer by a Player.
+     *
+     * @param player to get the FPlayer equivalent for.
+     * @return FPlayer implementation.
+     */
+    @NotNull
+    @Override
+    public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
+        return getFPlayer(player.getUniqueId());
+    }
+
+    /**
+     * Method to obtain the FPlayer of a UUID.
+     *
+     * @param uuid of the FPlayer.
+     * @return FPlayer implementation.
+     */
+    @NotNull
+    @Override
+    public FPlayer getFPlayer(@NotNull UUID uuid) {
+        return fPlayers.get(uuid);
+    }
+
+    /**
+     * Method to obtain WarZone.
+     *
+     * @return {@link Faction}
+     */
+    @NotNull
+    @Override
+    public Faction getWarZone() {
+        return getFaction(InMemoryStore.WAR_ZONE);
+    }
+
+    /**
+     * Method to obtain SafeZone.
+     *
+     * @return {@link Faction}
+     */
+    @NotNull
+    @Override
+    public Faction getSafeZone() {
+        return getFaction(InMemoryStore.SAFE_ZONE);
+    }
+
+    /**
+     * Method to obtain the Wilderness.
+     *
+     * @return {@link Faction}
+     */
+    @NotNull
+    @Override
+    public Faction getWilderness() {
+        return getFaction(InMemoryStore.WILDERNESS);
+    }
+
+    /**
+     * Method to create a new Faction with the given name.
+     *
+     * @param name of the new Faction.
+     * @return Faction implementation.
+     * @throws IllegalStateException if the Faction exists already, or creating it was cancelled.
+     */
+    @NotNull
+    @Override
+    public Faction createFaction(@NotNull String name) throws IllegalStateException {
+        final int number = store.createFaction(name, InMemoryStore.NONE);
+        if (number == InMemoryStore.NONE) throw new IllegalStateException("Creating '" + name + "' was cancelled!");
+        final Faction created = getFaction(number);
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
+    }
+
+    /**
+     * Method to delete a Faction.
+     *
+     * @param faction to delete
+     * @throws IllegalStateException if the Faction doesn't exist.
+     */
+    @Override
+    public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
+        if (!(faction instanceof InMemoryFaction)) {
+            throw new IllegalStateException("Faction '" + faction.getName() + "' doesn't exist!");
+        }
+        store.disband(((InMemoryFaction) faction).getNumber(), InMemoryStore.NONE);
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls the relationship event, which it does.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean supportsRelationshipEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider can be read safely from any thread, which it can.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     *
+     * @return {@code true}, every claim change is bridged.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever the Role of a Member changes.
+     *
+     * @return {@code true}, every Role change is bridged.
+     */
+    @Override
+    public boolean supportsRoleEvents() {
+        return true;
+    }
+
+    /**
+     * Method to register events and handle event pass-through for the Bridge.
+     * <p>
+     * If {@link #GENERATE_PROPERTY} is set, the store is filled first, in the first World of the server.
+     * </p>
+     */
+    @Override
+    public boolean register() {
+        final String generate = System.getProperty(GENERATE_PROPERTY);
+        if (generate != null) {
+            try {
+                final List<World> worlds = Bukkit.getWorlds();
+                final String world = worlds.isEmpty() ? "world" : worlds.get(0).getName();
+                InMemoryGenerator.fromSpecification(generate).generate(store, world);
+            } catch (IllegalArgumentException ex) {
+                FactionsBridge.get().exception(ex, "Failed to generate data from '" + generate + "'.");
+            }
+        }
+        Bukkit.getPluginManager().registerEvents(
+                new InMemoryListener(this),
+                FactionsBridge.get().getDevelopmentPlugin()
+        );
+        return true;
+    }
+
+}
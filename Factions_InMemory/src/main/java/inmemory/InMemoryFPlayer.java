@@ -0,0 +1,156 @@
+package inmemory;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.LazyFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * InMemory implementation of {@link FPlayer}.
+ * Object Target: UUID, see {@link LazyFPlayer}.
+ * <p>
+ * The number of the player in the {@link InMemoryStore} is looked up on first use and then remembered,
+ * as players are never renumbered. A player the store doesn't know is factionless until it is added.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:30
+ */
+public class InMemoryFPlayer extends LazyFPlayer {
+
+    /**
+     * The API which created this FPlayer.
+     */
+    private final InMemoryAPI api;
+
+    /**
+     * The store holding the player.
+     */
+    private final InMemoryStore store;
+
+    /**
+     * The number of the player, {@link InMemoryStore#NONE} until the store knows the player.
+     */
+    private volatile int number = InMemoryStore.NONE;
+
+    /**
+     * Constructor to create an InMemoryFPlayer.
+     * <p>
+     * Use {@link InMemoryAPI#getFPlayer(UUID)}, which returns the same InMemoryFPlayer for the same UUID.
+     * </p>
+     *
+     * @param api  which created this FPlayer.
+     * @param uuid of the player.
+     */
+    InMemoryFPlayer(@NotNull InMemoryAPI api, @NotNull UUID uuid) {
+        super(uuid);
+        this.api = api;
+        this.store = api.getStore();
+    }
+
+    /**
+     * Method to obtain the number of the player in the {@link InMemoryStore}.
+     *
+     * @return number of the player, or {@link InMemoryStore#NONE} if the store doesn't know the player.
+     */
+    public int getNumber() {
+        int resolved = number;
+        if (resolved == InMemoryStore.NONE) number = resolved = store.getPlayer(fPlayer);
+        return resolved;
+    }
+
+    /**
+     * Method to obtain the number of the player, adding the player to the store if it doesn't know them.
+     *
+     * @return number of the player.
+     */
+    private int addToStore() {
+        int resolved = getNumber();
+        if (resolved == InMemoryStore.NONE) number = resolved = store.addPlayer(fPlayer);
+        return resolved;
+    }
+
+    /**
+     * Method to get the Faction linked to the FPlayer.
+     *
+     * @return faction of the player, the Wilderness if the player is factionless.
+     */
+    @NotNull
+    @Override
+    public Faction getFaction() {
+        final int player = getNumber();
+        final int faction = player == InMemoryStore.NONE ? InMemoryStore.NONE : store.getPlayerFaction(player);
+        return api.getFaction(faction == InMemoryStore.NONE ? InMemoryStore.WILDERNESS : faction);
+    }
+
+    /**
+     * Method to determine if the Player is in a Faction.
+     *
+     * @return {@code true} if the player is in a player Faction.
+     */
+    @Override
+    public boolean hasFaction() {
+        final int player = getNumber();
+        return player != InMemoryStore.NONE && store.getPlayerFaction(player) != InMemoryStore.NONE;
+    }
+
+    /**
+     * Method to get the power of the FPlayer.
+     *
+     * @return power value.
+     */
+    @Override
+    public double getPower() {
+        final int player = getNumber();
+        return player == InMemoryStore.NONE ? 0.0D : store.getPlayerPower(player);
+    }
+
+    /**
+     * Method to set the power of the FPlayer.
+     *
+     * @param power to set.
+     */
+    @Override
+    public void setPower(double power) {
+        store.setPlayerPower(addToStore(), power);
+    }
+
+    /**
+     * Method to obtain the title of the FPlayer.
+     *
+     * @return title of the FPlayer, or {@code null}.
+     */
+    @Nullable
+    @Override
+    public String getTitle() {
+        final int player = getNumber();
+        return player == InMemoryStore.NONE ? null : store.getTitle(player);
+    }
+
+    /**
+     * Method to set the title of the FPlayer.
+     *
+     * @param title to set.
+     */
+    @Override
+    public void setTitle(@NotNull String title) {
+        store.setTitle(addToStore(), title);
+    }
+
+    /**
+     * Method to get the Role of the FPlayer.
+     *
+     * @return {@link Role}
+     */
+    @NotNull
+    @Override
+    public Role getRole() {
+        final int player = getNumber();
+        return player == InMemoryStore.NONE ? Role.FACTIONLESS : store.getRole(player);
+    }
+
+}
@@ -0,0 +1,391 @@
+package inmemory;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.CoordinateClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * InMemory implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
+ * Object Target: the number of the Faction in the {@link InMemoryStore}.
+ * <p>
+ * Claims are {@link CoordinateClaim}s, as the store only knows the World name and coordinates of a claim.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:30
+ */
+public class InMemoryFaction extends AbstractFaction<Integer> {
+
+    /**
+     * The API which created this Faction.
+     */
+    private final InMemoryAPI api;
+
+    /**
+     * The store holding the Faction.
+     */
+    private final InMemoryStore store;
+
+    /**
+     * The number of the Faction, unboxed.
+     */
+    private final int number;
+
+    /**
+     * Constructor to create an InMemoryFaction.
+     * <p>
+     * Use {@link InMemoryAPI#getFaction(int)}, which returns the same InMemoryFaction for the same number.
+     * </p>
+     *
+     * @param api    which created this Faction.
+     * @param number of the Faction in the {@link InMemoryStore}.
+     */
+    InMemoryFaction(@NotNull InMemoryAPI api, int number) {
+        super(number);
+        this.api = api;
+        this.store = api.getStore();
+        this.number = number;
+    }
+
+    /**
+     * Method to obtain the number of the Faction in the {@link InMemoryStore}.
+     *
+     * @return number of the Faction.
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Method to get the Id of the Faction.
+     *
+     * @return Id in the form of String.
+     */
+    @NotNull
+    @Override
+    public String getId() {
+        return String.valueOf(number);
+    }
+
+    /**
+     * Method to get the Name of the Faction.
+     *
+     * @return name of the Faction.
+     */
+    @NotNull
+    @Override
+    public String getName() {
+        return store.getName(number);
+    }
+
+    /**
+     * Method to get the FPlayer Leader of the Faction.
+     *
+     * @return {@link FPlayer} or {@code null}.
+     */
+    @Nullable
+    @Override
+    public FPlayer getLeader() {
+        final int leader = store.getLeader(number);
+        return leader == InMemoryStore.NONE ? null : api.getFPlayer(store.getUniqueId(leader));
+    }
+
+    /**
+     * Method to get all Claims related to the Faction.
+     *
+     * @return Claims in the form List of {@link Claim}
+     */
+    @NotNull
+    @Override
+    public List<Claim> getAllClaims() {
+        final List<Claim> claims = new ArrayList<>(store.getClaimCount(number));
+        store.forEachClaim(number, (world, x, z) -> claims.add(new CoordinateClaim(world, x, z, this)));
+        return claims;
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return store.getClaimCount(number);
+    }
+
+    /**
+     * Method to get all of the Members for the Faction.
+     *
+     * @return List of FPlayer
+     */
+    @NotNull
+    @Override
+    public List<FPlayer> getMembers() {
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return Arrays.stream(store.getMembers(number)).mapToObj(store::getUniqueId).map(api::getFPlayer);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return store.getMemberCount(number);
+    }
+
+    /**
+     * Method to set the 'Home' of a Faction.
+     *
+     * @param location to set as the new home.
+     */
+    @Override
+    public void setHome(@NotNull Location location) {
+        store.setHome(number, location);
+    }
+
+    /**
+     * Method to retrieve the 'Home' of the Faction.
+     *
+     * @return {@link Location} or {@code null}.
+     */
+    @Nullable
+    @Override
+    public Location getHome() {
+        return store.getHome(number);
+    }
+
+    /**
+     * Method to test if this Faction is a Server Faction
+     * <p>
+     * Server Factions: Wilderness, SafeZone, WarZone.
+     * </p>
+     *
+     * @return {@code true} if yes, {@code false} if no.
+     */
+    @Override
+    public boolean isServerFaction() {
+        return number < InMemoryStore.FIRST_FACTION;
+    }
+
+    /**
+     * Method to determine if the Faction is the WarZone.
+     *
+     * @return {@code true} if it is.
+     */
+    @Override
+    public boolean isWarZone() {
+        return number == InMemoryStore.WAR_ZONE;
+    }
+
+    /**
+     * Method to determine if the Faction is a safe zone.
+     *
+     * @return {@code true} if it is.
+     */
+    @Override
+    public boolean isSafeZone() {
+        return number == InMemoryStore.SAFE_ZONE;
+    }
+
+    /**
+     * Method to determine if the Faction is the Wilderness.
+     *
+     * @return {@code true} if it is.
+     */
+    @Override
+    public boolean isWilderness() {
+        return number == InMemoryStore.WILDERNESS;
+    }
+
+    /**
+     * Method to determine if the Faction is in a Peaceful state.
+     *
+     * @return {@code true} if the Faction is Peaceful.
+     */
+    @Override
+    public boolean isPeaceful() {
+        return store.isPeaceful(number);
+    }
+
+    /**
+     * Method to obtain the Power of the Faction.
+     *
+     * @return the Power of the Faction.
+     */
+    @Override
+    public double getPower() {
+        return store.getPower(number);
+    }
+
+    /**
+     * Method to update the power of a Faction.
+     *
+     * @param power to set.
+     */
+    @Override
+    public void setPower(double power) {
+        store.setPower(number, power);
+    }
+
+    /**
+     * Method to obtain the Points of the Faction.
+     *
+     * @return the Points of the Faction.
+     */
+    @Override
+    public int getPoints() {
+        return store.getPoints(number);
+    }
+
+    /**
+     * Method to set the points of a Faction.
+     *
+     * @param points to set.
+     */
+    @Override
+    public void setPoints(int points) {
+        store.setPoints(number, points);
+    }
+
+    /**
+     * Method to get the bank balance of the Faction.
+     *
+     * @return the bank balance of the Faction.
+     */
+    @Override
+    public double getBank() {
+        return store.getBank(number);
+    }
+
+    /**
+     * Method to set the bank balance of the Faction.
+     *
+     * @param balance to set.
+     */
+    @Override
+    public void setBank(double balance) {
+        store.setBank(number, balance);
+    }
+
+    /**
+     * Method to get a Warp by its name.
+     *
+     * @param name of the warp.
+     * @return {@link Location} or {@code null}.
+     */
+    @Nullable
+    @Override
+    public Location getWarp(@NotNull String name) {
+        return store.getWarp(number, name);
+    }
+
+    /**
+     * Method to create a warp for the Faction.
+     *
+     * @param name     of the warp.
+     * @param location of the warp.
+     */
+    @Override
+    public void createWarp(@NotNull String name, @NotNull Location location) {
+        store.setWarp(number, name, location);
+    }
+
+    /**
+     * Method to get all of the Warps of the Faction.
+     *
+     * @return copy of the warps, name to {@link Location}.
+     */
+    @NotNull
+    @Override
+    public HashMap<String, Location> getWarps() {
+        return store.getWarps(number);
+    }
+
+    /**
+     * Method to delete a warp.
+     *
+     * @param name of the warp.
+     */
+    @Override
+    public void deleteWarp(@NotNull String name) {
+        store.setWarp(number, name, null);
+    }
+
+    /**
+     * Method to clear all strikes.
+     */
+    @Override
+    public void clearStrikes() {
+        store.setStrikes(number, 0);
+    }
+
+    /**
+     * Method to add a strike to the Faction.
+     *
+     * @param sender who added the strike.
+     * @param reason for the strike.
+     */
+    @Override
+    public void addStrike(String sender, String reason) {
+        store.setStrikes(number, store.getStrikes(number) + 1);
+    }
+
+    /**
+     * Method to remove a strike from the Faction.
+     *
+     * @param sender who removed the strike.
+     * @param reason for the strike.
+     */
+    @Override
+    public void removeStrike(String sender, String reason) {
+        store.setStrikes(number, store.getStrikes(number) - 1);
+    }
+
+    /**
+     * Method to obtain the total strikes of the Faction.
+     *
+     * @return amount of strikes.
+     */
+    @Override
+    public int getTotalStrikes() {
+        return store.getStrikes(number);
+    }
+
+    /**
+     * Method to obtain the Relationship between this Faction and another Faction.
+     *
+     * @param other to get the relative relationship to this Faction.
+     * @return {@link Relationship} enumeration.
+     */
+    @NotNull
+    @Override
+    public Relationship getRelationshipTo(@NotNull AbstractFaction<?> other) {
+        if (!(other instanceof InMemoryFaction)) return Relationship.NONE;
+        return store.getRelationship(number, ((InMemoryFaction) other).number);
+    }
+
+}
@@ -0,0 +1,148 @@
+package inmemory;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The InMemoryGenerator class fills an {@link InMemoryStore} with synthetic Factions, claims and players.
+ * <p>
+ * Every Faction claims a compact square plot, and the plots are laid out in a grid around the origin,
+ * so the board looks like a server's rather than a scatter of single chunks.
+ * <br>Claims and players are shared out evenly, the first player of each Faction is its leader, and each Faction
+ * is given up to three random relations.
+ * <br>The data is generated from a seed, so the same generator always produces the same store.
+ * No events are called.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:30
+ */
+public class InMemoryGenerator {
+
+    /**
+     * The relations given to the Factions at random.
+     */
+    private static final Relationship[] RELATIONSHIPS = {Relationship.ALLY, Relationship.TRUCE, Relationship.ENEMY};
+
+    /**
+     * The Roles given to the players who aren't leaders, weighted by repetition.
+     */
+    private static final Role[] ROLES = {Role.OFFICER, Role.NORMAL, Role.NORMAL, Role.NORMAL, Role.RECRUIT};
+
+    /**
+     * The amount of player Factions to generate.
+     */
+    private final int factions;
+
+    /**
+     * The amount of claims to generate, in total.
+     */
+    private final int claims;
+
+    /**
+     * The amount of players to generate, in total.
+     */
+    private final int players;
+
+    /**
+     * The seed of the random data.
+     */
+    private final long seed;
+
+    /**
+     * Constructor to create an InMemoryGenerator.
+     *
+     * @param factions amount of player Factions.
+     * @param claims   amount of claims, shared out between the Factions.
+     * @param players  amount of players, shared out between the Factions.
+     * @param seed     of the random data.
+     * @throws IllegalArgumentException if an amount is negative, or there are claims or players but no Factions.
+     */
+    public InMemoryGenerator(int factions, int claims, int players, long seed) {
+        if (factions < 0 || claims < 0 || players < 0) {
+            throw new IllegalArgumentException("Amounts can't be negative!");
+        }
+        if (factions == 0 && (claims != 0 || players != 0)) {
+            throw new IllegalArgumentException("Claims and players need at least one Faction!");
+        }
+        this.factions = factions;
+        this.claims = claims;
+        this.players = players;
+        this.seed = seed;
+    }
+
+    /**
+     * Method to create an InMemoryGenerator from a specification, {@code <factions>,<claims>,<players>[,<seed>]}.
+     *
+     * @param specification to parse, such as {@code 500,20000,3000}.
+     * @return {@link InMemoryGenerator}.
+     * @throws IllegalArgumentException if the specification is invalid.
+     */
+    @NotNull
+    public static InMemoryGenerator fromSpecification(@NotNull String specification) {
+        final String[] parts = specification.split(",");
+        if (parts.length != 3 && parts.length != 4) {
+            throw new IllegalArgumentException("Expected '<factions>,<claims>,<players>[,<seed>]'!");
+        }
+        try {
+            return new InMemoryGenerator(
+                    Integer.parseInt(parts[0].trim()),
+                    Integer.parseInt(parts[1].trim()),
+                    Integer.parseInt(parts[2].trim()),
+                    parts.length == 4 ? Long.parseLong(parts[3].trim()) : 42L
+            );
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Expected '<factions>,<claims>,<players>[,<seed>]'!", ex);
+        }
+    }
+
+    /**
+     * Method to generate the data into a store.
+     *
+     * @param store to fill.
+     * @param world name of the World to claim in.
+     * @return array of the numbers of the generated Factions, in creation order.
+     * @throws IllegalStateException if a generated Faction name is taken already.
+     */
+    @NotNull
+    public int[] generate(@NotNull InMemoryStore store, @NotNull String world) {
+        final Random random = new Random(seed);
+        final int[] created = new int[factions];
+        for (int i = 0; i < factions; i++) {
+            created[i] = store.insertFaction("Faction" + i);
+            store.setPower(created[i], 10.0D * random.nextInt(20));
+            store.setBank(created[i], 100.0D * random.nextInt(1000));
+        }
+        if (factions == 0) return created;
+        final int largest = (claims + factions - 1) / factions;
+        final int side = (int) Math.ceil(Math.sqrt(largest)) + 1;
+        final int columns = (int) Math.ceil(Math.sqrt(factions));
+        final int offset = columns * side / 2;
+        for (int i = 0; i < factions; i++) {
+            final int plotX = (i % columns) * side - offset, plotZ = (i / columns) * side - offset;
+            final int share = claims / factions + (i < claims % factions ? 1 : 0);
+            for (int j = 0; j < share; j++) {
+                store.insertClaim(created[i], world, plotX + j % (side - 1), plotZ + j / (side - 1));
+            }
+        }
+        for (int i = 0; i < players; i++) {
+            final int player = store.insertPlayer(new UUID(random.nextLong(), random.nextLong()));
+            store.setPlayerPower(player, random.nextInt(11));
+            if (i < factions) store.insertMember(created[i], player, Role.LEADER);
+            else store.insertMember(created[random.nextInt(factions)], player, ROLES[random.nextInt(ROLES.length)]);
+        }
+        for (int faction : created) {
+            for (int j = 0; j < 3 && factions > 1; j++) {
+                final int other = created[random.nextInt(factions)];
+                if (other == faction) continue;
+                store.insertRelationship(faction, other, RELATIONSHIPS[random.nextInt(RELATIONSHIPS.length)]);
+            }
+        }
+        return created;
+    }
+
+}
@@ -0,0 +1,1626 @@
+package inmemory;
+
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.LongIntHashMap;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import inmemory.events.InMemoryFactionEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The InMemoryStore class holds every Faction, claim, player and relation of the in-memory Provider.
+ * <p>
+ * Factions and players are numbered in the order they are created and never renumbered, and their data is held
+ * in parallel primitive arrays indexed by that number,
+ * so a Faction costs a few array slots rather than an object graph.
+ * <br>Each World has a board, a {@link LongIntHashMap} from {@link ChunkKey} to Faction number, and each Faction
+ * keeps the keys of its own claims; relations are a single {@link LongIntHashMap} keyed by the pair of Factions.
+ * <br>Numbers {@link #WILDERNESS}, {@link #SAFE_ZONE} and {@link #WAR_ZONE} are the server Factions.
+ * </p>
+ * <p>
+ * Reads are thread-safe, they share a read lock.
+ * <br>The public changes call an {@link InMemoryFactionEvent} first and are only applied if it isn't cancelled,
+ * so like every Bukkit event they must be made on the main thread.
+ * The package-private {@code insert} methods, used by the {@link InMemoryGenerator}, change the data silently.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:30
+ */
+public class InMemoryStore {
+
+    /**
+     * The number used where there is no Faction or player.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * The number of the Wilderness.
+     */
+    public static final int WILDERNESS = 0;
+
+    /**
+     * The number of the SafeZone.
+     */
+    public static final int SAFE_ZONE = 1;
+
+    /**
+     * The number of the WarZone.
+     */
+    public static final int WAR_ZONE = 2;
+
+    /**
+     * The number of the first player Faction.
+     */
+    public static final int FIRST_FACTION = 3;
+
+    /**
+     * Flag set while a Faction exists.
+     */
+    private static final byte EXISTS = 1;
+
+    /**
+     * Flag set while a Faction is peaceful.
+     */
+    private static final byte PEACEFUL = 2;
+
+    /**
+     * The initial capacity of the Faction and player arrays.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The Roles, indexed by the ordinal stored for each player.
+     */
+    private static final Role[] ROLES = Role.values();
+
+    /**
+     * The Relationships, indexed by the ordinal stored for each pair of Factions.
+     */
+    private static final Relationship[] RELATIONSHIPS = Relationship.values();
+
+    /**
+     * Read lock, shared by every read.
+     */
+    private final Lock read;
+
+    /**
+     * Write lock, held while the data changes.
+     */
+    private final Lock write;
+
+    /**
+     * The amount of Faction numbers used, including disbanded Factions.
+     */
+    private int factionSlots = 0;
+
+    /**
+     * The amount of existing Factions.
+     */
+    private int factionCount = 0;
+
+    /**
+     * The name of each Faction.
+     */
+    private String[] names = new String[INITIAL_CAPACITY];
+
+    /**
+     * The flags of each Faction.
+     */
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+
+    /**
+     * The power and bank balance of each Faction.
+     */
+    private double[] factionPower = new double[INITIAL_CAPACITY], banks = new double[INITIAL_CAPACITY];
+
+    /**
+     * The points and strikes of each Faction.
+     */
+    private int[] points = new int[INITIAL_CAPACITY], strikes = new int[INITIAL_CAPACITY];
+
+    /**
+     * The home of each Faction, or {@code null}.
+     */
+    private Location[] homes = new Location[INITIAL_CAPACITY];
+
+    /**
+     * The numbers of the Members of each Faction, the first {@link #memberCounts} entries are used.
+     */
+    private int[][] members = new int[INITIAL_CAPACITY][];
+
+    /**
+     * The amount of Members of each Faction.
+     */
+    private int[] memberCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * The chunk keys claimed by each Faction, per World number.
+     */
+    private LongIntHashMap[][] claims = new LongIntHashMap[INITIAL_CAPACITY][];
+
+    /**
+     * The amount of claims of each Faction.
+     */
+    private int[] claimCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * The warps of the Factions which have any.
+     */
+    private final Map<Integer, HashMap<String, Location>> warps = new HashMap<>();
+
+    /**
+     * Lower-case name to Faction number lookup.
+     */
+    private final Map<String, Integer> byName = new HashMap<>();
+
+    /**
+     * The names of the Worlds, indexed by World number.
+     */
+    private final List<String> worlds = new ArrayList<>();
+
+    /**
+     * World name to World number lookup.
+     */
+    private final Map<String, Integer> worldNumbers = new HashMap<>();
+
+    /**
+     * The board of each World, chunk key to Faction number.
+     */
+    private LongIntHashMap[] boards = new LongIntHashMap[0];
+
+    /**
+     * The amount of players.
+     */
+    private int playerCount = 0;
+
+    /**
+     * The halves of the UUID of each player.
+     */
+    private long[] mostBits = new long[INITIAL_CAPACITY], leastBits = new long[INITIAL_CAPACITY];
+
+    /**
+     * The Faction number of each player, or {@link #NONE}.
+     */
+    private int[] playerFactions = new int[INITIAL_CAPACITY];
+
+    /**
+     * The ordinal of the Role of each player.
+     */
+    private byte[] roles = new byte[INITIAL_CAPACITY];
+
+    /**
+     * The power of each player.
+     */
+    private double[] playerPower = new double[INITIAL_CAPACITY];
+
+    /**
+     * The title of each player, or {@code null}.
+     */
+    private String[] titles = new String[INITIAL_CAPACITY];
+
+    /**
+     * Most significant bits to player number lookup.
+     */
+    private final LongIntHashMap playersByMostBits = new LongIntHashMap(NONE);
+
+    /**
+     * The players whose most significant bits are shared with an earlier player.
+     */
+    private final Map<UUID, Integer> collisions = new HashMap<>();
+
+    /**
+     * Relationship ordinal plus one, keyed by the pair of Faction numbers, see {@link #relationKey(int, int)}.
+     */
+    private final LongIntHashMap relations = new LongIntHashMap(0);
+
+    /**
+     * Constructor to create an InMemoryStore containing only the server Factions.
+     */
+    public InMemoryStore() {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        read = lock.readLock();
+        write = lock.writeLock();
+        addFaction("Wilderness");
+        addFaction("SafeZone");
+        addFaction("WarZone");
+    }
+
+    /**
+     * Method to determine if a Faction exists.
+     *
+     * @param faction number of the Faction.
+     * @return {@code true} if it exists.
+     */
+    public boolean exists(int faction) {
+        read.lock();
+        try {
+            return isFaction(faction);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the amount of existing Factions, including the server Factions.
+     *
+     * @return amount of Factions.
+     */
+    public int getFactionCount() {
+        read.lock();
+        try {
+            return factionCount;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the numbers of the existing Factions, including the server Factions.
+     *
+     * @return array of Faction numbers, in creation order.
+     */
+    @NotNull
+    public int[] getFactions() {
+        read.lock();
+        try {
+            final int[] factions = new int[factionCount];
+            for (int faction = 0, i = 0; faction < factionSlots; faction++) {
+                if ((flags[faction] & EXISTS) != 0) factions[i++] = faction;
+            }
+            return factions;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain a Faction by name, ignoring case.
+     *
+     * @param name of the Faction.
+     * @return number of the Faction, or {@link #NONE}.
+     */
+    public int getFaction(@NotNull String name) {
+        read.lock();
+        try {
+            final Integer faction = byName.get(normalise(name));
+            return faction == null ? NONE : faction;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the name of a Faction.
+     * <p>
+     * A disbanded Faction keeps its last name.
+     * </p>
+     *
+     * @param faction number of the Faction.
+     * @return name of the Faction.
+     */
+    @NotNull
+    public String getName(int faction) {
+        read.lock();
+        try {
+            return names[checkSlot(faction)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to determine if a Faction is peaceful.
+     *
+     * @param faction number of the Faction.
+     * @return {@code true} if it is peaceful.
+     */
+    public boolean isPeaceful(int faction) {
+        read.lock();
+        try {
+            return (flags[checkSlot(faction)] & PEACEFUL) != 0;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set if a Faction is peaceful.
+     *
+     * @param faction  number of the Faction.
+     * @param peaceful {@code true} to make it peaceful.
+     */
+    public void setPeaceful(int faction, boolean peaceful) {
+        write.lock();
+        try {
+            if (peaceful) flags[checkFaction(faction)] |= PEACEFUL;
+            else flags[checkFaction(faction)] &= ~PEACEFUL;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the power of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return power of the Faction.
+     */
+    public double getPower(int faction) {
+        read.lock();
+        try {
+            return factionPower[checkSlot(faction)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set the power of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param power   to set.
+     */
+    public void setPower(int faction, double power) {
+        write.lock();
+        try {
+            factionPower[checkFaction(faction)] = power;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the bank balance of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return balance of the Faction.
+     */
+    public double getBank(int faction) {
+        read.lock();
+        try {
+            return banks[checkSlot(faction)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set the bank balance of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param balance to set.
+     */
+    public void setBank(int faction, double balance) {
+        write.lock();
+        try {
+            banks[checkFaction(faction)] = balance;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the points of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return points of the Faction.
+     */
+    public int getPoints(int faction) {
+        read.lock();
+        try {
+            return points[checkSlot(faction)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set the points of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param points  to set.
+     */
+    public void setPoints(int faction, int points) {
+        write.lock();
+        try {
+            this.points[checkFaction(faction)] = points;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the strikes of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return amount of strikes.
+     */
+    public int getStrikes(int faction) {
+        read.lock();
+        try {
+            return strikes[checkSlot(faction)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set the strikes of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param strikes amount of strikes, never below zero.
+     */
+    public void setStrikes(int faction, int strikes) {
+        write.lock();
+        try {
+            this.strikes[checkFaction(faction)] = Math.max(0, strikes);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the home of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return {@link Location} or {@code null}.
+     */
+    @Nullable
+    public Location getHome(int faction) {
+        read.lock();
+        try {
+            return homes[checkSlot(faction)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set the home of a Faction.
+     *
+     * @param faction  number of the Faction.
+     * @param location of the home, or {@code null} to remove it.
+     */
+    public void setHome(int faction, @Nullable Location location) {
+        write.lock();
+        try {
+            homes[checkFaction(faction)] = location;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the warps of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return copy of the warps, name to {@link Location}.
+     */
+    @NotNull
+    public HashMap<String, Location> getWarps(int faction) {
+        read.lock();
+        try {
+            final HashMap<String, Location> factionWarps = warps.get(checkSlot(faction));
+            return factionWarps == null ? new HashMap<>() : new HashMap<>(factionWarps);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain a warp of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param name    of the warp.
+     * @return {@link Location} or {@code null}.
+     */
+    @Nullable
+    public Location getWarp(int faction, @NotNull String name) {
+        read.lock();
+        try {
+            final HashMap<String, Location> factionWarps = warps.get(checkSlot(faction));
+            return factionWarps == null ? null : factionWarps.get(name);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set a warp of a Faction.
+     *
+     * @param faction  number of the Faction.
+     * @param name     of the warp.
+     * @param location of the warp, or {@code null} to remove it.
+     */
+    public void setWarp(int faction, @NotNull String name, @Nullable Location location) {
+        write.lock();
+        try {
+            checkFaction(faction);
+            if (location != null) {
+                warps.computeIfAbsent(faction, number -> new HashMap<>()).put(name, location);
+                return;
+            }
+            final HashMap<String, Location> factionWarps = warps.get(faction);
+            if (factionWarps == null) return;
+            factionWarps.remove(name);
+            if (factionWarps.isEmpty()) warps.remove(faction);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the leader of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return number of the player, or {@link #NONE}.
+     */
+    public int getLeader(int faction) {
+        read.lock();
+        try {
+            checkSlot(faction);
+            final int[] factionMembers = members[faction];
+            for (int i = 0; i < memberCounts[faction]; i++) {
+                if (roles[factionMembers[i]] == Role.LEADER.ordinal()) return factionMembers[i];
+            }
+            return NONE;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the Members of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return array of player numbers, in the order they joined.
+     */
+    @NotNull
+    public int[] getMembers(int faction) {
+        read.lock();
+        try {
+            return Arrays.copyOf(members[checkSlot(faction)], memberCounts[faction]);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the amount of Members of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return amount of Members.
+     */
+    public int getMemberCount(int faction) {
+        read.lock();
+        try {
+            return memberCounts[checkSlot(faction)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the amount of claims of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @return amount of claims.
+     */
+    public int getClaimCount(int faction) {
+        read.lock();
+        try {
+            return claimCounts[checkSlot(faction)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to perform an action for every claim of a Faction.
+     * <p>
+     * The claims are copied while the read lock is held, and the consumer is called once it is released,
+     * so the consumer can change the store (unclaiming each claim for example).
+     * <br>Claims made or removed by the consumer don't change the claims it is called for.
+     * </p>
+     *
+     * @param faction  number of the Faction.
+     * @param consumer to call for each claim.
+     */
+    public void forEachClaim(int faction, @NotNull ClaimConsumer consumer) {
+        final String[] claimWorlds;
+        final long[] keys;
+        read.lock();
+        try {
+            final LongIntHashMap[] factionClaims = claims[checkSlot(faction)];
+            claimWorlds = new String[claimCounts[faction]];
+            keys = new long[claimWorlds.length];
+            final int[] count = new int[1];
+            for (int world = 0; world < factionClaims.length; world++) {
+                if (factionClaims[world] == null) continue;
+                final String worldName = worlds.get(world);
+                factionClaims[world].forEach((key, value) -> {
+                    claimWorlds[count[0]] = worldName;
+                    keys[count[0]++] = key;
+                });
+            }
+        } finally {
+            read.unlock();
+        }
+        for (int i = 0; i < keys.length; i++) {
+            consumer.accept(claimWorlds[i], ChunkKey.getX(keys[i]), ChunkKey.getZ(keys[i]));
+        }
+    }
+
+    /**
+     * Method to obtain the owner of a chunk.
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return number of the Faction, {@link #WILDERNESS} if the chunk isn't claimed.
+     */
+    public int getOwner(@NotNull String world, int x, int z) {
+        read.lock();
+        try {
+            return ownerOf(world, ChunkKey.pack(x, z));
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the owners of many chunks of the same World.
+     *
+     * @param world        name of the World.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of Faction numbers, index-aligned with the given chunks.
+     */
+    @NotNull
+    public int[] getOwners(@NotNull String world, long[] packedChunks) {
+        final int[] owners = new int[packedChunks.length];
+        read.lock();
+        try {
+            final Integer number = worldNumbers.get(world);
+            if (number == null) return owners;
+            final LongIntHashMap board = boards[number];
+            for (int i = 0; i < packedChunks.length; i++) owners[i] = board.get(packedChunks[i]);
+            return owners;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the Relationship between two Factions.
+     *
+     * @param faction number of the Faction.
+     * @param other   number of the other Faction.
+     * @return {@link Relationship}.
+     */
+    @NotNull
+    public Relationship getRelationship(int faction, int other) {
+        if (faction == other) return Relationship.MEMBER;
+        read.lock();
+        try {
+            final int relationship = relations.get(relationKey(faction, other));
+            return relationship == 0 ? Relationship.NONE : RELATIONSHIPS[relationship - 1];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the amount of players.
+     *
+     * @return amount of players.
+     */
+    public int getPlayerCount() {
+        read.lock();
+        try {
+            return playerCount;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain a player by UUID.
+     *
+     * @param uuid of the player.
+     * @return number of the player, or {@link #NONE} if the store doesn't know the player.
+     */
+    public int getPlayer(@NotNull UUID uuid) {
+        read.lock();
+        try {
+            return playerOf(uuid);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain a player by UUID, adding a factionless player if the store doesn't know it.
+     *
+     * @param uuid of the player.
+     * @return number of the player.
+     */
+    public int addPlayer(@NotNull UUID uuid) {
+        final int player = getPlayer(uuid);
+        if (player != NONE) return player;
+        write.lock();
+        try {
+            final int existing = playerOf(uuid);
+            return existing != NONE ? existing : insertPlayerUnlocked(uuid);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the UUID of a player.
+     *
+     * @param player number of the player.
+     * @return {@link UUID}.
+     */
+    @NotNull
+    public UUID getUniqueId(int player) {
+        read.lock();
+        try {
+            return new UUID(mostBits[checkPlayer(player)], leastBits[player]);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the Faction of a player.
+     *
+     * @param player number of the player.
+     * @return number of the Faction, or {@link #NONE} if the player is factionless.
+     */
+    public int getPlayerFaction(int player) {
+        read.lock();
+        try {
+            return playerFactions[checkPlayer(player)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the Role of a player.
+     *
+     * @param player number of the player.
+     * @return {@link Role}, {@link Role#FACTIONLESS} if the player is factionless.
+     */
+    @NotNull
+    public Role getRole(int player) {
+        read.lock();
+        try {
+            return ROLES[roles[checkPlayer(player)]];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set the Role of a player in their Faction.
+     *
+     * @param player number of the player.
+     * @param role   to set.
+     * @return {@code true} if the Role was set, {@code false} if it is unchanged or the event was cancelled.
+     * @throws IllegalStateException if the player is factionless, or the Role is {@link Role#FACTIONLESS}.
+     */
+    public boolean setRole(int player, @NotNull Role role) {
+        final int faction;
+        read.lock();
+        try {
+            faction = playerFactions[checkPlayer(player)];
+            if (faction == NONE) throw new IllegalStateException("Player #" + player + " isn't in a Faction!");
+            if (role == Role.FACTIONLESS) throw new IllegalStateException("Members can't be factionless!");
+            if (roles[player] == role.ordinal()) return false;
+        } finally {
+            read.unlock();
+        }
+        if (!call(InMemoryFactionEvent.role(faction, player, role))) return false;
+        write.lock();
+        try {
+            if (playerFactions[player] != faction) return false;
+            roles[player] = (byte) role.ordinal();
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the power of a player.
+     *
+     * @param player number of the player.
+     * @return power of the player.
+     */
+    public double getPlayerPower(int player) {
+        read.lock();
+        try {
+            return playerPower[checkPlayer(player)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set the power of a player.
+     *
+     * @param player number of the player.
+     * @param power  to set.
+     */
+    public void setPlayerPower(int player, double power) {
+        write.lock();
+        try {
+            playerPower[checkPlayer(player)] = power;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to obtain the title of a player.
+     *
+     * @param player number of the player.
+     * @return title, or {@code null}.
+     */
+    @Nullable
+    public String getTitle(int player) {
+        read.lock();
+        try {
+            return titles[checkPlayer(player)];
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Method to set the title of a player.
+     *
+     * @param player number of the player.
+     * @param title  to set.
+     */
+    public void setTitle(int player, @Nullable String title) {
+        write.lock();
+        try {
+            titles[checkPlayer(player)] = title;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to create a Faction.
+     * <p>
+     * The Faction is created before the event is called, so listeners can look it up,
+     * and removed again if the event is cancelled.
+     * </p>
+     *
+     * @param name    of the Faction.
+     * @param creator number of the player who becomes the leader, or {@link #NONE}.
+     * @return number of the Faction, or {@link #NONE} if the event was cancelled.
+     * @throws IllegalStateException if the name is taken or the creator is already in a Faction.
+     */
+    public int createFaction(@NotNull String name, int creator) {
+        final int faction;
+        write.lock();
+        try {
+            if (byName.containsKey(normalise(name))) {
+                throw new IllegalStateException("Faction '" + name + "' exists already!");
+            }
+            if (creator != NONE && playerFactions[checkPlayer(creator)] != NONE) {
+                throw new IllegalStateException("Player #" + creator + " is already in a Faction!");
+            }
+            faction = addFaction(name);
+            if (creator != NONE) addMember(faction, creator, Role.LEADER);
+        } finally {
+            write.unlock();
+        }
+        if (call(InMemoryFactionEvent.create(faction, creator))) return faction;
+        write.lock();
+        try {
+            if (isFaction(faction)) removeFaction(faction);
+        } finally {
+            write.unlock();
+        }
+        return NONE;
+    }
+
+    /**
+     * Method to disband a Faction.
+     * <p>
+     * Its land is unclaimed, its Members become factionless and its relations are forgotten.
+     * </p>
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player, or {@link #NONE}.
+     * @return {@code true} if the Faction was disbanded, {@code false} if the event was cancelled.
+     * @throws IllegalStateException if the Faction doesn't exist or is a server Faction.
+     */
+    public boolean disband(int faction, int player) {
+        read.lock();
+        try {
+            checkPlayerFaction(faction);
+        } finally {
+            read.unlock();
+        }
+        if (!call(InMemoryFactionEvent.disband(faction, player))) return false;
+        write.lock();
+        try {
+            if (!isFaction(faction)) return false;
+            removeFaction(faction);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to rename a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param name    new name of the Faction.
+     * @param player  number of the player, or {@link #NONE}.
+     * @return {@code true} if the Faction was renamed,
+     *         {@code false} if the name is unchanged or the event was cancelled.
+     * @throws IllegalStateException if the Faction doesn't exist, is a server Faction or the name is taken.
+     */
+    public boolean rename(int faction, @NotNull String name, int player) {
+        read.lock();
+        try {
+            checkPlayerFaction(faction);
+            if (names[faction].equals(name)) return false;
+            final Integer owner = byName.get(normalise(name));
+            if (owner != null && owner != faction) {
+                throw new IllegalStateException("Faction '" + name + "' exists already!");
+            }
+        } finally {
+            read.unlock();
+        }
+        if (!call(InMemoryFactionEvent.rename(faction, player, name))) return false;
+        write.lock();
+        try {
+            if (!isFaction(faction) || byName.containsKey(normalise(name)) && byName.get(normalise(name)) != faction) {
+                return false;
+            }
+            byName.remove(normalise(names[faction]));
+            names[faction] = name;
+            byName.put(normalise(name), faction);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to add a factionless player to a Faction.
+     * <p>
+     * The first Member of a Faction becomes its leader.
+     * </p>
+     *
+     * @param player  number of the player.
+     * @param faction number of the Faction.
+     * @return {@code true} if the player joined, {@code false} if the event was cancelled.
+     * @throws IllegalStateException if the player is already in a Faction or the Faction can't be joined.
+     */
+    public boolean join(int player, int faction) {
+        read.lock();
+        try {
+            checkPlayerFaction(faction);
+            if (playerFactions[checkPlayer(player)] != NONE) {
+                throw new IllegalStateException("Player #" + player + " is already in a Faction!");
+            }
+        } finally {
+            read.unlock();
+        }
+        if (!call(InMemoryFactionEvent.join(faction, player))) return false;
+        write.lock();
+        try {
+            if (!isFaction(faction) || playerFactions[player] != NONE) return false;
+            addMember(faction, player, memberCounts[faction] == 0 ? Role.LEADER : Role.NORMAL);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to remove a player from their Faction.
+     * <p>
+     * If the leader leaves, the longest-standing remaining Member becomes the leader.
+     * </p>
+     *
+     * @param player number of the player.
+     * @param kicked {@code true} if the player was kicked.
+     * @return {@code true} if the player left, {@code false} if the player is factionless or the event was cancelled.
+     */
+    public boolean leave(int player, boolean kicked) {
+        final int faction;
+        read.lock();
+        try {
+            faction = playerFactions[checkPlayer(player)];
+        } finally {
+            read.unlock();
+        }
+        if (faction == NONE) return false;
+        if (!call(InMemoryFactionEvent.leave(faction, player, kicked))) return false;
+        write.lock();
+        try {
+            if (playerFactions[player] != faction) return false;
+            removeMember(faction, player);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to claim a chunk for a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param world   name of the World.
+     * @param x       coordinate of the chunk.
+     * @param z       coordinate of the chunk.
+     * @param player  number of the player, or {@link #NONE}.
+     * @return {@code true} if the chunk was claimed, {@code false} if it is already claimed or the event was cancelled.
+     * @throws IllegalStateException if the Faction doesn't exist or is the Wilderness.
+     */
+    public boolean claim(int faction, @NotNull String world, int x, int z, int player) {
+        final long key = ChunkKey.pack(x, z);
+        read.lock();
+        try {
+            if (checkFaction(faction) == WILDERNESS) throw new IllegalStateException("The Wilderness can't claim!");
+            if (ownerOf(world, key) != WILDERNESS) return false;
+        } finally {
+            read.unlock();
+        }
+        if (!call(InMemoryFactionEvent.claim(faction, player, world, x, z))) return false;
+        write.lock();
+        try {
+            if (!isFaction(faction) || ownerOf(world, key) != WILDERNESS) return false;
+            addClaim(faction, worldNumber(world), key);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to unclaim a chunk.
+     *
+     * @param world  name of the World.
+     * @param x      coordinate of the chunk.
+     * @param z      coordinate of the chunk.
+     * @param player number of the player, or {@link #NONE}.
+     * @return {@code true} if the chunk was unclaimed, {@code false} if it isn't claimed or the event was cancelled.
+     */
+    public boolean unclaim(@NotNull String world, int x, int z, int player) {
+        final long key = ChunkKey.pack(x, z);
+        final int owner = getOwner(world, x, z);
+        if (owner == WILDERNESS) return false;
+        if (!call(InMemoryFactionEvent.unclaim(owner, player, world, x, z))) return false;
+        write.lock();
+        try {
+            if (ownerOf(world, key) != owner) return false;
+            removeClaim(owner, worldNumbers.get(world), key);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to unclaim all land of a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player, or {@link #NONE}.
+     * @return {@code true} if the land was unclaimed, {@code false} if it has none or the event was cancelled.
+     * @throws IllegalStateException if the Faction doesn't exist.
+     */
+    public boolean unclaimAll(int faction, int player) {
+        read.lock();
+        try {
+            if (claimCounts[checkFaction(faction)] == 0) return false;
+        } finally {
+            read.unlock();
+        }
+        if (!call(InMemoryFactionEvent.unclaimAll(faction, player))) return false;
+        write.lock();
+        try {
+            if (!isFaction(faction)) return false;
+            removeClaims(faction);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to set the Relationship between two Factions, the Relationship is the same both ways.
+     *
+     * @param faction      number of the Faction.
+     * @param other        number of the other Faction.
+     * @param relationship to set, {@link Relationship#NONE} to become neutral.
+     * @param player       number of the player, or {@link #NONE}.
+     * @return {@code true} if the Relationship changed, {@code false} if it is unchanged or the event was cancelled.
+     * @throws IllegalStateException if either Faction doesn't exist, they are the same or the Relationship is
+     *                               {@link Relationship#MEMBER}.
+     */
+    public boolean setRelationship(int faction, int other, @NotNull Relationship relationship, int player) {
+        read.lock();
+        try {
+            checkFaction(faction);
+            checkFaction(other);
+            if (faction == other || relationship == Relationship.MEMBER) {
+                throw new IllegalStateException("Factions can only be Members of themselves!");
+            }
+        } finally {
+            read.unlock();
+        }
+        if (getRelationship(faction, other) == relationship) return false;
+        if (!call(InMemoryFactionEvent.relation(faction, player, other, relationship))) return false;
+        write.lock();
+        try {
+            if (!isFaction(faction) || !isFaction(other)) return false;
+            setRelation(faction, other, relationship);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to add a Faction without calling an event.
+     *
+     * @param name of the Faction.
+     * @return number of the Faction.
+     * @throws IllegalStateException if the name is taken.
+     */
+    int insertFaction(@NotNull String name) {
+        write.lock();
+        try {
+            if (byName.containsKey(normalise(name))) {
+                throw new IllegalStateException("Faction '" + name + "' exists already!");
+            }
+            return addFaction(name);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to add a factionless player without calling an event.
+     *
+     * @param uuid of the player.
+     * @return number of the player.
+     * @throws IllegalStateException if the player exists already.
+     */
+    int insertPlayer(@NotNull UUID uuid) {
+        write.lock();
+        try {
+            if (playerOf(uuid) != NONE) throw new IllegalStateException("Player '" + uuid + "' exists already!");
+            return insertPlayerUnlocked(uuid);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to add a factionless player to a Faction without calling an event.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player.
+     * @param role    of the player.
+     */
+    void insertMember(int faction, int player, @NotNull Role role) {
+        write.lock();
+        try {
+            checkFaction(faction);
+            if (playerFactions[checkPlayer(player)] != NONE) {
+                throw new IllegalStateException("Player #" + player + " is already in a Faction!");
+            }
+            addMember(faction, player, role);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to claim a chunk without calling an event, taking it from its owner if it is claimed.
+     *
+     * @param faction number of the Faction.
+     * @param world   name of the World.
+     * @param x       coordinate of the chunk.
+     * @param z       coordinate of the chunk.
+     */
+    void insertClaim(int faction, @NotNull String world, int x, int z) {
+        write.lock();
+        try {
+            if (checkFaction(faction) == WILDERNESS) throw new IllegalStateException("The Wilderness can't claim!");
+            addClaim(faction, worldNumber(world), ChunkKey.pack(x, z));
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to set the Relationship between two Factions without calling an event.
+     *
+     * @param faction      number of the Faction.
+     * @param other        number of the other Faction.
+     * @param relationship to set.
+     */
+    void insertRelationship(int faction, int other, @NotNull Relationship relationship) {
+        write.lock();
+        try {
+            checkFaction(faction);
+            checkFaction(other);
+            if (faction != other) setRelation(faction, other, relationship);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Method to call the event of a change.
+     * <p>
+     * If nothing listens for the native event, it isn't called at all.
+     * </p>
+     *
+     * @param event to call.
+     * @return {@code true} if the change may go ahead.
+     */
+    private boolean call(@NotNull InMemoryFactionEvent event) {
+        if (Bukkit.getServer() == null) return true;
+        if (InMemoryFactionEvent.getHandlerList().getRegisteredListeners().length == 0) return true;
+        Bukkit.getPluginManager().callEvent(event);
+        return !event.isCancelled();
+    }
+
+    /**
+     * Method to add a Faction, the write lock must be held.
+     *
+     * @param name of the Faction.
+     * @return number of the Faction.
+     */
+    private int addFaction(@NotNull String name) {
+        if (factionSlots == names.length) {
+            final int capacity = names.length * 2;
+            names = Arrays.copyOf(names, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            factionPower = Arrays.copyOf(factionPower, capacity);
+            banks = Arrays.copyOf(banks, capacity);
+            points = Arrays.copyOf(points, capacity);
+            strikes = Arrays.copyOf(strikes, capacity);
+            homes = Arrays.copyOf(homes, capacity);
+            members = Arrays.copyOf(members, capacity);
+            memberCounts = Arrays.copyOf(memberCounts, capacity);
+            claims = Arrays.copyOf(claims, capacity);
+            claimCounts = Arrays.copyOf(claimCounts, capacity);
+        }
+        final int faction = factionSlots++;
+        names[faction] = name;
+        flags[faction] = EXISTS;
+        members[faction] = new int[0];
+        claims[faction] = new LongIntHashMap[0];
+        byName.put(normalise(name), faction);
+        factionCount++;
+        return faction;
+    }
+
+    /**
+     * Method to remove a Faction, the write lock must be held.
+     *
+     * @param faction number of the Faction.
+     */
+    private void removeFaction(int faction) {
+        removeClaims(faction);
+        final int[] factionMembers = members[faction];
+        for (int i = 0; i < memberCounts[faction]; i++) {
+            playerFactions[factionMembers[i]] = NONE;
+            roles[factionMembers[i]] = (byte) Role.FACTIONLESS.ordinal();
+        }
+        members[faction] = new int[0];
+        memberCounts[faction] = 0;
+        for (int other = 0; other < factionSlots; other++) {
+            if (other != faction) relations.remove(relationKey(faction, other));
+        }
+        byName.remove(normalise(names[faction]));
+        flags[faction] = 0;
+        homes[faction] = null;
+        warps.remove(faction);
+        factionCount--;
+    }
+
+    /**
+     * Method to add a player, the write lock must be held.
+     *
+     * @param uuid of the player.
+     * @return number of the player.
+     */
+    private int insertPlayerUnlocked(@NotNull UUID uuid) {
+        if (playerCount == mostBits.length) {
+            final int capacity = mostBits.length * 2;
+            mostBits = Arrays.copyOf(mostBits, capacity);
+            leastBits = Arrays.copyOf(leastBits, capacity);
+            playerFactions = Arrays.copyOf(playerFactions, capacity);
+            roles = Arrays.copyOf(roles, capacity);
+            playerPower = Arrays.copyOf(playerPower, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+        }
+        final int player = playerCount++;
+        mostBits[player] = uuid.getMostSignificantBits();
+        leastBits[player] = uuid.getLeastSignificantBits();
+        playerFactions[player] = NONE;
+        roles[player] = (byte) Role.FACTIONLESS.ordinal();
+        if (playersByMostBits.containsKey(mostBits[player])) collisions.put(uuid, player);
+        else playersByMostBits.put(mostBits[player], player);
+        return player;
+    }
+
+    /**
+     * Method to add a player to a Faction, the write lock must be held.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player.
+     * @param role    of the player.
+     */
+    private void addMember(int faction, int player, @NotNull Role role) {
+        if (memberCounts[faction] == members[faction].length) {
+            members[faction] = Arrays.copyOf(members[faction], Math.max(4, members[faction].length * 2));
+        }
+        members[faction][memberCounts[faction]++] = player;
+        playerFactions[player] = faction;
+        roles[player] = (byte) role.ordinal();
+    }
+
+    /**
+     * Method to remove a player from their Faction, the write lock must be held.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player.
+     */
+    private void removeMember(int faction, int player) {
+        final int[] factionMembers = members[faction];
+        final int count = memberCounts[faction];
+        for (int i = 0; i < count; i++) {
+            if (factionMembers[i] != player) continue;
+            System.arraycopy(factionMembers, i + 1, factionMembers, i, count - i - 1);
+            memberCounts[faction]--;
+            break;
+        }
+        final boolean leader = roles[player] == Role.LEADER.ordinal();
+        playerFactions[player] = NONE;
+        roles[player] = (byte) Role.FACTIONLESS.ordinal();
+        if (leader && memberCounts[faction] != 0) roles[factionMembers[0]] = (byte) Role.LEADER.ordinal();
+    }
+
+    /**
+     * Method to claim a chunk, the write lock must be held.
+     *
+     * @param faction number of the Faction.
+     * @param world   number of the World.
+     * @param key     of the chunk.
+     */
+    private void addClaim(int faction, int world, long key) {
+        final int previous = boards[world].put(key, faction);
+        if (previous == faction) return;
+        if (previous != WILDERNESS) {
+            claims[previous][world].remove(key);
+            claimCounts[previous]--;
+        }
+        if (claims[faction].length <= world) claims[faction] = Arrays.copyOf(claims[faction], worlds.size());
+        if (claims[faction][world] == null) claims[faction][world] = new LongIntHashMap(0);
+        claims[faction][world].put(key, 1);
+        claimCounts[faction]++;
+    }
+
+    /**
+     * Method to unclaim a chunk, the write lock must be held.
+     *
+     * @param faction number of the Faction.
+     * @param world   number of the World.
+     * @param key     of the chunk.
+     */
+    private void removeClaim(int faction, int world, long key) {
+        boards[world].remove(key);
+        claims[faction][world].remove(key);
+        claimCounts[faction]--;
+    }
+
+    /**
+     * Method to unclaim all land of a Faction, the write lock must be held.
+     *
+     * @param faction number of the Faction.
+     */
+    private void removeClaims(int faction) {
+        final LongIntHashMap[] factionClaims = claims[faction];
+        for (int world = 0; world < factionClaims.length; world++) {
+            if (factionClaims[world] == null) continue;
+            final LongIntHashMap board = boards[world];
+            factionClaims[world].forEach((key, value) -> board.remove(key));
+        }
+        claims[faction] = new LongIntHashMap[0];
+        claimCounts[faction] = 0;
+    }
+
+    /**
+     * Method to set the Relationship between two Factions, the write lock must be held.
+     *
+     * @param faction      number of the Faction.
+     * @param other        number of the other Faction.
+     * @param relationship to set.
+     */
+    private void setRelation(int faction, int other, @NotNull Relationship relationship) {
+        if (relationship == Relationship.NONE) relations.remove(relationKey(faction, other));
+        else relations.put(relationKey(faction, other), relationship.ordinal() + 1);
+    }
+
+    /**
+     * Method to obtain the owner of a chunk, a lock must be held.
+     *
+     * @param world name of the World.
+     * @param key   of the chunk.
+     * @return number of the Faction, {@link #WILDERNESS} if the chunk isn't claimed.
+     */
+    private int ownerOf(@NotNull String world, long key) {
+        final Integer number = worldNumbers.get(world);
+        return number == null ? WILDERNESS : boards[number].get(key);
+    }
+
+    /**
+     * Method to obtain the number of a World, adding the World if it is new, the write lock must be held.
+     *
+     * @param world name of the World.
+     * @return number of the World.
+     */
+    private int worldNumber(@NotNull String world) {
+        final Integer number = worldNumbers.get(world);
+        if (number != null) return number;
+        final int added = worlds.size();
+        worlds.add(world);
+        worldNumbers.put(world, added);
+        boards = Arrays.copyOf(boards, added + 1);
+        boards[added] = new LongIntHashMap(WILDERNESS);
+        return added;
+    }
+
+    /**
+     * Method to obtain a player by UUID, a lock must be held.
+     *
+     * @param uuid of the player.
+     * @return number of the player, or {@link #NONE}.
+     */
+    private int playerOf(@NotNull UUID uuid) {
+        final int player = playersByMostBits.get(uuid.getMostSignificantBits());
+        if (player == NONE) return NONE;
+        if (leastBits[player] == uuid.getLeastSignificantBits()) return player;
+        final Integer collision = collisions.get(uuid);
+        return collision == null ? NONE : collision;
+    }
+
+    /**
+     * Method to determine if a Faction exists, a lock must be held.
+     *
+     * @param faction number of the Faction.
+     * @return {@code true} if it exists.
+     */
+    private boolean isFaction(int faction) {
+        return faction >= 0 && faction < factionSlots && (flags[faction] & EXISTS) != 0;
+    }
+
+    /**
+     * Method to check that a Faction number has been used, a lock must be held.
+     *
+     * @param faction number of the Faction.
+     * @return the given number.
+     * @throws IllegalStateException if the number hasn't been used.
+     */
+    private int checkSlot(int faction) {
+        if (faction < 0 || faction >= factionSlots) {
+            throw new IllegalStateException("Faction #" + faction + " doesn't exist!");
+        }
+        return faction;
+    }
+
+    /**
+     * Method to check that a Faction exists, a lock must be held.
+     *
+     * @param faction number of the Faction.
+     * @return the given number.
+     * @throws IllegalStateException if the Faction doesn't exist.
+     */
+    private int checkFaction(int faction) {
+        if (!isFaction(faction)) throw new IllegalStateException("Faction #" + faction + " doesn't exist!");
+        return faction;
+    }
+
+    /**
+     * Method to check that a player Faction exists, a lock must be held.
+     *
+     * @param faction number of the Faction.
+     * @throws IllegalStateException if the Faction doesn't exist or is a server Faction.
+     */
+    private void checkPlayerFaction(int faction) {
+        if (checkFaction(faction) < FIRST_FACTION) {
+            throw new IllegalStateException("Faction '" + names[faction] + "' is a server Faction!");
+        }
+    }
+
+    /**
+     * Method to check that a player exists, a lock must be held.
+     *
+     * @param player number of the player.
+     * @return the given number.
+     * @throws IllegalStateException if the player doesn't exist.
+     */
+    private int checkPlayer(int player) {
+        if (player < 0 || player >= playerCount) {
+            throw new IllegalStateException("Player #" + player + " doesn't exist!");
+        }
+        return player;
+    }
+
+    /**
+     * Method to obtain the key of a pair of Factions, which is the same both ways.
+     *
+     * @param faction number of the Faction.
+     * @param other   number of the other Faction.
+     * @return key of the pair.
+     */
+    private static long relationKey(int faction, int other) {
+        final int low = Math.min(faction, other), high = Math.max(faction, other);
+        return ((long) low << 32) | high;
+    }
+
+    /**
+     * Method to normalise a Faction name for the name lookup.
+     *
+     * @param name to normalise.
+     * @return lower-case name.
+     */
+    @NotNull
+    private static String normalise(@NotNull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The ClaimConsumer interface is called for every claim of a Faction.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:30
+     */
+    @FunctionalInterface
+    public interface ClaimConsumer {
+
+        /**
+         * Method to accept a claim.
+         *
+         * @param world name of the World.
+         * @param x     coordinate of the chunk.
+         * @param z     coordinate of the chunk.
+         */
+        void accept(@NotNull String world, int x, int z);
+
+    }
+
+}
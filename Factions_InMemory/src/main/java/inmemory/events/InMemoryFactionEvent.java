@@ -0,0 +1,413 @@
+package inmemory.events;
+
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import inmemory.InMemoryStore;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The InMemoryFactionEvent is the native event of the {@link InMemoryStore}, called before every change.
+ * <p>
+ * The store only applies the change if the event isn't cancelled.
+ * <br>Factions and players are identified by their number in the store, a player of {@link InMemoryStore#NONE}
+ * means the change was made by a plugin rather than a player.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:30
+ */
+public class InMemoryFactionEvent extends Event implements Cancellable {
+
+    /**
+     * Handler list, required by Bukkit.
+     */
+    private static final HandlerList handlers = new HandlerList();
+
+    /**
+     * The type of change.
+     */
+    private final Type type;
+
+    /**
+     * The number of the Faction which is changing.
+     */
+    private final int faction;
+
+    /**
+     * The number of the player making the change, or {@link InMemoryStore#NONE}.
+     */
+    private final int player;
+
+    /**
+     * The name of the World of the claim, or {@code null}.
+     */
+    private String world = null;
+
+    /**
+     * The coordinates of the claim.
+     */
+    private int x, z;
+
+    /**
+     * The number of the other Faction of a relation, or {@link InMemoryStore#NONE}.
+     */
+    private int other = InMemoryStore.NONE;
+
+    /**
+     * The new Relationship, or {@code null}.
+     */
+    private Relationship relationship = null;
+
+    /**
+     * The new Role of the player, or {@code null}.
+     */
+    private Role role = null;
+
+    /**
+     * The new name of the Faction, or {@code null}.
+     */
+    private String name = null;
+
+    /**
+     * {@code true} if the player was kicked.
+     */
+    private boolean kicked = false;
+
+    /**
+     * {@code true} if the change has been cancelled.
+     */
+    private boolean cancelled = false;
+
+    /**
+     * Constructor to create an InMemoryFactionEvent.
+     *
+     * @param type    of change.
+     * @param faction number of the Faction.
+     * @param player  number of the player, or {@link InMemoryStore#NONE}.
+     */
+    private InMemoryFactionEvent(@NotNull Type type, int faction, int player) {
+        this.type = type;
+        this.faction = faction;
+        this.player = player;
+    }
+
+    /**
+     * Method to create the event of a claim.
+     *
+     * @param faction number of the claiming Faction.
+     * @param player  number of the player, or {@link InMemoryStore#NONE}.
+     * @param world   name of the World.
+     * @param x       coordinate of the chunk.
+     * @param z       coordinate of the chunk.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent claim(int faction, int player, @NotNull String world, int x, int z) {
+        return at(new InMemoryFactionEvent(Type.CLAIM, faction, player), world, x, z);
+    }
+
+    /**
+     * Method to create the event of an unclaim.
+     *
+     * @param faction number of the Faction losing the chunk.
+     * @param player  number of the player, or {@link InMemoryStore#NONE}.
+     * @param world   name of the World.
+     * @param x       coordinate of the chunk.
+     * @param z       coordinate of the chunk.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent unclaim(int faction, int player, @NotNull String world, int x, int z) {
+        return at(new InMemoryFactionEvent(Type.UNCLAIM, faction, player), world, x, z);
+    }
+
+    /**
+     * Method to create the event of unclaiming all land.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player, or {@link InMemoryStore#NONE}.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent unclaimAll(int faction, int player) {
+        return new InMemoryFactionEvent(Type.UNCLAIM_ALL, faction, player);
+    }
+
+    /**
+     * Method to create the event of a new Faction.
+     *
+     * @param faction number of the new Faction.
+     * @param player  number of the creator, or {@link InMemoryStore#NONE}.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent create(int faction, int player) {
+        return new InMemoryFactionEvent(Type.CREATE, faction, player);
+    }
+
+    /**
+     * Method to create the event of a disband.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player, or {@link InMemoryStore#NONE}.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent disband(int faction, int player) {
+        return new InMemoryFactionEvent(Type.DISBAND, faction, player);
+    }
+
+    /**
+     * Method to create the event of a player joining a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent join(int faction, int player) {
+        return new InMemoryFactionEvent(Type.JOIN, faction, player);
+    }
+
+    /**
+     * Method to create the event of a player leaving a Faction.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player.
+     * @param kicked  {@code true} if the player was kicked.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent leave(int faction, int player, boolean kicked) {
+        final InMemoryFactionEvent event = new InMemoryFactionEvent(Type.LEAVE, faction, player);
+        event.kicked = kicked;
+        return event;
+    }
+
+    /**
+     * Method to create the event of a rename.
+     *
+     * @param faction number of the Faction.
+     * @param player  number of the player, or {@link InMemoryStore#NONE}.
+     * @param name    new name of the Faction.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent rename(int faction, int player, @NotNull String name) {
+        final InMemoryFactionEvent event = new InMemoryFactionEvent(Type.RENAME, faction, player);
+        event.name = name;
+        return event;
+    }
+
+    /**
+     * Method to create the event of a relation change.
+     *
+     * @param faction      number of the Faction.
+     * @param player       number of the player, or {@link InMemoryStore#NONE}.
+     * @param other        number of the other Faction.
+     * @param relationship new Relationship between the Factions.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent relation(int faction, int player, int other,
+                                                @NotNull Relationship relationship) {
+        final InMemoryFactionEvent event = new InMemoryFactionEvent(Type.RELATION, faction, player);
+        event.other = other;
+        event.relationship = relationship;
+        return event;
+    }
+
+    /**
+     * Method to create the event of a Role change.
+     *
+     * @param faction number of the Faction of the player.
+     * @param player  number of the player whose Role changes.
+     * @param role    new Role of the player.
+     * @return {@link InMemoryFactionEvent}.
+     */
+    @NotNull
+    public static InMemoryFactionEvent role(int faction, int player, @NotNull Role role) {
+        final InMemoryFactionEvent event = new InMemoryFactionEvent(Type.ROLE, faction, player);
+        event.role = role;
+        return event;
+    }
+
+    /**
+     * Method to set the claim of an event.
+     *
+     * @param event to set the claim of.
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return the given event.
+     */
+    @NotNull
+    private static InMemoryFactionEvent at(@NotNull InMemoryFactionEvent event, @NotNull String world, int x, int z) {
+        event.world = world;
+        event.x = x;
+        event.z = z;
+        return event;
+    }
+
+    /**
+     * Method to obtain the type of change.
+     *
+     * @return {@link Type}.
+     */
+    @NotNull
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Method to obtain the number of the Faction which is changing.
+     *
+     * @return number of the Faction.
+     */
+    public int getFaction() {
+        return faction;
+    }
+
+    /**
+     * Method to obtain the number of the player making the change.
+     *
+     * @return number of the player, or {@link InMemoryStore#NONE} if a plugin made the change.
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Method to obtain the name of the World of a claim or unclaim.
+     *
+     * @return name of the World, or {@code null}.
+     */
+    @Nullable
+    public String getWorld() {
+        return world;
+    }
+
+    /**
+     * Method to obtain the 'x' coordinate of a claim or unclaim.
+     *
+     * @return integer position on the 'x' axis.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Method to obtain the 'z' coordinate of a claim or unclaim.
+     *
+     * @return integer position on the 'z' axis.
+     */
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * Method to obtain the number of the other Faction of a relation change.
+     *
+     * @return number of the Faction, or {@link InMemoryStore#NONE}.
+     */
+    public int getOther() {
+        return other;
+    }
+
+    /**
+     * Method to obtain the new Relationship of a relation change.
+     *
+     * @return {@link Relationship}, or {@code null}.
+     */
+    @Nullable
+    public Relationship getRelationship() {
+        return relationship;
+    }
+
+    /**
+     * Method to obtain the new Role of a Role change.
+     *
+     * @return {@link Role}, or {@code null}.
+     */
+    @Nullable
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * Method to obtain the new name of a rename.
+     *
+     * @return new name, or {@code null}.
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Method to determine if the player was kicked from the Faction.
+     *
+     * @return {@code true} if the player was kicked.
+     */
+    public boolean isKicked() {
+        return kicked;
+    }
+
+    /**
+     * Method to determine if the change has been cancelled.
+     *
+     * @return {@code true} if it has been cancelled.
+     */
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Method to cancel the change.
+     *
+     * @param cancelled {@code true} to cancel the change.
+     */
+    @Override
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Method to obtain the Handler list.
+     *
+     * @return {@link #handlers}.
+     */
+    @NotNull
+    @Override
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * Method to obtain the Handler list.
+     *
+     * @return {@link #handlers}.
+     */
+    @NotNull
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+
+    /**
+     * The Type enumeration lists the changes which call an {@link InMemoryFactionEvent}.
+     *
+     * @author Callum Johnson
+     * @since 17/10/2026 - 19:30
+     */
+    public enum Type {
+
+        CLAIM, UNCLAIM, UNCLAIM_ALL, CREATE, DISBAND, JOIN, LEAVE, RENAME, RELATION, ROLE
+
+    }
+
+}
@@ -0,0 +1,195 @@
+package inmemory.events;
+
+import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRelationshipEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionRoleChangeEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimAllEvent;
+import cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.FactionEvent;
+import cc.javajobs.factionsbridge.bridge.infrastructure.CoordinateClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
+import inmemory.InMemoryAPI;
+import inmemory.InMemoryStore;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * InMemory implementation of the Bridges needed to handle all Custom Events.
+ * <p>
+ * Every change of the {@link InMemoryStore} calls one {@link InMemoryFactionEvent}, which is translated by its type.
+ * <br>A change made by a plugin has no player, so the leader of the Faction is used instead where one is needed.
+ * </p>
+ *
+ * @author Callum Johnson
+ * @since 17/10/2026 - 19:30
+ */
+public class InMemoryListener implements Listener {
+
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
+    /**
+     * Instance of the {@link InMemoryAPI} which registered this listener.
+     */
+    private final InMemoryAPI api;
+
+    /**
+     * Constructor to create an InMemoryListener.
+     *
+     * @param api which registered this listener.
+     */
+    public InMemoryListener(@NotNull InMemoryAPI api) {
+        this.api = api;
+    }
+
+    /**
+     * Listener for the {@link InMemoryFactionEvent}.
+     * <p>
+     * This listener calls the {@link FactionClaimEvent}, {@link FactionUnclaimEvent}, {@link FactionUnclaimAllEvent},
+     * {@link FactionDisbandEvent}, {@link FactionJoinEvent}, {@link FactionLeaveEvent}, {@link FactionRenameEvent},
+     * {@link FactionRelationshipEvent} and {@link FactionRoleChangeEvent}.
+     * </p>
+     *
+     * @param event to monitor.
+     */
+    @EventHandler
+    public void onChange(@NotNull InMemoryFactionEvent event) {
+        final FactionEvent bridgeEvent;
+        switch (event.getType()) {
+            case CLAIM:
+                if (!dispatcher.isWanted(FactionClaimEvent.class)) return;
+                bridgeEvent = new FactionClaimEvent(claim(event), faction(event), actor(event), event);
+                break;
+            case UNCLAIM:
+                if (!dispatcher.isWanted(FactionUnclaimEvent.class)) return;
+                bridgeEvent = new FactionUnclaimEvent(claim(event), faction(event), actor(event), event);
+                break;
+            case UNCLAIM_ALL:
+                if (!dispatcher.isWanted(FactionUnclaimAllEvent.class)) return;
+                bridgeEvent = new FactionUnclaimAllEvent(faction(event), actor(event), event);
+                break;
+            case DISBAND:
+                if (!dispatcher.isWanted(FactionDisbandEvent.class)) return;
+                bridgeEvent = new FactionDisbandEvent(
+                        actor(event),
+                        faction(event),
+                        event.getPlayer() == InMemoryStore.NONE
+                                ? FactionDisbandEvent.DisbandReason.PLUGIN
+                                : FactionDisbandEvent.DisbandReason.COMMAND,
+                        event
+                );
+                break;
+            case JOIN:
+                if (!dispatcher.isWanted(FactionJoinEvent.class)) return;
+                bridgeEvent = new FactionJoinEvent(faction(event), actor(event), event);
+                break;
+            case LEAVE:
+                if (!dispatcher.isWanted(FactionLeaveEvent.class)) return;
+                bridgeEvent = new FactionLeaveEvent(
+                        faction(event),
+                        actor(event),
+                        event.isKicked() ? FactionLeaveEvent.LeaveReason.KICK : FactionLeaveEvent.LeaveReason.LEAVE,
+                        event
+                );
+                break;
+            case RENAME:
+                if (!dispatcher.isWanted(FactionRenameEvent.class)) return;
+                bridgeEvent = new FactionRenameEvent(faction(event), Objects.requireNonNull(event.getName()), event);
+                break;
+            case RELATION:
+                if (!dispatcher.isWanted(FactionRelationshipEvent.class)) return;
+                bridgeEvent = new FactionRelationshipEvent(
+                        faction(event),
+                        api.getFaction(event.getOther()),
+                        Objects.requireNonNull(event.getRelationship()),
+                        event
+                );
+                break;
+            case ROLE:
+                if (!dispatcher.isWanted(FactionRoleChangeEvent.class)) return;
+                bridgeEvent = new FactionRoleChangeEvent(
+                        faction(event),
+                        api.getFPlayer(api.getStore().getUniqueId(event.getPlayer())),
+                        Objects.requireNonNull(event.getRole()),
+                        event
+                );
+                break;
+            default:
+                return;
+        }
+        dispatcher.call(event, bridgeEvent);
+    }
+
+    /**
+     * Listener for the {@link InMemoryFactionEvent} of a new Faction.
+     * <p>
+     * This listener calls the {@link FactionCreateEvent}.
+     * <br>The event is called on the next tick, once the Faction has been created, so it can't be cancelled.
+     * <br>A Faction created by a plugin has no creator, so no event is called for it until it has a leader.
+     * </p>
+     *
+     * @param event to monitor.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCreate(@NotNull InMemoryFactionEvent event) {
+        if (event.getType() != InMemoryFactionEvent.Type.CREATE) return;
+        if (event.getPlayer() == InMemoryStore.NONE) return;
+        dispatcher.post(FactionCreateEvent.class, () -> new FactionCreateEvent(
+                faction(event),
+                Objects.requireNonNull(actor(event)),
+                event,
+                true
+        ));
+    }
+
+    /**
+     * Method to obtain the Faction of an event.
+     *
+     * @param event to obtain the Faction of.
+     * @return {@link Faction}.
+     */
+    @NotNull
+    private Faction faction(@NotNull InMemoryFactionEvent event) {
+        return api.getFaction(event.getFaction());
+    }
+
+    /**
+     * Method to obtain the player who made a change, or the leader of the Faction if a plugin made it.
+     *
+     * @param event to obtain the player of.
+     * @return {@link FPlayer}, or {@code null} if a plugin made the change and the Faction has no leader.
+     */
+    @Nullable
+    private FPlayer actor(@NotNull InMemoryFactionEvent event) {
+        if (event.getPlayer() == InMemoryStore.NONE) return faction(event).getLeader();
+        return api.getFPlayer(api.getStore().getUniqueId(event.getPlayer()));
+    }
+
+    /**
+     * Method to obtain the Claim of a claim or unclaim event.
+     *
+     * @param event to obtain the Claim of.
+     * @return {@link CoordinateClaim}.
+     */
+    @NotNull
+    private CoordinateClaim claim(@NotNull InMemoryFactionEvent event) {
+        final String world = Objects.requireNonNull(event.getWorld());
+        return new CoordinateClaim(world, event.getX(), event.getZ(), faction(event));
+    }
+
+}
@@ -2,6 +2,8 @@ package kingdoms;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodUnsupportedException;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
@@ -11,18 +13,22 @@ import kingdoms.events.KingdomsListener;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.kingdoms.constants.kingdom.Kingdom;
 import org.kingdoms.constants.land.Land;
+import org.kingdoms.constants.land.location.SimpleChunkLocation;
 import org.kingdoms.constants.player.KingdomPlayer;
 import org.kingdoms.data.DataHandler;
 import org.kingdoms.data.managers.KingdomManager;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Kingdoms implementation of {@link FactionsAPI}.
@@ -40,6 +46,45 @@ public class KingdomsAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
+        try {
+            return streamFactions().collect(Collectors.toList());
+        } catch (Exception ex) {
+            FactionsBridge.get().exception(ex, "Cannot convert Kingdoms to FactionsBridge Factions.");
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
+        return getKingdoms().stream().map(KingdomsKingdom::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return getKingdoms().size();
+    }
+
+    /**
+     * Method to obtain every Kingdom from the {@link KingdomManager}.
+     *
+     * @return {@link Collection} of {@link Kingdom}, empty if Kingdoms hasn't loaded.
+     */
+    @NotNull
+    private Collection<Kingdom> getKingdoms() {
         DataHandler dataHandler;
         KingdomManager manager;
         try {
@@ -54,12 +99,7 @@ public class KingdomsAPI implements FactionsAPI {
             FactionsBridge.get().exception(exception, "Kingdoms KingdomManager is null.");
             return new ArrayList<>();
         }
-        try {
-            return manager.getKingdoms().stream().map(KingdomsKingdom::new).collect(Collectors.toList());
-        } catch (Exception ex) {
-            FactionsBridge.get().exception(ex, "Cannot convert Kingdoms to FactionsBridge Factions.");
-            return new ArrayList<>();
-        }
+        return manager.getKingdoms();
     }
 
     /**
@@ -71,7 +111,53 @@ public class KingdomsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new KingdomsClaim(Land.getLand(chunk));
+        return KingdomsClaim.of(Land.getLand(chunk));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The {@link Land} is looked up using a {@link SimpleChunkLocation}, so the chunk is never loaded.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return KingdomsClaim.of(Land.getLand(new SimpleChunkLocation(world, x, z)));
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World in one call.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, this method is answered by the index instead.
+     * <br>Otherwise the Provider's claims are looked up once, rather than once for every chunk, and no chunk is loaded.
+     * <br>Unclaimed chunks are {@code null}.
+     * </p>
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @NotNull
+    @Override
+    public Faction[] getFactionsAt(@NotNull World world, long[] packedChunks) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionsAt(world.getName(), packedChunks);
+        final String name = world.getName();
+        final Faction[] factions = new Faction[packedChunks.length];
+        for (int i = 0; i < packedChunks.length; i++) {
+            final Land land = Land.getLand(new SimpleChunkLocation(
+                    name, ChunkKey.getX(packedChunks[i]), ChunkKey.getZ(packedChunks[i])
+            ));
+            final Kingdom kingdom = land == null ? null : land.getKingdom();
+            factions[i] = kingdom == null ? null : KingdomsKingdom.of(kingdom);
+        }
+        return factions;
     }
 
     /**
@@ -82,7 +168,7 @@ public class KingdomsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull String id) {
-        return new KingdomsKingdom(Kingdom.getKingdom(UUID.fromString(id)));
+        return KingdomsKingdom.of(Kingdom.getKingdom(UUID.fromString(id)));
     }
 
     /**
@@ -94,7 +180,7 @@ public class KingdomsAPI implements FactionsAPI {
     @Nullable
     @Override
     public Faction getFactionByTag(@NotNull String tag) {
-        return new KingdomsKingdom(Kingdom.getKingdom(tag));
+        return KingdomsKingdom.of(Kingdom.getKingdom(tag));
     }
 
     /**
@@ -105,7 +191,7 @@ public class KingdomsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull OfflinePlayer player) {
-        return new KingdomsKingdom(KingdomPlayer.getKingdomPlayer(player).getKingdom());
+        return KingdomsKingdom.of(KingdomPlayer.getKingdomPlayer(player).getKingdom());
     }
 
     /**
@@ -120,7 +206,7 @@ public class KingdomsAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new KingdomsPlayer(KingdomPlayer.getKingdomPlayer(player));
+        return KingdomsPlayer.of(KingdomPlayer.getKingdomPlayer(player));
     }
 
     /**
@@ -148,6 +234,27 @@ public class KingdomsAPI implements FactionsAPI {
     @Override
     public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
         ((Kingdom) (((AbstractFaction<?>) faction).getFaction())).disband();
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     *
+     * @return {@code true}, every claim change is bridged.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
     }
 
     /**
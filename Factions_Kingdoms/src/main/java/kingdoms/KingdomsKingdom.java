@@ -1,6 +1,7 @@
 package kingdoms;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
@@ -8,12 +9,14 @@ import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kingdoms.constants.kingdom.Kingdom;
 import org.kingdoms.constants.kingdom.model.KingdomRelation;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Kingdoms implementation of {@link Faction}.
@@ -24,6 +27,11 @@ import java.util.stream.Collectors;
  */
 public class KingdomsKingdom extends AbstractFaction<Kingdom> {
 
+    /**
+     * Cache of every KingdomsKingdom, keyed by the {@link Kingdom} it wraps.
+     */
+    private static final WrapperCache<Kingdom, KingdomsKingdom> CACHE = new WrapperCache<>(KingdomsKingdom::new);
+
     /**
      * Constructor to create an KingdomsKingdom.
      * <p>
@@ -36,6 +44,21 @@ public class KingdomsKingdom extends AbstractFaction<Kingdom> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the KingdomsKingdom of the given {@link Kingdom}.
+     * <p>
+     * The same {@link Kingdom} returns the same KingdomsKingdom for as long as it is referenced.
+     * <br>{@code null} is never cached, a new KingdomsKingdom is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link KingdomsKingdom} linked to the {@link Kingdom}.
+     */
+    @NotNull
+    public static KingdomsKingdom of(@Nullable Kingdom faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      *
@@ -65,7 +88,7 @@ public class KingdomsKingdom extends AbstractFaction<Kingdom> {
      */
     @Override
     public FPlayer getLeader() {
-        return new KingdomsPlayer(faction.getKing());
+        return KingdomsPlayer.of(faction.getKing());
     }
 
     /**
@@ -76,7 +99,31 @@ public class KingdomsKingdom extends AbstractFaction<Kingdom> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.getLands().stream().map(KingdomsClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.getLands().stream().map(KingdomsClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getLands().size();
     }
 
     /**
@@ -87,7 +134,31 @@ public class KingdomsKingdom extends AbstractFaction<Kingdom> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.getKingdomPlayers().stream().map(KingdomsPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.getKingdomPlayers().stream().map(KingdomsPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getKingdomPlayers().size();
     }
 
     /**
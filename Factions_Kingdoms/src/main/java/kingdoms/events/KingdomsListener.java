@@ -2,8 +2,8 @@ package kingdoms.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
-import org.bukkit.event.Cancellable;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
@@ -17,8 +17,6 @@ import org.kingdoms.events.members.KingdomLeaveEvent;
 
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * Kingdoms implementation of the Bridges needed to handle all Custom Events.
  *
@@ -27,6 +25,11 @@ import static org.bukkit.Bukkit.getPluginManager;
  */
 public class KingdomsListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -42,14 +45,12 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull ClaimLandEvent event) {
-        final FactionClaimEvent bridgeEvent = new FactionClaimEvent(
+        dispatcher.call(FactionClaimEvent.class, event, () -> new FactionClaimEvent(
                 api.getClaim(event.getLand().getLocation().toChunk()),
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 api.getFPlayer(event.getKingdom().getKing().getPlayer()), // Assumed.
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -63,14 +64,14 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull UnclaimLandEvent event) {
+        if (!dispatcher.isWanted(FactionUnclaimAllEvent.class, FactionUnclaimEvent.class)) return;
         if (event.getKingdomPlayer().getKingdom().getLands().size() == 0) {
             final FactionUnclaimAllEvent bridgeEvent = new FactionUnclaimAllEvent(
                     Objects.requireNonNull(api.getFaction(event.getKingdomPlayer().getKingdom().getId().toString())),
                     api.getFPlayer(event.getKingdomPlayer().getPlayer()),
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
+            dispatcher.call(event, bridgeEvent);
             return;
         }
         final FactionUnclaimEvent bridgeEvent = new FactionUnclaimEvent(
@@ -79,8 +80,7 @@ public class KingdomsListener implements Listener {
                 api.getFPlayer(event.getKingdomPlayer().getPlayer()),
                 event
         );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        dispatcher.call(event, bridgeEvent);
     }
 
     /**
@@ -93,13 +93,11 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onCreate(@NotNull KingdomCreateEvent event) {
-        final FactionCreateEvent bridgeEvent = new FactionCreateEvent(
+        dispatcher.call(FactionCreateEvent.class, event, () -> new FactionCreateEvent(
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 api.getFPlayer(event.getKingdom().getKing().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        if (event instanceof Cancellable) ((Cancellable)event).setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -112,14 +110,12 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onDelete(@NotNull KingdomDisbandEvent event) {
-        final FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
                 api.getFPlayer(event.getKingdom().getKing().getPlayer()),
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 FactionDisbandEvent.DisbandReason.UNKNOWN,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -132,13 +128,11 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull KingdomRenameEvent event) {
-        final FactionRenameEvent bridgeEvent = new FactionRenameEvent(
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 event.getName(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -151,13 +145,11 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull KingdomJoinEvent event) {
-        final FactionJoinEvent bridgeEvent = new FactionJoinEvent(
+        dispatcher.call(FactionJoinEvent.class, event, () -> new FactionJoinEvent(
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 api.getFPlayer(event.getPlayer().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -170,14 +162,14 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull KingdomLeaveEvent event) {
+        if (!dispatcher.isWanted(FactionLeaveEvent.class)) return;
         final  FactionLeaveEvent bridgeEvent = new FactionLeaveEvent(
                 Objects.requireNonNull(api.getFaction(event.getKingdomPlayer().getKingdom().getId().toString())),
                 api.getFPlayer(event.getKingdomPlayer().getPlayer()),
                 FactionLeaveEvent.LeaveReason.fromString(event.getReason().name()),
                 event
         );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        dispatcher.call(event, bridgeEvent);
     }
 
 }
@@ -1,10 +1,13 @@
 package kingdoms14;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kingdoms.constants.land.Land;
 
 /**
@@ -16,6 +19,11 @@ import org.kingdoms.constants.land.Land;
  */
 public class KingdomsClaim extends AbstractClaim<Land> {
 
+    /**
+     * Cache of every KingdomsClaim, keyed by the {@link Land} it wraps.
+     */
+    private static final WrapperCache<Land, KingdomsClaim> CACHE = new WrapperCache<>(KingdomsClaim::new);
+
     /**
      * Constructor to create an AbstractClaim.
      * <p>
@@ -28,6 +36,21 @@ public class KingdomsClaim extends AbstractClaim<Land> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the KingdomsClaim of the given {@link Land}.
+     * <p>
+     * The same {@link Land} returns the same KingdomsClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new KingdomsClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link KingdomsClaim} linked to the {@link Land}.
+     */
+    @NotNull
+    public static KingdomsClaim of(@Nullable Land claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -59,6 +82,34 @@ public class KingdomsClaim extends AbstractClaim<Land> {
         return claim.getLocation().getZ();
     }
 
+    /**
+     * Method to obtain the name of the World linked to the Chunk.
+     * <p>
+     * The name is read from the {@link Land#getLocation()}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return String name of the {@link org.bukkit.World}
+     */
+    @NotNull
+    @Override
+    public String getWorldName() {
+        return claim.getLocation().getWorld();
+    }
+
+    /**
+     * Method to obtain the World linked to the Claim.
+     * <p>
+     * The World is looked up using {@link #getWorldName()}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return {@link World} related to the Claim.
+     */
+    @NotNull
+    @Override
+    public World getWorld() {
+        return getWorld(getWorldName());
+    }
+
     /**
      * Method to get the Faction linked to the Chunk.
      *
@@ -66,7 +117,7 @@ public class KingdomsClaim extends AbstractClaim<Land> {
      */
     @Override
     public Faction getFaction() {
-        return new KingdomsKingdom(claim.getKingdom());
+        return KingdomsKingdom.of(claim.getKingdom());
     }
 
     /**
@@ -1,6 +1,7 @@
 package kingdoms14;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
@@ -22,6 +23,11 @@ import java.util.UUID;
  */
 public class KingdomsPlayer extends AbstractFPlayer<KingdomPlayer> {
 
+    /**
+     * Cache of every KingdomsPlayer, keyed by the {@link KingdomPlayer} it wraps.
+     */
+    private static final WrapperCache<KingdomPlayer, KingdomsPlayer> CACHE = new WrapperCache<>(KingdomsPlayer::new);
+
     /**
      * Constructor to create an KingdomsPlayer.
      * <p>
@@ -34,6 +40,21 @@ public class KingdomsPlayer extends AbstractFPlayer<KingdomPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the KingdomsPlayer of the given {@link KingdomPlayer}.
+     * <p>
+     * The same {@link KingdomPlayer} returns the same KingdomsPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new KingdomsPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link KingdomsPlayer} linked to the {@link KingdomPlayer}.
+     */
+    @NotNull
+    public static KingdomsPlayer of(@Nullable KingdomPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the unique Id of the Faction Player.
      *
@@ -63,7 +84,7 @@ public class KingdomsPlayer extends AbstractFPlayer<KingdomPlayer> {
      */
     @Override
     public Faction getFaction() {
-        return new KingdomsKingdom(fPlayer.getKingdom());
+        return KingdomsKingdom.of(fPlayer.getKingdom());
     }
 
     /**
@@ -2,8 +2,8 @@ package kingdoms14.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
-import org.bukkit.event.Cancellable;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
@@ -20,8 +20,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * Kingdoms implementation of the Bridges needed to handle all Custom Events.
  *
@@ -30,6 +28,11 @@ import static org.bukkit.Bukkit.getPluginManager;
  */
 public class KingdomsListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -45,6 +48,7 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull ClaimLandEvent event) {
+        if (!dispatcher.isWanted(FactionClaimEvent.class)) return;
         final Collection<Land> lands = event.getLands();
         lands.forEach(land -> {
             final FactionClaimEvent bridgeEvent = new FactionClaimEvent(
@@ -53,8 +57,7 @@ public class KingdomsListener implements Listener {
                     api.getFPlayer(event.getKingdom().getKing().getPlayer()), // Assumed.
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
+            dispatcher.call(event, bridgeEvent);
         });
     }
 
@@ -69,14 +72,14 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull UnclaimLandEvent event) {
+        if (!dispatcher.isWanted(FactionUnclaimAllEvent.class, FactionUnclaimEvent.class)) return;
         if (event.getKingdom().getLands().size() == 0) {
             final FactionUnclaimAllEvent bridgeEvent = new FactionUnclaimAllEvent(
                     Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                     api.getFPlayer(event.getPlayer().getPlayer()),
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
+            dispatcher.call(event, bridgeEvent);
             return;
         }
         final Collection<Land> lands = event.getLands();
@@ -87,8 +90,7 @@ public class KingdomsListener implements Listener {
                     api.getFPlayer(event.getPlayer().getPlayer()),
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
+            dispatcher.call(event, bridgeEvent);
         });
     }
 
@@ -102,13 +104,11 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onCreate(@NotNull KingdomCreateEvent event) {
-        final FactionCreateEvent bridgeEvent = new FactionCreateEvent(
+        dispatcher.call(FactionCreateEvent.class, event, () -> new FactionCreateEvent(
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 api.getFPlayer(event.getKingdom().getKing().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        if (event instanceof Cancellable) ((Cancellable)event).setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -121,14 +121,12 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onDelete(@NotNull KingdomDisbandEvent event) {
-        final FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
                 api.getFPlayer(event.getKingdom().getKing().getPlayer()),
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 FactionDisbandEvent.DisbandReason.UNKNOWN,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -141,13 +139,11 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull KingdomRenameEvent event) {
-        final FactionRenameEvent bridgeEvent = new FactionRenameEvent(
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 event.getName(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -160,13 +156,11 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull KingdomJoinEvent event) {
-        final FactionJoinEvent bridgeEvent = new FactionJoinEvent(
+        dispatcher.call(FactionJoinEvent.class, event, () -> new FactionJoinEvent(
                 Objects.requireNonNull(api.getFaction(event.getKingdom().getId().toString())),
                 api.getFPlayer(event.getKingdomPlayer().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -179,14 +173,14 @@ public class KingdomsListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull KingdomLeaveEvent event) {
+        if (!dispatcher.isWanted(FactionLeaveEvent.class)) return;
         final  FactionLeaveEvent bridgeEvent = new FactionLeaveEvent(
                 Objects.requireNonNull(api.getFaction(event.getKingdomPlayer().getKingdom().getId().toString())),
                 api.getFPlayer(event.getKingdomPlayer().getPlayer()),
                 FactionLeaveEvent.LeaveReason.fromString(event.getReason().name()),
                 event
         );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        dispatcher.call(event, bridgeEvent);
     }
 
 }
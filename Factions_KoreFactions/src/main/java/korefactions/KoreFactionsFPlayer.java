@@ -1,6 +1,7 @@
 package korefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import com.massivecraft.factions.FPlayer;
@@ -18,6 +19,11 @@ import java.util.UUID;
  */
 public class KoreFactionsFPlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every KoreFactionsFPlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, KoreFactionsFPlayer> CACHE = new WrapperCache<>(KoreFactionsFPlayer::new);
+
     /**
      * Constructor to create a FactionsUUIDFPlayer.
      * <p>
@@ -30,6 +36,21 @@ public class KoreFactionsFPlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the KoreFactionsFPlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same KoreFactionsFPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new KoreFactionsFPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link KoreFactionsFPlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static KoreFactionsFPlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the UUID of the FPlayer.
      *
@@ -64,7 +85,7 @@ public class KoreFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new KoreFactionsFaction(fPlayer.getFaction());
+        return KoreFactionsFaction.of(fPlayer.getFaction());
     }
 
     /**
@@ -163,7 +184,7 @@ public class KoreFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @NotNull
     @Override
     public Role getRole() {
-        return Role.getRole(fPlayer.getRole().name());
+        return Role.translate(fPlayer.getRole());
     }
 
 }
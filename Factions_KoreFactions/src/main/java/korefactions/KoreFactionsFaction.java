@@ -1,6 +1,7 @@
 package korefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
@@ -16,8 +17,9 @@ import org.jetbrains.annotations.Nullable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.getRelationship;
+import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.translate;
 
 /**
  * KoreFactions implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -25,6 +27,11 @@ import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationsh
  */
 public class KoreFactionsFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every KoreFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, KoreFactionsFaction> CACHE = new WrapperCache<>(KoreFactionsFaction::new);
+
     /**
      * Constructor to create a FactionsUUIDFaction.
      * <p>
@@ -37,6 +44,21 @@ public class KoreFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the KoreFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same KoreFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new KoreFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link KoreFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static KoreFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      * <p>
@@ -74,7 +96,7 @@ public class KoreFactionsFaction extends AbstractFaction<Faction> {
     @Nullable
     @Override
     public FPlayer getLeader() {
-        return new KoreFactionsFPlayer(faction.getFPlayerAdmin());
+        return KoreFactionsFPlayer.of(faction.getFPlayerAdmin());
     }
 
     /**
@@ -85,7 +107,31 @@ public class KoreFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.getAllClaims().stream().map(KoreFactionsClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.getAllClaims().stream().map(KoreFactionsClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getAllClaims().size();
     }
 
     /**
@@ -96,7 +142,31 @@ public class KoreFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.getFPlayers().stream().map(KoreFactionsFPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.getFPlayers().stream().map(KoreFactionsFPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getFPlayers().size();
     }
 
     /**
@@ -373,7 +443,7 @@ public class KoreFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public Relationship getRelationshipTo(@NotNull AbstractFaction<?> faction) {
-        return getRelationship(this.faction.getRelationTo((RelationParticipator) faction.getFaction()).name());
+        return translate(this.faction.getRelationTo((RelationParticipator) faction.getFaction()));
     }
 
     @Override
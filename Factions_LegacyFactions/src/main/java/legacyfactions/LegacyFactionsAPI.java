@@ -5,8 +5,10 @@ import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
 import legacyfactions.events.LegacyFactionsListener;
 import net.redstoneore.legacyfactions.FLocation;
+import net.redstoneore.legacyfactions.Relation;
 import net.redstoneore.legacyfactions.entity.FPlayerColl;
 import net.redstoneore.legacyfactions.entity.FactionColl;
 import org.bukkit.Bukkit;
@@ -17,6 +19,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * LegacyFactions implementation of {@link FactionsAPI}.
@@ -34,7 +37,31 @@ public class LegacyFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
-        return FactionColl.all().stream().map(LegacyFactionsFaction::new).collect(Collectors.toList());
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
+        return FactionColl.all().stream().map(LegacyFactionsFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return FactionColl.all().size();
     }
 
     /**
@@ -46,7 +73,24 @@ public class LegacyFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new LegacyFactionsClaim(new FLocation(chunk));
+        return LegacyFactionsClaim.of(new FLocation(chunk));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The {@link FLocation} is created from the coordinates, so the chunk is never loaded.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return LegacyFactionsClaim.of(new FLocation(world, x, z));
     }
 
     /**
@@ -57,7 +101,7 @@ public class LegacyFactionsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull String id) {
-        return new LegacyFactionsFaction(FactionColl.get().getFactionById(id));
+        return LegacyFactionsFaction.of(FactionColl.get().getFactionById(id));
     }
 
     /**
@@ -69,7 +113,7 @@ public class LegacyFactionsAPI implements FactionsAPI {
     @Nullable
     @Override
     public Faction getFactionByTag(@NotNull String tag) {
-        return new LegacyFactionsFaction(FactionColl.get().getByTag(tag));
+        return LegacyFactionsFaction.of(FactionColl.get().getByTag(tag));
     }
 
     /**
@@ -84,7 +128,7 @@ public class LegacyFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new LegacyFactionsPlayer(FPlayerColl.get(player));
+        return LegacyFactionsPlayer.of(FPlayerColl.get(player));
     }
 
 
@@ -100,7 +144,9 @@ public class LegacyFactionsAPI implements FactionsAPI {
     public Faction createFaction(@NotNull String name) throws IllegalStateException {
         net.redstoneore.legacyfactions.entity.Faction faction = FactionColl.get().createFaction();
         faction.setTag(name);
-        return new LegacyFactionsFaction(faction);
+        final Faction created = LegacyFactionsFaction.of(faction);
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
     }
 
     /**
@@ -112,6 +158,27 @@ public class LegacyFactionsAPI implements FactionsAPI {
     @Override
     public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
         FactionColl.get().removeFaction(faction.getId());
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     *
+     * @return {@code true}, every claim change is bridged.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
     }
 
     /**
@@ -121,6 +188,7 @@ public class LegacyFactionsAPI implements FactionsAPI {
     public boolean register() {
         if (FactionsBridge.getFactionsAPI().hasRegistered()) return false;
         Bukkit.getPluginManager().registerEvents(new LegacyFactionsListener(), FactionsBridge.get().getDevelopmentPlugin());
+        Relationship.register(Relation.class);
         return true;
     }
 
@@ -132,7 +200,7 @@ public class LegacyFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWarZone() {
-        return new LegacyFactionsFaction(FactionColl.get().getWarZone());
+        return LegacyFactionsFaction.of(FactionColl.get().getWarZone());
     }
 
     /**
@@ -143,7 +211,7 @@ public class LegacyFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getSafeZone() {
-        return new LegacyFactionsFaction(FactionColl.get().getSafeZone());
+        return LegacyFactionsFaction.of(FactionColl.get().getSafeZone());
     }
 
     /**
@@ -154,7 +222,7 @@ public class LegacyFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWilderness() {
-        return new LegacyFactionsFaction(FactionColl.get().getWilderness());
+        return LegacyFactionsFaction.of(FactionColl.get().getWilderness());
     }
 
 }
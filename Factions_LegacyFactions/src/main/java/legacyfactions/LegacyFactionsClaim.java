@@ -1,13 +1,16 @@
 package legacyfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import net.redstoneore.legacyfactions.FLocation;
 import net.redstoneore.legacyfactions.entity.Board;
 import net.redstoneore.legacyfactions.locality.Locality;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * LegacyFactions implementation of {@link Claim}.
@@ -18,6 +21,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public class LegacyFactionsClaim extends AbstractClaim<FLocation> {
 
+    /**
+     * Cache of every LegacyFactionsClaim, keyed by the {@link FLocation} it wraps.
+     */
+    private static final WrapperCache<FLocation, LegacyFactionsClaim> CACHE = new WrapperCache<>(LegacyFactionsClaim::new);
+
     /**
      * Constructor to create an LegacyFactionsClaim.
      * <p>
@@ -30,6 +38,21 @@ public class LegacyFactionsClaim extends AbstractClaim<FLocation> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the LegacyFactionsClaim of the given {@link FLocation}.
+     * <p>
+     * The same {@link FLocation} returns the same LegacyFactionsClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new LegacyFactionsClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link LegacyFactionsClaim} linked to the {@link FLocation}.
+     */
+    @NotNull
+    public static LegacyFactionsClaim of(@Nullable FLocation claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Constructor to create an LegacyFactionsClaim.
      * <p>
@@ -73,6 +96,34 @@ public class LegacyFactionsClaim extends AbstractClaim<FLocation> {
         return (int) claim.getZ();
     }
 
+    /**
+     * Method to obtain the name of the World linked to the Chunk.
+     * <p>
+     * The name is read from the {@link FLocation}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return String name of the {@link org.bukkit.World}
+     */
+    @NotNull
+    @Override
+    public String getWorldName() {
+        return claim.getWorldName();
+    }
+
+    /**
+     * Method to obtain the World linked to the Claim.
+     * <p>
+     * The World is looked up using {@link #getWorldName()}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return {@link World} related to the Claim.
+     */
+    @NotNull
+    @Override
+    public World getWorld() {
+        return getWorld(getWorldName());
+    }
+
     /**
      * Method to get the Faction linked to the Chunk.
      *
@@ -80,7 +131,7 @@ public class LegacyFactionsClaim extends AbstractClaim<FLocation> {
      */
     @Override
     public Faction getFaction() {
-        return new LegacyFactionsFaction(Board.get().getFactionAt(Locality.of(claim.getChunk())));
+        return LegacyFactionsFaction.of(Board.get().getFactionAt(Locality.of(claim.getChunk())));
     }
 
     /**
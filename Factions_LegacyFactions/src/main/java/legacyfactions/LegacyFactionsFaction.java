@@ -1,6 +1,7 @@
 package legacyfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
@@ -11,10 +12,12 @@ import net.redstoneore.legacyfactions.warp.FactionWarp;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * LegacyFactions implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -25,6 +28,11 @@ import java.util.stream.Collectors;
  */
 public class LegacyFactionsFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every LegacyFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, LegacyFactionsFaction> CACHE = new WrapperCache<>(LegacyFactionsFaction::new);
+
     /**
      * Constructor to create an AbstractFaction.
      * <p>
@@ -37,6 +45,21 @@ public class LegacyFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the LegacyFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same LegacyFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new LegacyFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link LegacyFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static LegacyFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      *
@@ -66,7 +89,7 @@ public class LegacyFactionsFaction extends AbstractFaction<Faction> {
      */
     @Override
     public FPlayer getLeader() {
-        return new LegacyFactionsPlayer(faction.getOwner());
+        return LegacyFactionsPlayer.of(faction.getOwner());
     }
 
     /**
@@ -77,7 +100,31 @@ public class LegacyFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.getAllClaims().stream().map(LegacyFactionsClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.getAllClaims().stream().map(LegacyFactionsClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getAllClaims().size();
     }
 
     /**
@@ -88,7 +135,31 @@ public class LegacyFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.getMembers().stream().map(LegacyFactionsPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.getMembers().stream().map(LegacyFactionsPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getMembers().size();
     }
 
     /**
@@ -330,7 +401,7 @@ public class LegacyFactionsFaction extends AbstractFaction<Faction> {
     @Override
     public Relationship getRelationshipTo(@NotNull AbstractFaction<?> faction) {
         Relation relation = this.faction.getRelationTo((RelationParticipator) faction.getFaction());
-        return Relationship.getRelationship(relation.name());
+        return Relationship.translate(relation);
     }
 
     /**
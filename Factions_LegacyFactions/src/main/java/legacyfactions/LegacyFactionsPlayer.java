@@ -1,6 +1,7 @@
 package legacyfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import net.redstoneore.legacyfactions.entity.FPlayer;
@@ -21,6 +22,11 @@ import java.util.UUID;
  */
 public class LegacyFactionsPlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every LegacyFactionsPlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, LegacyFactionsPlayer> CACHE = new WrapperCache<>(LegacyFactionsPlayer::new);
+
     /**
      * Constructor to create an LegacyFactionsPlayer.
      * <p>
@@ -33,6 +39,21 @@ public class LegacyFactionsPlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the LegacyFactionsPlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same LegacyFactionsPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new LegacyFactionsPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link LegacyFactionsPlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static LegacyFactionsPlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the unique Id of the Faction Player.
      *
@@ -62,7 +83,7 @@ public class LegacyFactionsPlayer extends AbstractFPlayer<FPlayer> {
      */
     @Override
     public Faction getFaction() {
-        return new LegacyFactionsFaction(fPlayer.getFaction());
+        return LegacyFactionsFaction.of(fPlayer.getFaction());
     }
 
     /**
@@ -162,7 +183,7 @@ public class LegacyFactionsPlayer extends AbstractFPlayer<FPlayer> {
     @Override
     public Role getRole() {
         if (!hasFaction() || getFaction() == null) return Role.FACTIONLESS;
-        return Role.getRole(fPlayer.getRole().name());
+        return Role.translate(fPlayer.getRole());
     }
 
 }
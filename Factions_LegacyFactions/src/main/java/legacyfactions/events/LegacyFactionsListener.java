@@ -2,12 +2,14 @@ package legacyfactions.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.events.infrastructure.FactionEvent;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
 import net.redstoneore.legacyfactions.entity.Faction;
 import net.redstoneore.legacyfactions.event.*;
 import net.redstoneore.legacyfactions.locality.Locality;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
 
@@ -16,9 +18,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-import static org.bukkit.Bukkit.getScheduler;
-
 /**
  * Listener to bridge Plugin-Events from LegacyFactions to the FactionsBridge.
  *
@@ -27,6 +26,11 @@ import static org.bukkit.Bukkit.getScheduler;
  */
 public class LegacyFactionsListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -36,21 +40,19 @@ public class LegacyFactionsListener implements Listener {
      * Listener for the {@link EventFactionsCreate}.
      * <p>
      *     This listener calls the {@link FactionCreateEvent}.
+     *     <br>The event is called on the next tick, once the Faction has been created, so it can't be cancelled.
      * </p>
      *
      * @param event to monitor.
      */
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onCreate(@NotNull EventFactionsCreate event) {
-        getScheduler().runTaskLater(FactionsBridge.get().getDevelopmentPlugin(), () -> {
-            final FactionCreateEvent bridgeEvent = new FactionCreateEvent(
-                    Objects.requireNonNull(api.getFactionByName(event.getFactionTag())),
-                    api.getFPlayer(event.getFPlayer().getPlayer()),
-                    event
-            );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
-        }, 20L);
+        dispatcher.post(FactionCreateEvent.class, () -> new FactionCreateEvent(
+                Objects.requireNonNull(api.getFactionByName(event.getFactionTag())),
+                api.getFPlayer(event.getFPlayer().getPlayer()),
+                event,
+                true
+        ));
     }
 
     /**
@@ -63,14 +65,12 @@ public class LegacyFactionsListener implements Listener {
      */
     @EventHandler
     public void onDisband(@NotNull EventFactionsDisband event) {
-        final FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
                 api.getFPlayer(event.getFPlayer().getPlayer()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 FactionDisbandEvent.DisbandReason.fromString(event.getReason().name()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -85,6 +85,8 @@ public class LegacyFactionsListener implements Listener {
      */
     @EventHandler
     public void onClaimAndUnclaim(@NotNull EventFactionsLandChange event) {
+        if (!dispatcher.isWanted(FactionClaimEvent.class, FactionUnclaimEvent.class)
+                && !dispatcher.isWanted(FactionUnclaimAllEvent.class)) return;
         final List<FactionEvent> eventList = new ArrayList<>();
         for (final Map.Entry<Locality, Faction> entry : event.transactions().entrySet()) {
             if (
@@ -119,11 +121,9 @@ public class LegacyFactionsListener implements Listener {
                     event
             ));
         }
-        eventList.forEach(bridgeEvent -> getPluginManager().callEvent(bridgeEvent));
-        if (eventList.stream().anyMatch(FactionEvent::isCancelled)) {
-            event.setCancelled(true);
-            eventList.forEach(ev -> ev.setCancelled(true));
-        }
+        boolean cancelled = false;
+        for (FactionEvent bridgeEvent : eventList) cancelled |= dispatcher.call(event, bridgeEvent);
+        if (cancelled) event.setCancelled(true);
     }
 
     /**
@@ -137,6 +137,7 @@ public class LegacyFactionsListener implements Listener {
      */
     @EventHandler
     public void onChange(@NotNull EventFactionsChange event) {
+        if (!dispatcher.isWanted(FactionJoinEvent.class, FactionLeaveEvent.class)) return;
         final FactionJoinEvent bridgeEvent_1 = new FactionJoinEvent(
                 Objects.requireNonNull(api.getFaction(event.getFactionNew().getId())),
                 api.getFPlayer(event.getFPlayer().getPlayer()),
@@ -148,11 +149,8 @@ public class LegacyFactionsListener implements Listener {
                 FactionLeaveEvent.LeaveReason.fromString(event.getReason().name()),
                 event
         );
-        getPluginManager().callEvent(bridgeEvent_1);
-        event.setCancelled(bridgeEvent_1.isCancelled());
-        getPluginManager().callEvent(bridgeEvent_2);
-        event.setCancelled(bridgeEvent_2.isCancelled());
-        bridgeEvent_1.setCancelled(bridgeEvent_2.isCancelled());
+        dispatcher.call(event, bridgeEvent_1);
+        dispatcher.call(event, bridgeEvent_2);
     }
 
     /**
@@ -165,13 +163,11 @@ public class LegacyFactionsListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull EventFactionsNameChange event) {
-        final FactionRenameEvent bridgeEvent = new FactionRenameEvent(
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 event.getFactionTag(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
 }
@@ -1,6 +1,8 @@
 package massivecorefactions;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
@@ -9,17 +11,19 @@ import com.massivecraft.factions.entity.BoardColl;
 import com.massivecraft.factions.entity.FactionColl;
 import com.massivecraft.factions.entity.MPlayer;
 import com.massivecraft.massivecore.ps.PS;
+import com.massivecraft.massivecore.ps.PSBuilder;
 import com.massivecraft.massivecore.store.MStore;
 import massivecorefactions.events.MassiveCoreFactionsListener;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
-import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * MassiveCore implementation of {@link FactionsAPI}.
@@ -37,19 +41,53 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
         return FactionColl.get().getAll()
-                .stream().map(MassiveCoreFactionsFaction::new).collect(Collectors.toList());
+                .stream().map(MassiveCoreFactionsFaction::of);
     }
 
     /**
-     * Method to obtain a Faction from Location.
+     * Method to obtain the amount of Factions without creating any wrappers.
      *
-     * @param location of the faction.
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return FactionColl.get().getAll().size();
+    }
+
+    /**
+     * Method to obtain a Faction from chunk coordinates.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, this method is answered by the index instead of the Provider.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
      * @return Faction at that location
      */
+    @Nullable
     @Override
-    public Faction getFactionAt(@NotNull Location location) {
-        return new MassiveCoreFactionsFaction(BoardColl.get().getFactionAt(PS.valueOf(location)));
+    public Faction getFactionAt(@NotNull String world, int x, int z) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionAt(world, x, z);
+        return MassiveCoreFactionsFaction.of(BoardColl.get().getFactionAt(
+                new PSBuilder().world(world).chunkX(x).chunkZ(z).build()
+        ));
     }
 
     /**
@@ -61,7 +99,51 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new MassiveCoreFactionsClaim(PS.valueOf(chunk));
+        return MassiveCoreFactionsClaim.of(PS.valueOf(chunk));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The {@link PS} is built from the coordinates, so the chunk is never loaded.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return MassiveCoreFactionsClaim.of(new PSBuilder().world(world).chunkX(x).chunkZ(z).build());
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World in one call.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, this method is answered by the index instead.
+     * <br>Otherwise the board is looked up once, rather than once for every chunk, and no chunk is loaded.
+     * </p>
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @NotNull
+    @Override
+    public Faction[] getFactionsAt(@NotNull World world, long[] packedChunks) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionsAt(world.getName(), packedChunks);
+        final String name = world.getName();
+        final Faction[] factions = new Faction[packedChunks.length];
+        final BoardColl board = BoardColl.get();
+        for (int i = 0; i < packedChunks.length; i++) {
+            final PS chunk = new PSBuilder().world(name)
+                    .chunkX(ChunkKey.getX(packedChunks[i])).chunkZ(ChunkKey.getZ(packedChunks[i])).build();
+            factions[i] = MassiveCoreFactionsFaction.of(board.getFactionAt(chunk));
+        }
+        return factions;
     }
 
     /**
@@ -72,7 +154,7 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull String id) {
-        return new MassiveCoreFactionsFaction(FactionColl.get().getByName(id));
+        return MassiveCoreFactionsFaction.of(FactionColl.get().getByName(id));
     }
 
     /**
@@ -95,7 +177,7 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull OfflinePlayer player) {
-        return new MassiveCoreFactionsFaction(MPlayer.get(player).getFaction());
+        return MassiveCoreFactionsFaction.of(MPlayer.get(player).getFaction());
     }
 
     /**
@@ -110,7 +192,7 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new MassiveCoreFactionsPlayer(MPlayer.get(player));
+        return MassiveCoreFactionsPlayer.of(MPlayer.get(player));
     }
 
     /**
@@ -130,7 +212,9 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
         String fId = MStore.createId();
         com.massivecraft.factions.entity.Faction faction = FactionColl.get().create(fId);
         faction.setName(name);
-        return new MassiveCoreFactionsFaction(faction);
+        final Faction created = MassiveCoreFactionsFaction.of(faction);
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
     }
 
     /**
@@ -142,6 +226,37 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
     @Override
     public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
         ((MassiveCoreFactionsFaction) faction).getFaction().detach();
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls an event for every change to its Claims.
+     *
+     * @return {@code true}, every claim change is bridged.
+     */
+    @Override
+    public boolean supportsClaimEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever the Role of a Member changes.
+     *
+     * @return {@code true}, the {@link com.massivecraft.factions.event.EventFactionsRankChange} is bridged.
+     */
+    @Override
+    public boolean supportsRoleEvents() {
+        return true;
     }
 
     /**
@@ -164,7 +279,7 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWarZone() {
-        return new MassiveCoreFactionsFaction(FactionColl.get().getWarzone());
+        return MassiveCoreFactionsFaction.of(FactionColl.get().getWarzone());
     }
 
     /**
@@ -175,7 +290,7 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getSafeZone() {
-        return new MassiveCoreFactionsFaction(FactionColl.get().getSafezone());
+        return MassiveCoreFactionsFaction.of(FactionColl.get().getSafezone());
     }
 
     /**
@@ -186,7 +301,7 @@ public class MassiveCoreFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getWilderness() {
-        return new MassiveCoreFactionsFaction(FactionColl.get().getNone());
+        return MassiveCoreFactionsFaction.of(FactionColl.get().getNone());
     }
 
 }
@@ -1,12 +1,15 @@
 package massivecorefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import com.massivecraft.factions.entity.BoardColl;
 import com.massivecraft.massivecore.ps.PS;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * MassiveCore implementation of {@link Claim}.
@@ -17,6 +20,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public class MassiveCoreFactionsClaim extends AbstractClaim<PS> {
 
+    /**
+     * Cache of every MassiveCoreFactionsClaim, keyed by the {@link PS} it wraps.
+     */
+    private static final WrapperCache<PS, MassiveCoreFactionsClaim> CACHE = new WrapperCache<>(MassiveCoreFactionsClaim::new);
+
     /**
      * Constructor to create an AbstractClaim.
      * <p>
@@ -29,6 +37,21 @@ public class MassiveCoreFactionsClaim extends AbstractClaim<PS> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the MassiveCoreFactionsClaim of the given {@link PS}.
+     * <p>
+     * The same {@link PS} returns the same MassiveCoreFactionsClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new MassiveCoreFactionsClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link MassiveCoreFactionsClaim} linked to the {@link PS}.
+     */
+    @NotNull
+    public static MassiveCoreFactionsClaim of(@Nullable PS claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -60,6 +83,34 @@ public class MassiveCoreFactionsClaim extends AbstractClaim<PS> {
         return claim.getChunkZ();
     }
 
+    /**
+     * Method to obtain the name of the World linked to the Chunk.
+     * <p>
+     * The name is read from the {@link PS}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return String name of the {@link org.bukkit.World}
+     */
+    @NotNull
+    @Override
+    public String getWorldName() {
+        return claim.getWorld();
+    }
+
+    /**
+     * Method to obtain the World linked to the Claim.
+     * <p>
+     * The World is looked up using {@link #getWorldName()}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return {@link World} related to the Claim.
+     */
+    @NotNull
+    @Override
+    public World getWorld() {
+        return getWorld(getWorldName());
+    }
+
 
     /**
      * Method to get the Faction linked to the Chunk.
@@ -68,7 +119,7 @@ public class MassiveCoreFactionsClaim extends AbstractClaim<PS> {
      */
     @Override
     public Faction getFaction() {
-        return new MassiveCoreFactionsFaction(BoardColl.get().getFactionAt(claim));
+        return MassiveCoreFactionsFaction.of(BoardColl.get().getFactionAt(claim));
     }
 
     /**
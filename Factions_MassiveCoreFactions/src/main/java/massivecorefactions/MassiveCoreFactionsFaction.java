@@ -1,6 +1,7 @@
 package massivecorefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
@@ -8,16 +9,22 @@ import com.massivecraft.factions.Rel;
 import com.massivecraft.factions.RelationParticipator;
 import com.massivecraft.factions.entity.BoardColl;
 import com.massivecraft.factions.entity.Faction;
+import com.massivecraft.factions.entity.FactionColl;
 import com.massivecraft.massivecore.ps.PS;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * MassiveCore implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -28,6 +35,11 @@ import java.util.stream.Collectors;
  */
 public class MassiveCoreFactionsFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every MassiveCoreFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, MassiveCoreFactionsFaction> CACHE = new WrapperCache<>(MassiveCoreFactionsFaction::new);
+
     /**
      * Constructor to create an MassiveCoreFactionsFaction.
      * <p>
@@ -40,6 +52,21 @@ public class MassiveCoreFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the MassiveCoreFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same MassiveCoreFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new MassiveCoreFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link MassiveCoreFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static MassiveCoreFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      *
@@ -69,7 +96,7 @@ public class MassiveCoreFactionsFaction extends AbstractFaction<Faction> {
      */
     @Override
     public FPlayer getLeader() {
-        return new MassiveCoreFactionsPlayer(faction.getLeader());
+        return MassiveCoreFactionsPlayer.of(faction.getLeader());
     }
 
     /**
@@ -80,8 +107,31 @@ public class MassiveCoreFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return BoardColl.get().getChunks(faction).stream().map(MassiveCoreFactionsClaim::new)
-                .collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return BoardColl.get().getChunks(faction).stream().map(MassiveCoreFactionsClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return BoardColl.get().getChunks(faction).size();
     }
 
     /**
@@ -92,7 +142,31 @@ public class MassiveCoreFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.getMPlayers().stream().map(MassiveCoreFactionsPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.getMPlayers().stream().map(MassiveCoreFactionsPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getMPlayers().size();
     }
 
     /**
@@ -356,6 +430,27 @@ public class MassiveCoreFactionsFaction extends AbstractFaction<Faction> {
         }
     }
 
+    /**
+     * Method to obtain the Factions which this Faction may have a non-neutral Relationship with.
+     * <p>
+     * The relation wishes of the Faction are read, so no other Faction is asked.
+     * <br>A Relationship combines the wishes of both Factions, so the other Faction may be the one listing it.
+     * </p>
+     *
+     * @return Collection of Faction.
+     */
+    @NotNull
+    @Override
+    public Collection<cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction> getRelationshipCandidates() {
+        final List<cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction> related = new ArrayList<>();
+        for (Map.Entry<String, Rel> wish : this.faction.getRelationWishes().entrySet()) {
+            if (wish.getValue() == Rel.NEUTRAL) continue;
+            final Faction other = FactionColl.get().get(wish.getKey());
+            if (other != null) related.add(MassiveCoreFactionsFaction.of(other));
+        }
+        return related;
+    }
+
     /**
      * Method to obtain the Provider name for Debugging/Console output purposes.
      *
@@ -1,6 +1,7 @@
 package massivecorefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
@@ -21,6 +22,11 @@ import java.util.UUID;
  */
 public class MassiveCoreFactionsPlayer extends AbstractFPlayer<MPlayer> {
 
+    /**
+     * Cache of every MassiveCoreFactionsPlayer, keyed by the {@link MPlayer} it wraps.
+     */
+    private static final WrapperCache<MPlayer, MassiveCoreFactionsPlayer> CACHE = new WrapperCache<>(MassiveCoreFactionsPlayer::new);
+
     /**
      * Constructor to create an MassiveCoreFactionsPlayer.
      * <p>
@@ -33,6 +39,21 @@ public class MassiveCoreFactionsPlayer extends AbstractFPlayer<MPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the MassiveCoreFactionsPlayer of the given {@link MPlayer}.
+     * <p>
+     * The same {@link MPlayer} returns the same MassiveCoreFactionsPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new MassiveCoreFactionsPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link MassiveCoreFactionsPlayer} linked to the {@link MPlayer}.
+     */
+    @NotNull
+    public static MassiveCoreFactionsPlayer of(@Nullable MPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the unique Id of the Faction Player.
      *
@@ -62,7 +83,7 @@ public class MassiveCoreFactionsPlayer extends AbstractFPlayer<MPlayer> {
      */
     @Override
     public Faction getFaction() {
-        return new MassiveCoreFactionsFaction(fPlayer.getFaction());
+        return MassiveCoreFactionsFaction.of(fPlayer.getFaction());
     }
 
     /**
@@ -161,7 +182,7 @@ public class MassiveCoreFactionsPlayer extends AbstractFPlayer<MPlayer> {
     @Override
     public Role getRole() {
         if (!hasFaction() || getFaction() == null) return Role.FACTIONLESS;
-        return Role.getRole(fPlayer.getRole().name());
+        return Role.translate(fPlayer.getRole());
     }
 
 }
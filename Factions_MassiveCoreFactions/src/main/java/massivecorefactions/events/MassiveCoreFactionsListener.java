@@ -5,7 +5,9 @@ import cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent;
 import cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent;
 import cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import com.massivecraft.factions.entity.Faction;
 import com.massivecraft.factions.event.*;
 import com.massivecraft.massivecore.ps.PS;
@@ -16,8 +18,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
 import java.util.Objects;
-
-import static org.bukkit.Bukkit.getPluginManager;
+import java.util.UUID;
 
 /**
  *  Listener to bridge Plugin-Events from MassiveCore to the FactionsBridge.
@@ -27,6 +28,11 @@ import static org.bukkit.Bukkit.getPluginManager;
  */
 public class MassiveCoreFactionsListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -44,14 +50,15 @@ public class MassiveCoreFactionsListener implements Listener {
      */
     @EventHandler
     public void onBunchOfEvents(@NotNull EventFactionsChunksChange event) {
+        if (!dispatcher.isWanted(FactionClaimEvent.class, FactionUnclaimEvent.class)
+                && !dispatcher.isWanted(FactionUnclaimAllEvent.class)) return;
         if (event.getMPlayer().getFaction().getLandCount() == 0) {
             final FactionUnclaimAllEvent bridgeEvent = new FactionUnclaimAllEvent(
                     Objects.requireNonNull(api.getFaction(event.getMPlayer().getFaction().getId())),
                     api.getFPlayer(event.getMPlayer().getPlayer()),
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
+            dispatcher.call(event, bridgeEvent);
             return;
         }
         for (PS chunk : event.getChunks()) {
@@ -61,8 +68,7 @@ public class MassiveCoreFactionsListener implements Listener {
                     api.getFPlayer(event.getMPlayer().getPlayer()),
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
+            dispatcher.call(event, bridgeEvent);
         }
         for (Map.Entry<PS, Faction> entry : event.getOldChunkFaction().entrySet()) {
             final FactionUnclaimEvent bridgeEvent = new FactionUnclaimEvent(
@@ -71,8 +77,7 @@ public class MassiveCoreFactionsListener implements Listener {
                     api.getFPlayer(event.getMPlayer().getPlayer()),
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
-            event.setCancelled(bridgeEvent.isCancelled());
+            dispatcher.call(event, bridgeEvent);
         }
     }
 
@@ -86,13 +91,11 @@ public class MassiveCoreFactionsListener implements Listener {
      */
     @EventHandler
     public void onCreate(@NotNull EventFactionsCreate event) {
-        final FactionCreateEvent bridgeEvent = new FactionCreateEvent(
+        dispatcher.call(FactionCreateEvent.class, event, () -> new FactionCreateEvent(
                 Objects.requireNonNull(api.getFaction(event.getFactionId())),
                 api.getFPlayer(event.getMPlayer().getPlayer()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -105,14 +108,12 @@ public class MassiveCoreFactionsListener implements Listener {
      */
     @EventHandler
     public void onDisband(@NotNull EventFactionsDisband event) {
-        final FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
                 api.getFPlayer(event.getMPlayer().getPlayer()),
                 Objects.requireNonNull(api.getFaction(event.getFactionId())),
                 FactionDisbandEvent.DisbandReason.UNKNOWN,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -125,13 +126,11 @@ public class MassiveCoreFactionsListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull EventFactionsNameChange event) {
-        final FactionRenameEvent bridgeEvent = new FactionRenameEvent(
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId())),
                 event.getNewName(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
     /**
@@ -145,6 +144,7 @@ public class MassiveCoreFactionsListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull EventFactionsMembershipChange event) {
+        if (!dispatcher.isWanted(FactionJoinEvent.class, FactionLeaveEvent.class)) return;
         switch (event.getReason()) {
             case JOIN:
                 final FactionJoinEvent joinEvent = new FactionJoinEvent(
@@ -152,8 +152,7 @@ public class MassiveCoreFactionsListener implements Listener {
                         api.getFPlayer(event.getMPlayer().getPlayer()),
                         event
                 );
-                getPluginManager().callEvent(joinEvent);
-                event.setCancelled(joinEvent.isCancelled());
+                dispatcher.call(event, joinEvent);
                 return;
             case LEAVE:
             case KICK:
@@ -163,12 +162,29 @@ public class MassiveCoreFactionsListener implements Listener {
                         FactionLeaveEvent.LeaveReason.fromString(event.getReason().name()),
                         event
                 );
-                getPluginManager().callEvent(leaveEvent);
-                event.setCancelled(leaveEvent.isCancelled());
+                dispatcher.call(event, leaveEvent);
                 return;
             default:
                 break;
         }
     }
 
+    /**
+     * Listener for the {@link EventFactionsRankChange}.
+     * <p>
+     *     This listener calls the {@link FactionRoleChangeEvent}.
+     * </p>
+     *
+     * @param event to monitor.
+     */
+    @EventHandler
+    public void onRankChange(@NotNull EventFactionsRankChange event) {
+        dispatcher.call(FactionRoleChangeEvent.class, event, () -> new FactionRoleChangeEvent(
+                Objects.requireNonNull(api.getFaction(event.getMPlayer().getFaction().getId())),
+                api.getFPlayer(UUID.fromString(event.getMPlayer().getId())),
+                Role.translate(event.getNewRank()),
+                event
+        ));
+    }
+
 }
@@ -3,6 +3,8 @@ package medievalfactions;
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodException;
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodUnsupportedException;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
@@ -11,10 +13,12 @@ import dansplugins.factionsystem.ChunkManager;
 import dansplugins.factionsystem.MedievalFactions;
 import dansplugins.factionsystem.commands.DisbandCommand;
 import dansplugins.factionsystem.data.PersistentData;
+import dansplugins.factionsystem.objects.ClaimedChunk;
 import medievalfactions.events.MedievalFactionsListener;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -22,6 +26,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An implementation for MedievalFactions of the FactionsAPI.
@@ -39,9 +44,32 @@ public class MedievalFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
         return PersistentData.getInstance().getFactions().stream()
-                .map(MedievalFactionsFaction::new)
-                .collect(Collectors.toList());
+                .map(MedievalFactionsFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return PersistentData.getInstance().getFactions().size();
     }
 
     /**
@@ -53,12 +81,62 @@ public class MedievalFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new MedievalFactionsClaim(ChunkManager.getInstance().getClaimedChunk(
+        return MedievalFactionsClaim.of(ChunkManager.getInstance().getClaimedChunk(
                 chunk.getX(), chunk.getZ(), chunk.getWorld().getName(),
                 PersistentData.getInstance().getClaimedChunks()
         ));
     }
 
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The {@link ClaimedChunk} is looked up by its coordinates, so the chunk is never loaded.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        return MedievalFactionsClaim.of(ChunkManager.getInstance().getClaimedChunk(
+                x, z, world, PersistentData.getInstance().getClaimedChunks()
+        ));
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World in one call.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, this method is answered by the index instead.
+     * <br>Otherwise the Provider's claims are looked up once, rather than once for every chunk, and no chunk is loaded.
+     * <br>Unclaimed chunks are {@code null}.
+     * </p>
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @NotNull
+    @Override
+    public Faction[] getFactionsAt(@NotNull World world, long[] packedChunks) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionsAt(world.getName(), packedChunks);
+        final String name = world.getName();
+        final Faction[] factions = new Faction[packedChunks.length];
+        final PersistentData data = PersistentData.getInstance();
+        final ChunkManager manager = ChunkManager.getInstance();
+        final List<ClaimedChunk> claimedChunks = data.getClaimedChunks();
+        for (int i = 0; i < packedChunks.length; i++) {
+            final ClaimedChunk claimedChunk = manager.getClaimedChunk(
+                    ChunkKey.getX(packedChunks[i]), ChunkKey.getZ(packedChunks[i]), name, claimedChunks
+            );
+            factions[i] = claimedChunk == null ? null : MedievalFactionsFaction.of(data.getFaction(claimedChunk.getHolder()));
+        }
+        return factions;
+    }
+
     /**
      * Method to retrieve an IFaction from Id.
      *
@@ -68,7 +146,7 @@ public class MedievalFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Faction getFaction(@NotNull String id) {
-        return new MedievalFactionsFaction(PersistentData.getInstance().getFaction(id));
+        return MedievalFactionsFaction.of(PersistentData.getInstance().getFaction(id));
     }
 
     /**
@@ -91,7 +169,7 @@ public class MedievalFactionsAPI implements FactionsAPI {
      */
     @Override
     public Faction getFaction(@NotNull OfflinePlayer player) {
-        return new MedievalFactionsFaction(PersistentData.getInstance().getPlayersFaction(player.getUniqueId()));
+        return MedievalFactionsFaction.of(PersistentData.getInstance().getPlayersFaction(player.getUniqueId()));
     }
 
     /**
@@ -106,7 +184,22 @@ public class MedievalFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new MedievalFactionsPlayer(player);
+        return MedievalFactionsPlayer.of(player);
+    }
+
+    /**
+     * Method to obtain the FPlayer of a UUID.
+     * <p>
+     * The player is only resolved through Bukkit when the {@link OfflinePlayer} or name is needed.
+     * </p>
+     *
+     * @param uuid of the FPlayer.
+     * @return FPlayer implementation.
+     */
+    @NotNull
+    @Override
+    public FPlayer getFPlayer(@NotNull UUID uuid) {
+        return MedievalFactionsPlayer.of(uuid);
     }
 
     /**
@@ -122,7 +215,9 @@ public class MedievalFactionsAPI implements FactionsAPI {
         dansplugins.factionsystem.objects.Faction faction = new dansplugins.factionsystem.objects.Faction
                 (name, UUID.randomUUID(), MedievalFactions.getInstance().getConfig().getInt("initialMaxPowerLevel"));
         PersistentData.getInstance().getFactions().add(faction);
-        return new MedievalFactionsFaction(faction);
+        final Faction created = MedievalFactionsFaction.of(faction);
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
     }
 
     /**
@@ -140,12 +235,23 @@ public class MedievalFactionsAPI implements FactionsAPI {
             Method method = disbandCommandClass.getDeclaredMethod("removeFaction", Integer.TYPE, OfflinePlayer.class);
             method.setAccessible(true);
             method.invoke(this, index, null);
+            FactionsBridge.get().onFactionDeleted(faction);
         } catch (Exception ex) {
             if (FactionsBridge.get().catch_exceptions) return;
             throw new BridgeMethodException(getClass(), "deleteFaction()", "Reflection failed, failed to delete Faction.");
         }
     }
 
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
+    }
+
     /**
      * Method to register events and handle event pass-through for the Bridge.
      */
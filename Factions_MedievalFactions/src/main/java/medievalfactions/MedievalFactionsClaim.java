@@ -1,12 +1,14 @@
 package medievalfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import dansplugins.factionsystem.ChunkManager;
 import dansplugins.factionsystem.data.PersistentData;
 import dansplugins.factionsystem.objects.ClaimedChunk;
 import org.bukkit.Chunk;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The MedievalFactions implementation utilises {@link ClaimedChunk}.
@@ -16,6 +18,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public class MedievalFactionsClaim extends AbstractClaim<ClaimedChunk> {
 
+    /**
+     * Cache of every MedievalFactionsClaim, keyed by the {@link ClaimedChunk} it wraps.
+     */
+    private static final WrapperCache<ClaimedChunk, MedievalFactionsClaim> CACHE = new WrapperCache<>(MedievalFactionsClaim::new);
+
     /**
      * Constructor to create an MedievalFactionsClaim.
      * <p>
@@ -28,6 +35,21 @@ public class MedievalFactionsClaim extends AbstractClaim<ClaimedChunk> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the MedievalFactionsClaim of the given {@link ClaimedChunk}.
+     * <p>
+     * The same {@link ClaimedChunk} returns the same MedievalFactionsClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new MedievalFactionsClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link MedievalFactionsClaim} linked to the {@link ClaimedChunk}.
+     */
+    @NotNull
+    public static MedievalFactionsClaim of(@Nullable ClaimedChunk claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -66,7 +88,7 @@ public class MedievalFactionsClaim extends AbstractClaim<ClaimedChunk> {
      */
     @Override
     public Faction getFaction() {
-        return new MedievalFactionsFaction(PersistentData.getInstance().getFaction(claim.getHolder()));
+        return MedievalFactionsFaction.of(PersistentData.getInstance().getFaction(claim.getHolder()));
     }
 
     /**
@@ -1,6 +1,7 @@
 package medievalfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
@@ -8,10 +9,12 @@ import dansplugins.factionsystem.objects.Faction;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The MedievalFactions implementation utilises {@link Faction}.
@@ -21,6 +24,11 @@ import java.util.stream.Collectors;
  */
 public class MedievalFactionsFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every MedievalFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, MedievalFactionsFaction> CACHE = new WrapperCache<>(MedievalFactionsFaction::new);
+
     /**
      * Constructor to create an AbstractFaction.
      * <p>
@@ -33,6 +41,21 @@ public class MedievalFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the MedievalFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same MedievalFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new MedievalFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link MedievalFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static MedievalFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      *
@@ -62,7 +85,7 @@ public class MedievalFactionsFaction extends AbstractFaction<Faction> {
      */
     @Override
     public FPlayer getLeader() {
-        return new MedievalFactionsPlayer(Bukkit.getOfflinePlayer(faction.getOwner()));
+        return MedievalFactionsPlayer.of(faction.getOwner());
     }
 
     /**
@@ -73,9 +96,32 @@ public class MedievalFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
         return faction.getClaimedChunks().stream()
-                .map(MedievalFactionsClaim::new)
-                .collect(Collectors.toList());
+                .map(MedievalFactionsClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getClaimedChunks().size();
     }
 
     /**
@@ -86,10 +132,32 @@ public class MedievalFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
         return faction.getMemberList().stream()
-                .map(Bukkit::getOfflinePlayer)
-                .map(MedievalFactionsPlayer::new)
-                .collect(Collectors.toList());
+                .map(MedievalFactionsPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getMemberList().size();
     }
 
     /**
@@ -1,58 +1,64 @@
 package medievalfactions;
 
-import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
-import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
-import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.LazyFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import dansplugins.factionsystem.data.PersistentData;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
 
 /**
- * The MedievalFactions implementation utilises {@link OfflinePlayer}.
+ * The MedievalFactions implementation stores players by UUID, so it utilises {@link LazyFPlayer}.
  *
  * @author Callum Johnson
  * @since 03/05/2021 - 09:16
  */
-public class MedievalFactionsPlayer extends AbstractFPlayer<OfflinePlayer> {
+public class MedievalFactionsPlayer extends LazyFPlayer {
 
     /**
-     * Constructor to create an AbstractFPlayer.
+     * Cache of every MedievalFactionsPlayer, keyed by the UUID it wraps.
+     */
+    private static final WrapperCache<UUID, MedievalFactionsPlayer> CACHE = new WrapperCache<>(MedievalFactionsPlayer::new);
+
+    /**
+     * Constructor to create a MedievalFactionsPlayer.
      * <p>
      * This class will be used to create each implementation of an 'FPlayer'.
      * </p>
      *
-     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @param uuid of the player which will be bridged using the FactionsBridge.
      */
-    public MedievalFactionsPlayer(@NotNull OfflinePlayer fPlayer) {
-        super(fPlayer);
+    public MedievalFactionsPlayer(@NotNull UUID uuid) {
+        super(uuid);
     }
 
     /**
-     * Method to get the unique Id of the Faction Player.
+     * Method to obtain the MedievalFactionsPlayer of the given UUID.
+     * <p>
+     * The same UUID returns the same MedievalFactionsPlayer for as long as it is referenced.
+     * </p>
      *
-     * @return UUID (UniqueId).
+     * @param uuid of the player which will be bridged using the FactionsBridge.
+     * @return {@link MedievalFactionsPlayer} linked to the UUID.
      */
     @NotNull
-    @Override
-    public UUID getUniqueId() {
-        return fPlayer.getUniqueId();
+    public static MedievalFactionsPlayer of(@NotNull UUID uuid) {
+        return CACHE.get(uuid);
     }
 
     /**
-     * Method to get the Name of the Faction Player.
+     * Method to obtain the MedievalFactionsPlayer of the given {@link OfflinePlayer}.
      *
-     * @return name of the Player.
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link MedievalFactionsPlayer} linked to the UUID of the {@link OfflinePlayer}.
      */
     @NotNull
-    @Override
-    public String getName() {
-        return fPlayer.getName() == null ? "Robot_" + Math.random() : fPlayer.getName();
+    public static MedievalFactionsPlayer of(@Nullable OfflinePlayer fPlayer) {
+        return of(fPlayer.getUniqueId());
     }
 
     /**
@@ -63,7 +69,7 @@ public class MedievalFactionsPlayer extends AbstractFPlayer<OfflinePlayer> {
     @Override
     @Nullable
     public Faction getFaction() {
-        return new MedievalFactionsFaction(PersistentData.getInstance().getPlayersFaction(getUniqueId()));
+        return MedievalFactionsFaction.of(PersistentData.getInstance().getPlayersFaction(getUniqueId()));
     }
 
     /**
@@ -80,38 +86,6 @@ public class MedievalFactionsPlayer extends AbstractFPlayer<OfflinePlayer> {
         return PersistentData.getInstance().isInFaction(getUniqueId());
     }
 
-    /**
-     * Method to get the Offline form of the Player.
-     *
-     * @return {@link OfflinePlayer}
-     */
-    @NotNull
-    @Override
-    public OfflinePlayer getOfflinePlayer() {
-        return fPlayer;
-    }
-
-    /**
-     * Method to get the Online form of the Player.
-     *
-     * @return {@link Player}
-     * @see FPlayer#isOnline()
-     */
-    @Override
-    public Player getPlayer() {
-        return (Player) fPlayer;
-    }
-
-    /**
-     * Uses Bukkit methodology to determine if the Player is online.
-     *
-     * @return {@code true} = yes, {@code false} = no.
-     */
-    @Override
-    public boolean isOnline() {
-        return fPlayer.isOnline();
-    }
-
     /**
      * Method to get the power of the FPlayer.
      *
@@ -163,11 +137,10 @@ public class MedievalFactionsPlayer extends AbstractFPlayer<OfflinePlayer> {
     @NotNull
     @Override
     public Role getRole() {
-        final AbstractFaction<?> faction = (AbstractFaction<?>) getFaction();
-        if (faction == null) return Role.FACTIONLESS;
-        if (faction.getLeader() == this) return Role.LEADER;
         final dansplugins.factionsystem.objects.Faction f =
-                (dansplugins.factionsystem.objects.Faction) faction.getFaction();
+                PersistentData.getInstance().getPlayersFaction(getUniqueId());
+        if (f == null) return Role.FACTIONLESS;
+        if (getUniqueId().equals(f.getOwner())) return Role.LEADER;
         if (f.isOfficer(getUniqueId())) return Role.OFFICER;
         if (f.isMember(getUniqueId())) return Role.NORMAL;
         return Role.CUSTOM;
@@ -1,6 +1,7 @@
 package medievalfactions.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
 import dansplugins.factionsystem.events.*;
 import org.bukkit.Bukkit;
@@ -10,13 +11,16 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * Listener to bridge Plugin-Events from MedievalFactions to the FactionsBridge.
  */
 public class MedievalFactionsListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -32,6 +36,7 @@ public class MedievalFactionsListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull FactionClaimEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent claimEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionClaimEvent(
                         api.getClaim(event.getChunk()),
@@ -39,8 +44,7 @@ public class MedievalFactionsListener implements Listener {
                         api.getFPlayer(event.getOfflinePlayer()),
                         event
                 );
-        getPluginManager().callEvent(claimEvent);
-        event.setCancelled(claimEvent.isCancelled());
+        dispatcher.call(event, claimEvent);
     }
 
     /**
@@ -53,14 +57,14 @@ public class MedievalFactionsListener implements Listener {
      */
     @EventHandler
     public void onCreate(@NotNull FactionCreateEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent createEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent(
                         Objects.requireNonNull(api.getFaction(event.getFaction().getName())),
                         api.getFPlayer(event.getOfflinePlayer()),
                         event
                 );
-        getPluginManager().callEvent(createEvent);
-        event.setCancelled(createEvent.isCancelled());
+        dispatcher.call(event, createEvent);
     }
 
     /**
@@ -73,6 +77,7 @@ public class MedievalFactionsListener implements Listener {
      */
     @EventHandler
     public void onDisband(@NotNull FactionDisbandEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent disbandEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent(
                         api.getFPlayer(event.getOfflinePlayer()),
@@ -80,8 +85,7 @@ public class MedievalFactionsListener implements Listener {
                         cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent.DisbandReason.COMMAND,
                         event
                 );
-        getPluginManager().callEvent(disbandEvent);
-        event.setCancelled(disbandEvent.isCancelled());
+        dispatcher.call(event, disbandEvent);
     }
 
     /**
@@ -94,14 +98,14 @@ public class MedievalFactionsListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull FactionJoinEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent joinEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionJoinEvent(
                         Objects.requireNonNull(api.getFaction(event.getFaction().getName())),
                         api.getFPlayer(event.getOfflinePlayer()),
                         event
                 );
-        getPluginManager().callEvent(joinEvent);
-        event.setCancelled(joinEvent.isCancelled());
+        dispatcher.call(event, joinEvent);
     }
 
     /**
@@ -114,6 +118,7 @@ public class MedievalFactionsListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull FactionLeaveEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent leaveEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent(
                         Objects.requireNonNull(api.getFaction(event.getFaction().getName())),
@@ -121,8 +126,7 @@ public class MedievalFactionsListener implements Listener {
                         cc.javajobs.factionsbridge.bridge.events.FactionLeaveEvent.LeaveReason.LEAVE,
                         event
                 );
-        getPluginManager().callEvent(leaveEvent);
-        event.setCancelled(leaveEvent.isCancelled());
+        dispatcher.call(event, leaveEvent);
     }
 
     /**
@@ -135,14 +139,14 @@ public class MedievalFactionsListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull FactionRenameEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent renameEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionRenameEvent(
                         Objects.requireNonNull(api.getFaction(event.getFaction().getName())),
                         event.getProposedName(),
                         event
                 );
-        getPluginManager().callEvent(renameEvent);
-        event.setCancelled(renameEvent.isCancelled());
+        dispatcher.call(event, renameEvent);
     }
 
     /**
@@ -155,6 +159,7 @@ public class MedievalFactionsListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull FactionUnclaimEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent unclaimEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionUnclaimEvent(
                         api.getClaim(event.getChunk()),
@@ -162,8 +167,7 @@ public class MedievalFactionsListener implements Listener {
                         api.getFPlayer(event.getOfflinePlayer()),
                         event
                 );
-        getPluginManager().callEvent(unclaimEvent);
-        event.setCancelled(unclaimEvent.isCancelled());
+        dispatcher.call(event, unclaimEvent);
     }
 
 }
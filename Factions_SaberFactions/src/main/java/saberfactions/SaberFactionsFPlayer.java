@@ -1,6 +1,7 @@
 package saberfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import com.massivecraft.factions.FPlayer;
@@ -19,6 +20,11 @@ import java.util.UUID;
  */
 public class SaberFactionsFPlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every SaberFactionsFPlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, SaberFactionsFPlayer> CACHE = new WrapperCache<>(SaberFactionsFPlayer::new);
+
     /**
      * Constructor to create a FactionsUUIDFPlayer.
      * <p>
@@ -31,6 +37,21 @@ public class SaberFactionsFPlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the SaberFactionsFPlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same SaberFactionsFPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new SaberFactionsFPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link SaberFactionsFPlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static SaberFactionsFPlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the UUID of the FPlayer.
      *
@@ -65,7 +86,7 @@ public class SaberFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new SaberFactionsFaction(fPlayer.getFaction());
+        return SaberFactionsFaction.of(fPlayer.getFaction());
     }
 
     /**
@@ -164,7 +185,7 @@ public class SaberFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @NotNull
     @Override
     public Role getRole() {
-        return Role.getRole(fPlayer.getRole().name());
+        return Role.translate(fPlayer.getRole());
     }
 
 }
@@ -1,10 +1,12 @@
 package saberfactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import com.massivecraft.factions.FLocation;
 import com.massivecraft.factions.Faction;
 import com.massivecraft.factions.iface.RelationParticipator;
 import com.massivecraft.factions.util.LazyLocation;
@@ -14,9 +16,11 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.getRelationship;
+import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.translate;
 
 /**
  * SaberFactions implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -24,6 +28,11 @@ import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationsh
  */
 public class SaberFactionsFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every SaberFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, SaberFactionsFaction> CACHE = new WrapperCache<>(SaberFactionsFaction::new);
+
     /**
      * Constructor to create a FactionsUUIDFaction.
      * <p>
@@ -36,6 +45,21 @@ public class SaberFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the SaberFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same SaberFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new SaberFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link SaberFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static SaberFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      * <p>
@@ -74,7 +98,7 @@ public class SaberFactionsFaction extends AbstractFaction<Faction> {
     @Override
     public FPlayer getLeader() {
         try {
-            return new SaberFactionsFPlayer(faction.getFPlayerAdmin());
+            return SaberFactionsFPlayer.of(faction.getFPlayerAdmin());
         } catch (Exception ex) {
             for (final FPlayer member : getMembers()) {
                 if (member.getRole().equals(Role.getOwner())) {
@@ -94,7 +118,41 @@ public class SaberFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.getAllClaims().stream().map(SaberFactionsClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.getAllClaims().stream().map(SaberFactionsClaim::of);
+    }
+
+    /**
+     * Method to perform an action for every Claim of the Faction, without streaming or copying them.
+     *
+     * @param consumer to call for each Claim.
+     */
+    @Override
+    public void forEachClaim(@NotNull Consumer<Claim> consumer) {
+        for (FLocation location : faction.getAllClaims()) consumer.accept(SaberFactionsClaim.of(location));
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getLandRounded();
     }
 
     /**
@@ -105,7 +163,43 @@ public class SaberFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.getFPlayers().stream().map(SaberFactionsFPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.getFPlayers().stream().map(SaberFactionsFPlayer::of);
+    }
+
+    /**
+     * Method to perform an action for every Member of the Faction, without streaming or copying them.
+     *
+     * @param consumer to call for each Member.
+     */
+    @Override
+    public void forEachMember(@NotNull Consumer<FPlayer> consumer) {
+        for (com.massivecraft.factions.FPlayer member : faction.getFPlayers()) {
+            consumer.accept(SaberFactionsFPlayer.of(member));
+        }
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getFPlayers().size();
     }
 
     /**
@@ -352,7 +446,7 @@ public class SaberFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public Relationship getRelationshipTo(@NotNull AbstractFaction<?> faction) {
-        return getRelationship(this.faction.getRelationTo((RelationParticipator) faction.getFaction()).name());
+        return translate(this.faction.getRelationTo((RelationParticipator) faction.getFaction()));
     }
 
     @Override
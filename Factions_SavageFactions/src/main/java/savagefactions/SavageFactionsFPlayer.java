@@ -1,6 +1,7 @@
 package savagefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import com.massivecraft.factions.FPlayer;
@@ -18,6 +19,11 @@ import java.util.UUID;
  */
 public class SavageFactionsFPlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every SavageFactionsFPlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, SavageFactionsFPlayer> CACHE = new WrapperCache<>(SavageFactionsFPlayer::new);
+
     /**
      * Constructor to create a FactionsUUIDFPlayer.
      * <p>
@@ -30,6 +36,21 @@ public class SavageFactionsFPlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the SavageFactionsFPlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same SavageFactionsFPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new SavageFactionsFPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link SavageFactionsFPlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static SavageFactionsFPlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the UUID of the FPlayer.
      *
@@ -64,7 +85,7 @@ public class SavageFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new SavageFactionsFaction(fPlayer.getFaction());
+        return SavageFactionsFaction.of(fPlayer.getFaction());
     }
 
     /**
@@ -163,7 +184,7 @@ public class SavageFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @NotNull
     @Override
     public Role getRole() {
-        return Role.getRole(fPlayer.getRole().name());
+        return Role.translate(fPlayer.getRole());
     }
 
 }
@@ -1,10 +1,12 @@
 package savagefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
+import com.massivecraft.factions.FLocation;
 import com.massivecraft.factions.Faction;
 import com.massivecraft.factions.iface.RelationParticipator;
 import com.massivecraft.factions.integration.Econ;
@@ -16,9 +18,11 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.getRelationship;
+import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship.translate;
 
 /**
  * SavageFactions implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -26,6 +30,11 @@ import static cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationsh
  */
 public class SavageFactionsFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every SavageFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, SavageFactionsFaction> CACHE = new WrapperCache<>(SavageFactionsFaction::new);
+
     /**
      * Constructor to create a FactionsUUIDFaction.
      * <p>
@@ -38,6 +47,21 @@ public class SavageFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the SavageFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same SavageFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new SavageFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link SavageFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static SavageFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      * <p>
@@ -76,7 +100,7 @@ public class SavageFactionsFaction extends AbstractFaction<Faction> {
     @Override
     public FPlayer getLeader() {
         try {
-            return new SavageFactionsFPlayer(faction.getFPlayerAdmin());
+            return SavageFactionsFPlayer.of(faction.getFPlayerAdmin());
         } catch (Exception ex) {
             for (final FPlayer member : getMembers()) {
                 if (member.getRole().equals(Role.getOwner())) {
@@ -96,7 +120,41 @@ public class SavageFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.getAllClaims().stream().map(SavageFactionsClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.getAllClaims().stream().map(SavageFactionsClaim::of);
+    }
+
+    /**
+     * Method to perform an action for every Claim of the Faction, without streaming or copying them.
+     *
+     * @param consumer to call for each Claim.
+     */
+    @Override
+    public void forEachClaim(@NotNull Consumer<Claim> consumer) {
+        for (FLocation location : faction.getAllClaims()) consumer.accept(SavageFactionsClaim.of(location));
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getLandRounded();
     }
 
     /**
@@ -107,7 +165,43 @@ public class SavageFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
-        return faction.getFPlayers().stream().map(SavageFactionsFPlayer::new).collect(Collectors.toList());
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
+        return faction.getFPlayers().stream().map(SavageFactionsFPlayer::of);
+    }
+
+    /**
+     * Method to perform an action for every Member of the Faction, without streaming or copying them.
+     *
+     * @param consumer to call for each Member.
+     */
+    @Override
+    public void forEachMember(@NotNull Consumer<FPlayer> consumer) {
+        for (com.massivecraft.factions.FPlayer member : faction.getFPlayers()) {
+            consumer.accept(SavageFactionsFPlayer.of(member));
+        }
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getFPlayers().size();
     }
 
     /**
@@ -364,7 +458,7 @@ public class SavageFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public Relationship getRelationshipTo(@NotNull AbstractFaction<?> faction) {
-        return getRelationship(this.faction.getRelationTo((RelationParticipator) faction.getFaction()).name());
+        return translate(this.faction.getRelationTo((RelationParticipator) faction.getFaction()));
     }
 
 }
@@ -1,6 +1,7 @@
 package supremefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import com.massivecraft.factions.FPlayer;
@@ -18,6 +19,11 @@ import java.util.UUID;
  */
 public class SupremeFactionsFPlayer extends AbstractFPlayer<FPlayer> {
 
+    /**
+     * Cache of every SupremeFactionsFPlayer, keyed by the {@link FPlayer} it wraps.
+     */
+    private static final WrapperCache<FPlayer, SupremeFactionsFPlayer> CACHE = new WrapperCache<>(SupremeFactionsFPlayer::new);
+
     /**
      * Constructor to create a FactionsUUIDFPlayer.
      * <p>
@@ -30,6 +36,21 @@ public class SupremeFactionsFPlayer extends AbstractFPlayer<FPlayer> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the SupremeFactionsFPlayer of the given {@link FPlayer}.
+     * <p>
+     * The same {@link FPlayer} returns the same SupremeFactionsFPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new SupremeFactionsFPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link SupremeFactionsFPlayer} linked to the {@link FPlayer}.
+     */
+    @NotNull
+    public static SupremeFactionsFPlayer of(@Nullable FPlayer fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the UUID of the FPlayer.
      *
@@ -64,7 +85,7 @@ public class SupremeFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new SupremeFactionsFaction(fPlayer.getFaction());
+        return SupremeFactionsFaction.of(fPlayer.getFaction());
     }
 
     /**
@@ -163,7 +184,7 @@ public class SupremeFactionsFPlayer extends AbstractFPlayer<FPlayer> {
     @NotNull
     @Override
     public Role getRole() {
-        return Role.getRole(fPlayer.getRole().name());
+        return Role.translate(fPlayer.getRole());
     }
 
 }
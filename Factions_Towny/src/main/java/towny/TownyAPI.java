@@ -1,8 +1,11 @@
 package towny;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
+import cc.javajobs.factionsbridge.bridge.index.ChunkKey;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.ErrorParticipator;
+import cc.javajobs.factionsbridge.bridge.infrastructure.Maps;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
@@ -11,18 +14,26 @@ import com.palmergames.bukkit.towny.TownyUniverse;
 import com.palmergames.bukkit.towny.exceptions.AlreadyRegisteredException;
 import com.palmergames.bukkit.towny.exceptions.InvalidNameException;
 import com.palmergames.bukkit.towny.exceptions.NotRegisteredException;
+import com.palmergames.bukkit.towny.object.Coord;
+import com.palmergames.bukkit.towny.object.Resident;
 import com.palmergames.bukkit.towny.object.Town;
 import com.palmergames.bukkit.towny.object.TownBlock;
+import com.palmergames.bukkit.towny.object.TownyWorld;
+import com.palmergames.bukkit.towny.object.WorldCoord;
 import org.bukkit.Chunk;
-import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.palmergames.bukkit.towny.TownyUniverse.getInstance;
 
@@ -39,29 +50,30 @@ public class TownyAPI implements FactionsAPI, ErrorParticipator {
      */
     @Override
     public @NotNull List<Faction> getFactions() {
-        return getInstance().getTowns().stream().map(TownyFaction::new).collect(Collectors.toList());
+        return streamFactions().collect(Collectors.toList());
     }
 
     /**
-     * Method to obtain a Claim by location.
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
      *
-     * @param location of the claim.
-     * @return Claim implementation.
+     * @return {@link Stream} of {@link Faction}.
      */
     @Override
-    public @NotNull Claim getClaim(@NotNull Location location) {
-        final com.palmergames.bukkit.towny.TownyAPI townyAPI = com.palmergames.bukkit.towny.TownyAPI.getInstance();
-        TownBlock townyBlock = townyAPI.getTownBlock(location);
-        if (townyBlock == null) {
-            if (FactionsBridge.get().catch_exceptions) {
-                FactionsBridge.get().error("Cannot bypass exception as this is an API method!");
-            }
-            if (townyAPI.isWilderness(location)) {
-                townyBlock = new TownBlock(location.getChunk().getX(), location.getChunk().getZ(),
-                        townyAPI.getTownyWorld(Objects.requireNonNull(location.getWorld()).getName()));
-            } else return (Claim) methodError(getClass(), "getClaim(Location)", "Failed to find Town from Location");
-        }
-        return new TownyClaim(townyBlock);
+    public @NotNull Stream<Faction> streamFactions() {
+        return getInstance().getTowns().stream().map(TownyFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return getInstance().getTowns().size();
     }
 
     /**
@@ -72,7 +84,68 @@ public class TownyAPI implements FactionsAPI, ErrorParticipator {
      */
     @Override
     public @NotNull Claim getClaim(@NotNull Chunk chunk) {
-        return getClaim(chunk.getBlock(0, 0, 0).getLocation());
+        return getClaim(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * The chunk coordinates are converted to a {@link WorldCoord} (respecting the TownBlock size),
+     * so the chunk is never loaded.
+     * <br>Land which doesn't belong to a Town is returned as an unregistered TownBlock.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @Override
+    public @NotNull Claim getClaim(@NotNull String world, int x, int z) {
+        final WorldCoord worldCoord = new WorldCoord(world, Coord.parseCoord(x << 4, z << 4));
+        if (worldCoord.hasTownBlock()) {
+            try {
+                return TownyClaim.of(worldCoord.getTownBlock());
+            } catch (NotRegisteredException ignored) {
+                // Fall through to the Wilderness TownBlock.
+            }
+        }
+        final TownyWorld townyWorld = com.palmergames.bukkit.towny.TownyAPI.getInstance().getTownyWorld(world);
+        if (townyWorld == null) {
+            return (Claim) methodError(getClass(), "getClaim(String, int, int)", "Failed to find TownyWorld '" + world + "'");
+        }
+        return TownyClaim.of(new TownBlock(worldCoord.getX(), worldCoord.getZ(), townyWorld));
+    }
+
+    /**
+     * Method to obtain the Factions which own many chunks of the same World in one call.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, this method is answered by the index instead.
+     * <br>Otherwise each chunk is resolved through its {@link WorldCoord}, so no chunk is loaded.
+     * <br>Towny has no Wilderness Town, so unclaimed chunks are {@code null}.
+     * </p>
+     *
+     * @param world        of the chunks.
+     * @param packedChunks chunk coordinates packed using {@link ChunkKey#pack(int, int)}.
+     * @return array of {@link Faction}, index-aligned with the given chunks.
+     */
+    @Override
+    public @NotNull Faction[] getFactionsAt(@NotNull World world, long[] packedChunks) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return index.getFactionsAt(world.getName(), packedChunks);
+        final String name = world.getName();
+        final Faction[] factions = new Faction[packedChunks.length];
+        for (int i = 0; i < packedChunks.length; i++) {
+            final int x = ChunkKey.getX(packedChunks[i]), z = ChunkKey.getZ(packedChunks[i]);
+            final WorldCoord worldCoord = new WorldCoord(name, Coord.parseCoord(x << 4, z << 4));
+            if (!worldCoord.hasTownBlock()) continue;
+            try {
+                factions[i] = TownyFaction.of(worldCoord.getTownBlock().getTown());
+            } catch (NotRegisteredException ignored) {
+                // Towny has no Wilderness Town, leave the Faction as null.
+            }
+        }
+        return factions;
     }
 
     /**
@@ -84,7 +157,7 @@ public class TownyAPI implements FactionsAPI, ErrorParticipator {
     @Override
     public @Nullable Faction getFaction(@NotNull String id) {
         try {
-            return new TownyFaction(Objects.requireNonNull(getInstance().getTown(UUID.fromString(id))));
+            return TownyFaction.of(Objects.requireNonNull(getInstance().getTown(UUID.fromString(id))));
         } catch (NullPointerException ex) {
             if (FactionsBridge.get().catch_exceptions) {
                 FactionsBridge.get().error("Cannot bypass exception as this is an API method!");
@@ -102,7 +175,7 @@ public class TownyAPI implements FactionsAPI, ErrorParticipator {
     @Override
     public @Nullable Faction getFactionByTag(@NotNull String tag) {
         try {
-            return new TownyFaction(Objects.requireNonNull(getInstance().getTown(tag)));
+            return TownyFaction.of(Objects.requireNonNull(getInstance().getTown(tag)));
         } catch (NullPointerException ex) {
             if (FactionsBridge.get().catch_exceptions) {
                 FactionsBridge.get().error("Cannot bypass exception as this is an API method!");
@@ -123,7 +196,7 @@ public class TownyAPI implements FactionsAPI, ErrorParticipator {
     @Override
     public @NotNull FPlayer getFPlayer(@NotNull OfflinePlayer player) {
         try {
-            return new TownyFPlayer(Objects.requireNonNull(getInstance().getResident(player.getUniqueId())));
+            return TownyFPlayer.of(Objects.requireNonNull(getInstance().getResident(player.getUniqueId())));
         } catch (NullPointerException ex) {
             if (FactionsBridge.get().catch_exceptions) {
                 FactionsBridge.get().error("Cannot bypass exception as this is an API method!");
@@ -133,6 +206,27 @@ public class TownyAPI implements FactionsAPI, ErrorParticipator {
         }
     }
 
+    /**
+     * Method to obtain the FPlayers of many UUIDs in one call.
+     * <p>
+     * The TownyUniverse is looked up once, rather than once for every UUID.
+     * <br>Unlike {@link #getFPlayer(OfflinePlayer)}, a UUID without a Resident is left out instead of failing.
+     * </p>
+     *
+     * @param uuids to get the FPlayer equivalents for.
+     * @return {@link Map} of UUID to {@link FPlayer}, in the iteration order of the given UUIDs.
+     */
+    @Override
+    public @NotNull Map<UUID, FPlayer> getFPlayers(@NotNull Collection<UUID> uuids) {
+        final Map<UUID, FPlayer> fPlayers = new LinkedHashMap<>(Maps.capacity(uuids.size()));
+        final TownyUniverse universe = getInstance();
+        for (UUID uuid : uuids) {
+            final Resident resident = universe.getResident(uuid);
+            if (resident != null) fPlayers.put(uuid, TownyFPlayer.of(resident));
+        }
+        return fPlayers;
+    }
+
     /**
      * Method to obtain WarZone.
      *
@@ -186,7 +280,9 @@ public class TownyAPI implements FactionsAPI, ErrorParticipator {
             return (Faction) methodError(getClass(), "createFaction(name)", "Invalid name.");
         }
         try {
-            return Objects.requireNonNull(getFactionByTag(name));
+            final Faction created = Objects.requireNonNull(getFactionByTag(name));
+            FactionsBridge.get().onFactionCreated(created);
+            return created;
         } catch (Exception exception) {
             return (Faction) methodError(getClass(), "createFaction(name)", "Registration failed.");
         }
@@ -207,6 +303,17 @@ public class TownyAPI implements FactionsAPI, ErrorParticipator {
         } catch (NotRegisteredException e) {
             throw new IllegalStateException("Failed to delete Town, its missing.");
         }
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
     }
 
     /**
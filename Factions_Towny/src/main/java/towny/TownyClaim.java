@@ -1,14 +1,16 @@
 package towny;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import com.palmergames.bukkit.towny.exceptions.TownyException;
+import com.palmergames.bukkit.towny.object.Coord;
 import com.palmergames.bukkit.towny.object.Resident;
 import com.palmergames.bukkit.towny.object.TownBlock;
 import com.palmergames.bukkit.towny.object.WorldCoord;
 import org.bukkit.Chunk;
-import org.bukkit.Location;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -21,6 +23,11 @@ import org.jetbrains.annotations.Nullable;
  */
 public class TownyClaim extends AbstractClaim<TownBlock> {
 
+    /**
+     * Cache of every TownyClaim, keyed by the {@link TownBlock} it wraps.
+     */
+    private static final WrapperCache<TownBlock, TownyClaim> CACHE = new WrapperCache<>(TownyClaim::new);
+
     /**
      * Constructor to create an AbstractClaim.
      * <p>
@@ -33,25 +40,48 @@ public class TownyClaim extends AbstractClaim<TownBlock> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the TownyClaim of the given {@link TownBlock}.
+     * <p>
+     * The same {@link TownBlock} returns the same TownyClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new TownyClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link TownyClaim} linked to the {@link TownBlock}.
+     */
+    @NotNull
+    public static TownyClaim of(@Nullable TownBlock claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
+     * <p>
+     * The TownBlock coordinates are converted to block coordinates (respecting the TownBlock size)
+     * before the Chunk is obtained.
+     * </p>
      *
      * @return {@link Chunk} represented by the 'Claim'.
      */
     @Override
     public @NotNull Chunk getChunk() {
-        return getLocation().getChunk();
+        final WorldCoord worldCoord = claim.getWorldCoord();
+        final int size = Coord.getCellSize();
+        return worldCoord.getBukkitWorld().getChunkAt((worldCoord.getX() * size) >> 4, (worldCoord.getZ() * size) >> 4);
     }
 
     /**
-     * Method to obtain the TownyBlock as Location.
+     * Method to obtain the World linked to the Claim.
+     * <p>
+     * The World is looked up by name, so the chunk is never loaded.
+     * </p>
      *
-     * @return {@link Location}.
+     * @return {@link World} related to the Claim.
      */
-    private @NotNull Location getLocation() {
-        final WorldCoord worldCoord = claim.getWorldCoord();
-        final int y = worldCoord.getBukkitWorld().getHighestBlockYAt(worldCoord.getX(), worldCoord.getZ());
-        return new Location(worldCoord.getBukkitWorld(), worldCoord.getX() + 0.5, y, worldCoord.getZ() + 0.5);
+    @Override
+    public @NotNull World getWorld() {
+        return claim.getWorldCoord().getBukkitWorld();
     }
 
     /**
@@ -74,6 +104,19 @@ public class TownyClaim extends AbstractClaim<TownBlock> {
         return getClaim().getZ();
     }
 
+    /**
+     * Method to obtain the name of the World linked to the Chunk.
+     * <p>
+     * The name is read from the {@link WorldCoord}, so the chunk is never loaded.
+     * </p>
+     *
+     * @return String name of the {@link org.bukkit.World}
+     */
+    @Override
+    public @NotNull String getWorldName() {
+        return claim.getWorldCoord().getWorldName();
+    }
+
     /**
      * Method to obtain the Faction related to the Claim.
      * <p>
@@ -85,7 +128,7 @@ public class TownyClaim extends AbstractClaim<TownBlock> {
     @Override
     public @Nullable Faction getFaction() {
         try {
-            return new TownyFaction(claim.getTown());
+            return TownyFaction.of(claim.getTown());
         } catch (TownyException e) {
             if (bridge.catch_exceptions) return null;
             else return (Faction) methodError(getClass(), "getFaction()", "TownyException encountered");
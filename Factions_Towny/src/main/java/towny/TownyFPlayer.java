@@ -1,6 +1,7 @@
 package towny;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
@@ -25,6 +26,11 @@ import java.util.UUID;
  */
 public class TownyFPlayer extends AbstractFPlayer<Resident> {
 
+    /**
+     * Cache of every TownyFPlayer, keyed by the {@link Resident} it wraps.
+     */
+    private static final WrapperCache<Resident, TownyFPlayer> CACHE = new WrapperCache<>(TownyFPlayer::new);
+
     /**
      * Constructor to create an AbstractFPlayer.
      * <p>
@@ -37,6 +43,21 @@ public class TownyFPlayer extends AbstractFPlayer<Resident> {
         super(fPlayer);
     }
 
+    /**
+     * Method to obtain the TownyFPlayer of the given {@link Resident}.
+     * <p>
+     * The same {@link Resident} returns the same TownyFPlayer for as long as it is referenced.
+     * <br>{@code null} is never cached, a new TownyFPlayer is created for it every time.
+     * </p>
+     *
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link TownyFPlayer} linked to the {@link Resident}.
+     */
+    @NotNull
+    public static TownyFPlayer of(@Nullable Resident fPlayer) {
+        return CACHE.get(fPlayer);
+    }
+
     /**
      * Method to get the UUID of the FPlayer.
      *
@@ -69,7 +90,7 @@ public class TownyFPlayer extends AbstractFPlayer<Resident> {
     @Override
     public @Nullable Faction getFaction() {
         try {
-            return new TownyFaction(fPlayer.getTown());
+            return TownyFaction.of(fPlayer.getTown());
         } catch (TownyException ex) {
             if (bridge.catch_exceptions) return null;
             return (Faction) methodError(getClass(), "getFaction()", "TownyException encountered");
@@ -1,6 +1,7 @@
 package towny;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.*;
 import com.palmergames.bukkit.towny.exceptions.EconomyException;
 import com.palmergames.bukkit.towny.exceptions.TownyException;
@@ -14,6 +15,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Towny implementation of {@link Faction}.
@@ -24,6 +26,11 @@ import java.util.stream.Collectors;
  */
 public class TownyFaction extends AbstractFaction<Town> {
 
+    /**
+     * Cache of every TownyFaction, keyed by the {@link Town} it wraps.
+     */
+    private static final WrapperCache<Town, TownyFaction> CACHE = new WrapperCache<>(TownyFaction::new);
+
     /**
      * Constructor to create an AbstractFaction.
      * <p>
@@ -36,6 +43,21 @@ public class TownyFaction extends AbstractFaction<Town> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the TownyFaction of the given {@link Town}.
+     * <p>
+     * The same {@link Town} returns the same TownyFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new TownyFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link TownyFaction} linked to the {@link Town}.
+     */
+    @NotNull
+    public static TownyFaction of(@Nullable Town faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      * <p>
@@ -70,7 +92,7 @@ public class TownyFaction extends AbstractFaction<Town> {
      */
     @Override
     public @Nullable FPlayer getLeader() {
-        return new TownyFPlayer(faction.getMayor());
+        return TownyFPlayer.of(faction.getMayor());
     }
 
     /**
@@ -80,7 +102,30 @@ public class TownyFaction extends AbstractFaction<Town> {
      */
     @Override
     public @NotNull List<Claim> getAllClaims() {
-        return faction.getTownBlocks().stream().map(TownyClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @Override
+    public @NotNull Stream<Claim> streamClaims() {
+        return faction.getTownBlocks().stream().map(TownyClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getTownBlocks().size();
     }
 
     /**
@@ -90,7 +135,7 @@ public class TownyFaction extends AbstractFaction<Town> {
      */
     @Override
     public @NotNull List<FPlayer> getMembers() {
-        final List<FPlayer> collect = faction.getResidents().stream().map(TownyFPlayer::new).collect(Collectors.toList());
+        final List<FPlayer> collect = faction.getResidents().stream().map(TownyFPlayer::of).collect(Collectors.toList());
         boolean addOwner = collect.stream().noneMatch(fPlayer -> fPlayer.getRole().equals(Role.getOwner()));
         if (addOwner) collect.add(getLeader());
         return collect;
@@ -2,6 +2,7 @@ package towny.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.ErrorParticipator;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
 import com.palmergames.bukkit.towny.event.*;
@@ -16,8 +17,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * Listener to bridge Plugin-Events from Towny to the FactionsBridge.
  *
@@ -26,6 +25,11 @@ import static org.bukkit.Bukkit.getPluginManager;
  */
 public class TownyListener implements Listener, ErrorParticipator {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -52,12 +56,11 @@ public class TownyListener implements Listener, ErrorParticipator {
      */
     @EventHandler
     public void onTownCreate(@NotNull NewTownEvent event) {
-        final FactionCreateEvent bridgeEvent = new FactionCreateEvent(
+        dispatcher.call(FactionCreateEvent.class, event, () -> new FactionCreateEvent(
                 Objects.requireNonNull(api.getFaction(event.getTown().getUUID().toString())),
                 api.getFPlayer(event.getTown().getMayor().getUUID()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -70,13 +73,12 @@ public class TownyListener implements Listener, ErrorParticipator {
      */
     @EventHandler
     public void onTownDisband(@NotNull DeleteTownEvent event) {
-        final FactionDisbandEvent bridgeEvent = new FactionDisbandEvent(
+        dispatcher.call(FactionDisbandEvent.class, event, () -> new FactionDisbandEvent(
                 api.getFPlayer(event.getMayorUUID()),
                 Objects.requireNonNull(api.getFaction(event.getTownUUID().toString())),
                 FactionDisbandEvent.DisbandReason.COMMAND,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -89,6 +91,7 @@ public class TownyListener implements Listener, ErrorParticipator {
      */
     @EventHandler
     public void onClaim(@NotNull TownClaimEvent event) {
+        if (!dispatcher.isWanted(FactionClaimEvent.class)) return;
         try {
             final FactionClaimEvent bridgeEvent = new FactionClaimEvent(
                     api.getClaim(getLocation(event.getTownBlock())),
@@ -96,7 +99,7 @@ public class TownyListener implements Listener, ErrorParticipator {
                     api.getFPlayer(event.getResident().getUUID()),
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
+            dispatcher.call(event, bridgeEvent);
         } catch (TownyException ex) {
             methodError(getClass(), "onClaim(TownClaimEvent)", "Failed to get Town.");
         }
@@ -112,6 +115,7 @@ public class TownyListener implements Listener, ErrorParticipator {
      */
     @EventHandler
     public void onUnclaim(@NotNull TownUnclaimEvent event) {
+        if (!dispatcher.isWanted(FactionUnclaimEvent.class)) return;
         try {
             final FactionUnclaimEvent bridgeEvent = new FactionUnclaimEvent(
                     api.getClaim(getLocation(event.getWorldCoord().getTownBlock())),
@@ -119,7 +123,7 @@ public class TownyListener implements Listener, ErrorParticipator {
                     api.getFPlayer(event.getTown().getMayor().getUUID()),
                     event
             );
-            getPluginManager().callEvent(bridgeEvent);
+            dispatcher.call(event, bridgeEvent);
         } catch (TownyException e) {
             methodError(getClass(), "onUnclaim(TownyUnclaimEvent)", "Failed to get TownBlock");
         }
@@ -135,12 +139,11 @@ public class TownyListener implements Listener, ErrorParticipator {
      */
     @EventHandler
     public void onJoin(@NotNull TownAddResidentEvent event) {
-        final FactionJoinEvent bridgeEvent = new FactionJoinEvent(
+        dispatcher.call(FactionJoinEvent.class, event, () -> new FactionJoinEvent(
                 Objects.requireNonNull(api.getFaction(event.getTown().getUUID().toString())),
                 api.getFPlayer(event.getResident().getUUID()),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -153,13 +156,12 @@ public class TownyListener implements Listener, ErrorParticipator {
      */
     @EventHandler
     public void onLeave(@NotNull TownRemoveResidentEvent event) {
-        final FactionLeaveEvent bridgeEvent = new FactionLeaveEvent(
+        dispatcher.call(FactionLeaveEvent.class, event, () -> new FactionLeaveEvent(
                 Objects.requireNonNull(api.getFaction(event.getTown().getUUID().toString())),
                 api.getFPlayer(event.getResident().getUUID()),
                 FactionLeaveEvent.LeaveReason.LEAVE,
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
+        ));
     }
 
     /**
@@ -172,13 +174,11 @@ public class TownyListener implements Listener, ErrorParticipator {
      */
     @EventHandler
     public void onRename(@NotNull TownPreRenameEvent event) {
-        final FactionRenameEvent bridgeEvent = new FactionRenameEvent(
+        dispatcher.call(FactionRenameEvent.class, event, () -> new FactionRenameEvent(
                 Objects.requireNonNull(api.getFaction(event.getTown().getUUID().toString())),
                 event.getNewName(),
                 event
-        );
-        getPluginManager().callEvent(bridgeEvent);
-        event.setCancelled(bridgeEvent.isCancelled());
+        ));
     }
 
 }
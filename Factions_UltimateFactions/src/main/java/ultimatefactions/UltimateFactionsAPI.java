@@ -2,6 +2,8 @@ package ultimatefactions;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.exceptions.BridgeMethodUnsupportedException;
+import cc.javajobs.factionsbridge.bridge.index.ClaimIndex;
+import cc.javajobs.factionsbridge.bridge.infrastructure.CoordinateClaim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
@@ -12,6 +14,7 @@ import de.miinoo.factions.model.FactionChunk;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import ultimatefactions.events.UltimateFactionsListener;
@@ -19,6 +22,7 @@ import ultimatefactions.events.UltimateFactionsListener;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * UltimateFactions implementation of the {@link FactionsAPI}.
@@ -33,8 +37,31 @@ public class UltimateFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public List<Faction> getFactions() {
-        return FactionsSystem.getFactions().getFactions().stream().map(UltimateFactionsFaction::new)
-                .collect(Collectors.toList());
+        return streamFactions().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Factions.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Faction}.
+     */
+    @NotNull
+    @Override
+    public Stream<Faction> streamFactions() {
+        return FactionsSystem.getFactions().getFactions().stream().map(UltimateFactionsFaction::of);
+    }
+
+    /**
+     * Method to obtain the amount of Factions without creating any wrappers.
+     *
+     * @return amount of Factions.
+     */
+    @Override
+    public int getFactionCount() {
+        return FactionsSystem.getFactions().getFactions().size();
     }
 
     /**
@@ -46,7 +73,31 @@ public class UltimateFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public Claim getClaim(@NotNull Chunk chunk) {
-        return new UltimateFactionsClaim(new FactionChunk(chunk.getWorld(), chunk.getX(), chunk.getZ()));
+        return UltimateFactionsClaim.of(new FactionChunk(chunk.getWorld(), chunk.getX(), chunk.getZ()));
+    }
+
+    /**
+     * Method to obtain a Claim by chunk coordinates.
+     * <p>
+     * Once the {@link ClaimIndex} has been built, a {@link CoordinateClaim} is created from the index, so neither the
+     * World nor the chunk is looked up.
+     * <br>Before that, the {@link FactionChunk} is created from the loaded World and the coordinates, which doesn't
+     * load the chunk.
+     * </p>
+     *
+     * @param world name of the World.
+     * @param x     coordinate of the chunk.
+     * @param z     coordinate of the chunk.
+     * @return Claim implementation.
+     */
+    @NotNull
+    @Override
+    public Claim getClaim(@NotNull String world, int x, int z) {
+        final ClaimIndex index = FactionsBridge.get().getClaimIndex();
+        if (index.isBuilt()) return new CoordinateClaim(world, x, z, index.getFactionAt(world, x, z));
+        final World bukkitWorld = Bukkit.getWorld(world);
+        if (bukkitWorld == null) throw new IllegalArgumentException("World '" + world + "' isn't loaded!");
+        return UltimateFactionsClaim.of(new FactionChunk(bukkitWorld, x, z));
     }
 
     /**
@@ -58,7 +109,7 @@ public class UltimateFactionsAPI implements FactionsAPI {
     @Nullable
     @Override
     public Faction getFaction(@NotNull String id) {
-        return new UltimateFactionsFaction(FactionsSystem.getFactions().getFaction(UUID.fromString(id)));
+        return UltimateFactionsFaction.of(FactionsSystem.getFactions().getFaction(UUID.fromString(id)));
     }
 
     /**
@@ -70,7 +121,7 @@ public class UltimateFactionsAPI implements FactionsAPI {
     @Nullable
     @Override
     public Faction getFactionByTag(@NotNull String tag) {
-        return new UltimateFactionsFaction(FactionsSystem.getFactions().getFaction(tag));
+        return UltimateFactionsFaction.of(FactionsSystem.getFactions().getFaction(tag));
     }
 
     /**
@@ -85,7 +136,22 @@ public class UltimateFactionsAPI implements FactionsAPI {
     @NotNull
     @Override
     public FPlayer getFPlayer(@NotNull OfflinePlayer player) {
-        return new UltimateFactionsFPlayer(player);
+        return UltimateFactionsFPlayer.of(player);
+    }
+
+    /**
+     * Method to obtain the FPlayer of a UUID.
+     * <p>
+     * The player is only resolved through Bukkit when the {@link OfflinePlayer} or name is needed.
+     * </p>
+     *
+     * @param uuid of the FPlayer.
+     * @return FPlayer implementation.
+     */
+    @NotNull
+    @Override
+    public FPlayer getFPlayer(@NotNull UUID uuid) {
+        return UltimateFactionsFPlayer.of(uuid);
     }
 
     /**
@@ -142,7 +208,9 @@ public class UltimateFactionsAPI implements FactionsAPI {
     public Faction createFaction(@NotNull String name) throws IllegalStateException {
         de.miinoo.factions.model.Faction faction = new de.miinoo.factions.model.Faction(name, null, "Description");
         FactionsSystem.getFactions().saveFaction(faction);
-        return new UltimateFactionsFaction(faction);
+        final Faction created = UltimateFactionsFaction.of(faction);
+        FactionsBridge.get().onFactionCreated(created);
+        return created;
     }
 
     /**
@@ -155,6 +223,17 @@ public class UltimateFactionsAPI implements FactionsAPI {
     public void deleteFaction(@NotNull Faction faction) throws IllegalStateException {
         final Factions factions = FactionsSystem.getFactions();
         factions.removeFaction(factions.getFaction(UUID.fromString(faction.getId())));
+        FactionsBridge.get().onFactionDeleted(faction);
+    }
+
+    /**
+     * Method to determine if the Provider calls an event whenever a Faction is created, renamed or disbanded.
+     *
+     * @return {@code true}, every name change is bridged.
+     */
+    @Override
+    public boolean supportsFactionEvents() {
+        return true;
     }
 
     /**
@@ -1,6 +1,7 @@
 package ultimatefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractClaim;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import de.miinoo.factions.FactionsSystem;
@@ -15,6 +16,11 @@ import org.jetbrains.annotations.Nullable;
  */
 public class UltimateFactionsClaim extends AbstractClaim<FactionChunk> {
 
+    /**
+     * Cache of every UltimateFactionsClaim, keyed by the {@link FactionChunk} it wraps.
+     */
+    private static final WrapperCache<FactionChunk, UltimateFactionsClaim> CACHE = new WrapperCache<>(UltimateFactionsClaim::new);
+
     /**
      * Constructor to create an AbstractClaim.
      * <p>
@@ -27,6 +33,21 @@ public class UltimateFactionsClaim extends AbstractClaim<FactionChunk> {
         super(claim);
     }
 
+    /**
+     * Method to obtain the UltimateFactionsClaim of the given {@link FactionChunk}.
+     * <p>
+     * The same {@link FactionChunk} returns the same UltimateFactionsClaim for as long as it is referenced.
+     * <br>{@code null} is never cached, a new UltimateFactionsClaim is created for it every time.
+     * </p>
+     *
+     * @param claim object which will be bridged using the FactionsBridge.
+     * @return {@link UltimateFactionsClaim} linked to the {@link FactionChunk}.
+     */
+    @NotNull
+    public static UltimateFactionsClaim of(@Nullable FactionChunk claim) {
+        return CACHE.get(claim);
+    }
+
     /**
      * Method to obtain the Chunk related to the Claim.
      *
@@ -69,7 +90,7 @@ public class UltimateFactionsClaim extends AbstractClaim<FactionChunk> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new UltimateFactionsFaction(FactionsSystem.getFactions().getFaction(claim));
+        return UltimateFactionsFaction.of(FactionsSystem.getFactions().getFaction(claim));
     }
 
     /**
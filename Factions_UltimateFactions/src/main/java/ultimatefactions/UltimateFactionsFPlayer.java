@@ -1,60 +1,74 @@
 package ultimatefactions;
 
-import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.LazyFPlayer;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
+import cc.javajobs.factionsbridge.bridge.infrastructure.struct.EnumTranslation;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Role;
 import de.miinoo.factions.FactionsSystem;
 import de.miinoo.factions.configuration.messages.GUITags;
 import de.miinoo.factions.model.Rank;
-import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
 import java.util.UUID;
 
 /**
  * UltimateFactions implementation of {@link FPlayer}.
- * Similarly to the plugin itself, {@link UltimateFactionsFPlayer} utilises {@link OfflinePlayer}.
+ * The plugin stores players by UUID, so {@link UltimateFactionsFPlayer} utilises {@link LazyFPlayer}.
  */
-public class UltimateFactionsFPlayer extends AbstractFPlayer<OfflinePlayer> {
+public class UltimateFactionsFPlayer extends LazyFPlayer {
 
     /**
-     * Constructor to create an AbstractFPlayer.
+     * Cache of every UltimateFactionsFPlayer, keyed by the UUID it wraps.
+     */
+    private static final WrapperCache<UUID, UltimateFactionsFPlayer> CACHE = new WrapperCache<>(UltimateFactionsFPlayer::new);
+
+    /**
+     * Translation of the {@link GUITags} of each Rank, which carry a 'Rank_' prefix.
+     */
+    private static final EnumTranslation<Role> RANKS = new EnumTranslation<>(
+            name -> Role.getRole(name.replaceAll("Rank_", "").toUpperCase()), Role.DEFAULT_ROLE
+    );
+
+    /**
+     * Constructor to create an UltimateFactionsFPlayer.
      * <p>
      * This class will be used to create each implementation of an 'FPlayer'.
      * </p>
      *
-     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @param uuid of the player which will be bridged using the FactionsBridge.
      */
-    public UltimateFactionsFPlayer(@NotNull OfflinePlayer fPlayer) {
-        super(fPlayer);
+    public UltimateFactionsFPlayer(@NotNull UUID uuid) {
+        super(uuid);
     }
 
     /**
-     * Method to get the UUID of the FPlayer.
+     * Method to obtain the UltimateFactionsFPlayer of the given UUID.
+     * <p>
+     * The same UUID returns the same UltimateFactionsFPlayer for as long as it is referenced.
+     * </p>
      *
-     * @return {@link UUID} originated from Minecraft/Mojang.
+     * @param uuid of the player which will be bridged using the FactionsBridge.
+     * @return {@link UltimateFactionsFPlayer} linked to the UUID.
      */
     @NotNull
-    @Override
-    public UUID getUniqueId() {
-        return fPlayer.getUniqueId();
+    public static UltimateFactionsFPlayer of(@NotNull UUID uuid) {
+        return CACHE.get(uuid);
     }
 
     /**
-     * Method to get the Name of the FPlayer.
+     * Method to obtain the UltimateFactionsFPlayer of the given {@link OfflinePlayer}.
      *
-     * @return name of the player.
+     * @param fPlayer object which will be bridged using the FactionsBridge.
+     * @return {@link UltimateFactionsFPlayer} linked to the UUID of the {@link OfflinePlayer}.
      */
     @NotNull
-    @Override
-    public String getName() {
-        return Objects.requireNonNull(fPlayer.getName());
+    public static UltimateFactionsFPlayer of(@Nullable OfflinePlayer fPlayer) {
+        return of(fPlayer.getUniqueId());
     }
 
     /**
@@ -69,7 +83,7 @@ public class UltimateFactionsFPlayer extends AbstractFPlayer<OfflinePlayer> {
     @Nullable
     @Override
     public Faction getFaction() {
-        return new UltimateFactionsFaction(FactionsSystem.getFactions().getFaction(getUniqueId()));
+        return UltimateFactionsFaction.of(FactionsSystem.getFactions().getFaction(getUniqueId()));
     }
 
     /**
@@ -83,42 +97,6 @@ public class UltimateFactionsFPlayer extends AbstractFPlayer<OfflinePlayer> {
         return getFaction() != null;
     }
 
-    /**
-     * Method to get the OfflinePlayer related to the FPlayer.
-     *
-     * @return {@link OfflinePlayer} from the Bukkit API.
-     */
-    @NotNull
-    @Override
-    public OfflinePlayer getOfflinePlayer() {
-        return fPlayer;
-    }
-
-    /**
-     * Method to get the Player related to the FPlayer.
-     * <p>
-     * Please use {@link #isOnline()} before relying on this method as it can return null if the player isn't online.
-     * </p>
-     *
-     * @return {@link Player} or {@code null}.
-     * @see #isOnline()
-     */
-    @Nullable
-    @Override
-    public Player getPlayer() {
-        return Bukkit.getPlayer(getUniqueId());
-    }
-
-    /**
-     * Method to determine if the player is online or not.
-     *
-     * @return {@code true} if they are connected to the server.
-     */
-    @Override
-    public boolean isOnline() {
-        return fPlayer.isOnline();
-    }
-
     /**
      * Method to get the power of the FPlayer.
      *
@@ -175,7 +153,7 @@ public class UltimateFactionsFPlayer extends AbstractFPlayer<OfflinePlayer> {
         if (!hasFaction() || getFaction() == null) return Role.FACTIONLESS;
         final AbstractFaction<?> faction = (AbstractFaction<?>) getFaction();
         final de.miinoo.factions.model.Faction f = (de.miinoo.factions.model.Faction) faction.getFaction();
-        final Rank rankOfPlayer = f.getRankOfPlayer(fPlayer.getUniqueId());
+        final Rank rankOfPlayer = f.getRankOfPlayer(getUniqueId());
         GUITags tag = null;
         for (GUITags value : GUITags.values()) {
             if (value.name().equals(rankOfPlayer.getName())) {
@@ -187,7 +165,7 @@ public class UltimateFactionsFPlayer extends AbstractFPlayer<OfflinePlayer> {
             if (bridge.catch_exceptions) return Role.DEFAULT_ROLE;
             else return (Role) methodError(getClass(), "getRole()", "Failed to find Tag from Rank.");
         }
-        return Role.getRole(tag.name().replaceAll("Rank_", "").toUpperCase());
+        return RANKS.translate(tag);
     }
 
 }
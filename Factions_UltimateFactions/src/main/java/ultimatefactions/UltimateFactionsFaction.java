@@ -1,20 +1,25 @@
 package ultimatefactions;
 
 import cc.javajobs.factionsbridge.bridge.infrastructure.AbstractFaction;
+import cc.javajobs.factionsbridge.bridge.infrastructure.WrapperCache;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Claim;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FPlayer;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.Relationship;
+import de.miinoo.factions.FactionsSystem;
 import de.miinoo.factions.model.Faction;
 import de.miinoo.factions.model.FactionWarp;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * UltimateFactions implementation of {@link cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction}.
@@ -22,6 +27,11 @@ import java.util.stream.Collectors;
  */
 public class UltimateFactionsFaction extends AbstractFaction<Faction> {
 
+    /**
+     * Cache of every UltimateFactionsFaction, keyed by the {@link Faction} it wraps.
+     */
+    private static final WrapperCache<Faction, UltimateFactionsFaction> CACHE = new WrapperCache<>(UltimateFactionsFaction::new);
+
     /**
      * Constructor to create an UltimateFactionsFaction.
      * <p>
@@ -34,6 +44,21 @@ public class UltimateFactionsFaction extends AbstractFaction<Faction> {
         super(faction);
     }
 
+    /**
+     * Method to obtain the UltimateFactionsFaction of the given {@link Faction}.
+     * <p>
+     * The same {@link Faction} returns the same UltimateFactionsFaction for as long as it is referenced.
+     * <br>{@code null} is never cached, a new UltimateFactionsFaction is created for it every time.
+     * </p>
+     *
+     * @param faction object which will be bridged using the FactionsBridge.
+     * @return {@link UltimateFactionsFaction} linked to the {@link Faction}.
+     */
+    @NotNull
+    public static UltimateFactionsFaction of(@Nullable Faction faction) {
+        return CACHE.get(faction);
+    }
+
     /**
      * Method to get the Id of the Faction.
      * <p>
@@ -71,7 +96,7 @@ public class UltimateFactionsFaction extends AbstractFaction<Faction> {
     @Nullable
     @Override
     public FPlayer getLeader() {
-        return new UltimateFactionsFPlayer(faction.getLeader());
+        return UltimateFactionsFPlayer.of(faction.getLeader());
     }
 
     /**
@@ -82,7 +107,31 @@ public class UltimateFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<Claim> getAllClaims() {
-        return faction.getClaimed().stream().map(UltimateFactionsClaim::new).collect(Collectors.toList());
+        return streamClaims().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Claims of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link Claim}.
+     */
+    @NotNull
+    @Override
+    public Stream<Claim> streamClaims() {
+        return faction.getClaimed().stream().map(UltimateFactionsClaim::of);
+    }
+
+    /**
+     * Method to obtain the amount of Claims of the Faction without creating any wrappers.
+     *
+     * @return amount of Claims of the Faction.
+     */
+    @Override
+    public int getClaimCount() {
+        return faction.getClaimed().size();
     }
 
     /**
@@ -93,10 +142,32 @@ public class UltimateFactionsFaction extends AbstractFaction<Faction> {
     @NotNull
     @Override
     public List<FPlayer> getMembers() {
+        return streamMembers().collect(Collectors.toList());
+    }
+
+    /**
+     * Method to obtain a Stream of the Members of the Faction.
+     * <p>
+     * The wrappers are created lazily, so nothing is copied when only the first match is needed.
+     * </p>
+     *
+     * @return {@link Stream} of {@link FPlayer}.
+     */
+    @NotNull
+    @Override
+    public Stream<FPlayer> streamMembers() {
         return faction.getPlayers().stream()
-                .map(Bukkit::getOfflinePlayer)
-                .map(UltimateFactionsFPlayer::new)
-                .collect(Collectors.toList());
+                .map(UltimateFactionsFPlayer::of);
+    }
+
+    /**
+     * Method to obtain the amount of Members of the Faction without creating any wrappers.
+     *
+     * @return amount of Members of the Faction.
+     */
+    @Override
+    public int getMemberCount() {
+        return faction.getPlayers().size();
     }
 
     /**
@@ -355,6 +426,29 @@ public class UltimateFactionsFaction extends AbstractFaction<Faction> {
         return Relationship.NONE;
     }
 
+    /**
+     * Method to obtain the Factions which this Faction may have a non-neutral Relationship with.
+     * <p>
+     * The enemy, ally and truce lists of the Faction are read, so no other Faction is asked.
+     * </p>
+     *
+     * @return Collection of Faction.
+     */
+    @NotNull
+    @Override
+    public Collection<cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction> getRelationshipCandidates() {
+        final List<cc.javajobs.factionsbridge.bridge.infrastructure.struct.Faction> related = new ArrayList<>();
+        for (Collection<UUID> ids : Arrays.asList(
+                faction.getEnemyRelation(), faction.getAlliesRelation(), faction.getTrucesRelation()
+        )) {
+            for (UUID id : ids) {
+                final Faction other = FactionsSystem.getFactions().getFaction(id);
+                if (other != null) related.add(UltimateFactionsFaction.of(other));
+            }
+        }
+        return related;
+    }
+
     /**
      * Method to obtain the Provider name for Debugging/Console output purposes.
      *
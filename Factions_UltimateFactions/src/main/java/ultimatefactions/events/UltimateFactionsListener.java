@@ -2,6 +2,7 @@ package ultimatefactions.events;
 
 import cc.javajobs.factionsbridge.FactionsBridge;
 import cc.javajobs.factionsbridge.bridge.events.*;
+import cc.javajobs.factionsbridge.bridge.events.infrastructure.EventDispatcher;
 import cc.javajobs.factionsbridge.bridge.infrastructure.struct.FactionsAPI;
 import de.miinoo.factions.events.FactionCreateEvent;
 import de.miinoo.factions.events.FactionDisbandEvent;
@@ -13,13 +14,16 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 
-import static org.bukkit.Bukkit.getPluginManager;
-
 /**
  * Listener to bridge Plugin-Events from UltimateFactions to the FactionsBridge.
  */
 public class UltimateFactionsListener implements Listener {
 
+    /**
+     * The dispatcher which calls the bridge events, and passes them to the bridge-owned indices once committed.
+     */
+    private final EventDispatcher dispatcher = FactionsBridge.get().getEventDispatcher();
+
     /**
      * Instance of the {@link FactionsAPI} created by FactionsBridge.
      */
@@ -34,12 +38,13 @@ public class UltimateFactionsListener implements Listener {
      */
     @EventHandler
     public void onRename(@NotNull FactionChangeNameEvent event) {
+        if (!dispatcher.isWanted(FactionRenameEvent.class)) return;
         final FactionRenameEvent renameEvent = new FactionRenameEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId().toString())),
                 event.getNewName(),
                 event
         );
-        getPluginManager().callEvent(renameEvent);
+        dispatcher.call(event, renameEvent);
     }
 
     /**
@@ -52,13 +57,14 @@ public class UltimateFactionsListener implements Listener {
      */
     @EventHandler
     public void onClaim(@NotNull FactionClaimChunkEvent event) {
+        if (!dispatcher.isWanted(FactionClaimEvent.class)) return;
         final FactionClaimEvent claimEvent = new FactionClaimEvent(
                 api.getClaim(event.getChunk()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId().toString())),
                 api.getFPlayer(event.getPlayer()),
                 event
         );
-        getPluginManager().callEvent(claimEvent);
+        dispatcher.call(event, claimEvent);
     }
 
     /**
@@ -71,13 +77,14 @@ public class UltimateFactionsListener implements Listener {
      */
     @EventHandler
     public void onCreate(@NotNull FactionCreateEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent createEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionCreateEvent(
                         Objects.requireNonNull(api.getFaction(event.getFaction().getId().toString())),
                         api.getFPlayer(event.getPlayer()),
                         event
                 );
-        getPluginManager().callEvent(createEvent);
+        dispatcher.call(event, createEvent);
     }
 
     /**
@@ -90,6 +97,7 @@ public class UltimateFactionsListener implements Listener {
      */
     @EventHandler
     public void onDisband(@NotNull FactionDisbandEvent event) {
+        if (!dispatcher.isWanted(cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent.class)) return;
         final cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent disbandEvent =
                 new cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent(
                         api.getFPlayer(event.getPlayer()),
@@ -97,7 +105,7 @@ public class UltimateFactionsListener implements Listener {
                         cc.javajobs.factionsbridge.bridge.events.FactionDisbandEvent.DisbandReason.COMMAND,
                         event
                 );
-        getPluginManager().callEvent(disbandEvent);
+        dispatcher.call(event, disbandEvent);
     }
 
     /**
@@ -110,12 +118,13 @@ public class UltimateFactionsListener implements Listener {
      */
     @EventHandler
     public void onJoin(@NotNull FactionPlayerJoinEvent event) {
+        if (!dispatcher.isWanted(FactionJoinEvent.class)) return;
         final FactionJoinEvent joinEvent = new FactionJoinEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId().toString())),
                 api.getFPlayer(event.getPlayer()),
                 event
         );
-        getPluginManager().callEvent(joinEvent);
+        dispatcher.call(event, joinEvent);
     }
 
     /**
@@ -128,13 +137,14 @@ public class UltimateFactionsListener implements Listener {
      */
     @EventHandler
     public void onLeave(@NotNull FactionPlayerLeaveEvent event) {
+        if (!dispatcher.isWanted(FactionLeaveEvent.class)) return;
         final FactionLeaveEvent leaveEvent = new FactionLeaveEvent(
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId().toString())),
                 api.getFPlayer(event.getPlayer()),
                 FactionLeaveEvent.LeaveReason.LEAVE,
                 event
         );
-        getPluginManager().callEvent(leaveEvent);
+        dispatcher.call(event, leaveEvent);
     }
 
     /**
@@ -147,13 +157,14 @@ public class UltimateFactionsListener implements Listener {
      */
     @EventHandler
     public void onUnclaim(@NotNull FactionUnclaimChunkEvent event) {
+        if (!dispatcher.isWanted(FactionUnclaimEvent.class)) return;
         final FactionUnclaimEvent unclaimEvent = new FactionUnclaimEvent(
                 api.getClaim(event.getChunk()),
                 Objects.requireNonNull(api.getFaction(event.getFaction().getId().toString())),
                 api.getFPlayer(event.getPlayer()),
                 event
         );
-        getPluginManager().callEvent(unclaimEvent);
+        dispatcher.call(event, unclaimEvent);
     }
 
 }